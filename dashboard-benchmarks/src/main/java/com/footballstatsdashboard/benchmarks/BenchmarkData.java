@@ -0,0 +1,144 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutableClub;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.club.ImmutableExpenditure;
+import com.footballstatsdashboard.api.model.club.ImmutableIncome;
+import com.footballstatsdashboard.api.model.club.ImmutableManagerFunds;
+import com.footballstatsdashboard.api.model.club.ImmutableSquadPlayer;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
+import com.footballstatsdashboard.api.model.player.ImmutableMetadata;
+import com.footballstatsdashboard.api.model.player.ImmutableRole;
+import com.google.common.collect.ImmutableList;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.footballstatsdashboard.core.utils.Constants.PLAYER_ATTRIBUTE_CATEGORY_MAP;
+
+/**
+ * Entities shaped like the ones the application handles, built the same way on every run so that the results of
+ * different runs can be compared
+ */
+public final class BenchmarkData {
+    private static final String CREATED_BY = "benchmark@footballstatsdashboard.com";
+    private static final String COUNTRY_NAME = "England";
+    private static final int PLAYER_AGE = 27;
+    private static final int MAX_ATTRIBUTE_VALUE = 20;
+    private static final int CURRENT_ABILITY = 15;
+    private static final int NUMBER_OF_HISTORY_ENTRIES = 10;
+    private static final int NUMBER_OF_RECENT_MATCHES = 5;
+    private static final float MATCH_RATING = 7.5f;
+    private static final BigDecimal TRANSFER_BUDGET = new BigDecimal("50000000");
+    private static final BigDecimal WAGE_BUDGET = new BigDecimal("1500000");
+    private static final BigDecimal INCOME = new BigDecimal("250000000");
+    private static final BigDecimal EXPENDITURE = new BigDecimal("200000000");
+
+    private BenchmarkData() { }
+
+    /**
+     * a club as it is stored, with a history for each of its finances
+     */
+    public static Club existingClub(UUID userId) {
+        BigDecimal managerFunds = TRANSFER_BUDGET.add(WAGE_BUDGET);
+        return ImmutableClub.builder()
+                .name("Benchmark FC")
+                .logo("benchmarkClubLogo.png")
+                .managerFunds(ImmutableManagerFunds.builder()
+                        .current(managerFunds)
+                        .history(history(managerFunds))
+                        .build())
+                .transferBudget(TRANSFER_BUDGET)
+                .wageBudget(WAGE_BUDGET)
+                .income(ImmutableIncome.builder()
+                        .current(INCOME)
+                        .history(history(INCOME))
+                        .build())
+                .expenditure(ImmutableExpenditure.builder()
+                        .current(EXPENDITURE)
+                        .history(history(EXPENDITURE))
+                        .build())
+                .userId(userId)
+                .createdBy(CREATED_BY)
+                .createdDate(LocalDate.now())
+                .lastModifiedDate(LocalDate.now())
+                .build();
+    }
+
+    /**
+     * a player as it arrives in a request to create it, with a value for every attribute a player can have
+     */
+    public static Player incomingPlayer(UUID clubId) {
+        List<String> attributeNames = attributeNames();
+        List<Attribute> attributes = IntStream.range(0, attributeNames.size())
+                .mapToObj(idx -> ImmutableAttribute.builder()
+                        .name(attributeNames.get(idx))
+                        .value(idx % MAX_ATTRIBUTE_VALUE + 1)
+                        .build())
+                .collect(Collectors.toList());
+        return ImmutablePlayer.builder()
+                .clubId(clubId)
+                .metadata(ImmutableMetadata.builder()
+                        .name("Benchmark Player")
+                        .country(COUNTRY_NAME)
+                        .age(PLAYER_AGE)
+                        .build())
+                .roles(ImmutableList.of(ImmutableRole.builder().name("Ball Playing Defender").build()))
+                .attributes(attributes)
+                .build();
+    }
+
+    /**
+     * a player as it arrives in a request to update it, with every attribute of the existing player changed
+     */
+    public static Player updatedPlayer(Player existingPlayer) {
+        List<Attribute> attributes = existingPlayer.getAttributes().stream()
+                .map(attribute -> ImmutableAttribute.builder()
+                        .name(attribute.getName())
+                        .value(attribute.getValue() % MAX_ATTRIBUTE_VALUE + 1)
+                        .build())
+                .collect(Collectors.toList());
+        return ImmutablePlayer.builder()
+                .from(existingPlayer)
+                .attributes(attributes)
+                .build();
+    }
+
+    /**
+     * a squad player with the form of their recent matches, as it is listed for a club
+     */
+    public static SquadPlayer squadPlayer() {
+        return ImmutableSquadPlayer.builder()
+                .name("Benchmark Player")
+                .country(COUNTRY_NAME)
+                .countryFlag("https://flagcdn.com/w40/gb-eng.png")
+                .role("Ball Playing Defender")
+                .currentAbility(CURRENT_ABILITY)
+                .recentForm(IntStream.range(0, NUMBER_OF_RECENT_MATCHES)
+                        .mapToObj(idx -> MATCH_RATING)
+                        .collect(Collectors.toList()))
+                .playerId(UUID.randomUUID())
+                .build();
+    }
+
+    private static List<String> attributeNames() {
+        // sorted, since the order of the map is not stable across runs
+        return PLAYER_ATTRIBUTE_CATEGORY_MAP.keySet().stream()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static List<BigDecimal> history(BigDecimal current) {
+        return IntStream.range(0, NUMBER_OF_HISTORY_ENTRIES)
+                .mapToObj(idx -> current)
+                .collect(Collectors.toList());
+    }
+}
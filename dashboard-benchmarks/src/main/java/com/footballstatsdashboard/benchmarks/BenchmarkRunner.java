@@ -0,0 +1,47 @@
+package com.footballstatsdashboard.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmarks jar. Takes the same arguments as the JMH runner, but reports the allocation rate of
+ * each benchmark along with its time unless other profilers are asked for, since allocation regressions are the ones
+ * that show up as GC pauses under load rather than in the time of a single call.
+ */
+public final class BenchmarkRunner {
+    // shared by the benchmarks, so that the results of all of them are equally stable
+    static final int WARMUP_ITERATIONS = 3;
+    static final int MEASUREMENT_ITERATIONS = 5;
+
+    private BenchmarkRunner() { }
+
+    /**
+     * run the benchmarks matching the arguments, e.g. `java -jar target/benchmarks.jar PlayerServiceBenchmark`
+     */
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        Runner runner = new Runner(options.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
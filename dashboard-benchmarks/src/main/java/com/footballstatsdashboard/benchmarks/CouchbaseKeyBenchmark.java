@@ -0,0 +1,52 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.footballstatsdashboard.db.key.CouchbaseKeyProvider;
+import com.footballstatsdashboard.db.key.PlayerKeyProvider;
+import com.footballstatsdashboard.db.key.ResourceKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.MEASUREMENT_ITERATIONS;
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.WARMUP_ITERATIONS;
+
+/**
+ * Building the key of a couchbase document, which happens on every read and write of the couchbase DAOs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class CouchbaseKeyBenchmark {
+    private CouchbaseKeyProvider<ResourceKey> keyProvider;
+    private ResourceKey resourceKey;
+
+    /**
+     * set up the key provider along with the key of a player
+     */
+    @Setup
+    public void initialize() {
+        keyProvider = new PlayerKeyProvider();
+        resourceKey = new ResourceKey(UUID.randomUUID());
+    }
+
+    /**
+     * build the document key of a player
+     */
+    @Benchmark
+    public String getCouchbaseKey() {
+        return keyProvider.getCouchbaseKey(resourceKey);
+    }
+}
@@ -0,0 +1,56 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.db.IPlayerEntityDAO;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * A player DAO that always answers with the same existing player and drops every write, so that benchmarks of the
+ * player service measure the service rather than the database
+ */
+public final class InMemoryPlayerDAO implements IPlayerEntityDAO {
+    private final Player existingPlayer;
+
+    public InMemoryPlayerDAO(Player existingPlayer) {
+        this.existingPlayer = existingPlayer;
+    }
+
+    @Override
+    public void insertEntity(Player entity) {
+        // writes are dropped
+    }
+
+    @Override
+    public Player getEntity(UUID entityId) throws EntityNotFoundException {
+        return this.existingPlayer;
+    }
+
+    @Override
+    public void updateEntity(UUID existingEntityId, Player updatedEntity) {
+        // writes are dropped
+    }
+
+    @Override
+    public Player modifyEntity(UUID existingEntityId, UnaryOperator<Player> modification) {
+        // the modified player is dropped like every other write
+        return modification.apply(this.existingPlayer);
+    }
+
+    @Override
+    public void deleteEntity(UUID entityId) throws EntityNotFoundException {
+        // writes are dropped
+    }
+
+    @Override
+    public boolean doesEntityExist(UUID entityId) {
+        return true;
+    }
+
+    @Override
+    public boolean doesEntityBelongToUser(UUID entityId, UUID userId) {
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.services.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.MEASUREMENT_ITERATIONS;
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.WARMUP_ITERATIONS;
+
+/**
+ * Creating and updating a player through the player service, i.e. mapping each attribute to its category and group,
+ * building the attribute and ability histories and calculating the current ability, against a DAO that does no I/O
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class PlayerServiceBenchmark {
+    private PlayerService playerService;
+    private Club club;
+    private Player incomingPlayer;
+    private Player updatedPlayer;
+    private UUID existingPlayerId;
+
+    /**
+     * set up the service along with a player to create and an existing player to update
+     */
+    @Setup
+    public void initialize() {
+        UUID userId = UUID.randomUUID();
+        club = BenchmarkData.existingClub(userId);
+        incomingPlayer = BenchmarkData.incomingPlayer(club.getId());
+
+        // the existing player is created by the service itself, so that it is shaped like a stored player
+        Player existingPlayer = new PlayerService(new InMemoryPlayerDAO(null))
+                .createPlayer(incomingPlayer, club, club.getCreatedBy());
+        existingPlayerId = existingPlayer.getId();
+        updatedPlayer = BenchmarkData.updatedPlayer(existingPlayer);
+
+        playerService = new PlayerService(new InMemoryPlayerDAO(existingPlayer));
+    }
+
+    /**
+     * create a player with a value for every attribute
+     */
+    @Benchmark
+    public Player createPlayer() {
+        return playerService.createPlayer(incomingPlayer, club, club.getCreatedBy());
+    }
+
+    /**
+     * update every attribute of an existing player
+     */
+    @Benchmark
+    public Player updatePlayer() {
+        return playerService.updatePlayer(updatedPlayer, existingPlayerId, club.getUserId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.core.utils.DashboardInternalModule;
+import com.footballstatsdashboard.core.utils.DashboardReadonlyModule;
+import com.footballstatsdashboard.services.PlayerService;
+import io.dropwizard.jackson.Jackson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.MEASUREMENT_ITERATIONS;
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.WARMUP_ITERATIONS;
+
+/**
+ * Writing and reading the entities the API serves with an object mapper set up the way the application sets up its
+ * own, i.e. with the modules that drop internal and readonly fields registered
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int SQUAD_SIZE = 25;
+
+    private ObjectMapper objectMapper;
+    private Player player;
+    private Club club;
+    private List<SquadPlayer> squadPlayers;
+    private byte[] serializedPlayer;
+
+    /**
+     * set up the object mapper along with a stored player, club and squad to serialize
+     */
+    @Setup
+    public void initialize() throws JsonProcessingException {
+        objectMapper = Jackson.newObjectMapper();
+        objectMapper.registerModule(new DashboardInternalModule());
+        objectMapper.registerModule(new DashboardReadonlyModule());
+
+        club = BenchmarkData.existingClub(UUID.randomUUID());
+        player = new PlayerService(new InMemoryPlayerDAO(null))
+                .createPlayer(BenchmarkData.incomingPlayer(club.getId()), club, club.getCreatedBy());
+        squadPlayers = Stream.generate(BenchmarkData::squadPlayer)
+                .limit(SQUAD_SIZE)
+                .collect(Collectors.toList());
+        serializedPlayer = objectMapper.writeValueAsBytes(player);
+    }
+
+    /**
+     * write a player with all of its attributes and their histories
+     */
+    @Benchmark
+    public byte[] serializePlayer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(player);
+    }
+
+    /**
+     * read a player as it arrives in a request, dropping the fields it may not set
+     */
+    @Benchmark
+    public Player deserializePlayer() throws IOException {
+        return objectMapper.readValue(serializedPlayer, Player.class);
+    }
+
+    /**
+     * write a club with the histories of its finances
+     */
+    @Benchmark
+    public byte[] serializeClub() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(club);
+    }
+
+    /**
+     * write the squad of a club, as it is listed for the club
+     */
+    @Benchmark
+    public byte[] serializeSquadPlayers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(squadPlayers);
+    }
+}
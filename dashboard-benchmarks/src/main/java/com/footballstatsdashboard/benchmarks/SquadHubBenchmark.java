@@ -0,0 +1,122 @@
+package com.footballstatsdashboard.benchmarks;
+
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.db.DAOFactory;
+import com.footballstatsdashboard.db.jdbi.ClubJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.migration.SchemaMigrator;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.MEASUREMENT_ITERATIONS;
+import static com.footballstatsdashboard.benchmarks.BenchmarkRunner.WARMUP_ITERATIONS;
+
+/**
+ * Listing the squad of a club along with the recent form of each of its players, i.e. the windowed query that ranks the
+ * match performances of every player in the squad, against an in-memory H2 database migrated the same way as the
+ * application's. The squad size and the number of match performances each player has are varied, since the query has
+ * to rank every match performance of the squad to keep only the most recent ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class SquadHubBenchmark {
+    private static final String COUNTRY_NAME = "England";
+    private static final String COUNTRY_FLAG = "https://flagcdn.com/w40/gb-eng.png";
+    private static final int CURRENT_ABILITY = 15;
+    private static final float MATCH_RATING = 7.5f;
+
+    @Param({"11", "25", "40"})
+    private int squadSize;
+
+    @Param({"5", "50", "200"})
+    private int matchesPerPlayer;
+
+    private Handle keepAliveHandle;
+    private ClubJdbiDAO clubJdbiDAO;
+    private UUID clubId;
+
+    /**
+     * set up a database holding a club with a squad of the given size, each player with the given number of match
+     * performances
+     */
+    @Setup
+    public void initialize() {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID());
+        jdbi.installPlugin(new SqlObjectPlugin());
+        DAOFactory.registerImmutables(jdbi);
+        // the in-memory database only lives as long as a connection to it is open
+        keepAliveHandle = jdbi.open();
+        new SchemaMigrator(jdbi).migrate();
+
+        clubId = UUID.randomUUID();
+        jdbi.useTransaction(handle -> {
+            handle.execute("INSERT INTO club (id, name, createdDate) VALUES (?, ?, ?)", clubId.toString(),
+                    "Benchmark FC", LocalDate.now());
+            PreparedBatch players = handle.prepareBatch(
+                    "INSERT INTO player (id, clubId, currentAbility, createdDate) VALUES (?, ?, ?, ?)");
+            PreparedBatch playerMetadata = handle.prepareBatch(
+                    "INSERT INTO playerMetadata (playerId, name, country, countryLogo) VALUES (?, ?, ?, ?)");
+            PreparedBatch playerRoles = handle.prepareBatch(
+                    "INSERT INTO playerRole (id, playerId, name) VALUES (?, ?, ?)");
+            PreparedBatch matchPerformances = handle.prepareBatch("INSERT INTO matchPerformance (id, playerId," +
+                    " competitionId, currentMatchRating, createdDate) VALUES (?, ?, ?, ?, ?)");
+            LocalDate firstMatchDate = LocalDate.now().minusDays(matchesPerPlayer);
+            for (int playerIdx = 0; playerIdx < squadSize; playerIdx++) {
+                String playerId = UUID.randomUUID().toString();
+                players.add(playerId, clubId.toString(), CURRENT_ABILITY, LocalDate.now());
+                playerMetadata.add(playerId, "Benchmark Player " + playerIdx, COUNTRY_NAME, COUNTRY_FLAG);
+                playerRoles.add(UUID.randomUUID().toString(), playerId, "Ball Playing Defender");
+                for (int matchIdx = 0; matchIdx < matchesPerPlayer; matchIdx++) {
+                    matchPerformances.add(UUID.randomUUID().toString(), playerId, UUID.randomUUID().toString(),
+                            MATCH_RATING, firstMatchDate.plusDays(matchIdx));
+                }
+            }
+            players.execute();
+            playerMetadata.execute();
+            playerRoles.execute();
+            matchPerformances.execute();
+            // refresh the statistics the planner weighs the indexes by now that the tables are filled
+            handle.execute("ANALYZE");
+        });
+
+        clubJdbiDAO = new ClubJdbiDAO(jdbi);
+    }
+
+    /**
+     * drop the in-memory database
+     */
+    @TearDown
+    public void tearDown() {
+        keepAliveHandle.close();
+    }
+
+    /**
+     * list the squad of the club along with the recent form of each of its players
+     */
+    @Benchmark
+    public List<SquadPlayer> getPlayersInClub() {
+        return clubJdbiDAO.getPlayersInClub(clubId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import com.footballstatsdashboard.api.model.Player;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+
+import static com.footballstatsdashboard.core.utils.Constants.CLUB_V1_BASE_PATH;
+import static com.footballstatsdashboard.core.utils.Constants.FILE_STORAGE_V1_BASE_PATH;
+import static com.footballstatsdashboard.core.utils.Constants.PLAYER_V1_BASE_PATH;
+import static com.footballstatsdashboard.core.utils.Constants.USER_V1_BASE_PATH;
+
+/**
+ * The endpoints the load tests drive, each with its share of the requests unless the mix says otherwise
+ */
+enum Endpoint {
+    LOGIN("login", 5) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            return client.post(USER_V1_BASE_PATH + "/authenticate", client.getCredentials());
+        }
+    },
+    GET_PLAYER("getPlayer", 35) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            return client.get(PLAYER_V1_BASE_PATH + "/" + client.pickPlayer().getId());
+        }
+    },
+    UPDATE_PLAYER("updatePlayer", 10) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            Player player = client.pickPlayer();
+            return client.put(PLAYER_V1_BASE_PATH + "/" + player.getId(), client.withUpdatedAttribute(player));
+        }
+    },
+    SQUAD_HUB("squadHub", 25) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            return client.get(CLUB_V1_BASE_PATH + "/" + client.pickClubId() + "/squadPlayers");
+        }
+    },
+    CREATE_CLUB("createClub", 5) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            return client.post(CLUB_V1_BASE_PATH, client.newClub());
+        }
+    },
+    DOWNLOAD_IMAGE("downloadImage", 20) {
+        @Override
+        HttpRequest buildRequest(LoadTestClient client) {
+            return client.get(FILE_STORAGE_V1_BASE_PATH + "/image/" + client.getImageFileKey());
+        }
+    };
+
+    private final String name;
+    private final int defaultWeight;
+
+    Endpoint(String name, int defaultWeight) {
+        this.name = name;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * the request the client sends to the endpoint next
+     */
+    abstract HttpRequest buildRequest(LoadTestClient client);
+
+    String getName() {
+        return name;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    static Endpoint fromName(String name) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint " + name + ", expected one of "
+                        + Arrays.toString(Arrays.stream(values()).map(Endpoint::getName).toArray())));
+    }
+}
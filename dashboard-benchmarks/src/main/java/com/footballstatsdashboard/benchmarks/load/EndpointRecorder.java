@@ -0,0 +1,39 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of the requests sent to one endpoint by all the clients, in microseconds, along with how many of
+ * the requests failed
+ */
+final class EndpointRecorder {
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * record a request that took the given number of nanoseconds, counting it as an error if it did not succeed
+     */
+    void record(long latencyNanos, boolean isSuccessful) {
+        this.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!isSuccessful) {
+            this.errors.increment();
+        }
+    }
+
+    /**
+     * the latencies recorded since they were last asked for
+     */
+    Histogram getHistogram() {
+        return this.recorder.getIntervalHistogram();
+    }
+
+    long getErrors() {
+        return this.errors.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Throughput and latency percentiles of one endpoint over the measured part of a load test, as written to the report
+ */
+@JsonPropertyOrder({ "endpoint", "requests", "errors", "throughputPerSecond", "p50Millis", "p95Millis", "p99Millis",
+        "maxMillis" })
+final class EndpointResult {
+    // the recorders record microseconds, the report is in milliseconds
+    static final double MICROS_PER_MILLI = 1000.0;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+    private static final double P50 = 50.0;
+    private static final double P95 = 95.0;
+    private static final double P99 = 99.0;
+
+    private final String endpoint;
+    private final long requests;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    EndpointResult(Endpoint endpoint, Histogram histogram, long errors, Duration duration) {
+        this.endpoint = endpoint.getName();
+        this.requests = histogram.getTotalCount();
+        this.errors = errors;
+        this.throughputPerSecond = this.requests * MILLIS_PER_SECOND / duration.toMillis();
+        this.p50Millis = histogram.getValueAtPercentile(P50) / MICROS_PER_MILLI;
+        this.p95Millis = histogram.getValueAtPercentile(P95) / MICROS_PER_MILLI;
+        this.p99Millis = histogram.getValueAtPercentile(P99) / MICROS_PER_MILLI;
+        this.maxMillis = histogram.getMaxValue() / MICROS_PER_MILLI;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
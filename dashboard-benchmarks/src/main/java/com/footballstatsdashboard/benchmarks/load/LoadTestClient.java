@@ -0,0 +1,195 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutableClub;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
+import com.footballstatsdashboard.core.synthetic.SyntheticClub;
+import com.footballstatsdashboard.core.synthetic.SyntheticDataGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.footballstatsdashboard.core.utils.Constants.FILE_STORAGE_V1_BASE_PATH;
+
+/**
+ * One of the concurrent clients of a load test, logged in as one of the synthetic users and sending requests about the
+ * clubs and players generated for that user
+ */
+final class LoadTestClient {
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_AUTH_SCHEME = "BEARER ";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_MULTIPLE_CHOICES = 300;
+    private static final int MIN_ATTRIBUTE_VALUE = 1;
+    private static final int MAX_ATTRIBUTE_VALUE = 20;
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random;
+    private final Map<String, String> credentials;
+    private final List<Club> clubs;
+    private final List<Player> players;
+    private String authToken;
+    private String imageFileKey;
+
+    LoadTestClient(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper, SplittableRandom random,
+                   int userIndex, List<SyntheticClub> syntheticClubs) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.random = random;
+        this.credentials = Map.of("email", SyntheticDataGenerator.getEmail(userIndex),
+                "password", SyntheticDataGenerator.PASSWORD);
+        this.clubs = syntheticClubs.stream()
+                .map(SyntheticClub::getClub)
+                .collect(Collectors.toList());
+        this.players = syntheticClubs.stream()
+                .flatMap(syntheticClub -> syntheticClub.getPlayers().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * log in as the user of the client, so that the requests sent afterwards are authorized
+     */
+    void logIn() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(Endpoint.LOGIN.buildRequest(this));
+        if (!isSuccessful(response.statusCode())) {
+            throw new IllegalStateException(String.format("Unable to log in as %s, status %d: %s",
+                    this.credentials.get("email"), response.statusCode(), response.body()));
+        }
+        this.authToken = this.objectMapper.readTree(response.body()).get("id").asText();
+    }
+
+    /**
+     * upload the image as the user of the client, returning the key it can be downloaded with
+     */
+    String uploadImage(byte[] image) throws IOException, InterruptedException {
+        String boundary = UUID.randomUUID().toString();
+        byte[] partHeader = String.format("--%s\r\nContent-Disposition: form-data; name=\"image\"; "
+                + "filename=\"logo.png\"\r\nContent-Type: image/png\r\n\r\n", boundary)
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] partFooter = String.format("\r\n--%s--\r\n", boundary).getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = newRequest(FILE_STORAGE_V1_BASE_PATH + "/image/upload")
+                .header(CONTENT_TYPE_HEADER, "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(partHeader, image, partFooter)))
+                .build();
+
+        HttpResponse<String> response = send(request);
+        if (!isSuccessful(response.statusCode())) {
+            throw new IllegalStateException(String.format("Unable to upload an image, status %d: %s",
+                    response.statusCode(), response.body()));
+        }
+        return this.objectMapper.readTree(response.body()).get("fileKey").asText();
+    }
+
+    static boolean isSuccessful(int statusCode) {
+        return statusCode >= HTTP_OK && statusCode < HTTP_MULTIPLE_CHOICES;
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpRequest get(String path) {
+        return newRequest(path).GET().build();
+    }
+
+    HttpRequest post(String path, Object body) {
+        return newRequest(path)
+                .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    HttpRequest put(String path, Object body) {
+        return newRequest(path)
+                .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    Map<String, String> getCredentials() {
+        return credentials;
+    }
+
+    String getImageFileKey() {
+        return imageFileKey;
+    }
+
+    void setImageFileKey(String imageFileKey) {
+        this.imageFileKey = imageFileKey;
+    }
+
+    Player pickPlayer() {
+        return this.players.get(this.random.nextInt(this.players.size()));
+    }
+
+    UUID pickClubId() {
+        return this.clubs.get(this.random.nextInt(this.clubs.size())).getId();
+    }
+
+    /**
+     * the player with the value of one of its attributes changed, as the player page sends it after an edit
+     */
+    Player withUpdatedAttribute(Player player) {
+        List<Attribute> attributes = new ArrayList<>(player.getAttributes());
+        int attributeIndex = this.random.nextInt(attributes.size());
+        attributes.set(attributeIndex, ImmutableAttribute.builder()
+                .from(attributes.get(attributeIndex))
+                .value(this.random.nextInt(MIN_ATTRIBUTE_VALUE, MAX_ATTRIBUTE_VALUE + 1))
+                .build());
+        return ImmutablePlayer.builder()
+                .from(player)
+                .attributes(attributes)
+                .build();
+    }
+
+    /**
+     * a club with the same finances as one of the clubs of the user, so that its budgets add up, and the uploaded
+     * image as its logo
+     */
+    Club newClub() {
+        Club club = this.clubs.get(this.random.nextInt(this.clubs.size()));
+        return ImmutableClub.builder()
+                .from(club)
+                .id(UUID.randomUUID())
+                .name("Load Test FC")
+                .logo(this.imageFileKey)
+                .build();
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(this.baseUri.resolve(path));
+        if (this.authToken != null) {
+            requestBuilder.header(AUTHORIZATION_HEADER, BEARER_AUTH_SCHEME + this.authToken);
+        }
+        return requestBuilder;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return this.objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
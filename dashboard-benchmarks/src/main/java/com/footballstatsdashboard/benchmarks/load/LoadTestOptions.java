@@ -0,0 +1,119 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Options of a load test run, parsed from arguments of the form `--name=value`
+ */
+final class LoadTestOptions {
+    private static final int DEFAULT_CLIENTS = 32;
+    private static final Duration DEFAULT_WARMUP = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(60);
+    private static final String DEFAULT_OUTPUT_DIRECTORY = "load-test-results";
+
+    private int clients = DEFAULT_CLIENTS;
+    private Duration warmup = DEFAULT_WARMUP;
+    private Duration duration = DEFAULT_DURATION;
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private Path configPath;
+    private Path outputDirectory = Paths.get(DEFAULT_OUTPUT_DIRECTORY);
+
+    private LoadTestOptions() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            this.mix.put(endpoint, endpoint.getDefaultWeight());
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (!arg.startsWith("--") || separatorIndex < 0) {
+                throw new IllegalArgumentException("Expected an argument of the form --name=value, found " + arg);
+            }
+
+            String name = arg.substring(2, separatorIndex);
+            String value = arg.substring(separatorIndex + 1);
+            switch (name) {
+                case "clients":
+                    options.clients = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "duration":
+                    options.duration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "mix":
+                    options.parseMix(value);
+                    break;
+                case "config":
+                    options.configPath = Paths.get(value);
+                    break;
+                case "output":
+                    options.outputDirectory = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+
+        if (options.clients < 1) {
+            throw new IllegalArgumentException("There must be at least one client");
+        }
+        if (options.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one endpoint must have a positive weight in the mix");
+        }
+        return options;
+    }
+
+    /**
+     * replace the weights of the endpoints listed in the mix, e.g. `getPlayer:50,login:0`
+     */
+    private void parseMix(String value) {
+        for (String entry : value.split(",")) {
+            String[] endpointAndWeight = entry.split(":");
+            if (endpointAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected an endpoint and its weight, e.g. getPlayer:50, found "
+                        + entry);
+            }
+            int weight = Integer.parseInt(endpointAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of an endpoint can not be negative, found " + entry);
+            }
+            this.mix.put(Endpoint.fromName(endpointAndWeight[0].trim()), weight);
+        }
+    }
+
+    int getClients() {
+        return clients;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    /**
+     * config to boot the application with, if not the one bundled with the load tests
+     */
+    Optional<Path> getConfigPath() {
+        return Optional.ofNullable(configPath);
+    }
+
+    Path getOutputDirectory() {
+        return outputDirectory;
+    }
+}
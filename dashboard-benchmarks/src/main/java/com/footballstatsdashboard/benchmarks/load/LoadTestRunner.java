@@ -0,0 +1,240 @@
+package com.footballstatsdashboard.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballstatsdashboard.FootballDashboardApplication;
+import com.footballstatsdashboard.FootballDashboardConfiguration;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import com.footballstatsdashboard.core.synthetic.SyntheticClub;
+import com.footballstatsdashboard.core.synthetic.SyntheticDataGenerator;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.testing.DropwizardTestSupport;
+import org.HdrHistogram.Histogram;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Entry point of the load tests. Boots the application in-process against the synthetic dataset, then has a number of
+ * clients, each logged in as one of the synthetic users, send requests to a weighted mix of endpoints back to back for
+ * the length of the test. The latency of every request sent after the warmup is recorded per endpoint, and the
+ * throughput and latency percentiles of each endpoint are written as JSON, along with the full latency distribution of
+ * each endpoint in the HdrHistogram percentile format.
+ */
+public final class LoadTestRunner {
+    private static final String CONFIG_RESOURCE = "load-test.yml";
+    private static final String REPORT_FILE_NAME = "results.json";
+    private static final String HISTOGRAM_FILE_EXTENSION = ".hgrm";
+    private static final int LOGO_SIZE = 64;
+    private static final String SUMMARY_FORMAT = "%-14s %10s %8s %10s %10s %10s %10s %10s%n";
+
+    private final DropwizardTestSupport<FootballDashboardConfiguration> application;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper;
+    private final Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+    private LoadTestRunner(DropwizardTestSupport<FootballDashboardConfiguration> application,
+                           LoadTestOptions options) {
+        this.application = application;
+        this.options = options;
+        this.objectMapper = application.getObjectMapper();
+        for (Endpoint endpoint : Endpoint.values()) {
+            this.recorders.put(endpoint, new EndpointRecorder());
+        }
+    }
+
+    /**
+     * run the load tests, e.g.
+     * `java -cp target/benchmarks.jar com.footballstatsdashboard.benchmarks.load.LoadTestRunner
+     * --clients=64 --duration=120 --mix=getPlayer:60,squadHub:40`
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        DropwizardTestSupport<FootballDashboardConfiguration> application = options.getConfigPath().isPresent()
+                ? new DropwizardTestSupport<>(FootballDashboardApplication.class,
+                        options.getConfigPath().get().toString())
+                : new DropwizardTestSupport<>(FootballDashboardApplication.class, CONFIG_RESOURCE,
+                        new ResourceConfigurationSourceProvider());
+
+        // returns once the synthetic dataset has been loaded, since it is loaded as the server starts
+        application.before();
+        try {
+            new LoadTestRunner(application, options).run();
+        } finally {
+            application.after();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException, ExecutionException {
+        List<LoadTestClient> clients = createClients();
+        System.out.printf("Running %d clients for %d s after a warmup of %d s%n", this.options.getClients(),
+                this.options.getDuration().toSeconds(), this.options.getWarmup().toSeconds());
+
+        long measurementStartTime = System.nanoTime() + this.options.getWarmup().toNanos();
+        long endTime = measurementStartTime + this.options.getDuration().toNanos();
+        ExecutorService executorService = Executors.newFixedThreadPool(clients.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int clientIndex = 0; clientIndex < clients.size(); clientIndex++) {
+                LoadTestClient client = clients.get(clientIndex);
+                SplittableRandom random = new SplittableRandom(clientIndex);
+                futures.add(executorService.submit(() -> {
+                    drive(client, random, measurementStartTime, endTime);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        report();
+    }
+
+    /**
+     * log a client in as each of the synthetic users in turn, going back to the first user once every one of them has
+     * a client, and upload the image the clients download
+     */
+    private List<LoadTestClient> createClients() throws IOException, InterruptedException {
+        SyntheticDataConfiguration syntheticDataConfiguration =
+                this.application.getConfiguration().getSyntheticDataConfiguration();
+        if (!syntheticDataConfiguration.isEnabled()) {
+            throw new IllegalStateException("The load tests need the synthetic dataset to be loaded, set "
+                    + "syntheticData.enabled in the configuration");
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        URI baseUri = URI.create(String.format("http://localhost:%d/", this.application.getLocalPort()));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(syntheticDataConfiguration);
+        Map<Integer, List<SyntheticClub>> clubsByUser = new HashMap<>();
+
+        List<LoadTestClient> clients = new ArrayList<>();
+        for (int clientIndex = 0; clientIndex < this.options.getClients(); clientIndex++) {
+            int userIndex = clientIndex % syntheticDataConfiguration.getUsers();
+            List<SyntheticClub> clubs = clubsByUser.computeIfAbsent(userIndex, index -> {
+                // only the ID of the user is needed, so the password it is generated with does not matter
+                UUID userId = generator.generateUser(index, "").getId();
+                return IntStream.range(0, syntheticDataConfiguration.getClubsPerUser())
+                        .mapToObj(clubIndex -> generator.generateClub(userId, index, clubIndex))
+                        .collect(Collectors.toList());
+            });
+
+            LoadTestClient client = new LoadTestClient(httpClient, baseUri, this.objectMapper,
+                    new SplittableRandom(clientIndex), userIndex, clubs);
+            client.logIn();
+            clients.add(client);
+        }
+
+        String imageFileKey = clients.get(0).uploadImage(generateLogo());
+        clients.forEach(client -> client.setImageFileKey(imageFileKey));
+        return clients;
+    }
+
+    /**
+     * send requests to endpoints picked at random according to the mix until the end of the test, recording the
+     * latency of the ones sent after the warmup
+     */
+    private void drive(LoadTestClient client, SplittableRandom random, long measurementStartTime, long endTime)
+            throws InterruptedException {
+        Endpoint[] endpoints = this.options.getMix().keySet().toArray(new Endpoint[0]);
+        int[] cumulativeWeights = new int[endpoints.length];
+        int totalWeight = 0;
+        for (int endpointIndex = 0; endpointIndex < endpoints.length; endpointIndex++) {
+            totalWeight += this.options.getMix().get(endpoints[endpointIndex]);
+            cumulativeWeights[endpointIndex] = totalWeight;
+        }
+
+        while (System.nanoTime() < endTime) {
+            int pick = random.nextInt(totalWeight);
+            int endpointIndex = 0;
+            while (cumulativeWeights[endpointIndex] <= pick) {
+                endpointIndex++;
+            }
+            Endpoint endpoint = endpoints[endpointIndex];
+
+            boolean isSuccessful;
+            long requestStartTime = System.nanoTime();
+            try {
+                isSuccessful = LoadTestClient.isSuccessful(client.send(endpoint.buildRequest(client)).statusCode());
+            } catch (IOException e) {
+                isSuccessful = false;
+            }
+            long requestEndTime = System.nanoTime();
+
+            if (requestStartTime >= measurementStartTime) {
+                this.recorders.get(endpoint).record(requestEndTime - requestStartTime, isSuccessful);
+            }
+        }
+    }
+
+    private void report() throws IOException {
+        Path outputDirectory = this.options.getOutputDirectory();
+        Files.createDirectories(outputDirectory);
+
+        List<EndpointResult> results = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (this.options.getMix().get(endpoint) == 0) {
+                continue;
+            }
+
+            EndpointRecorder recorder = this.recorders.get(endpoint);
+            Histogram histogram = recorder.getHistogram();
+            results.add(new EndpointResult(endpoint, histogram, recorder.getErrors(), this.options.getDuration()));
+            try (PrintStream histogramStream = new PrintStream(
+                    Files.newOutputStream(outputDirectory.resolve(endpoint.getName() + HISTOGRAM_FILE_EXTENSION)),
+                    false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(histogramStream, EndpointResult.MICROS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", this.options.getClients());
+        report.put("warmupSeconds", this.options.getWarmup().toSeconds());
+        report.put("durationSeconds", this.options.getDuration().toSeconds());
+        report.put("endpoints", results);
+        Path reportPath = outputDirectory.resolve(REPORT_FILE_NAME);
+        this.objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+        System.out.printf(SUMMARY_FORMAT, "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms",
+                "max ms");
+        for (EndpointResult result : results) {
+            System.out.printf(SUMMARY_FORMAT, result.getEndpoint(), result.getRequests(), result.getErrors(),
+                    String.format("%.1f", result.getThroughputPerSecond()),
+                    String.format("%.2f", result.getP50Millis()), String.format("%.2f", result.getP95Millis()),
+                    String.format("%.2f", result.getP99Millis()), String.format("%.2f", result.getMaxMillis()));
+        }
+        System.out.printf("Results written to %s%n", outputDirectory.toAbsolutePath());
+    }
+
+    private static byte[] generateLogo() throws IOException {
+        BufferedImage logo = new BufferedImage(LOGO_SIZE, LOGO_SIZE, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(logo, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
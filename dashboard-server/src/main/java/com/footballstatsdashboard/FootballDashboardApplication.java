@@ -2,14 +2,23 @@ package com.footballstatsdashboard;
 
 import com.footballstatsdashboard.api.model.User;
 import com.footballstatsdashboard.core.exceptions.ServiceExceptionMapper;
+import com.footballstatsdashboard.core.instrumentation.StatementCountFilter;
+import com.footballstatsdashboard.core.instrumentation.StatementCounter;
+import com.footballstatsdashboard.config.AuthenticationConfiguration;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import com.footballstatsdashboard.core.synthetic.SyntheticDataLoader;
+import com.footballstatsdashboard.core.service.auth.AuthTokenTouchWriter;
 import com.footballstatsdashboard.core.service.auth.CustomAuthenticator;
 import com.footballstatsdashboard.core.service.auth.CustomAuthorizer;
 import com.footballstatsdashboard.core.utils.DashboardInternalModule;
 import com.footballstatsdashboard.core.utils.DashboardReadonlyModule;
 import com.footballstatsdashboard.db.DAOFactory;
+import com.footballstatsdashboard.db.IAuthTokenEntityDAO;
 import com.footballstatsdashboard.db.IUserEntityDAO;
-import com.footballstatsdashboard.health.FootballDashboardHealthCheck;
+import com.footballstatsdashboard.health.UploadDirectoryHealthCheck;
 import com.footballstatsdashboard.resources.BoardObjectiveResource;
+import com.footballstatsdashboard.resources.ClubDashboardResource;
 import com.footballstatsdashboard.resources.ClubResource;
 import com.footballstatsdashboard.resources.CountryFlagsLookupResource;
 import com.footballstatsdashboard.resources.FileStorageResource;
@@ -17,6 +26,7 @@ import com.footballstatsdashboard.resources.MatchPerformanceResource;
 import com.footballstatsdashboard.resources.PlayerResource;
 import com.footballstatsdashboard.resources.UserResource;
 import com.footballstatsdashboard.services.BoardObjectiveService;
+import com.footballstatsdashboard.services.ClubDashboardService;
 import com.footballstatsdashboard.services.ClubService;
 import com.footballstatsdashboard.services.CountryFlagsLookupService;
 import com.footballstatsdashboard.services.FileStorageService;
@@ -33,6 +43,8 @@ import org.glassfish.jersey.server.filter.RolesAllowedDynamicFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ExecutorService;
+
 import static com.footballstatsdashboard.core.utils.Constants.APPLICATION_NAME;
 
 public class FootballDashboardApplication extends Application<FootballDashboardConfiguration> {
@@ -66,25 +78,49 @@ public class FootballDashboardApplication extends Application<FootballDashboardC
         IUserEntityDAO userEntityDAO = daoFactory.getUserEntityDAO();
 
         // setup services
-        ClubService clubService = new ClubService(daoFactory.getClubEntityDAO());
-        PlayerService playerService = new PlayerService(daoFactory.getPlayerEntityDAO());
+        ClubService clubService = new ClubService(daoFactory.getClubEntityDAO(), daoFactory.getAsyncClubEntityDAO(),
+                environment.metrics());
+        // the country registry is loaded once, up front, and shared by everything that looks up countries
         CountryFlagsLookupService countryFlagsLookupService = new CountryFlagsLookupService();
+        PlayerService playerService = new PlayerService(daoFactory.getPlayerEntityDAO(),
+                daoFactory.getAsyncPlayerEntityDAO(), countryFlagsLookupService);
         FileStorageService fileStorageService = new FileStorageService(configuration.getFileUploadConfiguration());
+        environment.lifecycle().manage(fileStorageService);
         BoardObjectiveService boardObjectiveService =
-                new BoardObjectiveService(daoFactory.getBoardObjectiveEntityDAO());
+                new BoardObjectiveService(daoFactory.getBoardObjectiveEntityDAO(), environment.metrics());
+        // the dashboard's blocking loads each hold on to a database connection, so there is no point in running more
+        // of them at once than there are connections
+        int dashboardThreads = configuration.getDatabase().getMaxSize();
+        ExecutorService dashboardExecutor = environment.lifecycle().executorService("club-dashboard-%d")
+                .minThreads(dashboardThreads)
+                .maxThreads(dashboardThreads)
+                .build();
+        ClubDashboardService clubDashboardService = new ClubDashboardService(clubService, boardObjectiveService,
+                StatementCounter.propagating(dashboardExecutor));
+
+        // count the statements each request issues, so that N+1 queries show up in the logs
+        environment.jersey().register(new StatementCountFilter(
+                configuration.getInstrumentationConfiguration().getStatementCountThreshold(), environment.metrics()));
 
         // setup resources
         environment.jersey().register(new UserResource(userEntityDAO, daoFactory.getAuthTokenEntityDAO()));
         environment.jersey().register(new PlayerResource(playerService, clubService));
         environment.jersey().register(new ClubResource(clubService, fileStorageService));
-        environment.jersey().register(new MatchPerformanceResource(daoFactory.getMatchPerformanceEntityDAO()));
+        environment.jersey().register(new MatchPerformanceResource(daoFactory.getMatchPerformanceEntityDAO(),
+                daoFactory.getAsyncMatchPerformanceEntityDAO(), environment.getValidator()));
         environment.jersey().register(new CountryFlagsLookupResource(countryFlagsLookupService));
         environment.jersey().register(new FileStorageResource(fileStorageService));
         environment.jersey().register(new BoardObjectiveResource(boardObjectiveService, clubService));
+        environment.jersey().register(new ClubDashboardResource(clubDashboardService));
 
         // Register OAuth authentication
-        CustomAuthenticator customAuthenticator = new CustomAuthenticator(daoFactory.getAuthTokenEntityDAO(),
-                userEntityDAO);
+        AuthenticationConfiguration authenticationConfiguration = configuration.getAuthenticationConfiguration();
+        IAuthTokenEntityDAO authTokenEntityDAO = daoFactory.getAuthTokenEntityDAO();
+        AuthTokenTouchWriter authTokenTouchWriter = new AuthTokenTouchWriter(authTokenEntityDAO,
+                authenticationConfiguration.getTouchFlushInterval());
+        environment.lifecycle().manage(authTokenTouchWriter);
+        CustomAuthenticator customAuthenticator = new CustomAuthenticator(authTokenEntityDAO, userEntityDAO,
+                authTokenTouchWriter, authenticationConfiguration.getCachePolicy());
         environment.jersey()
                 .register(new AuthDynamicFeature(new OAuthCredentialAuthFilter.Builder<User>()
                         .setAuthenticator(customAuthenticator)
@@ -95,8 +131,25 @@ public class FootballDashboardApplication extends Application<FootballDashboardC
         environment.jersey().register(RolesAllowedDynamicFeature.class);
         environment.jersey().register(new AuthValueFactoryProvider.Binder<>(User.class));
 
-        // setup health checks
-        environment.healthChecks().register(this.getName(), new FootballDashboardHealthCheck());
+        // setup health checks, each of which probes a dependency and reports on the latency of its recent probes
+        HealthCheckConfiguration healthCheckConfiguration = configuration.getHealthCheckConfiguration();
+        environment.healthChecks().register("dataStore", daoFactory.getDataStoreHealthCheck(healthCheckConfiguration));
+        environment.healthChecks().register("uploadDirectory", new UploadDirectoryHealthCheck(fileStorageService,
+                healthCheckConfiguration, environment.metrics()));
+
+        // load a dataset of realistic volume once the data store is reachable, if asked to
+        SyntheticDataConfiguration syntheticDataConfiguration = configuration.getSyntheticDataConfiguration();
+        if (syntheticDataConfiguration.isEnabled()) {
+            SyntheticDataLoader syntheticDataLoader = new SyntheticDataLoader(syntheticDataConfiguration,
+                    userEntityDAO, daoFactory.getClubEntityDAO(), daoFactory.getPlayerEntityDAO(),
+                    daoFactory.getMatchPerformanceEntityDAO(), daoFactory.getBoardObjectiveEntityDAO());
+            ExecutorService syntheticDataExecutor = environment.lifecycle().executorService("synthetic-data-%d")
+                    .minThreads(syntheticDataConfiguration.getLoadThreads())
+                    .maxThreads(syntheticDataConfiguration.getLoadThreads())
+                    .build();
+            environment.lifecycle().addServerLifecycleListener(server ->
+                    syntheticDataLoader.load(syntheticDataExecutor));
+        }
 
         // setup exception mappers
         environment.jersey().register(new ServiceExceptionMapper());
@@ -1,7 +1,12 @@
 package com.footballstatsdashboard;
 
 import com.footballstatsdashboard.client.couchbase.config.CouchbaseClientConfiguration;
+import com.footballstatsdashboard.config.AuthenticationConfiguration;
+import com.footballstatsdashboard.config.EntityCacheConfiguration;
 import com.footballstatsdashboard.config.FileUploadConfiguration;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import com.footballstatsdashboard.config.InstrumentationConfiguration;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
 import io.dropwizard.Configuration;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.db.DataSourceFactory;
@@ -36,6 +41,31 @@ public class FootballDashboardConfiguration extends Configuration {
     @JsonProperty
     private FileUploadConfiguration fileUpload;
 
+    @Valid
+    @NotNull
+    @JsonProperty
+    private AuthenticationConfiguration authentication = new AuthenticationConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty
+    private EntityCacheConfiguration entityCache = new EntityCacheConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty
+    private InstrumentationConfiguration instrumentation = new InstrumentationConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty
+    private HealthCheckConfiguration healthCheck = new HealthCheckConfiguration();
+
+    @Valid
+    @NotNull
+    @JsonProperty
+    private SyntheticDataConfiguration syntheticData = new SyntheticDataConfiguration();
+
     public DataSourceFactory getDatabase() {
         return database;
     }
@@ -51,4 +81,24 @@ public class FootballDashboardConfiguration extends Configuration {
     public FileUploadConfiguration getFileUploadConfiguration() {
         return fileUpload;
     }
-}
\ No newline at end of file
+
+    public AuthenticationConfiguration getAuthenticationConfiguration() {
+        return authentication;
+    }
+
+    public EntityCacheConfiguration getEntityCacheConfiguration() {
+        return entityCache;
+    }
+
+    public InstrumentationConfiguration getInstrumentationConfiguration() {
+        return instrumentation;
+    }
+
+    public HealthCheckConfiguration getHealthCheckConfiguration() {
+        return healthCheck;
+    }
+
+    public SyntheticDataConfiguration getSyntheticDataConfiguration() {
+        return syntheticData;
+    }
+}
@@ -0,0 +1,34 @@
+package com.footballstatsdashboard.api.model.club;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.footballstatsdashboard.api.model.Club;
+import org.immutables.value.Value;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@Value.Immutable
+@JsonSerialize
+@JsonDeserialize(as = ImmutableClubDashboard.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public interface ClubDashboard {
+    /**
+     * club data
+     */
+    @Valid
+    Club getClub();
+
+    /**
+     * players in the club's squad
+     */
+    @Valid
+    List<SquadPlayer> getSquadPlayers();
+
+    /**
+     * objectives set for the club by its board
+     */
+    @Valid
+    List<BoardObjective> getBoardObjectives();
+}
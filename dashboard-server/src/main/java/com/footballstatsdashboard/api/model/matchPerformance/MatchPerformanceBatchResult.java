@@ -0,0 +1,44 @@
+package com.footballstatsdashboard.api.model.matchPerformance;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.UUID;
+
+@Value.Immutable
+@JsonSerialize
+@JsonDeserialize(as = ImmutableMatchPerformanceBatchResult.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Value.Style(jdkOnly = true) // Required if the below entity will be used in a Map, List, Set or any other collection
+public interface MatchPerformanceBatchResult {
+
+    /**
+     * position of the match performance in the batch
+     */
+    int getIndex();
+
+    /**
+     * ID of the match performance, if there is one
+     */
+    @Nullable
+    UUID getId();
+
+    /**
+     * whether the match performance was created or rejected
+     */
+    Status getStatus();
+
+    /**
+     * reasons the match performance was rejected for
+     */
+    List<String> getErrors();
+
+    enum Status {
+        CREATED,
+        REJECTED
+    }
+}
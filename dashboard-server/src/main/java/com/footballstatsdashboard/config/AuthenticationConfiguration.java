@@ -0,0 +1,42 @@
+package com.footballstatsdashboard.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.dropwizard.util.Duration;
+
+import javax.validation.constraints.NotNull;
+
+public class AuthenticationConfiguration {
+    private static final long DEFAULT_TOUCH_FLUSH_INTERVAL_SECONDS = 30;
+
+    /**
+     * policy of the cache of authenticated auth tokens; entries should expire well within the lifetime of an auth
+     * token so that tokens touched outside the authenticator are picked up again
+     */
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec cachePolicy = CaffeineSpec.parse("maximumSize=10000, expireAfterWrite=5m");
+
+    /**
+     * interval at which the last access time of the auth tokens used in the meantime is written to the database
+     */
+    @NotNull
+    @JsonProperty
+    private Duration touchFlushInterval = Duration.seconds(DEFAULT_TOUCH_FLUSH_INTERVAL_SECONDS);
+
+    public CaffeineSpec getCachePolicy() {
+        return cachePolicy;
+    }
+
+    public void setCachePolicy(CaffeineSpec cachePolicy) {
+        this.cachePolicy = cachePolicy;
+    }
+
+    public Duration getTouchFlushInterval() {
+        return touchFlushInterval;
+    }
+
+    public void setTouchFlushInterval(Duration touchFlushInterval) {
+        this.touchFlushInterval = touchFlushInterval;
+    }
+}
@@ -0,0 +1,80 @@
+package com.footballstatsdashboard.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * policies of the caches of entities read by their ID, one per type of entity; entries should expire soon enough that
+ * changes made to an entity other than through its own DAO, e.g. players removed along with their club, are picked up
+ * again in reasonable time
+ */
+public class EntityCacheConfiguration {
+    private static final String DEFAULT_CACHE_POLICY = "maximumSize=10000, expireAfterWrite=5m";
+    private static final String DEFAULT_OWNERSHIP_INDEX_POLICY = "maximumSize=100000, expireAfterWrite=30m";
+
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec club = CaffeineSpec.parse(DEFAULT_CACHE_POLICY);
+
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec player = CaffeineSpec.parse(DEFAULT_CACHE_POLICY);
+
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec matchPerformance = CaffeineSpec.parse(DEFAULT_CACHE_POLICY);
+
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec boardObjective = CaffeineSpec.parse(DEFAULT_CACHE_POLICY);
+
+    /**
+     * policy of the index of the club and user that each entity belongs to; since that never changes, entries only
+     * need to expire to pick up entities deleted by other instances of the application
+     */
+    @NotNull
+    @JsonProperty
+    private CaffeineSpec ownership = CaffeineSpec.parse(DEFAULT_OWNERSHIP_INDEX_POLICY);
+
+    public CaffeineSpec getClub() {
+        return club;
+    }
+
+    public void setClub(CaffeineSpec club) {
+        this.club = club;
+    }
+
+    public CaffeineSpec getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(CaffeineSpec player) {
+        this.player = player;
+    }
+
+    public CaffeineSpec getMatchPerformance() {
+        return matchPerformance;
+    }
+
+    public void setMatchPerformance(CaffeineSpec matchPerformance) {
+        this.matchPerformance = matchPerformance;
+    }
+
+    public CaffeineSpec getBoardObjective() {
+        return boardObjective;
+    }
+
+    public void setBoardObjective(CaffeineSpec boardObjective) {
+        this.boardObjective = boardObjective;
+    }
+
+    public CaffeineSpec getOwnership() {
+        return ownership;
+    }
+
+    public void setOwnership(CaffeineSpec ownership) {
+        this.ownership = ownership;
+    }
+}
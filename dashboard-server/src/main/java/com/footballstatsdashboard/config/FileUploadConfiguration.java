@@ -7,6 +7,15 @@ import javax.validation.constraints.Size;
 import java.util.List;
 
 public class FileUploadConfiguration {
+    private static final long DEFAULT_VARIANT_CACHE_SIZE_IN_BYTES = 100L * 1024 * 1024;
+
+    public enum StorageMode {
+        // every upload is stored under its own file key
+        FLAT,
+        // uploads are stored once per digest of their content, with file keys aliasing the digests
+        CONTENT_ADDRESSED
+    }
+
     @NotNull
     @JsonProperty
     private Long maxSizeInBytes;
@@ -20,6 +29,17 @@ public class FileUploadConfiguration {
     @JsonProperty
     private String uploadPath;
 
+    @NotNull
+    @JsonProperty
+    private StorageMode storageMode = StorageMode.FLAT;
+
+    @JsonProperty
+    private boolean watchUploadPath = false;
+
+    // the most disk space the resized variants of uploaded images may take up
+    @JsonProperty
+    private long variantCacheSizeInBytes = DEFAULT_VARIANT_CACHE_SIZE_IN_BYTES;
+
     public Long getMaxSizeInBytes() {
         return maxSizeInBytes;
     }
@@ -43,4 +63,28 @@ public class FileUploadConfiguration {
     public void setUploadPath(String uploadPath) {
         this.uploadPath = uploadPath;
     }
-}
\ No newline at end of file
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public boolean isWatchUploadPath() {
+        return watchUploadPath;
+    }
+
+    public void setWatchUploadPath(boolean watchUploadPath) {
+        this.watchUploadPath = watchUploadPath;
+    }
+
+    public long getVariantCacheSizeInBytes() {
+        return variantCacheSizeInBytes;
+    }
+
+    public void setVariantCacheSizeInBytes(long variantCacheSizeInBytes) {
+        this.variantCacheSizeInBytes = variantCacheSizeInBytes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.footballstatsdashboard.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * thresholds on the p99 latency of the probes the health checks run against the data store and the upload directory;
+ * a node whose probes are slower than the unhealthy threshold is reported as unhealthy so that it gets drained
+ */
+public class HealthCheckConfiguration {
+    private static final long DEFAULT_DEGRADED_PROBE_LATENCY_MILLIS = 250;
+    private static final long DEFAULT_UNHEALTHY_PROBE_LATENCY_MILLIS = 1000;
+    private static final long DEFAULT_PROBE_LATENCY_WINDOW_MINUTES = 5;
+
+    /**
+     * p99 probe latency above which a check is still healthy but reported as degraded
+     */
+    @NotNull
+    @JsonProperty
+    private Duration degradedProbeLatency = Duration.milliseconds(DEFAULT_DEGRADED_PROBE_LATENCY_MILLIS);
+
+    /**
+     * p99 probe latency above which a check is reported as unhealthy
+     */
+    @NotNull
+    @JsonProperty
+    private Duration unhealthyProbeLatency = Duration.milliseconds(DEFAULT_UNHEALTHY_PROBE_LATENCY_MILLIS);
+
+    /**
+     * how far back the probes the p99 latency is taken over go, so that a node recovers once its slow probes age out
+     */
+    @NotNull
+    @JsonProperty
+    private Duration probeLatencyWindow = Duration.minutes(DEFAULT_PROBE_LATENCY_WINDOW_MINUTES);
+
+    public Duration getDegradedProbeLatency() {
+        return degradedProbeLatency;
+    }
+
+    public void setDegradedProbeLatency(Duration degradedProbeLatency) {
+        this.degradedProbeLatency = degradedProbeLatency;
+    }
+
+    public Duration getUnhealthyProbeLatency() {
+        return unhealthyProbeLatency;
+    }
+
+    public void setUnhealthyProbeLatency(Duration unhealthyProbeLatency) {
+        this.unhealthyProbeLatency = unhealthyProbeLatency;
+    }
+
+    public Duration getProbeLatencyWindow() {
+        return probeLatencyWindow;
+    }
+
+    public void setProbeLatencyWindow(Duration probeLatencyWindow) {
+        this.probeLatencyWindow = probeLatencyWindow;
+    }
+}
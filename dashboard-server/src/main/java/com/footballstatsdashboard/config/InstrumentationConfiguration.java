@@ -0,0 +1,24 @@
+package com.footballstatsdashboard.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.Min;
+
+public class InstrumentationConfiguration {
+    private static final int DEFAULT_STATEMENT_COUNT_THRESHOLD = 20;
+
+    /**
+     * number of statements a single request may issue to the data store before it is logged as a likely N+1 query
+     */
+    @Min(1)
+    @JsonProperty
+    private int statementCountThreshold = DEFAULT_STATEMENT_COUNT_THRESHOLD;
+
+    public int getStatementCountThreshold() {
+        return statementCountThreshold;
+    }
+
+    public void setStatementCountThreshold(int statementCountThreshold) {
+        this.statementCountThreshold = statementCountThreshold;
+    }
+}
@@ -0,0 +1,135 @@
+package com.footballstatsdashboard.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.Min;
+
+/**
+ * shape of the synthetic dataset loaded into the data store on startup, for running the server against a realistic
+ * volume of data; the same seed always produces the same dataset, so that load and benchmark runs can be compared
+ */
+public class SyntheticDataConfiguration {
+    private static final long DEFAULT_SEED = 42L;
+    private static final int DEFAULT_USERS = 10;
+    private static final int DEFAULT_CLUBS_PER_USER = 2;
+    private static final int DEFAULT_PLAYERS_PER_CLUB = 25;
+    private static final int DEFAULT_SEASONS = 3;
+    private static final int DEFAULT_COMPETITIONS = 3;
+    private static final int DEFAULT_BOARD_OBJECTIVES_PER_CLUB = 5;
+    private static final int DEFAULT_LOAD_THREADS = 8;
+
+    @JsonProperty
+    private boolean enabled = false;
+
+    @JsonProperty
+    private long seed = DEFAULT_SEED;
+
+    @Min(1)
+    @JsonProperty
+    private int users = DEFAULT_USERS;
+
+    @Min(0)
+    @JsonProperty
+    private int clubsPerUser = DEFAULT_CLUBS_PER_USER;
+
+    @Min(0)
+    @JsonProperty
+    private int playersPerClub = DEFAULT_PLAYERS_PER_CLUB;
+
+    /**
+     * number of seasons the histories of the clubs, players and match performances go back
+     */
+    @Min(1)
+    @JsonProperty
+    private int seasons = DEFAULT_SEASONS;
+
+    /**
+     * number of competitions each player has a match performance in
+     */
+    @Min(0)
+    @JsonProperty
+    private int competitions = DEFAULT_COMPETITIONS;
+
+    @Min(0)
+    @JsonProperty
+    private int boardObjectivesPerClub = DEFAULT_BOARD_OBJECTIVES_PER_CLUB;
+
+    /**
+     * number of users whose data is loaded at the same time
+     */
+    @Min(1)
+    @JsonProperty
+    private int loadThreads = DEFAULT_LOAD_THREADS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getClubsPerUser() {
+        return clubsPerUser;
+    }
+
+    public void setClubsPerUser(int clubsPerUser) {
+        this.clubsPerUser = clubsPerUser;
+    }
+
+    public int getPlayersPerClub() {
+        return playersPerClub;
+    }
+
+    public void setPlayersPerClub(int playersPerClub) {
+        this.playersPerClub = playersPerClub;
+    }
+
+    public int getSeasons() {
+        return seasons;
+    }
+
+    public void setSeasons(int seasons) {
+        this.seasons = seasons;
+    }
+
+    public int getCompetitions() {
+        return competitions;
+    }
+
+    public void setCompetitions(int competitions) {
+        this.competitions = competitions;
+    }
+
+    public int getBoardObjectivesPerClub() {
+        return boardObjectivesPerClub;
+    }
+
+    public void setBoardObjectivesPerClub(int boardObjectivesPerClub) {
+        this.boardObjectivesPerClub = boardObjectivesPerClub;
+    }
+
+    public int getLoadThreads() {
+        return loadThreads;
+    }
+
+    public void setLoadThreads(int loadThreads) {
+        this.loadThreads = loadThreads;
+    }
+}
@@ -0,0 +1,90 @@
+package com.footballstatsdashboard.core.instrumentation;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+
+/**
+ * Counts the statements each request issues to the data store, publishes their distribution and logs the requests
+ * that issue more of them than the threshold, which usually means that something is being loaded one row or document
+ * at a time, i.e. an N+1 query. Matched before the resource, so that the statements of the authentication filter are
+ * counted as well.
+ * <p>
+ * The counter is bound to the request thread until the resource method returns rather than until the response is
+ * filtered, since the response of a suspended request is filtered on whichever thread resumes it, and the request
+ * thread would otherwise keep counting against the finished request until it picked up the next one.
+ */
+@PreMatching
+public class StatementCountFilter implements ContainerRequestFilter, ContainerResponseFilter,
+        ApplicationEventListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCountFilter.class);
+    private static final String STATEMENT_COUNTER_PROPERTY = StatementCounter.class.getName();
+
+    private final int statementCountThreshold;
+    private final Histogram statementsPerRequest;
+
+    public StatementCountFilter(int statementCountThreshold, MetricRegistry metricRegistry) {
+        this.statementCountThreshold = statementCountThreshold;
+        this.statementsPerRequest =
+                metricRegistry.histogram(MetricRegistry.name(StatementCountFilter.class, "statements-per-request"));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        StatementCounter statementCounter = new StatementCounter();
+        requestContext.setProperty(STATEMENT_COUNTER_PROPERTY, statementCounter);
+        statementCounter.bind();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object property = requestContext.getProperty(STATEMENT_COUNTER_PROPERTY);
+        if (!(property instanceof StatementCounter)) {
+            return;
+        }
+
+        StatementCounter statementCounter = (StatementCounter) property;
+        // requests rejected before reaching a resource method, e.g. by the authentication filter, are still bound here
+        statementCounter.unbind();
+
+        int statementCount = statementCounter.getCount();
+        this.statementsPerRequest.update(statementCount);
+        if (statementCount > this.statementCountThreshold) {
+            LOGGER.warn("{} {} issued {} statements, more than the threshold of {}; check for N+1 queries",
+                    requestContext.getMethod(), requestContext.getUriInfo().getPath(), statementCount,
+                    this.statementCountThreshold);
+        }
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // nothing to do for events of the application as a whole
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return event -> {
+            if (event.getType() != RequestEvent.Type.RESOURCE_METHOD_FINISHED) {
+                return;
+            }
+
+            // fired on the thread that invoked the resource method, once it has returned, even if it suspended the
+            // request; statements issued for the request after that are counted on the threads it was handed off to
+            Object property = event.getContainerRequest().getProperty(STATEMENT_COUNTER_PROPERTY);
+            if (property instanceof StatementCounter) {
+                ((StatementCounter) property).unbind();
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.footballstatsdashboard.core.instrumentation;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Number of statements, i.e. SQL statements and couchbase key-value operations and N1QL queries, issued on behalf of a
+ * single request. The counter is bound to the thread handling the request and carried over to the threads the request
+ * hands its data access off to, as long as it does so through an executor wrapped with {@link #propagating(Executor)}.
+ * Statements issued on threads without a counter, e.g. by background jobs, are not counted.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * count a statement against the request the current thread is working for, if any
+     */
+    public static void recordStatement() {
+        StatementCounter statementCounter = CURRENT.get();
+        if (statementCounter != null) {
+            statementCounter.count.incrementAndGet();
+        }
+    }
+
+    /**
+     * an executor that runs each task with the counter of the thread that handed it the task, so that statements
+     * issued by the task count against the same request
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> {
+            StatementCounter statementCounter = CURRENT.get();
+            executor.execute(() -> {
+                StatementCounter previousCounter = CURRENT.get();
+                CURRENT.set(statementCounter);
+                try {
+                    task.run();
+                } finally {
+                    CURRENT.set(previousCounter);
+                }
+            });
+        };
+    }
+
+    /**
+     * count the statements issued on the current thread against this counter
+     */
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * stop counting the statements issued on the current thread against this counter, if they still are
+     */
+    public void unbind() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    public int getCount() {
+        return this.count.get();
+    }
+}
@@ -0,0 +1,105 @@
+package com.footballstatsdashboard.core.service.auth;
+
+import com.footballstatsdashboard.api.model.AuthToken;
+import com.footballstatsdashboard.db.IAuthTokenEntityDAO;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the touches on the last access time of auth tokens and writes them to the database in periodic batches.
+ * Repeated touches on the same auth token between two flushes are coalesced into the latest one, so that each auth
+ * token in use costs at most one write per flush interval no matter how many requests it authenticates.
+ */
+public class AuthTokenTouchWriter implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthTokenTouchWriter.class);
+
+    private final IAuthTokenEntityDAO authTokenDAO;
+    private final Duration flushInterval;
+    private final ConcurrentMap<UUID, AuthToken> pendingTouches = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flushExecutor;
+
+    public AuthTokenTouchWriter(IAuthTokenEntityDAO authTokenDAO, Duration flushInterval) {
+        this.authTokenDAO = authTokenDAO;
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public void start() {
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread flushThread = new Thread(runnable, "auth-token-touch-writer");
+            flushThread.setDaemon(true);
+            return flushThread;
+        });
+        this.flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval.toMilliseconds(),
+                flushInterval.toMilliseconds(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() throws InterruptedException {
+        this.flushExecutor.shutdown();
+        this.flushExecutor.awaitTermination(flushInterval.toMilliseconds(), TimeUnit.MILLISECONDS);
+        // write out whatever was touched since the last flush before the application goes away
+        flush();
+    }
+
+    /**
+     * record the touch on an auth token to be written with the next flush
+     */
+    public void touch(AuthToken touchedAuthToken) {
+        this.pendingTouches.merge(touchedAuthToken.getId(), touchedAuthToken, AuthTokenTouchWriter::getLatestTouch);
+    }
+
+    /**
+     * the last access time of an auth token that has been touched but not written to the database yet, if any
+     */
+    public Optional<Instant> getPendingLastAccessUTC(UUID authTokenId) {
+        return Optional.ofNullable(this.pendingTouches.get(authTokenId)).map(AuthToken::getLastAccessUTC);
+    }
+
+    /**
+     * drop the pending touch on an auth token, so that it is not written back after the auth token is gone
+     */
+    public void discard(UUID authTokenId) {
+        this.pendingTouches.remove(authTokenId);
+    }
+
+    /**
+     * write the touches collected since the last flush to the database in a single batch
+     */
+    public void flush() {
+        List<AuthToken> touchedAuthTokens = new ArrayList<>();
+        this.pendingTouches.keySet().forEach(authTokenId -> {
+            AuthToken touchedAuthToken = this.pendingTouches.remove(authTokenId);
+            if (touchedAuthToken != null) touchedAuthTokens.add(touchedAuthToken);
+        });
+        if (touchedAuthTokens.isEmpty()) return;
+
+        try {
+            this.authTokenDAO.updateLastAccessTimes(touchedAuthTokens);
+        } catch (RuntimeException runtimeException) {
+            // put the touches back to be retried with the next flush, unless the auth token has been touched since
+            LOGGER.error("Unable to write the last access time of {} auth tokens", touchedAuthTokens.size(),
+                    runtimeException);
+            touchedAuthTokens.forEach(this::touch);
+        }
+    }
+
+    private static AuthToken getLatestTouch(AuthToken pendingTouch, AuthToken incomingTouch) {
+        return incomingTouch.getLastAccessUTC().isAfter(pendingTouch.getLastAccessUTC())
+                ? incomingTouch
+                : pendingTouch;
+    }
+}
@@ -5,6 +5,9 @@ import com.footballstatsdashboard.api.model.ImmutableAuthToken;
 import com.footballstatsdashboard.api.model.User;
 import com.footballstatsdashboard.db.IAuthTokenEntityDAO;
 import com.footballstatsdashboard.db.IUserEntityDAO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import io.dropwizard.auth.AuthenticationException;
 import io.dropwizard.auth.Authenticator;
 import org.slf4j.Logger;
@@ -21,10 +24,17 @@ public class CustomAuthenticator implements Authenticator<String, User> {
     private static final int AUTH_TOKEN_EXPIRE_TIME_SECONDS = 3600;
     private final IAuthTokenEntityDAO authTokenDAO;
     private final IUserEntityDAO userDAO;
+    private final AuthTokenTouchWriter authTokenTouchWriter;
+    // auth tokens that have been authenticated recently along with the user they belong to, so that requests made
+    // with them can be authenticated without going to the database
+    private final Cache<UUID, AuthenticatedToken> authenticatedTokens;
 
-    public CustomAuthenticator(IAuthTokenEntityDAO authTokenDAO, IUserEntityDAO userDAO) {
+    public CustomAuthenticator(IAuthTokenEntityDAO authTokenDAO, IUserEntityDAO userDAO,
+                               AuthTokenTouchWriter authTokenTouchWriter, CaffeineSpec cachePolicy) {
         this.authTokenDAO = authTokenDAO;
         this.userDAO = userDAO;
+        this.authTokenTouchWriter = authTokenTouchWriter;
+        this.authenticatedTokens = Caffeine.from(cachePolicy).build();
     }
 
     @Override
@@ -40,29 +50,83 @@ public class CustomAuthenticator implements Authenticator<String, User> {
             return Optional.empty();
         }
 
-        // retrieve the auth token entity using the authTokenId
-        AuthToken existingAuthToken = this.authTokenDAO.getEntity(validAuthTokenId);
+        AuthenticatedToken authenticatedToken = this.authenticatedTokens.getIfPresent(validAuthTokenId);
+        AuthToken existingAuthToken = authenticatedToken != null
+                ? authenticatedToken.authToken
+                : getAuthTokenWithPendingTouch(validAuthTokenId);
 
         if (existingAuthToken != null) {
             // check if access token has expired
             Duration duration = Duration.between(existingAuthToken.getLastAccessUTC(), Instant.now());
             if (duration.getSeconds() <=  AUTH_TOKEN_EXPIRE_TIME_SECONDS) {
-                // touch access token to push expiration
-                updateLastAccessTimeOnAuthToken(existingAuthToken);
+                // the user entity is only read when the auth token is not known to the cache
+                User user = authenticatedToken != null
+                        ? authenticatedToken.user
+                        : this.userDAO.getEntity(existingAuthToken.getUserId());
+
+                // touch access token to push expiration; the touch is written to the database in the background
+                AuthToken touchedAuthToken = updateLastAccessTimeOnAuthToken(existingAuthToken);
+                this.authenticatedTokens.put(validAuthTokenId, new AuthenticatedToken(touchedAuthToken, user));
 
                 // return the user entity as the authenticated principal
-                User user = this.userDAO.getEntity(existingAuthToken.getUserId());
                 return Optional.of(user);
             }
         }
+        this.authenticatedTokens.invalidate(validAuthTokenId);
         return Optional.empty();
     }
 
-    private void updateLastAccessTimeOnAuthToken(AuthToken existingAuthToken) {
+    /**
+     * evict an auth token from the cache, so that requests made with it are authenticated against the database again;
+     * meant for when the auth token is removed, i.e. when its user logs out
+     */
+    public void invalidateAuthToken(UUID authTokenId) {
+        this.authenticatedTokens.invalidate(authTokenId);
+        this.authTokenTouchWriter.discard(authTokenId);
+    }
+
+    /**
+     * evict the auth tokens of a user from the cache, so that the user is read afresh by the next request made with
+     * any of them; meant for when the details of the user are updated
+     */
+    public void invalidateUser(UUID userId) {
+        this.authenticatedTokens.asMap().values()
+                .removeIf(authenticatedToken -> authenticatedToken.authToken.getUserId().equals(userId));
+    }
+
+    /**
+     * retrieve the auth token entity using the authTokenId, accounting for a touch on it that has not been written to
+     * the database yet
+     */
+    private AuthToken getAuthTokenWithPendingTouch(UUID authTokenId) {
+        AuthToken authToken = this.authTokenDAO.getEntity(authTokenId);
+        if (authToken == null) return null;
+
+        return this.authTokenTouchWriter.getPendingLastAccessUTC(authTokenId)
+                .filter(pendingLastAccessUTC -> pendingLastAccessUTC.isAfter(authToken.getLastAccessUTC()))
+                .map(pendingLastAccessUTC -> (AuthToken) ImmutableAuthToken.builder()
+                        .from(authToken)
+                        .lastAccessUTC(pendingLastAccessUTC)
+                        .build())
+                .orElse(authToken);
+    }
+
+    private AuthToken updateLastAccessTimeOnAuthToken(AuthToken existingAuthToken) {
         AuthToken updatedAuthToken = ImmutableAuthToken.builder()
                 .from(existingAuthToken)
                 .lastAccessUTC(Instant.now())
                 .build();
-        this.authTokenDAO.updateEntity(existingAuthToken.getId(), updatedAuthToken);
+        this.authTokenTouchWriter.touch(updatedAuthToken);
+        return updatedAuthToken;
+    }
+
+    private static final class AuthenticatedToken {
+        private final AuthToken authToken;
+        private final User user;
+
+        private AuthenticatedToken(AuthToken authToken, User user) {
+            this.authToken = authToken;
+            this.user = user;
+        }
     }
-}
\ No newline at end of file
+}
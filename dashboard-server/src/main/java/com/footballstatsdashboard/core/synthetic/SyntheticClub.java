@@ -0,0 +1,28 @@
+package com.footballstatsdashboard.core.synthetic;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.MatchPerformance;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.club.BoardObjective;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * A generated club along with everything that belongs to it
+ */
+@Value.Immutable
+@Value.Style(jdkOnly = true) // Required if the below entity will be used in a Map, List, Set or any other collection
+public interface SyntheticClub {
+
+    Club getClub();
+
+    List<Player> getPlayers();
+
+    /**
+     * match performances of the players of the club, one per player and competition
+     */
+    List<MatchPerformance> getMatchPerformances();
+
+    List<BoardObjective> getBoardObjectives();
+}
@@ -0,0 +1,357 @@
+package com.footballstatsdashboard.core.synthetic;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutableClub;
+import com.footballstatsdashboard.api.model.ImmutableMatchPerformance;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.ImmutableUser;
+import com.footballstatsdashboard.api.model.MatchPerformance;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.api.model.club.BoardObjective;
+import com.footballstatsdashboard.api.model.club.ImmutableBoardObjective;
+import com.footballstatsdashboard.api.model.club.ImmutableExpenditure;
+import com.footballstatsdashboard.api.model.club.ImmutableIncome;
+import com.footballstatsdashboard.api.model.club.ImmutableManagerFunds;
+import com.footballstatsdashboard.api.model.matchPerformance.ImmutableMatchRating;
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.api.model.player.AttributeCategory;
+import com.footballstatsdashboard.api.model.player.AttributeGroup;
+import com.footballstatsdashboard.api.model.player.ImmutableAbility;
+import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
+import com.footballstatsdashboard.api.model.player.ImmutableMetadata;
+import com.footballstatsdashboard.api.model.player.ImmutableRole;
+import com.footballstatsdashboard.api.model.player.Metadata;
+import com.footballstatsdashboard.api.model.player.Role;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_FLAG_URL_TEMPLATE;
+import static com.footballstatsdashboard.core.utils.Constants.PLAYER_ATTRIBUTE_CATEGORY_MAP;
+
+/**
+ * Generates users, their clubs, the players of the clubs with every attribute a player can have, and the match
+ * performances of the players, with histories going back over a number of seasons. Everything is derived from the seed
+ * and the position of the entity in the dataset, IDs included, so the same configuration always produces the same
+ * dataset no matter the order in which its parts are generated.
+ */
+public final class SyntheticDataGenerator {
+    public static final String CREATED_BY = "synthetic-data-generator";
+    // shared by all the synthetic users, so that load tests can log in as any of them
+    public static final String PASSWORD = "synthetic";
+    private static final String EMAIL_TEMPLATE = "user%d@synthetic.footballstatsdashboard.com";
+
+    private static final LocalDate CREATED_DATE = LocalDate.of(2022, 7, 1);
+    private static final int MONTHS_PER_SEASON = 12;
+    private static final int MAX_MATCHES_PER_SEASON = 38;
+    private static final int MIN_ATTRIBUTE_VALUE = 1;
+    private static final int MAX_ATTRIBUTE_VALUE = 20;
+    private static final int MIN_PLAYER_AGE = 17;
+    private static final int MAX_PLAYER_AGE = 36;
+    private static final int MAX_ROLES = 2;
+    private static final int ATTRIBUTES_PER_ROLE = 4;
+    private static final int MIN_MATCH_RATING_TENTHS = 50;
+    private static final int MAX_MATCH_RATING_TENTHS = 95;
+    private static final float TENTHS = 10f;
+    private static final int MIN_PASS_COMPLETION_RATE = 60;
+    private static final int MAX_PASS_COMPLETION_RATE = 95;
+    private static final int MAX_EVENTS_PER_MATCH = 5;
+    private static final long MIN_BUDGET = 1_000_000L;
+    private static final long MAX_BUDGET = 100_000_000L;
+    private static final int MAX_SEASONAL_CHANGE_PERCENT = 20;
+    private static final int PERCENT = 100;
+
+    private static final List<String> FIRST_NAMES = List.of("Alex", "Bruno", "Carlos", "David", "Emil", "Felipe",
+            "Gareth", "Hugo", "Ivan", "Jonas", "Kai", "Luca", "Marco", "Nico", "Oscar", "Pablo");
+    private static final List<String> LAST_NAMES = List.of("Almeida", "Becker", "Costa", "Dubois", "Eriksen",
+            "Fernandes", "Garcia", "Hansen", "Ivanov", "Jensen", "Kovac", "Lopez", "Muller", "Novak", "Olsen", "Rossi");
+    // names of the countries along with their codes in the country flag urls
+    private static final List<Pair<String, String>> COUNTRIES = List.of(Pair.of("England", "gb-eng"),
+            Pair.of("Spain", "es"), Pair.of("Germany", "de"), Pair.of("France", "fr"), Pair.of("Italy", "it"),
+            Pair.of("Brazil", "br"), Pair.of("Argentina", "ar"), Pair.of("Portugal", "pt"),
+            Pair.of("Netherlands", "nl"), Pair.of("Belgium", "be"));
+    private static final List<String> ROLE_NAMES = List.of("Ball Playing Defender", "Full Back", "Deep Lying Playmaker",
+            "Box To Box Midfielder", "Inverted Winger", "Advanced Forward", "Target Man", "Sweeper Keeper");
+
+    private final SyntheticDataConfiguration configuration;
+    // sorted, since the order of the map is not stable across runs
+    private final List<String> attributeNames;
+    private final List<UUID> competitionIds;
+
+    public SyntheticDataGenerator(SyntheticDataConfiguration configuration) {
+        this.configuration = configuration;
+        this.attributeNames = PLAYER_ATTRIBUTE_CATEGORY_MAP.keySet().stream()
+                .sorted()
+                .collect(Collectors.toList());
+        this.competitionIds = IntStream.range(0, configuration.getCompetitions())
+                .mapToObj(competitionIndex -> syntheticId("competition", competitionIndex))
+                .collect(Collectors.toList());
+    }
+
+    public static String getEmail(int userIndex) {
+        return String.format(EMAIL_TEMPLATE, userIndex);
+    }
+
+    /**
+     * the user at the given position in the dataset; the password is taken already encrypted, since encrypting it is
+     * by far the slowest part of creating a user and it is the same for all of them
+     */
+    public User generateUser(int userIndex, String encryptedPassword) {
+        String email = getEmail(userIndex);
+        return ImmutableUser.builder()
+                .id(syntheticId("user", userIndex))
+                .firstName(FIRST_NAMES.get(userIndex % FIRST_NAMES.size()))
+                .lastName(LAST_NAMES.get(userIndex % LAST_NAMES.size()))
+                .email(email)
+                .password(encryptedPassword)
+                .createdBy(email)
+                .createdDate(CREATED_DATE)
+                .lastModifiedDate(CREATED_DATE)
+                .build();
+    }
+
+    /**
+     * the club at the given position in the dataset, with its players, their match performances and its board
+     * objectives
+     */
+    public SyntheticClub generateClub(UUID userId, int userIndex, int clubIndex) {
+        UUID clubId = syntheticId("user", userIndex, "club", clubIndex);
+        SplittableRandom random = new SplittableRandom(clubId.getMostSignificantBits());
+
+        Club club = generateClubEntity(random, clubId, userId, userIndex, clubIndex);
+        List<Player> players = IntStream.range(0, this.configuration.getPlayersPerClub())
+                .mapToObj(playerIndex -> generatePlayer(random, club, playerIndex))
+                .collect(Collectors.toList());
+        List<MatchPerformance> matchPerformances = players.stream()
+                .flatMap(player -> this.competitionIds.stream()
+                        .map(competitionId -> generateMatchPerformance(random, player.getId(), competitionId)))
+                .collect(Collectors.toList());
+        List<BoardObjective> boardObjectives = IntStream.range(0, this.configuration.getBoardObjectivesPerClub())
+                .mapToObj(objectiveIndex -> ImmutableBoardObjective.builder()
+                        .id(syntheticId(clubId, "boardObjective", objectiveIndex))
+                        .title(String.format("Objective %d", objectiveIndex + 1))
+                        .description(String.format("Board objective %d of %s", objectiveIndex + 1, club.getName()))
+                        .isCompleted(random.nextBoolean())
+                        .clubId(clubId)
+                        .createdBy(CREATED_BY)
+                        .createdDate(CREATED_DATE)
+                        .lastModifiedDate(CREATED_DATE)
+                        .build())
+                .collect(Collectors.toList());
+
+        return ImmutableSyntheticClub.builder()
+                .club(club)
+                .players(players)
+                .matchPerformances(matchPerformances)
+                .boardObjectives(boardObjectives)
+                .build();
+    }
+
+    private Club generateClubEntity(SplittableRandom random, UUID clubId, UUID userId, int userIndex, int clubIndex) {
+        BigDecimal transferBudget = BigDecimal.valueOf(random.nextLong(MIN_BUDGET, MAX_BUDGET));
+        BigDecimal wageBudget = BigDecimal.valueOf(random.nextLong(MIN_BUDGET, MAX_BUDGET));
+        List<BigDecimal> managerFundsHistory = generateSeasonalHistory(random, transferBudget.add(wageBudget));
+        List<BigDecimal> incomeHistory =
+                generateSeasonalHistory(random, BigDecimal.valueOf(random.nextLong(MIN_BUDGET, MAX_BUDGET)));
+        List<BigDecimal> expenditureHistory =
+                generateSeasonalHistory(random, BigDecimal.valueOf(random.nextLong(MIN_BUDGET, MAX_BUDGET)));
+
+        return ImmutableClub.builder()
+                .id(clubId)
+                .name(String.format("Synthetic FC %d-%d", userIndex, clubIndex))
+                .logo("syntheticClubLogo.png")
+                .managerFunds(ImmutableManagerFunds.builder()
+                        .current(getLast(managerFundsHistory))
+                        .history(managerFundsHistory)
+                        .build())
+                .transferBudget(transferBudget)
+                .wageBudget(wageBudget)
+                .income(ImmutableIncome.builder()
+                        .current(getLast(incomeHistory))
+                        .history(incomeHistory)
+                        .build())
+                .expenditure(ImmutableExpenditure.builder()
+                        .current(getLast(expenditureHistory))
+                        .history(expenditureHistory)
+                        .build())
+                .userId(userId)
+                .createdBy(CREATED_BY)
+                .createdDate(CREATED_DATE)
+                .lastModifiedDate(CREATED_DATE)
+                .build();
+    }
+
+    private Player generatePlayer(SplittableRandom random, Club club, int playerIndex) {
+        int numberOfMonths = this.configuration.getSeasons() * MONTHS_PER_SEASON;
+        List<Attribute> attributes = this.attributeNames.stream()
+                .map(attributeName -> {
+                    Pair<AttributeCategory, AttributeGroup> categoryAndGroup =
+                            PLAYER_ATTRIBUTE_CATEGORY_MAP.get(attributeName);
+                    List<Integer> history = generateMonthlyHistory(random, numberOfMonths);
+                    return (Attribute) ImmutableAttribute.builder()
+                            .name(attributeName)
+                            .category(categoryAndGroup.getLeft())
+                            .group(categoryAndGroup.getRight())
+                            .value(getLast(history))
+                            .history(history)
+                            .build();
+                })
+                .collect(Collectors.toList());
+        // the ability of each month follows from the attributes of that month, the same way it is calculated when the
+        // player is created or updated
+        List<Integer> abilityHistory = IntStream.range(0, numberOfMonths)
+                .mapToObj(month -> calculateAbility(attributes, month))
+                .collect(Collectors.toList());
+
+        Pair<String, String> country = pick(random, COUNTRIES);
+        Metadata metadata = ImmutableMetadata.builder()
+                .name(String.format("%s %s", pick(random, FIRST_NAMES), pick(random, LAST_NAMES)))
+                .club(club.getName())
+                .clubLogo(club.getLogo())
+                .country(country.getLeft())
+                .countryLogo(String.format(COUNTRY_FLAG_URL_TEMPLATE, country.getRight()))
+                .age(random.nextInt(MIN_PLAYER_AGE, MAX_PLAYER_AGE + 1))
+                .build();
+
+        return ImmutablePlayer.builder()
+                .id(syntheticId(club.getId(), "player", playerIndex))
+                .metadata(metadata)
+                .roles(generateRoles(random))
+                .ability(ImmutableAbility.builder()
+                        .current(getLast(abilityHistory))
+                        .history(abilityHistory)
+                        .build())
+                .attributes(attributes)
+                .clubId(club.getId())
+                .createdBy(CREATED_BY)
+                .createdDate(CREATED_DATE)
+                .lastModifiedDate(CREATED_DATE)
+                .build();
+    }
+
+    private List<Role> generateRoles(SplittableRandom random) {
+        return IntStream.range(0, random.nextInt(1, MAX_ROLES + 1))
+                .mapToObj(roleIndex -> (Role) ImmutableRole.builder()
+                        .name(pick(random, ROLE_NAMES))
+                        .associatedAttributes(pickDistinct(random, this.attributeNames, ATTRIBUTES_PER_ROLE))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private MatchPerformance generateMatchPerformance(SplittableRandom random, UUID playerId, UUID competitionId) {
+        // every player has played at least once in each of their competitions, since a match rating needs a history
+        int appearances = IntStream.range(0, this.configuration.getSeasons())
+                .map(season -> random.nextInt(0, MAX_MATCHES_PER_SEASON + 1))
+                .sum();
+        appearances = Math.max(appearances, 1);
+        List<Float> matchRatingHistory = IntStream.range(0, appearances)
+                .mapToObj(appearance ->
+                        random.nextInt(MIN_MATCH_RATING_TENTHS, MAX_MATCH_RATING_TENTHS + 1) / TENTHS)
+                .collect(Collectors.toList());
+
+        return ImmutableMatchPerformance.builder()
+                .id(syntheticId(playerId, "matchPerformance", competitionId))
+                .playerId(playerId)
+                .competitionId(competitionId)
+                .appearances(appearances)
+                .goals(random.nextInt(0, appearances + 1))
+                .penalties(random.nextInt(0, appearances / MAX_EVENTS_PER_MATCH + 1))
+                .assists(random.nextInt(0, appearances + 1))
+                .playerOfTheMatch(random.nextInt(0, appearances / MAX_EVENTS_PER_MATCH + 1))
+                .yellowCards(random.nextInt(0, appearances / MAX_EVENTS_PER_MATCH + 1))
+                .redCards(random.nextInt(0, appearances / MAX_MATCHES_PER_SEASON + 1))
+                .tackles(random.nextInt(0, appearances * MAX_EVENTS_PER_MATCH + 1))
+                .fouls(random.nextInt(0, appearances * 2 + 1))
+                .dribbles(random.nextInt(0, appearances * MAX_EVENTS_PER_MATCH + 1))
+                .passCompletionRate((float) random.nextInt(MIN_PASS_COMPLETION_RATE, MAX_PASS_COMPLETION_RATE + 1))
+                .matchRating(ImmutableMatchRating.builder()
+                        .current(getLast(matchRatingHistory))
+                        .history(matchRatingHistory)
+                        .build())
+                .createdBy(CREATED_BY)
+                .createdDate(CREATED_DATE)
+                .lastModifiedDate(CREATED_DATE)
+                .build();
+    }
+
+    /**
+     * the value of an attribute for each month, oldest first, improving by at most a point a month up to its current
+     * value
+     */
+    private static List<Integer> generateMonthlyHistory(SplittableRandom random, int numberOfMonths) {
+        int[] history = new int[numberOfMonths];
+        int value = random.nextInt(MIN_ATTRIBUTE_VALUE, MAX_ATTRIBUTE_VALUE + 1);
+        for (int month = numberOfMonths - 1; month >= 0; month--) {
+            history[month] = value;
+            value = Math.max(MIN_ATTRIBUTE_VALUE, value - random.nextInt(0, 2));
+        }
+        return Arrays.stream(history).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * the value of a club's finances for each season, oldest first, changing by up to a fifth from one season to the
+     * next
+     */
+    private List<BigDecimal> generateSeasonalHistory(SplittableRandom random, BigDecimal current) {
+        BigDecimal[] history = new BigDecimal[this.configuration.getSeasons()];
+        BigDecimal value = current;
+        for (int season = history.length - 1; season >= 0; season--) {
+            history[season] = value;
+            int changePercent = random.nextInt(-MAX_SEASONAL_CHANGE_PERCENT, MAX_SEASONAL_CHANGE_PERCENT + 1);
+            value = value.multiply(BigDecimal.valueOf(PERCENT + changePercent))
+                    .divide(BigDecimal.valueOf(PERCENT), 0, RoundingMode.HALF_UP);
+        }
+        return Arrays.asList(history);
+    }
+
+    private static int calculateAbility(List<Attribute> attributes, int month) {
+        return (int) Arrays.stream(AttributeCategory.values())
+                .mapToDouble(attributeCategory -> attributes.stream()
+                        .filter(attribute -> attributeCategory == attribute.getCategory())
+                        .mapToInt(attribute -> attribute.getHistory().get(month))
+                        .average()
+                        .orElse(0))
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * an ID that is the same for the same seed and position in the dataset
+     */
+    private UUID syntheticId(Object... position) {
+        String name = this.configuration.getSeed() + Arrays.stream(position)
+                .map(String::valueOf)
+                .collect(Collectors.joining("/", "/", ""));
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> List<T> pickDistinct(SplittableRandom random, List<T> values, int count) {
+        // the first few steps of a shuffle
+        List<T> shuffledValues = new ArrayList<>(values);
+        for (int idx = 0; idx < count; idx++) {
+            Collections.swap(shuffledValues, idx, random.nextInt(idx, shuffledValues.size()));
+        }
+        return new ArrayList<>(shuffledValues.subList(0, count));
+    }
+
+    private static <T> T getLast(List<T> values) {
+        return values.get(values.size() - 1);
+    }
+}
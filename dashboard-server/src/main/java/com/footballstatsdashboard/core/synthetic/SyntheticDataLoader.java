@@ -0,0 +1,99 @@
+package com.footballstatsdashboard.core.synthetic;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import com.footballstatsdashboard.db.IBoardObjectiveEntityDAO;
+import com.footballstatsdashboard.db.IClubEntityDAO;
+import com.footballstatsdashboard.db.IMatchPerformanceEntityDAO;
+import com.footballstatsdashboard.db.IPlayerEntityDAO;
+import com.footballstatsdashboard.db.IUserEntityDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.footballstatsdashboard.core.utils.Constants.HASHING_COST;
+
+/**
+ * Loads the synthetic dataset into whichever data store the DAOs are backed by, through the same DAOs the application
+ * writes with, one user and everything that belongs to them at a time on each of the threads of the executor. Users
+ * that are already in the data store are skipped along with their data, so loading the same dataset into a data store
+ * that outlives the server only loads it once.
+ */
+public class SyntheticDataLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    private final SyntheticDataConfiguration configuration;
+    private final SyntheticDataGenerator generator;
+    private final IUserEntityDAO userDAO;
+    private final IClubEntityDAO clubDAO;
+    private final IPlayerEntityDAO playerDAO;
+    private final IMatchPerformanceEntityDAO matchPerformanceDAO;
+    private final IBoardObjectiveEntityDAO boardObjectiveDAO;
+
+    private final AtomicLong loadedEntityCount = new AtomicLong();
+
+    public SyntheticDataLoader(SyntheticDataConfiguration configuration, IUserEntityDAO userDAO,
+                               IClubEntityDAO clubDAO, IPlayerEntityDAO playerDAO,
+                               IMatchPerformanceEntityDAO matchPerformanceDAO,
+                               IBoardObjectiveEntityDAO boardObjectiveDAO) {
+        this.configuration = configuration;
+        this.generator = new SyntheticDataGenerator(configuration);
+        this.userDAO = userDAO;
+        this.clubDAO = clubDAO;
+        this.playerDAO = playerDAO;
+        this.matchPerformanceDAO = matchPerformanceDAO;
+        this.boardObjectiveDAO = boardObjectiveDAO;
+    }
+
+    /**
+     * load the dataset, returning the number of entities written once all of them are
+     */
+    public long load(Executor executor) {
+        long startTime = System.nanoTime();
+        this.loadedEntityCount.set(0);
+        // encrypting a password is slow by design, so it is only done once for all the users
+        String encryptedPassword = BCrypt.withDefaults()
+                .hashToString(HASHING_COST, SyntheticDataGenerator.PASSWORD.toCharArray());
+
+        CompletableFuture.allOf(IntStream.range(0, this.configuration.getUsers())
+                .mapToObj(userIndex -> CompletableFuture.runAsync(() -> loadUser(userIndex, encryptedPassword),
+                        executor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        long loadedEntities = this.loadedEntityCount.get();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loaded {} synthetic entities for {} users in {} ms", loadedEntities,
+                    this.configuration.getUsers(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+        return loadedEntities;
+    }
+
+    private void loadUser(int userIndex, String encryptedPassword) {
+        if (this.userDAO.getUserByEmailAddress(SyntheticDataGenerator.getEmail(userIndex)).isPresent()) {
+            LOGGER.debug("Synthetic user {} is already loaded, skipping it", userIndex);
+            return;
+        }
+
+        User user = this.generator.generateUser(userIndex, encryptedPassword);
+        this.userDAO.insertEntity(user);
+        this.loadedEntityCount.incrementAndGet();
+
+        // the clubs go in before anything that refers to them
+        for (int clubIndex = 0; clubIndex < this.configuration.getClubsPerUser(); clubIndex++) {
+            SyntheticClub syntheticClub = this.generator.generateClub(user.getId(), userIndex, clubIndex);
+            this.clubDAO.insertEntity(syntheticClub.getClub());
+            syntheticClub.getPlayers().forEach(this.playerDAO::insertEntity);
+            syntheticClub.getMatchPerformances().forEach(this.matchPerformanceDAO::insertEntity);
+            syntheticClub.getBoardObjectives().forEach(this.boardObjectiveDAO::insertEntity);
+            this.loadedEntityCount.addAndGet(1 + syntheticClub.getPlayers().size()
+                    + syntheticClub.getMatchPerformances().size() + syntheticClub.getBoardObjectives().size());
+        }
+    }
+}
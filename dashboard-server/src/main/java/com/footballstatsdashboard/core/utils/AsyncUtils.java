@@ -0,0 +1,39 @@
+package com.footballstatsdashboard.core.utils;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+public final class AsyncUtils {
+    private AsyncUtils() {
+        throw new AssertionError("Should not be initialized");
+    }
+
+    /**
+     * resume the suspended request once the stage completes, either with the response built from its result or with
+     * the exception it failed with, so that the failure goes through the registered exception mappers
+     */
+    public static <T> void resumeWhenComplete(AsyncResponse asyncResponse, CompletionStage<T> stage,
+                                              Function<T, Response> responseBuilder) {
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                asyncResponse.resume(unwrap(throwable));
+            } else {
+                asyncResponse.resume(responseBuilder.apply(result));
+            }
+        });
+    }
+
+    /**
+     * the exception a stage actually failed with, as opposed to the completion exception wrapping it
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -28,6 +28,7 @@ public final class Constants {
     public static final String MATCH_PERFORMANCE_V1_BASE_PATH = API_V1_BASE_PATH + "/match-performance";
     public static final String MATCH_PERFORMANCE_ID = "matchPerformanceId";
     public static final String MATCH_PERFORMANCE_ID_PATH = "/{" + MATCH_PERFORMANCE_ID + "}";
+    public static final String MATCH_PERFORMANCE_BATCH_PATH = "/batch";
     public static final String MATCH_PERFORMANCE_LOOKUP_PATH = "/lookup" + PLAYER_ID_PATH;
 
     public static final String COUNTRY_FLAG_LOOKUP_V1_BASE_PATH = API_V1_BASE_PATH + "/lookup/countryFlags";
@@ -36,6 +37,8 @@ public final class Constants {
     public static final String FILE_KEY = "fileKey";
     public static final String FILE_KEY_PATH = "/{" + FILE_KEY + "}";
 
+    public static final String CLUB_DASHBOARD_V1_BASE_PATH = CLUB_V1_BASE_PATH + CLUB_ID_PATH + "/dashboard";
+
     public static final String BOARD_OBJECTIVE_V1_BASE_PATH = CLUB_V1_BASE_PATH + CLUB_ID_PATH + "/board-objective";
     public static final String BOARD_OBJECTIVE_ID = "boardObjectiveId";
     public static final String BOARD_OBJECTIVE_ID_PATH = "/{" + BOARD_OBJECTIVE_ID + "}";
@@ -0,0 +1,30 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.ClubSummary;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class AsyncClubEntityDAOAdapter extends AsyncEntityDAOAdapter<Club, IClubEntityDAO>
+        implements IAsyncClubEntityDAO {
+
+    public AsyncClubEntityDAOAdapter(IClubEntityDAO clubDAO, Executor executor) {
+        super(clubDAO, executor);
+    }
+
+    @Override
+    public CompletionStage<List<ClubSummary>> getClubSummariesForUser(UUID userId) {
+        return CompletableFuture.supplyAsync(() -> this.getEntityDAO().getClubSummariesForUser(userId),
+                this.getExecutor());
+    }
+
+    @Override
+    public CompletionStage<List<SquadPlayer>> getPlayersInClub(UUID clubId) {
+        return CompletableFuture.supplyAsync(() -> this.getEntityDAO().getPlayersInClub(clubId), this.getExecutor());
+    }
+}
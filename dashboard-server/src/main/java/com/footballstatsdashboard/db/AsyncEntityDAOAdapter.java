@@ -0,0 +1,53 @@
+package com.footballstatsdashboard.db;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Exposes a blocking DAO through {@link IAsyncEntityDAO} by running each of its operations on the given executor. This
+ * is how data stores without a non-blocking driver, i.e. jdbi over JDBC, free up the request threads: the blocking
+ * call is parked on a pool sized to the connection pool instead of on the servlet container's pool.
+ *
+ * @param <E> type of the entity
+ * @param <D> type of the blocking DAO being adapted
+ */
+public class AsyncEntityDAOAdapter<E, D extends IEntityDAO<E>> implements IAsyncEntityDAO<E> {
+    private final D entityDAO;
+    private final Executor executor;
+
+    public AsyncEntityDAOAdapter(D entityDAO, Executor executor) {
+        this.entityDAO = entityDAO;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<Void> insertEntity(E entity) {
+        return CompletableFuture.runAsync(() -> this.entityDAO.insertEntity(entity), this.executor);
+    }
+
+    @Override
+    public CompletionStage<E> getEntity(UUID entityId) {
+        return CompletableFuture.supplyAsync(() -> this.entityDAO.getEntity(entityId), this.executor);
+    }
+
+    @Override
+    public CompletionStage<Void> updateEntity(UUID existingEntityId, E updatedEntity) {
+        return CompletableFuture.runAsync(() -> this.entityDAO.updateEntity(existingEntityId, updatedEntity),
+                this.executor);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteEntity(UUID entityId) {
+        return CompletableFuture.runAsync(() -> this.entityDAO.deleteEntity(entityId), this.executor);
+    }
+
+    protected D getEntityDAO() {
+        return this.entityDAO;
+    }
+
+    protected Executor getExecutor() {
+        return this.executor;
+    }
+}
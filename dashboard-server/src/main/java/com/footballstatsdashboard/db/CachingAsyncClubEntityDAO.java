@@ -0,0 +1,27 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.ClubSummary;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+public class CachingAsyncClubEntityDAO extends CachingAsyncEntityDAO<Club, IAsyncClubEntityDAO>
+        implements IAsyncClubEntityDAO {
+
+    public CachingAsyncClubEntityDAO(IAsyncClubEntityDAO clubDAO, EntityCache<Club> clubCache) {
+        super(clubDAO, clubCache);
+    }
+
+    @Override
+    public CompletionStage<List<ClubSummary>> getClubSummariesForUser(UUID userId) {
+        return this.getEntityDAO().getClubSummariesForUser(userId);
+    }
+
+    @Override
+    public CompletionStage<List<SquadPlayer>> getPlayersInClub(UUID clubId) {
+        return this.getEntityDAO().getPlayersInClub(clubId);
+    }
+}
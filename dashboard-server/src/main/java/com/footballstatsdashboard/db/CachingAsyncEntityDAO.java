@@ -0,0 +1,47 @@
+package com.footballstatsdashboard.db;
+
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking counterpart of {@link CachingEntityDAO}. Reads of an entity that is not cached share the load that is
+ * already in flight for it, if any, and writes invalidate the entity once the data store has responded.
+ *
+ * @param <E> type of the entity
+ * @param <D> type of the non-blocking DAO the entities are read from and written to
+ */
+public class CachingAsyncEntityDAO<E, D extends IAsyncEntityDAO<E>> implements IAsyncEntityDAO<E> {
+    private final D entityDAO;
+    private final EntityCache<E> entityCache;
+
+    public CachingAsyncEntityDAO(D entityDAO, EntityCache<E> entityCache) {
+        this.entityDAO = entityDAO;
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    public CompletionStage<Void> insertEntity(E entity) {
+        return this.entityDAO.insertEntity(entity);
+    }
+
+    @Override
+    public CompletionStage<E> getEntity(UUID entityId) {
+        return this.entityCache.getAsync(entityId, this.entityDAO::getEntity);
+    }
+
+    @Override
+    public CompletionStage<Void> updateEntity(UUID existingEntityId, E updatedEntity) {
+        return this.entityDAO.updateEntity(existingEntityId, updatedEntity)
+                .whenComplete((result, exception) -> this.entityCache.invalidate(existingEntityId));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteEntity(UUID entityId) {
+        return this.entityDAO.deleteEntity(entityId)
+                .whenComplete((result, exception) -> this.entityCache.invalidate(entityId));
+    }
+
+    protected D getEntityDAO() {
+        return this.entityDAO;
+    }
+}
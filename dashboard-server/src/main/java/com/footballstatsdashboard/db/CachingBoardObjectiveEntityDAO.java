@@ -0,0 +1,72 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.club.BoardObjective;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CachingBoardObjectiveEntityDAO extends CachingEntityDAO<BoardObjective, IBoardObjectiveEntityDAO>
+        implements IBoardObjectiveEntityDAO {
+    private final IClubEntityDAO clubDAO;
+    private final OwnershipIndex ownershipIndex;
+
+    public CachingBoardObjectiveEntityDAO(IBoardObjectiveEntityDAO boardObjectiveDAO,
+                                          EntityCache<BoardObjective> boardObjectiveCache,
+                                          IClubEntityDAO clubDAO, OwnershipIndex ownershipIndex) {
+        super(boardObjectiveDAO, boardObjectiveCache);
+        this.clubDAO = clubDAO;
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @Override
+    public void insertEntity(BoardObjective entity) {
+        super.insertEntity(entity);
+        try {
+            this.ownershipIndex.addOwnership(OwnershipIndex.EntityType.BOARD_OBJECTIVE, entity.getId(),
+                    entity.getClubId(), this.clubDAO.getEntity(entity.getClubId()).getUserId());
+        } catch (EntityNotFoundException entityNotFoundException) {
+            // left to be resolved by the data store when the board objective is checked
+        }
+    }
+
+    @Override
+    public void deleteEntity(UUID entityId) throws EntityNotFoundException {
+        try {
+            super.deleteEntity(entityId);
+        } finally {
+            this.ownershipIndex.removeOwnership(OwnershipIndex.EntityType.BOARD_OBJECTIVE, entityId);
+        }
+    }
+
+    @Override
+    public boolean doesEntityBelongToUser(UUID entityId, UUID userId) {
+        return getOwnership(entityId)
+                .map(ownership -> ownership.getUserId().equals(userId))
+                .orElseGet(() -> this.getEntityDAO().doesEntityBelongToUser(entityId, userId));
+    }
+
+    @Override
+    public boolean doesEntityBelongToClub(UUID entityId, UUID clubId) {
+        return getOwnership(entityId)
+                .map(ownership -> ownership.getClubId().equals(clubId))
+                .orElseGet(() -> this.getEntityDAO().doesEntityBelongToClub(entityId, clubId));
+    }
+
+    @Override
+    public List<BoardObjective> getBoardObjectivesForClub(UUID clubId) {
+        return this.getEntityDAO().getBoardObjectivesForClub(clubId);
+    }
+
+    private Optional<OwnershipIndex.Ownership> getOwnership(UUID boardObjectiveId) {
+        return this.ownershipIndex.getOwnership(OwnershipIndex.EntityType.BOARD_OBJECTIVE, boardObjectiveId, key -> {
+            try {
+                UUID clubId = this.getEntity(key).getClubId();
+                return new OwnershipIndex.Ownership(clubId, this.clubDAO.getEntity(clubId).getUserId());
+            } catch (EntityNotFoundException entityNotFoundException) {
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.ClubSummary;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+public class CachingClubEntityDAO extends CachingEntityDAO<Club, IClubEntityDAO> implements IClubEntityDAO {
+    private final OwnershipIndex ownershipIndex;
+
+    public CachingClubEntityDAO(IClubEntityDAO clubDAO, EntityCache<Club> clubCache, OwnershipIndex ownershipIndex) {
+        super(clubDAO, clubCache);
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @Override
+    public void insertEntity(Club entity) {
+        super.insertEntity(entity);
+        this.ownershipIndex.addOwnership(OwnershipIndex.EntityType.CLUB, entity.getId(), entity.getId(),
+                entity.getUserId());
+    }
+
+    @Override
+    public Club modifyEntity(UUID existingEntityId, UnaryOperator<Club> modification) {
+        try {
+            return this.getEntityDAO().modifyEntity(existingEntityId, modification);
+        } finally {
+            // invalidated even if the update fails, since the data store may have applied it regardless
+            this.invalidate(existingEntityId);
+        }
+    }
+
+    @Override
+    public void deleteEntity(UUID entityId) throws EntityNotFoundException {
+        try {
+            super.deleteEntity(entityId);
+        } finally {
+            this.ownershipIndex.removeClub(entityId);
+        }
+    }
+
+    @Override
+    public List<ClubSummary> getClubSummariesForUser(UUID userId) {
+        return this.getEntityDAO().getClubSummariesForUser(userId);
+    }
+
+    @Override
+    public List<SquadPlayer> getPlayersInClub(UUID clubId) {
+        return this.getEntityDAO().getPlayersInClub(clubId);
+    }
+
+    @Override
+    public boolean doesEntityBelongToUser(UUID entityId, UUID userId) {
+        return getOwnership(entityId)
+                .map(ownership -> ownership.getUserId().equals(userId))
+                .orElseGet(() -> this.getEntityDAO().doesEntityBelongToUser(entityId, userId));
+    }
+
+    @Override
+    public boolean doesEntityExist(UUID entityId) {
+        return getOwnership(entityId).isPresent() || this.getEntityDAO().doesEntityExist(entityId);
+    }
+
+    private Optional<OwnershipIndex.Ownership> getOwnership(UUID clubId) {
+        return this.ownershipIndex.getOwnership(OwnershipIndex.EntityType.CLUB, clubId, key -> {
+            try {
+                return new OwnershipIndex.Ownership(key, this.getEntity(key).getUserId());
+            } catch (EntityNotFoundException entityNotFoundException) {
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.footballstatsdashboard.db;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+
+/**
+ * Read-through cache in front of a blocking DAO. Entities are loaded from the DAO the first time they are read and
+ * served from the entity cache after that, until they are evicted, expire or are written through a caching DAO, which
+ * invalidates them. Entities are not cached on insert, since most of them are not read back right away.
+ *
+ * @param <E> type of the entity
+ * @param <D> type of the DAO the entities are read from and written to
+ */
+public class CachingEntityDAO<E, D extends IEntityDAO<E>> implements IEntityDAO<E> {
+    private final D entityDAO;
+    private final EntityCache<E> entityCache;
+
+    public CachingEntityDAO(D entityDAO, EntityCache<E> entityCache) {
+        this.entityDAO = entityDAO;
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    public void insertEntity(E entity) {
+        this.entityDAO.insertEntity(entity);
+    }
+
+    @Override
+    public E getEntity(UUID entityId) throws EntityNotFoundException {
+        return this.entityCache.get(entityId, this.entityDAO::getEntity);
+    }
+
+    @Override
+    public void updateEntity(UUID existingEntityId, E updatedEntity) {
+        try {
+            this.entityDAO.updateEntity(existingEntityId, updatedEntity);
+        } finally {
+            // invalidated even if the update fails, since the data store may have applied it regardless
+            this.entityCache.invalidate(existingEntityId);
+        }
+    }
+
+    @Override
+    public void deleteEntity(UUID entityId) throws EntityNotFoundException {
+        try {
+            this.entityDAO.deleteEntity(entityId);
+        } finally {
+            this.entityCache.invalidate(entityId);
+        }
+    }
+
+    protected D getEntityDAO() {
+        return this.entityDAO;
+    }
+
+    protected void invalidate(UUID entityId) {
+        this.entityCache.invalidate(entityId);
+    }
+}
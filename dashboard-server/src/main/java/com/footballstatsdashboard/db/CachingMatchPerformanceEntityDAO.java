@@ -0,0 +1,26 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.MatchPerformance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CachingMatchPerformanceEntityDAO extends CachingEntityDAO<MatchPerformance, IMatchPerformanceEntityDAO>
+        implements IMatchPerformanceEntityDAO {
+
+    public CachingMatchPerformanceEntityDAO(IMatchPerformanceEntityDAO matchPerformanceDAO,
+                                            EntityCache<MatchPerformance> matchPerformanceCache) {
+        super(matchPerformanceDAO, matchPerformanceCache);
+    }
+
+    @Override
+    public List<MatchPerformance> getMatchPerformanceOfPlayerInCompetition(UUID playerId, UUID competitionId) {
+        return this.getEntityDAO().getMatchPerformanceOfPlayerInCompetition(playerId, competitionId);
+    }
+
+    @Override
+    public Map<UUID, String> insertEntities(List<MatchPerformance> entities) {
+        return this.getEntityDAO().insertEntities(entities);
+    }
+}
@@ -0,0 +1,73 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.Player;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+public class CachingPlayerEntityDAO extends CachingEntityDAO<Player, IPlayerEntityDAO> implements IPlayerEntityDAO {
+    private final IClubEntityDAO clubDAO;
+    private final OwnershipIndex ownershipIndex;
+
+    public CachingPlayerEntityDAO(IPlayerEntityDAO playerDAO, EntityCache<Player> playerCache,
+                                  IClubEntityDAO clubDAO, OwnershipIndex ownershipIndex) {
+        super(playerDAO, playerCache);
+        this.clubDAO = clubDAO;
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @Override
+    public void insertEntity(Player entity) {
+        super.insertEntity(entity);
+        try {
+            this.ownershipIndex.addOwnership(OwnershipIndex.EntityType.PLAYER, entity.getId(), entity.getClubId(),
+                    this.clubDAO.getEntity(entity.getClubId()).getUserId());
+        } catch (EntityNotFoundException entityNotFoundException) {
+            // left to be resolved by the data store when the player is checked
+        }
+    }
+
+    @Override
+    public Player modifyEntity(UUID existingEntityId, UnaryOperator<Player> modification) {
+        try {
+            return this.getEntityDAO().modifyEntity(existingEntityId, modification);
+        } finally {
+            // invalidated even if the update fails, since the data store may have applied it regardless
+            this.invalidate(existingEntityId);
+        }
+    }
+
+    @Override
+    public void deleteEntity(UUID entityId) throws EntityNotFoundException {
+        try {
+            super.deleteEntity(entityId);
+        } finally {
+            this.ownershipIndex.removeOwnership(OwnershipIndex.EntityType.PLAYER, entityId);
+        }
+    }
+
+    @Override
+    public boolean doesEntityExist(UUID entityId) {
+        return getOwnership(entityId).isPresent() || this.getEntityDAO().doesEntityExist(entityId);
+    }
+
+    @Override
+    public boolean doesEntityBelongToUser(UUID entityId, UUID userId) {
+        return getOwnership(entityId)
+                .map(ownership -> ownership.getUserId().equals(userId))
+                .orElseGet(() -> this.getEntityDAO().doesEntityBelongToUser(entityId, userId));
+    }
+
+    private Optional<OwnershipIndex.Ownership> getOwnership(UUID playerId) {
+        return this.ownershipIndex.getOwnership(OwnershipIndex.EntityType.PLAYER, playerId, key -> {
+            try {
+                UUID clubId = this.getEntity(key).getClubId();
+                return new OwnershipIndex.Ownership(clubId, this.clubDAO.getEntity(clubId).getUserId());
+            } catch (EntityNotFoundException entityNotFoundException) {
+                return null;
+            }
+        });
+    }
+}
@@ -11,12 +11,18 @@ import com.footballstatsdashboard.api.model.club.ClubSummary;
 import com.footballstatsdashboard.api.model.club.ManagerFunds;
 import com.footballstatsdashboard.api.model.club.SquadPlayer;
 import com.footballstatsdashboard.api.model.matchPerformance.MatchRating;
+import com.footballstatsdashboard.api.model.player.Ability;
 import com.footballstatsdashboard.api.model.player.Attribute;
 import com.footballstatsdashboard.api.model.player.Metadata;
 import com.footballstatsdashboard.client.couchbase.CouchbaseClientManager;
 import com.footballstatsdashboard.client.couchbase.config.ClusterConfiguration;
+import com.footballstatsdashboard.config.EntityCacheConfiguration;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import com.footballstatsdashboard.core.instrumentation.StatementCounter;
+import com.footballstatsdashboard.db.couchbase.AsyncCouchbaseDAO;
 import com.footballstatsdashboard.db.couchbase.AuthTokenCouchbaseDAO;
 import com.footballstatsdashboard.db.couchbase.BoardObjectiveCouchbaseDAO;
+import com.footballstatsdashboard.db.couchbase.ClubAsyncCouchbaseDAO;
 import com.footballstatsdashboard.db.couchbase.ClubCouchbaseDAO;
 import com.footballstatsdashboard.db.couchbase.MatchPerformanceCouchbaseDAO;
 import com.footballstatsdashboard.db.couchbase.PlayerCouchbaseDAO;
@@ -26,19 +32,26 @@ import com.footballstatsdashboard.db.jdbi.BoardObjectiveJdbiDAO;
 import com.footballstatsdashboard.db.jdbi.ClubJdbiDAO;
 import com.footballstatsdashboard.db.jdbi.MatchPerformanceJdbiDAO;
 import com.footballstatsdashboard.db.jdbi.PlayerJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.SqlObjectTimingLogger;
 import com.footballstatsdashboard.db.jdbi.UserJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.migration.SchemaMigrator;
 import com.footballstatsdashboard.db.key.AuthTokenKeyProvider;
 import com.footballstatsdashboard.db.key.BoardObjectiveKeyProvider;
 import com.footballstatsdashboard.db.key.ClubKeyProvider;
 import com.footballstatsdashboard.db.key.MatchPerformanceKeyProvider;
 import com.footballstatsdashboard.db.key.PlayerKeyProvider;
 import com.footballstatsdashboard.db.key.UserKeyProvider;
+import com.footballstatsdashboard.health.CouchbaseHealthCheck;
+import com.footballstatsdashboard.health.DatabaseHealthCheck;
+import com.footballstatsdashboard.health.LatencyProbeHealthCheck;
 import io.dropwizard.jdbi3.JdbiFactory;
 import io.dropwizard.setup.Environment;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.immutables.JdbiImmutables;
+import org.jdbi.v3.core.statement.SqlStatements;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static com.footballstatsdashboard.core.utils.Constants.APPLICATION_NAME;
 
@@ -48,6 +61,12 @@ public class DAOFactory {
     private CouchbaseClientManager.ClusterContainer clusterContainer;
     private CouchbaseClientManager.BucketContainer bucketContainer;
     private Jdbi jdbi;
+    private Executor jdbiExecutor;
+    private EntityCache<Club> clubCache;
+    private EntityCache<Player> playerCache;
+    private EntityCache<MatchPerformance> matchPerformanceCache;
+    private EntityCache<BoardObjective> boardObjectiveCache;
+    private OwnershipIndex ownershipIndex;
 
     public DAOFactory(FootballDashboardConfiguration configuration, Environment environment) {
         this.configuration = configuration;
@@ -71,10 +90,60 @@ public class DAOFactory {
         } else {
             JdbiFactory factory = new JdbiFactory();
             this.jdbi = factory.build(this.environment, this.configuration.getDatabase(), "h2");
-            jdbi.getConfig(JdbiImmutables.class)
-                    .registerImmutable(User.class, AuthToken.class, Club.class, Player.class, MatchPerformance.class,
-                            MatchRating.class, ManagerFunds.class, SquadPlayer.class, ClubSummary.class,
-                            Metadata.class, Attribute.class, BoardObjective.class);
+            // time statements by the SQL object method that issued them on top of the timing by statement that
+            // dropwizard sets up
+            this.jdbi.setSqlLogger(new SqlObjectTimingLogger(this.jdbi.getConfig(SqlStatements.class).getSqlLogger(),
+                    this.environment.metrics()));
+            registerImmutables(this.jdbi);
+            // bring the schema up to date before any of the DAOs are handed out
+            new SchemaMigrator(this.jdbi).migrate();
+
+            // jdbi only offers blocking calls, so the async DAOs park them on a pool of their own that is sized to
+            // the connection pool instead of holding on to the request threads
+            int maxConnections = this.configuration.getDatabase().getMaxSize();
+            // the statements run on the pool are counted against the requests that handed them off
+            this.jdbiExecutor = StatementCounter.propagating(this.environment.lifecycle()
+                    .executorService("jdbi-dao-%d")
+                    .minThreads(maxConnections)
+                    .maxThreads(maxConnections)
+                    .build());
+        }
+
+        // the blocking and the non-blocking DAOs of an entity share its cache, so a write through either of them
+        // invalidates what both of them read
+        EntityCacheConfiguration entityCacheConfiguration = this.configuration.getEntityCacheConfiguration();
+        this.clubCache = new EntityCache<>("club", entityCacheConfiguration.getClub(), this.environment.metrics());
+        this.playerCache =
+                new EntityCache<>("player", entityCacheConfiguration.getPlayer(), this.environment.metrics());
+        this.matchPerformanceCache = new EntityCache<>("matchPerformance",
+                entityCacheConfiguration.getMatchPerformance(), this.environment.metrics());
+        this.boardObjectiveCache = new EntityCache<>("boardObjective",
+                entityCacheConfiguration.getBoardObjective(), this.environment.metrics());
+        this.ownershipIndex = new OwnershipIndex(entityCacheConfiguration.getOwnership(), this.environment.metrics());
+    }
+
+    /**
+     * register the immutable entities used by the jdbi DAOs so that they can be bound and mapped by jdbi
+     */
+    public static void registerImmutables(Jdbi jdbi) {
+        jdbi.getConfig(JdbiImmutables.class)
+                .registerImmutable(User.class, AuthToken.class, Club.class, Player.class, MatchPerformance.class,
+                        MatchRating.class, ManagerFunds.class, SquadPlayer.class, ClubSummary.class,
+                        Metadata.class, Attribute.class, Ability.class, BoardObjective.class);
+    }
+
+    /**
+     * health check that probes whichever data store the DAOs are backed by
+     */
+    public LatencyProbeHealthCheck getDataStoreHealthCheck(HealthCheckConfiguration healthCheckConfiguration) {
+        if (this.configuration.isShouldStartCouchbaseServer()) {
+            return new CouchbaseHealthCheck(() -> this.clusterContainer.getCluster(), healthCheckConfiguration,
+                    this.environment.metrics());
+        } else {
+            String validationQuery = this.configuration.getDatabase().getValidationQuery()
+                    .orElse(DatabaseHealthCheck.DEFAULT_VALIDATION_QUERY);
+            return new DatabaseHealthCheck(this.jdbi, validationQuery, healthCheckConfiguration,
+                    this.environment.metrics());
         }
     }
 
@@ -98,37 +167,76 @@ public class DAOFactory {
 
     public IClubEntityDAO getClubEntityDAO() {
         if (this.configuration.isShouldStartCouchbaseServer()) {
-            return new ClubCouchbaseDAO(new ClubKeyProvider(), () -> this.clusterContainer.getCluster(),
-                    () -> this.bucketContainer.getBucket(), this.environment);
+            return new CachingClubEntityDAO(new ClubCouchbaseDAO(new ClubKeyProvider(),
+                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment),
+                    this.clubCache, this.ownershipIndex);
         } else {
-            return new ClubJdbiDAO(jdbi);
+            return new CachingClubEntityDAO(new ClubJdbiDAO(jdbi), this.clubCache, this.ownershipIndex);
         }
     }
 
     public IPlayerEntityDAO getPlayerEntityDAO() {
         if (this.configuration.isShouldStartCouchbaseServer()) {
-            return new PlayerCouchbaseDAO(new PlayerKeyProvider(), () -> this.clusterContainer.getCluster(),
-                    () -> this.bucketContainer.getBucket(), this.environment);
+            return new CachingPlayerEntityDAO(new PlayerCouchbaseDAO(new PlayerKeyProvider(),
+                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment),
+                    this.playerCache, getClubEntityDAO(), this.ownershipIndex);
         } else {
-            return new PlayerJdbiDAO(jdbi);
+            return new CachingPlayerEntityDAO(new PlayerJdbiDAO(jdbi), this.playerCache, getClubEntityDAO(),
+                    this.ownershipIndex);
         }
     }
 
     public IMatchPerformanceEntityDAO getMatchPerformanceEntityDAO() {
         if (this.configuration.isShouldStartCouchbaseServer()) {
-            return new MatchPerformanceCouchbaseDAO(new MatchPerformanceKeyProvider(),
-                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment);
+            return new CachingMatchPerformanceEntityDAO(new MatchPerformanceCouchbaseDAO(
+                    new MatchPerformanceKeyProvider(), () -> this.clusterContainer.getCluster(),
+                    () -> this.bucketContainer.getBucket(), this.environment), this.matchPerformanceCache);
         } else {
-            return new MatchPerformanceJdbiDAO(jdbi);
+            return new CachingMatchPerformanceEntityDAO(new MatchPerformanceJdbiDAO(jdbi), this.matchPerformanceCache);
         }
     }
 
     public IBoardObjectiveEntityDAO getBoardObjectiveEntityDAO() {
         if (this.configuration.isShouldStartCouchbaseServer()) {
-            return new BoardObjectiveCouchbaseDAO(new BoardObjectiveKeyProvider(),
-                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment);
+            return new CachingBoardObjectiveEntityDAO(new BoardObjectiveCouchbaseDAO(new BoardObjectiveKeyProvider(),
+                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment),
+                    this.boardObjectiveCache, getClubEntityDAO(), this.ownershipIndex);
+        } else {
+            return new CachingBoardObjectiveEntityDAO(new BoardObjectiveJdbiDAO(jdbi), this.boardObjectiveCache,
+                    getClubEntityDAO(), this.ownershipIndex);
+        }
+    }
+
+    public IAsyncClubEntityDAO getAsyncClubEntityDAO() {
+        if (this.configuration.isShouldStartCouchbaseServer()) {
+            return new CachingAsyncClubEntityDAO(new ClubAsyncCouchbaseDAO(new ClubKeyProvider(),
+                    () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(), this.environment),
+                    this.clubCache);
+        } else {
+            return new CachingAsyncClubEntityDAO(new AsyncClubEntityDAOAdapter(new ClubJdbiDAO(jdbi),
+                    this.jdbiExecutor), this.clubCache);
+        }
+    }
+
+    public IAsyncEntityDAO<Player> getAsyncPlayerEntityDAO() {
+        if (this.configuration.isShouldStartCouchbaseServer()) {
+            return new CachingAsyncEntityDAO<>(new AsyncCouchbaseDAO<>(new PlayerKeyProvider(), Player.class,
+                    Player::getId, () -> this.clusterContainer.getCluster(), () -> this.bucketContainer.getBucket(),
+                    this.environment), this.playerCache);
+        } else {
+            return new CachingAsyncEntityDAO<>(new AsyncEntityDAOAdapter<>(new PlayerJdbiDAO(jdbi), this.jdbiExecutor),
+                    this.playerCache);
+        }
+    }
+
+    public IAsyncEntityDAO<MatchPerformance> getAsyncMatchPerformanceEntityDAO() {
+        if (this.configuration.isShouldStartCouchbaseServer()) {
+            return new CachingAsyncEntityDAO<>(new AsyncCouchbaseDAO<>(new MatchPerformanceKeyProvider(),
+                    MatchPerformance.class, MatchPerformance::getId, () -> this.clusterContainer.getCluster(),
+                    () -> this.bucketContainer.getBucket(), this.environment), this.matchPerformanceCache);
         } else {
-            return new BoardObjectiveJdbiDAO(jdbi);
+            return new CachingAsyncEntityDAO<>(new AsyncEntityDAOAdapter<>(new MatchPerformanceJdbiDAO(jdbi),
+                    this.jdbiExecutor), this.matchPerformanceCache);
         }
     }
-}
\ No newline at end of file
+}
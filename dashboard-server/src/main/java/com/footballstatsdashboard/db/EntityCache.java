@@ -0,0 +1,74 @@
+package com.footballstatsdashboard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Entities of one type kept in memory by their ID, shared by the blocking and the non-blocking caching DAOs of that
+ * type so that a write through either of them invalidates what both of them read. Bounds and expiry come from the
+ * cache policy. Loads that fail, e.g. because there is no entity for the ID, are not cached.
+ *
+ * Hits, misses, evictions, load times and the size of the cache are reported to the metric registry under the name of
+ * the entity.
+ *
+ * @param <E> type of the entity
+ */
+public final class EntityCache<E> {
+    private final AsyncCache<UUID, E> entities;
+
+    public EntityCache(String entityName, CaffeineSpec cachePolicy, MetricRegistry metricRegistry) {
+        this.entities = Caffeine.from(cachePolicy)
+                .recordStats(() -> new MetricsStatsCounter(metricRegistry,
+                        MetricRegistry.name(EntityCache.class, entityName)))
+                .buildAsync();
+        metricRegistry.register(MetricRegistry.name(EntityCache.class, entityName, "size"),
+                (Gauge<Long>) () -> this.entities.synchronous().estimatedSize());
+    }
+
+    /**
+     * the cached entity, loaded on the calling thread if it is not cached; concurrent calls for an entity that is
+     * being loaded wait for that load instead of starting their own
+     */
+    public E get(UUID entityId, Function<UUID, E> loader) {
+        // only an incomplete future is put in the cache while its entry is locked, and the load that completes it is
+        // run after the entry is released, so that a slow load does not block writes to other entries of the cache
+        CompletableFuture<E> pendingEntity = new CompletableFuture<>();
+        CompletableFuture<E> entity = this.entities.get(entityId, (key, executor) -> pendingEntity);
+        if (entity == pendingEntity) {
+            try {
+                pendingEntity.complete(loader.apply(entityId));
+            } catch (RuntimeException exception) {
+                // a load that fails is dropped from the cache as soon as the future completes
+                pendingEntity.completeExceptionally(exception);
+            }
+        }
+        try {
+            return entity.join();
+        } catch (CompletionException completionException) {
+            if (completionException.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) completionException.getCause();
+            }
+            throw completionException;
+        }
+    }
+
+    /**
+     * the cached entity, loaded with the given non-blocking load if it is not cached
+     */
+    public CompletableFuture<E> getAsync(UUID entityId, Function<UUID, CompletionStage<E>> loader) {
+        return this.entities.get(entityId, (key, executor) -> loader.apply(key).toCompletableFuture());
+    }
+
+    public void invalidate(UUID entityId) {
+        this.entities.synchronous().invalidate(entityId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.footballstatsdashboard.db;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.ClubSummary;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+public interface IAsyncClubEntityDAO extends IAsyncEntityDAO<Club> {
+    CompletionStage<List<ClubSummary>> getClubSummariesForUser(UUID userId);
+    CompletionStage<List<SquadPlayer>> getPlayersInClub(UUID clubId);
+}
@@ -0,0 +1,20 @@
+package com.footballstatsdashboard.db;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking variant of {@link IEntityDAO}. Each operation returns as soon as it has been issued and the returned
+ * stage completes once the data store has responded, so that the calling thread is not held for the round trip.
+ * Failures surface as an exceptionally completed stage, e.g. with an {@link EntityNotFoundException} when there is no
+ * entity for the given ID.
+ *
+ * @param <E> type of the entity
+ */
+public interface IAsyncEntityDAO<E> {
+    CompletionStage<Void> insertEntity(E entity);
+    CompletionStage<E> getEntity(UUID entityId);
+    CompletionStage<Void> updateEntity(UUID existingEntityId, E updatedEntity);
+    CompletionStage<Void> deleteEntity(UUID entityId);
+}
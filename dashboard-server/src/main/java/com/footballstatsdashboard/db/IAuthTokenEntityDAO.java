@@ -2,9 +2,12 @@ package com.footballstatsdashboard.db;
 
 import com.footballstatsdashboard.api.model.AuthToken;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IAuthTokenEntityDAO extends IEntityDAO<AuthToken> {
     Optional<AuthToken> getAuthTokenForUser(UUID userId);
+
+    void updateLastAccessTimes(List<AuthToken> authTokens);
 }
\ No newline at end of file
@@ -4,10 +4,20 @@ import com.footballstatsdashboard.api.model.Club;
 import com.footballstatsdashboard.api.model.club.ClubSummary;
 import com.footballstatsdashboard.api.model.club.SquadPlayer;
 
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.OptimisticLockException;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 public interface IClubEntityDAO extends IEntityDAO<Club> {
+    /**
+     * apply the modification to the stored club and write the result back, returning it. The modification is
+     * always computed against the club as it is stored when it is written back, so it may be applied more than once
+     * if the club is written concurrently
+     */
+    Club modifyEntity(UUID existingEntityId, UnaryOperator<Club> modification)
+            throws EntityNotFoundException, OptimisticLockException;
     List<ClubSummary> getClubSummariesForUser(UUID userId);
     List<SquadPlayer> getPlayersInClub(UUID clubId);
     boolean doesEntityBelongToUser(UUID entityId, UUID userId);
@@ -3,8 +3,17 @@ package com.footballstatsdashboard.db;
 import com.footballstatsdashboard.api.model.MatchPerformance;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface IMatchPerformanceEntityDAO extends IEntityDAO<MatchPerformance> {
     List<MatchPerformance> getMatchPerformanceOfPlayerInCompetition(UUID playerId, UUID competitionId);
-}
\ No newline at end of file
+
+    /**
+     * insert all the entities in as few round trips to the data store as it allows, atomically where it supports
+     * transactions, skipping the ones that can not be inserted on their own, e.g. because an entity with the same ID
+     * already exists or the player it refers to does not. Returns the reasons the skipped entities were not inserted
+     * for, by their ID.
+     */
+    Map<UUID, String> insertEntities(List<MatchPerformance> entities);
+}
@@ -2,9 +2,19 @@ package com.footballstatsdashboard.db;
 
 import com.footballstatsdashboard.api.model.Player;
 
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.OptimisticLockException;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 public interface IPlayerEntityDAO extends IEntityDAO<Player> {
+    /**
+     * apply the modification to the stored player and write the result back, returning it. The modification is
+     * always computed against the player as it is stored when it is written back, so it may be applied more than once
+     * if the player is written concurrently
+     */
+    Player modifyEntity(UUID existingEntityId, UnaryOperator<Player> modification)
+            throws EntityNotFoundException, OptimisticLockException;
     boolean doesEntityExist(UUID entityId);
     boolean doesEntityBelongToUser(UUID entityId, UUID userId);
 }
\ No newline at end of file
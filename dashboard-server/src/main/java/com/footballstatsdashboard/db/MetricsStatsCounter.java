@@ -0,0 +1,69 @@
+package com.footballstatsdashboard.db;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the hits, misses, evictions and load times of a cache to the metric registry under the given name.
+ */
+final class MetricsStatsCounter implements StatsCounter {
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Timer loadSuccesses;
+    private final Timer loadFailures;
+
+    MetricsStatsCounter(MetricRegistry metricRegistry, String cacheName) {
+        this.hits = metricRegistry.counter(MetricRegistry.name(cacheName, "hits"));
+        this.misses = metricRegistry.counter(MetricRegistry.name(cacheName, "misses"));
+        this.evictions = metricRegistry.counter(MetricRegistry.name(cacheName, "evictions"));
+        this.loadSuccesses = metricRegistry.timer(MetricRegistry.name(cacheName, "loads-success"));
+        this.loadFailures = metricRegistry.timer(MetricRegistry.name(cacheName, "loads-failure"));
+    }
+
+    @Override
+    public void recordHits(int count) {
+        this.hits.inc(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        this.misses.inc(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        this.loadSuccesses.update(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        this.loadFailures.update(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    @Deprecated
+    public void recordEviction() {
+        this.evictions.inc();
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        // entries that are invalidated are not counted as evictions
+        if (cause.wasEvicted()) {
+            this.evictions.inc();
+        }
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return CacheStats.of(this.hits.getCount(), this.misses.getCount(), this.loadSuccesses.getCount(),
+                this.loadFailures.getCount(), 0, this.evictions.getCount(), 0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.footballstatsdashboard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The club, and through it the user, that each club, player and board objective belongs to, so that checking whether
+ * an entity exists and who owns it takes a single in-memory lookup instead of a query joining the entity to its club.
+ * Since an entity never moves to another club and a club never moves to another user, entries are only ever added when
+ * entities are created or first checked, and removed when they are deleted. Entities are indexed by their type along
+ * with their ID, so that asking whether an ID of one type of entity is another type of entity is never answered by the
+ * index.
+ */
+public final class OwnershipIndex {
+    // entity type and ID -> club and user it belongs to; a club belongs to itself
+    private final Cache<EntityKey, Ownership> ownerships;
+
+    public OwnershipIndex(CaffeineSpec indexPolicy, MetricRegistry metricRegistry) {
+        String indexName = MetricRegistry.name(OwnershipIndex.class);
+        this.ownerships = Caffeine.from(indexPolicy)
+                .recordStats(() -> new MetricsStatsCounter(metricRegistry, indexName))
+                .build();
+        metricRegistry.register(MetricRegistry.name(indexName, "size"),
+                (Gauge<Long>) this.ownerships::estimatedSize);
+    }
+
+    /**
+     * the ownership of the entity, resolved with the given loader if it is not indexed; the loader returns null when
+     * the ownership cannot be resolved, e.g. because the entity does not exist, which is not indexed
+     */
+    Optional<Ownership> getOwnership(EntityType entityType, UUID entityId, Function<UUID, Ownership> loader) {
+        return Optional.ofNullable(this.ownerships.get(new EntityKey(entityType, entityId),
+                entityKey -> loader.apply(entityKey.entityId)));
+    }
+
+    void addOwnership(EntityType entityType, UUID entityId, UUID clubId, UUID userId) {
+        this.ownerships.put(new EntityKey(entityType, entityId), new Ownership(clubId, userId));
+    }
+
+    void removeOwnership(EntityType entityType, UUID entityId) {
+        this.ownerships.invalidate(new EntityKey(entityType, entityId));
+    }
+
+    /**
+     * remove the club along with everything that belongs to it, since those are deleted along with the club
+     */
+    void removeClub(UUID clubId) {
+        this.ownerships.asMap().values().removeIf(ownership -> ownership.getClubId().equals(clubId));
+    }
+
+    enum EntityType {
+        CLUB,
+        PLAYER,
+        BOARD_OBJECTIVE
+    }
+
+    private static final class EntityKey {
+        private final EntityType entityType;
+        private final UUID entityId;
+
+        EntityKey(EntityType entityType, UUID entityId) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof EntityKey)) {
+                return false;
+            }
+            EntityKey otherKey = (EntityKey) other;
+            return this.entityType == otherKey.entityType && this.entityId.equals(otherKey.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.entityType, this.entityId);
+        }
+    }
+
+    static final class Ownership {
+        private final UUID clubId;
+        private final UUID userId;
+
+        Ownership(UUID clubId, UUID userId) {
+            this.clubId = clubId;
+            this.userId = userId;
+        }
+
+        UUID getClubId() {
+            return this.clubId;
+        }
+
+        UUID getUserId() {
+            return this.userId;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.footballstatsdashboard.db.couchbase;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.AsyncCluster;
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.footballstatsdashboard.db.IAsyncEntityDAO;
+import com.footballstatsdashboard.db.key.CouchbaseKeyProvider;
+import com.footballstatsdashboard.db.key.ResourceKey;
+import io.dropwizard.setup.Environment;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Couchbase DAO issuing its operations through the non-blocking {@link AsyncCollection} and {@link AsyncCluster} of
+ * the SDK. The returned stages are completed on the SDK's IO threads, so callers must not block in the stages they
+ * chain onto them.
+ *
+ * @param <E> type of the entity
+ */
+public class AsyncCouchbaseDAO<E> extends CouchbaseDAO implements IAsyncEntityDAO<E> {
+    private final CouchbaseKeyProvider<ResourceKey> keyProvider;
+    private final Class<E> entityClass;
+    private final Function<E, UUID> entityIdAccessor;
+
+    public AsyncCouchbaseDAO(CouchbaseKeyProvider<ResourceKey> keyProvider,
+                             Class<E> entityClass,
+                             Function<E, UUID> entityIdAccessor,
+                             Supplier<Cluster> clusterSupplier,
+                             Supplier<Bucket> bucketSupplier,
+                             Environment environment) {
+        super(clusterSupplier, bucketSupplier, environment);
+        this.keyProvider = keyProvider;
+        this.entityClass = entityClass;
+        this.entityIdAccessor = entityIdAccessor;
+    }
+
+    @Override
+    public CompletionStage<Void> insertEntity(E entity) {
+        return timeKeyValueOperationAsync("insertEntity",
+                () -> getAsyncCollection().insert(getDocumentKey(this.entityIdAccessor.apply(entity)), entity))
+                .thenApply(mutationResult -> null);
+    }
+
+    @Override
+    public CompletionStage<E> getEntity(UUID entityId) {
+        return timeKeyValueOperationAsync("getEntity", () -> getAsyncCollection().get(getDocumentKey(entityId)))
+                .handle((getResult, throwable) -> {
+                    throwIfFailed(throwable);
+                    return getResult.contentAs(this.entityClass);
+                });
+    }
+
+    @Override
+    public CompletionStage<Void> updateEntity(UUID existingEntityId, E updatedEntity) {
+        return timeKeyValueOperationAsync("updateEntity",
+                () -> getAsyncCollection().replace(getDocumentKey(existingEntityId), updatedEntity))
+                .thenApply(mutationResult -> null);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteEntity(UUID entityId) {
+        return timeKeyValueOperationAsync("deleteEntity", () -> getAsyncCollection().remove(getDocumentKey(entityId)))
+                .handle((mutationResult, throwable) -> {
+                    throwIfFailed(throwable);
+                    return null;
+                });
+    }
+
+    protected AsyncCollection getAsyncCollection() {
+        return this.getCouchbaseBucket().defaultCollection().async();
+    }
+
+    protected AsyncCluster getAsyncCluster() {
+        return this.getCouchbaseCluster().async();
+    }
+
+    protected String getDocumentKey(UUID entityId) {
+        return this.keyProvider.getCouchbaseKey(new ResourceKey(entityId));
+    }
+
+    /**
+     * rethrow the failure of a key-value operation, translating a missing document the same way the blocking DAOs do
+     */
+    protected static void throwIfFailed(Throwable throwable) {
+        if (throwable == null) return;
+
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof DocumentNotFoundException) {
+            throw new EntityNotFoundException(cause.getMessage());
+        }
+        throw new CompletionException(cause);
+    }
+}
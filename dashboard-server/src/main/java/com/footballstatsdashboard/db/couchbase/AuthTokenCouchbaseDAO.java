@@ -33,14 +33,16 @@ public class AuthTokenCouchbaseDAO extends CouchbaseDAO implements IAuthTokenEnt
     public void insertEntity(AuthToken entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
     }
 
     public AuthToken getEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(AuthToken.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -50,14 +52,16 @@ public class AuthTokenCouchbaseDAO extends CouchbaseDAO implements IAuthTokenEnt
     public void updateEntity(UUID existingEntityId, AuthToken updatedEntity) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        timeKeyValueOperation("updateEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity));
     }
 
     public void deleteEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -71,7 +75,8 @@ public class AuthTokenCouchbaseDAO extends CouchbaseDAO implements IAuthTokenEnt
                 JsonObject.create().put("userId", userId.toString())
         );
 
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getAuthTokenForUser",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         List<AuthToken> authTokens = queryResult.rowsAs(AuthToken.class);
         if (authTokens.size() == 1) {
             return Optional.of(authTokens.get(0));
@@ -80,4 +85,14 @@ public class AuthTokenCouchbaseDAO extends CouchbaseDAO implements IAuthTokenEnt
         // TODO: 02/05/21 figure out how to handle query result returning more than one auth token for a given user id
         return Optional.empty();
     }
+
+    public void updateLastAccessTimes(List<AuthToken> authTokens) {
+        authTokens.forEach(authToken -> {
+            try {
+                updateEntity(authToken.getId(), authToken);
+            } catch (DocumentNotFoundException documentNotFoundException) {
+                // the auth token has been removed since it was last used, so there is nothing left to touch
+            }
+        });
+    }
 }
\ No newline at end of file
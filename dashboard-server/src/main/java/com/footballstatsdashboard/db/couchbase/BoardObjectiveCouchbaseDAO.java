@@ -36,7 +36,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
     public void insertEntity(BoardObjective entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
     }
 
     @Override
@@ -44,7 +45,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(BoardObjective.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -55,7 +57,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
     public void updateEntity(UUID existingEntityId, BoardObjective updatedEntity) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        timeKeyValueOperation("updateEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity));
     }
 
     @Override
@@ -63,7 +66,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -80,7 +84,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
         QueryOptions queryOptions = QueryOptions.queryOptions().parameters(
                 JsonObject.create().put("boardObjectiveId", entityId.toString())
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("doesEntityBelongToUser",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         List<JsonObject> resultRows = queryResult.rowsAsObject();
 
         if (resultRows.size() == 1) {
@@ -100,8 +105,9 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
         LookupInResult lookupInResult;
 
         try {
-            lookupInResult = this.getCouchbaseBucket().defaultCollection()
-                    .lookupIn(documentKey, Collections.singletonList(get("clubId")));
+            lookupInResult = timeKeyValueOperation("doesEntityBelongToClub",
+                    () -> this.getCouchbaseBucket().defaultCollection()
+                            .lookupIn(documentKey, Collections.singletonList(get("clubId"))));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -118,7 +124,8 @@ public class BoardObjectiveCouchbaseDAO extends CouchbaseDAO implements IBoardOb
         QueryOptions queryOptions = QueryOptions.queryOptions().parameters(
                 JsonObject.create().put("clubId", clubId.toString())
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getBoardObjectivesForClub",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         return queryResult.rowsAs(BoardObjective.class);
     }
 }
\ No newline at end of file
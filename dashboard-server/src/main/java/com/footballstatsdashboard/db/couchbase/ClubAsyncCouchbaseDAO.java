@@ -0,0 +1,42 @@
+package com.footballstatsdashboard.db.couchbase;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.Cluster;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.ClubSummary;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.db.IAsyncClubEntityDAO;
+import com.footballstatsdashboard.db.key.CouchbaseKeyProvider;
+import com.footballstatsdashboard.db.key.ResourceKey;
+import io.dropwizard.setup.Environment;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+public class ClubAsyncCouchbaseDAO extends AsyncCouchbaseDAO<Club> implements IAsyncClubEntityDAO {
+
+    public ClubAsyncCouchbaseDAO(CouchbaseKeyProvider<ResourceKey> keyProvider,
+                                 Supplier<Cluster> clusterSupplier,
+                                 Supplier<Bucket> bucketSupplier,
+                                 Environment environment) {
+        super(keyProvider, Club.class, Club::getId, clusterSupplier, bucketSupplier, environment);
+    }
+
+    @Override
+    public CompletionStage<List<ClubSummary>> getClubSummariesForUser(UUID userId) {
+        return timeQueryAsync("getClubSummariesForUser", () -> this.getAsyncCluster()
+                .query(ClubCouchbaseDAO.getClubSummariesForUserQuery(this.getCouchbaseBucket().name()),
+                        ClubCouchbaseDAO.getClubSummariesForUserQueryOptions(userId)))
+                .thenApply(queryResult -> queryResult.rowsAs(ClubSummary.class));
+    }
+
+    @Override
+    public CompletionStage<List<SquadPlayer>> getPlayersInClub(UUID clubId) {
+        return timeQueryAsync("getPlayersInClub", () -> this.getAsyncCluster()
+                .query(ClubCouchbaseDAO.getPlayersInClubQuery(this.getCouchbaseBucket().name()),
+                        ClubCouchbaseDAO.getPlayersInClubQueryOptions(clubId)))
+                .thenApply(ClubCouchbaseDAO::toSquadPlayers);
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.couchbase.client.java.kv.LookupInSpec.get;
@@ -45,7 +46,8 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
     public void insertEntity(Club entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
     }
 
     @Override
@@ -53,7 +55,8 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(Club.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -62,9 +65,17 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
 
     @Override
     public void updateEntity(UUID existingEntityId, Club updatedEntity) {
+        // overwrites whatever is stored, but still only writes the changes
+        modifyEntity(existingEntityId, existingEntity -> updatedEntity);
+    }
+
+    @Override
+    public Club modifyEntity(UUID existingEntityId, UnaryOperator<Club> modification) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        // only the changes are written, so that the growing histories on the club are not re-sent every time
+        return timeKeyValueOperation("modifyEntity", () -> SubDocumentUpdater.update(
+                this.getCouchbaseBucket().defaultCollection(), documentKey, Club.class, modification));
     }
 
     @Override
@@ -72,7 +83,8 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -85,8 +97,9 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
         LookupInResult lookupInResult;
 
         try {
-            lookupInResult = this.getCouchbaseBucket().defaultCollection()
-                    .lookupIn(documentKey, Collections.singletonList(get("userId")));
+            lookupInResult = timeKeyValueOperation("doesEntityBelongToUser",
+                    () -> this.getCouchbaseBucket().defaultCollection()
+                            .lookupIn(documentKey, Collections.singletonList(get("userId"))));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -99,37 +112,55 @@ public class ClubCouchbaseDAO extends CouchbaseDAO implements IClubEntityDAO {
     public boolean doesEntityExist(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        ExistsResult result = this.getCouchbaseBucket().defaultCollection().exists(documentKey);
+        ExistsResult result = timeKeyValueOperation("doesEntityExist",
+                () -> this.getCouchbaseBucket().defaultCollection().exists(documentKey));
         return result.exists();
     }
 
     @Override
     public List<ClubSummary> getClubSummariesForUser(UUID userId) {
-        String query = String.format("SELECT club.id AS clubId, club.name, club.logo, club.createdDate" +
-                " FROM `%s` AS club" +
-                " WHERE club.type = 'Club' AND club.userId = $userId", this.getCouchbaseBucket().name());
-        QueryOptions queryOptions = QueryOptions.queryOptions().parameters(
-                JsonObject.create().put("userId", userId.toString())
-        );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getClubSummariesForUser", () -> this.getCouchbaseCluster().query(
+                getClubSummariesForUserQuery(this.getCouchbaseBucket().name()),
+                getClubSummariesForUserQueryOptions(userId)));
         return queryResult.rowsAs(ClubSummary.class);
     }
 
     @Override
     public List<SquadPlayer> getPlayersInClub(UUID clubId) {
-        String bucketName = this.getCouchbaseBucket().name();
-        String query = String.format("SELECT player.metadata.name, player.metadata.country, player.id," +
+        QueryResult queryResult = timeQuery("getPlayersInClub", () -> this.getCouchbaseCluster().query(
+                getPlayersInClubQuery(this.getCouchbaseBucket().name()), getPlayersInClubQueryOptions(clubId)));
+        return toSquadPlayers(queryResult);
+    }
+
+    static String getClubSummariesForUserQuery(String bucketName) {
+        return String.format("SELECT club.id AS clubId, club.name, club.logo, club.createdDate" +
+                " FROM `%s` AS club" +
+                " WHERE club.type = 'Club' AND club.userId = $userId", bucketName);
+    }
+
+    static QueryOptions getClubSummariesForUserQueryOptions(UUID userId) {
+        return QueryOptions.queryOptions().parameters(
+                JsonObject.create().put("userId", userId.toString())
+        );
+    }
+
+    static String getPlayersInClubQuery(String bucketName) {
+        return String.format("SELECT player.metadata.name, player.metadata.country, player.id," +
                 " player.metadata.countryLogo AS countryFlag, player.ability.`current` AS currentAbility," +
                 " player.roles, matchPerformance.matchRating.history AS matchRatingHistory" +
                 " FROM `%s` player LEFT JOIN `%s` matchPerformance" +
                 " ON player.id = matchPerformance.playerId" +
                 " WHERE player.type = 'Player' AND matchPerformance.type = 'MatchPerformance'" +
                 " AND player.clubId = $clubId", bucketName, bucketName);
+    }
 
-        QueryOptions queryOptions = QueryOptions.queryOptions().parameters(
+    static QueryOptions getPlayersInClubQueryOptions(UUID clubId) {
+        return QueryOptions.queryOptions().parameters(
                 JsonObject.create().put("clubId", clubId.toString())
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+    }
+
+    static List<SquadPlayer> toSquadPlayers(QueryResult queryResult) {
         List<JsonObject> resultRows = queryResult.rowsAsObject();
 
         return resultRows.stream().map(row -> {
@@ -1,12 +1,20 @@
 package com.footballstatsdashboard.db.couchbase;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
+import com.footballstatsdashboard.core.instrumentation.StatementCounter;
 import io.dropwizard.setup.Environment;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public class CouchbaseDAO {
+    private static final String KEY_VALUE_OPERATION = "kv";
+    private static final String N1QL_QUERY = "n1ql";
+
+    private final MetricRegistry metricRegistry;
     private Cluster couchbaseCluster;
     private Bucket couchbaseBucket;
 
@@ -21,9 +29,68 @@ public class CouchbaseDAO {
     public CouchbaseDAO(Supplier<Cluster> clusterSupplier,
                         Supplier<Bucket> bucketSupplier,
                         Environment environment) {
+        this.metricRegistry = environment.metrics();
         environment.lifecycle().addServerLifecycleListener(server -> {
             couchbaseCluster = clusterSupplier.get();
             couchbaseBucket = bucketSupplier.get();
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * run a key-value operation, timed under the DAO method it is issued by and counted against the current request
+     */
+    protected <T> T timeKeyValueOperation(String daoMethodName, Supplier<T> operation) {
+        return time(KEY_VALUE_OPERATION, daoMethodName, operation);
+    }
+
+    /**
+     * run a N1QL query, timed under the DAO method it is issued by and counted against the current request
+     */
+    protected <T> T timeQuery(String daoMethodName, Supplier<T> query) {
+        return time(N1QL_QUERY, daoMethodName, query);
+    }
+
+    /**
+     * start a non-blocking key-value operation, timed until it completes under the DAO method it is issued by and
+     * counted against the current request
+     */
+    protected <T> CompletableFuture<T> timeKeyValueOperationAsync(String daoMethodName,
+                                                                  Supplier<CompletableFuture<T>> operation) {
+        return timeAsync(KEY_VALUE_OPERATION, daoMethodName, operation);
+    }
+
+    /**
+     * start a non-blocking N1QL query, timed until it completes under the DAO method it is issued by and counted
+     * against the current request
+     */
+    protected <T> CompletableFuture<T> timeQueryAsync(String daoMethodName, Supplier<CompletableFuture<T>> query) {
+        return timeAsync(N1QL_QUERY, daoMethodName, query);
+    }
+
+    private <T> T time(String operationType, String daoMethodName, Supplier<T> operation) {
+        StatementCounter.recordStatement();
+        Timer.Context timerContext = getTimer(operationType, daoMethodName).time();
+        try {
+            return operation.get();
+        } finally {
+            timerContext.stop();
+        }
+    }
+
+    private <T> CompletableFuture<T> timeAsync(String operationType, String daoMethodName,
+                                               Supplier<CompletableFuture<T>> operation) {
+        StatementCounter.recordStatement();
+        Timer.Context timerContext = getTimer(operationType, daoMethodName).time();
+        try {
+            return operation.get().whenComplete((result, throwable) -> timerContext.stop());
+        } catch (RuntimeException exception) {
+            timerContext.stop();
+            throw exception;
+        }
+    }
+
+    private Timer getTimer(String operationType, String daoMethodName) {
+        // e.g. com.footballstatsdashboard.db.couchbase.ClubCouchbaseDAO.kv.getEntity
+        return this.metricRegistry.timer(MetricRegistry.name(getClass(), operationType, daoMethodName));
+    }
+}
@@ -1,8 +1,10 @@
 package com.footballstatsdashboard.db.couchbase;
 
+import com.couchbase.client.core.error.DocumentExistsException;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.query.QueryOptions;
@@ -12,13 +14,18 @@ import com.footballstatsdashboard.db.IMatchPerformanceEntityDAO;
 import com.footballstatsdashboard.db.key.CouchbaseKeyProvider;
 import com.footballstatsdashboard.db.key.ResourceKey;
 import io.dropwizard.setup.Environment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 public class MatchPerformanceCouchbaseDAO extends CouchbaseDAO implements IMatchPerformanceEntityDAO {
+    private static final String ALREADY_EXISTS = "a match performance with the same id already exists";
+
     private final CouchbaseKeyProvider<ResourceKey> keyProvider;
 
     public MatchPerformanceCouchbaseDAO(CouchbaseKeyProvider<ResourceKey> keyProvider,
@@ -32,14 +39,33 @@ public class MatchPerformanceCouchbaseDAO extends CouchbaseDAO implements IMatch
     public void insertEntity(MatchPerformance entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
+    }
+
+    public Map<UUID, String> insertEntities(List<MatchPerformance> entities) {
+        ReactiveCollection collection = this.getCouchbaseBucket().reactive().defaultCollection();
+        // the inserts are sent concurrently over the reactive API rather than one after the other, each with its own
+        // outcome, since documents are not covered by a transaction and the ones inserted before another one fails
+        // stay inserted
+        return timeKeyValueOperation("insertEntities", () -> Flux.fromIterable(entities)
+                .flatMap(entity -> collection
+                        .insert(this.keyProvider.getCouchbaseKey(new ResourceKey(entity.getId())), entity)
+                        .then(Mono.<Map.Entry<UUID, String>>empty())
+                        .onErrorResume(error -> Mono.just(Map.entry(entity.getId(),
+                                error instanceof DocumentExistsException
+                                        ? ALREADY_EXISTS
+                                        : "unable to insert the match performance: " + error.getMessage()))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block());
     }
 
     public MatchPerformance getEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(MatchPerformance.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -49,14 +75,16 @@ public class MatchPerformanceCouchbaseDAO extends CouchbaseDAO implements IMatch
     public void updateEntity(UUID existingEntityId, MatchPerformance updatedEntity) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        timeKeyValueOperation("updateEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity));
     }
 
     public void deleteEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -72,7 +100,8 @@ public class MatchPerformanceCouchbaseDAO extends CouchbaseDAO implements IMatch
                         .put("playerId", playerId.toString())
                         .put("competitionId", competitionId.toString())
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getMatchPerformanceOfPlayerInCompetition",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         return queryResult.rowsAs(MatchPerformance.class);
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import javax.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public class PlayerCouchbaseDAO extends CouchbaseDAO implements IPlayerEntityDAO {
     private final CouchbaseKeyProvider<ResourceKey> keyProvider;
@@ -33,14 +34,16 @@ public class PlayerCouchbaseDAO extends CouchbaseDAO implements IPlayerEntityDAO
     public void insertEntity(Player entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
     }
 
     public Player getEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(Player.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -48,16 +51,24 @@ public class PlayerCouchbaseDAO extends CouchbaseDAO implements IPlayerEntityDAO
     }
 
     public void updateEntity(UUID existingEntityId, Player updatedEntity) {
+        // overwrites whatever is stored, but still only writes the changes
+        modifyEntity(existingEntityId, existingEntity -> updatedEntity);
+    }
+
+    public Player modifyEntity(UUID existingEntityId, UnaryOperator<Player> modification) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        // only the changes are written, so that the growing histories on the player are not re-sent every time
+        return timeKeyValueOperation("modifyEntity", () -> SubDocumentUpdater.update(
+                this.getCouchbaseBucket().defaultCollection(), documentKey, Player.class, modification));
     }
 
     public void deleteEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -74,7 +85,8 @@ public class PlayerCouchbaseDAO extends CouchbaseDAO implements IPlayerEntityDAO
         QueryOptions queryOptions = QueryOptions.queryOptions().parameters(
                 JsonObject.create().put("playerId", entityId.toString())
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("doesEntityBelongToUser",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         List<JsonObject> resultRows = queryResult.rowsAsObject();
 
         if (resultRows.size() == 1) {
@@ -91,7 +103,8 @@ public class PlayerCouchbaseDAO extends CouchbaseDAO implements IPlayerEntityDAO
     public boolean doesEntityExist(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        ExistsResult result = this.getCouchbaseBucket().defaultCollection().exists(documentKey);
+        ExistsResult result = timeKeyValueOperation("doesEntityExist",
+                () -> this.getCouchbaseBucket().defaultCollection().exists(documentKey));
         return result.exists();
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.footballstatsdashboard.db.couchbase;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.MutateInSpec;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A single change to a field of a couchbase document, addressed by the path of object keys and array indices leading
+ * to it from the root of the document.
+ */
+final class SubDocumentMutation {
+    enum Type {
+        UPSERT,
+        ARRAY_APPEND,
+        REMOVE
+    }
+
+    private final Type type;
+    private final List<Object> pathSegments;
+    private final Object value;
+
+    private SubDocumentMutation(Type type, List<Object> pathSegments, Object value) {
+        this.type = type;
+        this.pathSegments = List.copyOf(pathSegments);
+        this.value = value;
+    }
+
+    static SubDocumentMutation upsert(List<Object> pathSegments, Object value) {
+        return new SubDocumentMutation(Type.UPSERT, pathSegments, value);
+    }
+
+    static SubDocumentMutation arrayAppend(List<Object> pathSegments, List<Object> appendedValues) {
+        return new SubDocumentMutation(Type.ARRAY_APPEND, pathSegments, appendedValues);
+    }
+
+    static SubDocumentMutation remove(List<Object> pathSegments) {
+        return new SubDocumentMutation(Type.REMOVE, pathSegments, null);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    List<Object> getPathSegments() {
+        return pathSegments;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    /**
+     * the sub-document path of the field, e.g. `attributes[3].history`
+     */
+    String getPath() {
+        StringBuilder path = new StringBuilder();
+        for (Object pathSegment : pathSegments) {
+            if (pathSegment instanceof Integer) {
+                path.append('[').append(pathSegment).append(']');
+            } else {
+                if (path.length() > 0) path.append('.');
+                path.append(pathSegment);
+            }
+        }
+        return path.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    MutateInSpec toSpec() {
+        switch (type) {
+            case UPSERT:
+                return MutateInSpec.upsert(getPath(), toPlainValue(value));
+            case ARRAY_APPEND:
+                return MutateInSpec.arrayAppend(getPath(), ((List<Object>) value).stream()
+                        .map(SubDocumentMutation::toPlainValue)
+                        .collect(Collectors.toList()));
+            case REMOVE:
+                return MutateInSpec.remove(getPath());
+            default:
+                throw new IllegalStateException("Unknown sub-document mutation type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + getPath();
+    }
+
+    /**
+     * the value as plain maps and lists, which the json serializer of the collection knows how to encode
+     */
+    private static Object toPlainValue(Object value) {
+        if (value instanceof JsonObject) return ((JsonObject) value).toMap();
+        if (value instanceof JsonArray) return ((JsonArray) value).toList();
+        return value;
+    }
+}
@@ -0,0 +1,171 @@
+package com.footballstatsdashboard.db.couchbase;
+
+import com.couchbase.client.core.error.CasMismatchException;
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.ReplaceOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Applies an update to an entity stored in couchbase by reading its document, applying the update to the entity in it
+ * and sending only what changed instead of replacing the whole document. Arrays the update extends, such as the
+ * histories kept on players and clubs, are appended to and other changed fields are upserted, so the size of the write
+ * does not grow with the length of the histories.
+ *
+ * The mutation is computed against the document that was just read and is guarded by its CAS, so a write that gets in
+ * between the read and the mutation is never overwritten. Instead, the document is read again and the update applied
+ * to it afresh, and the update fails with an {@link OptimisticLockException} if the document keeps changing.
+ */
+final class SubDocumentUpdater {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubDocumentUpdater.class);
+    // the most operations the data service accepts in a single sub-document mutation
+    static final int MAX_SPECS_PER_MUTATION = 16;
+    static final int MAX_ATTEMPTS = 3;
+
+    private SubDocumentUpdater() {
+        throw new AssertionError("Should not be initialized");
+    }
+
+    /**
+     * apply the update to the entity stored under the document key and write the result back, returning it. The update
+     * is applied again to the document as it is then if another write gets in first, so it may be applied more than
+     * once
+     */
+    static <E> E update(Collection collection, String documentKey, Class<E> entityClass, UnaryOperator<E> update) {
+        for (int attempt = 1; ; attempt++) {
+            GetResult existingDocument = getDocument(collection, documentKey);
+            E updatedEntity = update.apply(existingDocument.contentAs(entityClass));
+            try {
+                write(collection, documentKey, existingDocument, updatedEntity);
+                return updatedEntity;
+            } catch (CasMismatchException casMismatchException) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new OptimisticLockException(String.format(
+                            "Document with key: %s was modified concurrently", documentKey));
+                }
+                LOGGER.debug("Retrying update of document with key: {} after concurrent modification", documentKey);
+            }
+        }
+    }
+
+    private static void write(Collection collection, String documentKey, GetResult existingDocument,
+                              Object updatedEntity) {
+        JsonObject updatedDocument =
+                JsonObject.fromJson(collection.environment().jsonSerializer().serialize(updatedEntity));
+        List<SubDocumentMutation> mutations = diff(existingDocument.contentAsObject(), updatedDocument);
+        if (mutations.isEmpty()) return;
+
+        try {
+            if (mutations.size() > MAX_SPECS_PER_MUTATION) {
+                collection.replace(documentKey, updatedEntity,
+                        ReplaceOptions.replaceOptions().cas(existingDocument.cas()));
+            } else {
+                collection.mutateIn(documentKey,
+                        mutations.stream().map(SubDocumentMutation::toSpec).collect(Collectors.toList()),
+                        MutateInOptions.mutateInOptions().cas(existingDocument.cas()));
+            }
+        } catch (DocumentNotFoundException documentNotFoundException) {
+            throw new EntityNotFoundException(documentNotFoundException.getMessage());
+        }
+    }
+
+    /**
+     * the mutations that turn the base document into the updated one, collapsing the changes within the most changed
+     * top level fields into upserts of those fields whenever there are more than fit in a single mutation
+     */
+    static List<SubDocumentMutation> diff(JsonObject baseDocument, JsonObject updatedDocument) {
+        List<SubDocumentMutation> mutations = new ArrayList<>();
+        diffValue(new ArrayList<>(), baseDocument, updatedDocument, mutations);
+
+        while (mutations.size() > MAX_SPECS_PER_MUTATION) {
+            Map.Entry<Object, List<SubDocumentMutation>> mostChangedField = mutations.stream()
+                    .collect(Collectors.groupingBy(mutation -> mutation.getPathSegments().get(0)))
+                    .entrySet().stream()
+                    .max(Comparator.comparingInt(field -> field.getValue().size()))
+                    .orElseThrow();
+            // nothing left to collapse, so the whole document has to be replaced
+            if (mostChangedField.getValue().size() == 1) break;
+
+            mutations.removeAll(mostChangedField.getValue());
+            String fieldName = (String) mostChangedField.getKey();
+            mutations.add(updatedDocument.containsKey(fieldName)
+                    ? SubDocumentMutation.upsert(List.of(fieldName), updatedDocument.get(fieldName))
+                    : SubDocumentMutation.remove(List.of(fieldName)));
+        }
+        return mutations;
+    }
+
+    private static void diffValue(List<Object> pathSegments, Object baseValue, Object updatedValue,
+                                  List<SubDocumentMutation> mutations) {
+        if (Objects.equals(baseValue, updatedValue)) return;
+
+        if (baseValue instanceof JsonObject && updatedValue instanceof JsonObject) {
+            JsonObject baseObject = (JsonObject) baseValue;
+            JsonObject updatedObject = (JsonObject) updatedValue;
+            updatedObject.getNames().forEach(name ->
+                    diffValue(append(pathSegments, name), baseObject.get(name), updatedObject.get(name), mutations));
+            baseObject.getNames().stream()
+                    .filter(name -> !updatedObject.containsKey(name))
+                    .forEach(name -> mutations.add(SubDocumentMutation.remove(append(pathSegments, name))));
+            return;
+        }
+
+        if (baseValue instanceof JsonArray && updatedValue instanceof JsonArray) {
+            JsonArray baseArray = (JsonArray) baseValue;
+            JsonArray updatedArray = (JsonArray) updatedValue;
+            if (isPrefixOf(baseArray, updatedArray)) {
+                List<Object> appendedValues = new ArrayList<>();
+                for (int idx = baseArray.size(); idx < updatedArray.size(); idx++) {
+                    appendedValues.add(updatedArray.get(idx));
+                }
+                mutations.add(SubDocumentMutation.arrayAppend(pathSegments, appendedValues));
+                return;
+            }
+            if (baseArray.size() == updatedArray.size()) {
+                for (int idx = 0; idx < updatedArray.size(); idx++) {
+                    diffValue(append(pathSegments, idx), baseArray.get(idx), updatedArray.get(idx), mutations);
+                }
+                return;
+            }
+        }
+
+        mutations.add(SubDocumentMutation.upsert(pathSegments, updatedValue));
+    }
+
+    private static boolean isPrefixOf(JsonArray prefix, JsonArray array) {
+        if (prefix.size() > array.size()) return false;
+        for (int idx = 0; idx < prefix.size(); idx++) {
+            if (!Objects.equals(prefix.get(idx), array.get(idx))) return false;
+        }
+        return true;
+    }
+
+    private static List<Object> append(List<Object> pathSegments, Object pathSegment) {
+        List<Object> appendedPathSegments = new ArrayList<>(pathSegments);
+        appendedPathSegments.add(pathSegment);
+        return appendedPathSegments;
+    }
+
+    private static GetResult getDocument(Collection collection, String documentKey) {
+        try {
+            return collection.get(documentKey);
+        } catch (DocumentNotFoundException documentNotFoundException) {
+            throw new EntityNotFoundException(documentNotFoundException.getMessage());
+        }
+    }
+}
@@ -33,14 +33,16 @@ public class UserCouchbaseDAO extends CouchbaseDAO implements IUserEntityDAO {
     public void insertEntity(User entity) {
         ResourceKey key = new ResourceKey(entity.getId());
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity);
+        timeKeyValueOperation("insertEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().insert(documentKey, entity));
     }
 
     public User getEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            GetResult result = this.getCouchbaseBucket().defaultCollection().get(documentKey);
+            GetResult result = timeKeyValueOperation("getEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().get(documentKey));
             return result.contentAs(User.class);
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
@@ -50,14 +52,16 @@ public class UserCouchbaseDAO extends CouchbaseDAO implements IUserEntityDAO {
     public void updateEntity(UUID existingEntityId, User updatedEntity) {
         ResourceKey key = new ResourceKey(existingEntityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
-        this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity);
+        timeKeyValueOperation("updateEntity",
+                () -> this.getCouchbaseBucket().defaultCollection().replace(documentKey, updatedEntity));
     }
 
     public void deleteEntity(UUID entityId) {
         ResourceKey key = new ResourceKey(entityId);
         String documentKey = this.keyProvider.getCouchbaseKey(key);
         try {
-            this.getCouchbaseBucket().defaultCollection().remove(documentKey);
+            timeKeyValueOperation("deleteEntity",
+                    () -> this.getCouchbaseBucket().defaultCollection().remove(documentKey));
         } catch (DocumentNotFoundException documentNotFoundException) {
             throw new EntityNotFoundException(documentNotFoundException.getMessage());
         }
@@ -72,7 +76,8 @@ public class UserCouchbaseDAO extends CouchbaseDAO implements IUserEntityDAO {
                         .put("lastName", lastName)
                         .put("email", emailAddress)
         );
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getExistingUsers",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
         return queryResult.rowsAs(User.class);
     }
 
@@ -83,7 +88,8 @@ public class UserCouchbaseDAO extends CouchbaseDAO implements IUserEntityDAO {
                 JsonObject.create().put("email", emailAddress)
         );
 
-        QueryResult queryResult = this.getCouchbaseCluster().query(query, queryOptions);
+        QueryResult queryResult = timeQuery("getUserByEmailAddress",
+                () -> this.getCouchbaseCluster().query(query, queryOptions));
 
         List<User> users = queryResult.rowsAs(User.class);
         if (users.size() == 1) {
@@ -5,6 +5,7 @@ import com.footballstatsdashboard.db.IAuthTokenEntityDAO;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindPojo;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
@@ -13,13 +14,13 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class AuthTokenJdbiDAO implements IAuthTokenEntityDAO {
     private final IAuthTokenDAO authTokenDAO;
 
     public AuthTokenJdbiDAO(Jdbi jdbi) {
         this.authTokenDAO = jdbi.onDemand(IAuthTokenDAO.class);
-        this.authTokenDAO.createTable();
     }
 
     public void insertEntity(AuthToken entity) {
@@ -50,13 +51,13 @@ public class AuthTokenJdbiDAO implements IAuthTokenEntityDAO {
         return Optional.empty();
     }
 
-    private interface IAuthTokenDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS authToken (id VARCHAR PRIMARY KEY, userId VARCHAR," +
-                        " lastAccessUTC TIMESTAMP, FOREIGN KEY (userId) REFERENCES user (id))"
-        )
-        void createTable();
+    public void updateLastAccessTimes(List<AuthToken> authTokens) {
+        this.authTokenDAO.updateAll(
+                authTokens.stream().map(authToken -> authToken.getId().toString()).collect(Collectors.toList()),
+                authTokens.stream().map(AuthToken::getLastAccessUTC).collect(Collectors.toList()));
+    }
 
+    private interface IAuthTokenDAO {
         @SqlUpdate("INSERT INTO authToken (id, userId, lastAccessUTC) values (:id, :userId, :lastAccessUTC)")
         void insert(@BindPojo AuthToken authToken);
 
@@ -66,6 +67,9 @@ public class AuthTokenJdbiDAO implements IAuthTokenEntityDAO {
         @SqlUpdate("UPDATE authToken SET lastAccessUTC = :lastAccessUTC WHERE id = :id")
         void update(@Bind("id") String existingAuthTokenId, @Bind("lastAccessUTC") Instant updatedLastAccessUTC);
 
+        @SqlBatch("UPDATE authToken SET lastAccessUTC = :lastAccessUTC WHERE id = :id")
+        void updateAll(@Bind("id") List<String> authTokenIds, @Bind("lastAccessUTC") List<Instant> lastAccessTimes);
+
         @SqlUpdate("DELETE FROM authToken where id = :id")
         void delete(@Bind("id") String authTokenId);
 
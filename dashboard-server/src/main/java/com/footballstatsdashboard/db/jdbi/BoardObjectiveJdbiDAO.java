@@ -19,7 +19,6 @@ public class BoardObjectiveJdbiDAO implements IBoardObjectiveEntityDAO {
 
     public BoardObjectiveJdbiDAO(Jdbi jdbi) {
         this.boardObjectivesDAO = jdbi.onDemand(IBoardObjectivesDAO.class);
-        this.boardObjectivesDAO.createTable();
     }
 
     @Override
@@ -67,13 +66,6 @@ public class BoardObjectiveJdbiDAO implements IBoardObjectiveEntityDAO {
     }
 
     private interface IBoardObjectivesDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS boardObjectives (id VARCHAR PRIMARY KEY, clubId VARCHAR, title VARCHAR," +
-                        " description VARCHAR, isCompleted BIT, createdDate DATE, lastModifiedDate DATE," +
-                        " createdBy VARCHAR, type VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id))"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO boardObjectives (id, clubId, title, description, isCompleted, createdDate," +
                         " lastModifiedDate, createdBy, type)" +
@@ -7,18 +7,20 @@ import com.footballstatsdashboard.api.model.club.Expenditure;
 import com.footballstatsdashboard.api.model.club.ImmutableExpenditure;
 import com.footballstatsdashboard.api.model.club.ImmutableIncome;
 import com.footballstatsdashboard.api.model.club.ImmutableManagerFunds;
-import com.footballstatsdashboard.api.model.club.ImmutableSquadPlayer;
 import com.footballstatsdashboard.api.model.club.Income;
 import com.footballstatsdashboard.api.model.club.ManagerFunds;
 import com.footballstatsdashboard.api.model.club.SquadPlayer;
 import com.footballstatsdashboard.db.IClubEntityDAO;
+import com.footballstatsdashboard.db.jdbi.rowmappers.SquadPlayerReducer;
 import com.footballstatsdashboard.db.jdbi.rowmappers.SquadPlayerRowMapper;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindPojo;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import javax.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
@@ -26,63 +28,72 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
 public class ClubJdbiDAO implements IClubEntityDAO {
+    private static final int MATCH_LIMIT_FOR_FORM = 5;
+
+    private final Jdbi jdbi;
     private final IClubDAO clubDAO;
-    private final IManagerFundsHistoryDAO managerFundsHistoryDAO;
-    private final IIncomeHistoryDAO incomeHistoryDAO;
-    private final IExpenditureHistoryDAO expenditureHistoryDAO;
     public ClubJdbiDAO(Jdbi jdbi) {
+        this.jdbi = jdbi;
         this.clubDAO = jdbi.onDemand(IClubDAO.class);
-        this.clubDAO.createTable();
-
-        this.managerFundsHistoryDAO = jdbi.onDemand(IManagerFundsHistoryDAO.class);
-        this.managerFundsHistoryDAO.createTable();
-
-        this.incomeHistoryDAO = jdbi.onDemand(IIncomeHistoryDAO.class);
-        this.incomeHistoryDAO.createTable();
-
-        this.expenditureHistoryDAO = jdbi.onDemand(IExpenditureHistoryDAO.class);
-        this.expenditureHistoryDAO.createTable();
     }
 
     @Override
     public void insertEntity(Club entity) {
-        this.clubDAO.insert(entity);
-
         Instant createdAt = Instant.now();
-        this.managerFundsHistoryDAO.insert(UUID.randomUUID().toString(), entity.getManagerFunds().getCurrent(),
-                entity.getId().toString(), createdAt);
-        this.incomeHistoryDAO.insert(UUID.randomUUID().toString(), entity.getIncome().getCurrent(),
-                entity.getId().toString(), createdAt);
-        this.expenditureHistoryDAO.insert(UUID.randomUUID().toString(), entity.getExpenditure().getCurrent(),
-                entity.getId().toString(), createdAt);
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IClubDAO.class).insert(entity);
+
+            handle.attach(IManagerFundsHistoryDAO.class).insert(UUID.randomUUID().toString(),
+                    entity.getManagerFunds().getCurrent(), entity.getId().toString(), createdAt);
+            handle.attach(IIncomeHistoryDAO.class).insert(UUID.randomUUID().toString(),
+                    entity.getIncome().getCurrent(), entity.getId().toString(), createdAt);
+            handle.attach(IExpenditureHistoryDAO.class).insert(UUID.randomUUID().toString(),
+                    entity.getExpenditure().getCurrent(), entity.getId().toString(), createdAt);
+        });
     }
 
     @Override
     public Club getEntity(UUID entityId) throws EntityNotFoundException {
         return this.clubDAO.findById(entityId.toString())
-                .map(this::buildClubEntity)
+                .map(baseClubEntity -> this.jdbi.withHandle(handle -> buildClubEntity(handle, baseClubEntity)))
                 .orElseThrow(EntityNotFoundException::new);
     }
 
     @Override
     public void updateEntity(UUID existingEntityId, Club updatedEntity) {
-        this.clubDAO.update(existingEntityId.toString(), updatedEntity);
+        this.jdbi.useTransaction(handle -> update(handle, existingEntityId.toString(), updatedEntity));
+    }
 
-        // income and expenditure are updated separately; not part of the club entity update logic.
-        Instant createdAt = Instant.now();
-        this.managerFundsHistoryDAO.insert(UUID.randomUUID().toString(), updatedEntity.getManagerFunds().getCurrent(),
-                existingEntityId.toString(), createdAt);
+    @Override
+    public Club modifyEntity(UUID existingEntityId, UnaryOperator<Club> modification) {
+        String clubId = existingEntityId.toString();
+
+        // the club is locked until the modified club has been written, so that concurrent modifications of it are
+        // applied one after the other instead of being computed against the same club
+        return this.jdbi.inTransaction(handle -> {
+            IClubDAO transactionalClubDAO = handle.attach(IClubDAO.class);
+            transactionalClubDAO.lockById(clubId).orElseThrow(EntityNotFoundException::new);
+            Club existingEntity = transactionalClubDAO.findById(clubId)
+                    .map(baseClubEntity -> buildClubEntity(handle, baseClubEntity))
+                    .orElseThrow(EntityNotFoundException::new);
+
+            Club updatedEntity = modification.apply(existingEntity);
+            update(handle, clubId, updatedEntity);
+            return updatedEntity;
+        });
     }
 
     @Override
     public void deleteEntity(UUID entityId) throws EntityNotFoundException {
-        this.managerFundsHistoryDAO.delete(entityId.toString());
-        this.incomeHistoryDAO.delete(entityId.toString());
-        this.expenditureHistoryDAO.delete(entityId.toString());
-        this.clubDAO.delete(entityId.toString());
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IManagerFundsHistoryDAO.class).delete(entityId.toString());
+            handle.attach(IIncomeHistoryDAO.class).delete(entityId.toString());
+            handle.attach(IExpenditureHistoryDAO.class).delete(entityId.toString());
+            handle.attach(IClubDAO.class).delete(entityId.toString());
+        });
     }
 
     @Override
@@ -104,28 +115,30 @@ public class ClubJdbiDAO implements IClubEntityDAO {
     }
 
     public List<SquadPlayer> getPlayersInClub(UUID clubId) {
-        List<SquadPlayer> baseSquadPlayerEntities = this.clubDAO.getPlayersForClub(clubId.toString());
-        if (baseSquadPlayerEntities == null) {
+        // the recent form of every player in the squad is fetched along with the squad itself in a single query
+        List<SquadPlayer> squadPlayers = this.clubDAO.getPlayersWithRecentFormForClub(clubId.toString(),
+                MATCH_LIMIT_FOR_FORM);
+        if (squadPlayers == null) {
             throw new EntityNotFoundException();
         }
-        return baseSquadPlayerEntities.stream()
-                .map(squadPlayer -> {
-                    List<Float> recentForm = this.clubDAO.getRecentFormForPlayer(squadPlayer.getPlayerId().toString());
-                    return ImmutableSquadPlayer.builder()
-                            .from(squadPlayer)
-                            .recentForm(recentForm)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return squadPlayers;
     }
 
-    private ImmutableClub buildClubEntity(Club baseClubEntity) {
-        List<BigDecimal> managerFundsHistory =
-                this.managerFundsHistoryDAO.getManagerFundsHistoryForClub(baseClubEntity.getId().toString());
-        List<BigDecimal> incomeHistory =
-                this.incomeHistoryDAO.getIncomeHistoryForClub(baseClubEntity.getId().toString());
-        List<BigDecimal> expenditureHistory =
-                this.expenditureHistoryDAO.getExpenditureHistoryForClub(baseClubEntity.getId().toString());
+    private static void update(Handle handle, String clubId, Club updatedEntity) {
+        // income and expenditure are updated separately; not part of the club entity update logic.
+        Instant createdAt = Instant.now();
+        handle.attach(IClubDAO.class).update(clubId, updatedEntity);
+        handle.attach(IManagerFundsHistoryDAO.class).insert(UUID.randomUUID().toString(),
+                updatedEntity.getManagerFunds().getCurrent(), clubId, createdAt);
+    }
+
+    private static ImmutableClub buildClubEntity(Handle handle, Club baseClubEntity) {
+        List<BigDecimal> managerFundsHistory = handle.attach(IManagerFundsHistoryDAO.class)
+                .getManagerFundsHistoryForClub(baseClubEntity.getId().toString());
+        List<BigDecimal> incomeHistory = handle.attach(IIncomeHistoryDAO.class)
+                .getIncomeHistoryForClub(baseClubEntity.getId().toString());
+        List<BigDecimal> expenditureHistory = handle.attach(IExpenditureHistoryDAO.class)
+                .getExpenditureHistoryForClub(baseClubEntity.getId().toString());
         ManagerFunds managerFunds = ImmutableManagerFunds.builder()
                 .from(baseClubEntity.getManagerFunds())
                 .history(managerFundsHistory)
@@ -149,53 +162,49 @@ public class ClubJdbiDAO implements IClubEntityDAO {
     private interface IClubDAO {
 
         @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS club (id VARCHAR PRIMARY KEY, name VARCHAR, logo VARCHAR," +
-                        " transferBudget BIGINT, wageBudget BIGINT, userId VARCHAR," +
-                        " createdDate DATE, lastModifiedDate DATE, createdBy VARCHAR, type VARCHAR," +
-                        " FOREIGN KEY (userId) REFERENCES user (id))"
-        )
-        void createTable();
-
-        @SqlUpdate(
-                "INSERT INTO club (id, name, logo, transferBudget, wageBudget, userId, createdDate," +
+                "INSERT INTO club (id, name, logo, transferBudget, wageBudget, managerFunds, userId, createdDate," +
                         " lastModifiedDate, createdBy, type)" +
-                        "VALUES (:id, :name, :logo, :transferBudget, :wageBudget, :userId," +
+                        "VALUES (:id, :name, :logo, :transferBudget, :wageBudget, :managerFunds.current, :userId," +
                         " :createdDate, :lastModifiedDate, :createdBy, :type)"
         )
         void insert(@BindPojo Club newClub);
 
-        @SqlQuery("SELECT TOP 1 c.id, name, logo, transferBudget, wageBudget, managerFunds AS managerFunds_current," +
-                " userId, createdDate, lastModifiedDate, createdBy" +
-                " FROM club c LEFT JOIN managerFundsHistory mfh ON c.id = mfh.clubId WHERE c.id = :id")
+        @SqlQuery("SELECT id, name, logo, transferBudget, wageBudget, managerFunds AS managerFunds_current," +
+                " userId, createdDate, lastModifiedDate, createdBy FROM club WHERE id = :id")
         Optional<Club> findById(@Bind("id") String clubId);
 
+        @SqlQuery("SELECT id FROM club WHERE id = :id FOR UPDATE")
+        Optional<String> lockById(@Bind("id") String clubId);
+
         @SqlQuery("SELECT id AS clubId, name, logo, createdDate FROM club WHERE userId = :userId")
         List<ClubSummary> findClubsByUserId(@Bind("userId") String userId);
 
         @SqlQuery("SELECT userId FROM club WHERE id = :clubId")
         Optional<String> findUserIdAssociatedWithClub(@Bind("clubId") String clubId);
 
+        // the squad is joined with the match performances of its players in one pass, ranking the match performances
+        // of each player by recency so that only the current rating of the most recent match performances is kept
         @SqlQuery(
-                "SELECT p.id, pm.name, pm.country, pm.countryLogo as countryFlag," +
-                        " (SELECT TOP 1 name FROM playerRole pr WHERE pr.playerId = p.id) as role," +
-                        " (SELECT ability FROM playerAbilityHistory pah WHERE pah.playerId = p.id" +
-                        " ORDER BY pah.createdAt DESC LIMIT 1) as currentAbility," +
+                "SELECT squad.id, squad.name, squad.country, squad.countryFlag, squad.currentAbility," +
+                        " squad.matchRating," +
+                        " (SELECT TOP 1 name FROM playerRole pr WHERE pr.playerId = squad.id) AS role" +
+                        " FROM (SELECT p.id, pm.name, pm.country, pm.countryLogo AS countryFlag, p.currentAbility," +
+                        " mp.currentMatchRating AS matchRating," +
+                        " ROW_NUMBER() OVER (PARTITION BY p.id ORDER BY mp.createdDate DESC, mp.id) AS formRank" +
                         " FROM player p LEFT JOIN playerMetadata pm ON p.id = pm.playerId" +
-                        " WHERE p.clubId = :clubId"
+                        " LEFT JOIN matchPerformance mp ON mp.playerId = p.id" +
+                        " WHERE p.clubId = :clubId) squad" +
+                        " WHERE squad.formRank <= :matchLimit ORDER BY squad.id, squad.formRank"
         )
         @RegisterRowMapper(SquadPlayerRowMapper.class)
-        List<SquadPlayer> getPlayersForClub(@Bind("clubId") String clubId);
-
-        @SqlQuery(
-                "SELECT (SELECT matchRating FROM matchRatingHistory mrh WHERE mrh.matchPerformanceId = mp.id" +
-                        " ORDER BY createdAt DESC LIMIT 1 ) as currentMatchRating FROM matchPerformance mp" +
-                        " WHERE mp.playerId = :playerId ORDER BY mp.createdDate DESC LIMIT 5"
-        )
-        List<Float> getRecentFormForPlayer(@Bind("playerId") String playerId);
+        @UseRowReducer(SquadPlayerReducer.class)
+        List<SquadPlayer> getPlayersWithRecentFormForClub(@Bind("clubId") String clubId,
+                                                          @Bind("matchLimit") int matchLimit);
 
         @SqlUpdate(
                 "UPDATE club SET name = :name, logo = :logo, transferBudget = :transferBudget," +
-                        " wageBudget = :wageBudget, lastModifiedDate = :lastModifiedDate WHERE id = :id"
+                        " wageBudget = :wageBudget, managerFunds = :managerFunds.current," +
+                        " lastModifiedDate = :lastModifiedDate WHERE id = :id"
         )
         void update(@Bind("id") String existingClubId, @BindPojo Club updatedClub);
 
@@ -204,12 +213,6 @@ public class ClubJdbiDAO implements IClubEntityDAO {
     }
 
     private interface IManagerFundsHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS managerFundsHistory (id VARCHAR PRIMARY KEY, managerFunds BIGINT," +
-                        " createdAt TIMESTAMP, clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id))"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO managerFundsHistory (id, managerFunds, clubId, createdAt)" +
                         " VALUES (:id, :managerFunds, :clubId, :createdAt)"
@@ -227,12 +230,6 @@ public class ClubJdbiDAO implements IClubEntityDAO {
     }
 
     private interface IIncomeHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS incomeHistory (id VARCHAR PRIMARY KEY, income BIGINT," +
-                        " createdAt TIMESTAMP, clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id))"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO incomeHistory (id, income, clubId, createdAt) VALUES (:id, :income, :clubId, :createdAt)"
         )
@@ -249,12 +246,6 @@ public class ClubJdbiDAO implements IClubEntityDAO {
     }
 
     private interface IExpenditureHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS expenditureHistory (id VARCHAR PRIMARY KEY, expenditure BIGINT," +
-                        " createdAt TIMESTAMP, clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id))"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT into expenditureHistory (id, expenditure, clubId, createdAt)" +
                         " VALUES (:id, :expenditure, :clubId, :createdAt)"
@@ -7,35 +7,97 @@ import com.footballstatsdashboard.api.model.matchPerformance.MatchRating;
 import com.footballstatsdashboard.db.IMatchPerformanceEntityDAO;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.BindPojo;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
+    private static final String ALREADY_EXISTS = "a match performance with the same id already exists";
+    private static final String PLAYER_DOES_NOT_EXIST = "player does not exist";
 
+    private final Jdbi jdbi;
     private final IMatchPerformanceDAO matchPerformanceDAO;
     private final IMatchRatingHistoryDAO matchRatingHistoryDAO;
     public MatchPerformanceJdbiDAO(Jdbi jdbi) {
+        this.jdbi = jdbi;
         this.matchPerformanceDAO = jdbi.onDemand(IMatchPerformanceDAO.class);
         this.matchRatingHistoryDAO = jdbi.onDemand(IMatchRatingHistoryDAO.class);
-
-        this.matchPerformanceDAO.createTable();
-        this.matchRatingHistoryDAO.createTable();
     }
 
     @Override
     public void insertEntity(MatchPerformance entity) {
-        this.matchPerformanceDAO.insert(entity);
-
         MatchRating matchRating = entity.getMatchRating();
-        this.matchRatingHistoryDAO.insert(UUID.randomUUID().toString(), matchRating.getCurrent(),
-                entity.getId().toString(), entity.getCompetitionId().toString(), Instant.now());
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IMatchPerformanceDAO.class).insert(entity);
+            handle.attach(IMatchRatingHistoryDAO.class).insert(UUID.randomUUID().toString(), matchRating.getCurrent(),
+                    entity.getId().toString(), entity.getCompetitionId().toString(), Instant.now());
+        });
+    }
+
+    @Override
+    public Map<UUID, String> insertEntities(List<MatchPerformance> entities) {
+        Instant createdAt = Instant.now();
+
+        // the match performances that already exist and the players that do not are looked up in the same transaction
+        // the others are inserted in, in one query each, so that a batch with any of them in it does not fail as a
+        // whole; apart from that there is one batch per table, so that the number of round trips does not depend on
+        // the number of entities and either all the remaining ones are inserted or none are
+        return this.jdbi.inTransaction(handle -> {
+            IMatchPerformanceDAO transactionalMatchPerformanceDAO = handle.attach(IMatchPerformanceDAO.class);
+            Set<String> existingIds = new HashSet<>(transactionalMatchPerformanceDAO.findExistingIds(entities.stream()
+                    .map(entity -> entity.getId().toString())
+                    .collect(Collectors.toList())));
+            Set<String> existingPlayerIds = new HashSet<>(transactionalMatchPerformanceDAO.findExistingPlayerIds(
+                    entities.stream()
+                            .map(entity -> entity.getPlayerId().toString())
+                            .distinct()
+                            .collect(Collectors.toList())));
+
+            Map<UUID, String> skippedEntities = new HashMap<>();
+            List<MatchPerformance> newEntities = new ArrayList<>();
+            for (MatchPerformance entity : entities) {
+                if (existingIds.contains(entity.getId().toString())) {
+                    skippedEntities.put(entity.getId(), ALREADY_EXISTS);
+                } else if (!existingPlayerIds.contains(entity.getPlayerId().toString())) {
+                    skippedEntities.put(entity.getId(), PLAYER_DOES_NOT_EXIST);
+                } else {
+                    newEntities.add(entity);
+                }
+            }
+
+            if (!newEntities.isEmpty()) {
+                transactionalMatchPerformanceDAO.insertAll(newEntities);
+                handle.attach(IMatchRatingHistoryDAO.class).insertAll(
+                        newEntities.stream()
+                                .map(entity -> UUID.randomUUID().toString())
+                                .collect(Collectors.toList()),
+                        newEntities.stream()
+                                .map(entity -> entity.getMatchRating().getCurrent())
+                                .collect(Collectors.toList()),
+                        newEntities.stream()
+                                .map(entity -> entity.getId().toString())
+                                .collect(Collectors.toList()),
+                        newEntities.stream()
+                                .map(entity -> entity.getCompetitionId().toString())
+                                .collect(Collectors.toList()),
+                        createdAt);
+            }
+
+            return skippedEntities;
+        });
     }
 
     @Override
@@ -58,17 +120,22 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
 
     @Override
     public void updateEntity(UUID existingEntityId, MatchPerformance updatedEntity) {
-        this.matchPerformanceDAO.update(existingEntityId.toString(), updatedEntity);
-
-        // TODO: 22/03/22 check if match rating has been updated and only then insert into history table
-        this.matchRatingHistoryDAO.insert(UUID.randomUUID().toString(), updatedEntity.getMatchRating().getCurrent(),
-                existingEntityId.toString(), updatedEntity.getCompetitionId().toString(), Instant.now());
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IMatchPerformanceDAO.class).update(existingEntityId.toString(), updatedEntity);
+
+            // TODO: 22/03/22 check if match rating has been updated and only then insert into history table
+            handle.attach(IMatchRatingHistoryDAO.class).insert(UUID.randomUUID().toString(),
+                    updatedEntity.getMatchRating().getCurrent(), existingEntityId.toString(),
+                    updatedEntity.getCompetitionId().toString(), Instant.now());
+        });
     }
 
     @Override
     public void deleteEntity(UUID entityId) throws EntityNotFoundException {
-        this.matchRatingHistoryDAO.delete(entityId.toString());
-        this.matchPerformanceDAO.delete(entityId.toString());
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IMatchRatingHistoryDAO.class).delete(entityId.toString());
+            handle.attach(IMatchPerformanceDAO.class).delete(entityId.toString());
+        });
     }
 
     @Override
@@ -92,29 +159,34 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
 
     private interface IMatchPerformanceDAO {
         @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS matchPerformance" +
-                        "(id VARCHAR PRIMARY KEY, playerId VARCHAR, competitionId VARCHAR, appearances INT," +
-                        " goals INT, penalties INT, assists INT, playerOfTheMatch INT, yellowCards INT, redCards INT," +
-                        " tackles INT, fouls INT, dribbles INT, passCompletionRate FLOAT, createdDate DATE," +
-                        " lastModifiedDate DATE, createdBy VARCHAR, type VARCHAR," +
-                        " FOREIGN KEY (playerId) REFERENCES player (id))"
+                "INSERT INTO matchPerformance (id, playerId, competitionId, appearances, goals, penalties, assists," +
+                        " playerOfTheMatch, yellowCards, redCards, tackles, fouls, dribbles, passCompletionRate," +
+                        " currentMatchRating, createdDate, lastModifiedDate, createdBy)" +
+                        " VALUES (:id, :playerId, :competitionId, :appearances, :goals, :penalties, :assists," +
+                        " :playerOfTheMatch, :yellowCards, :redCards, :tackles, :fouls, :dribbles," +
+                        " :passCompletionRate, :matchRating.current, :createdDate, :lastModifiedDate, :createdBy)"
         )
-        void createTable();
+        void insert(@BindPojo MatchPerformance matchPerformance);
 
-        @SqlUpdate(
+        @SqlBatch(
                 "INSERT INTO matchPerformance (id, playerId, competitionId, appearances, goals, penalties, assists," +
                         " playerOfTheMatch, yellowCards, redCards, tackles, fouls, dribbles, passCompletionRate," +
-                        " createdDate, lastModifiedDate, createdBy)" +
+                        " currentMatchRating, createdDate, lastModifiedDate, createdBy)" +
                         " VALUES (:id, :playerId, :competitionId, :appearances, :goals, :penalties, :assists," +
                         " :playerOfTheMatch, :yellowCards, :redCards, :tackles, :fouls, :dribbles," +
-                        " :passCompletionRate, :createdDate, :lastModifiedDate, :createdBy)"
+                        " :passCompletionRate, :matchRating.current, :createdDate, :lastModifiedDate, :createdBy)"
         )
-        void insert(@BindPojo MatchPerformance matchPerformance);
+        void insertAll(@BindPojo List<MatchPerformance> matchPerformances);
+
+        @SqlQuery("SELECT id FROM matchPerformance WHERE id IN (<ids>)")
+        List<String> findExistingIds(@BindList("ids") List<String> matchPerformanceIds);
+
+        @SqlQuery("SELECT id FROM player WHERE id IN (<playerIds>)")
+        List<String> findExistingPlayerIds(@BindList("playerIds") List<String> playerIds);
 
         @SqlQuery(
                 "SELECT mp.id, playerId, competitionId, appearances, goals, penalties, assists, playerOfTheMatch," +
-                        " (SELECT matchRating FROM matchRatingHistory mrh WHERE mrh.matchPerformanceId = mp.id" +
-                        " ORDER BY mrh.createdAt DESC LIMIT 1) as matchRating_current, yellowCards, redCards," +
+                        " currentMatchRating AS matchRating_current, yellowCards, redCards," +
                         " tackles, fouls, dribbles, passCompletionRate, createdDate, lastModifiedDate, createdBy" +
                         " FROM matchPerformance mp WHERE mp.id = :id"
         )
@@ -122,8 +194,7 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
 
         @SqlQuery(
                 "SELECT mp.id, playerId, competitionId, appearances, goals, penalties, assists, playerOfTheMatch," +
-                        " (SELECT matchRating FROM matchRatingHistory mrh WHERE mrh.matchPerformanceId = mp.id" +
-                        " ORDER BY mrh.createdAt DESC LIMIT 1) as matchRating_current, yellowCards, redCards," +
+                        " currentMatchRating AS matchRating_current, yellowCards, redCards," +
                         " tackles, fouls, dribbles, passCompletionRate, createdDate, lastModifiedDate, createdBy" +
                         " FROM matchPerformance mp WHERE mp.playerId = :playerId AND mp.competitionId = :competitionId"
         )
@@ -134,7 +205,8 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
         @SqlUpdate("UPDATE matchPerformance SET appearances = :appearances, goals = :goals, penalties = :penalties," +
                 " assists = :assists, playerOfTheMatch = :playerOfTheMatch, yellowCards = :yellowCards," +
                 " redCards = :redCards, tackles = :tackles, fouls = :fouls, dribbles = :dribbles," +
-                " passCompletionRate = :passCompletionRate, lastModifiedDate = :lastModifiedDate WHERE id = :id")
+                " passCompletionRate = :passCompletionRate, currentMatchRating = :matchRating.current," +
+                " lastModifiedDate = :lastModifiedDate WHERE id = :id")
         void update(@Bind("id") String existingMatchPerformanceId, @BindPojo MatchPerformance updatedMatchPerformance);
 
         @SqlUpdate("DELETE FROM matchPerformance WHERE id = :id")
@@ -142,13 +214,6 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
     }
 
     private interface IMatchRatingHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS matchRatingHistory (id VARCHAR PRIMARY KEY, matchRating FLOAT," +
-                        " matchPerformanceId VARCHAR, competitionId VARCHAR, createdAt TIMESTAMP," +
-                        " FOREIGN KEY (matchPerformanceId) REFERENCES matchPerformance (id)," +
-                        " FOREIGN KEY (competitionId) REFERENCES matchPerformance (competitionId))")
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO matchRatingHistory (id, matchRating, matchPerformanceId, competitionId, createdAt)" +
                         " VALUES (:id, :matchRating, :matchPerformanceId, :competitionId, :createdAt)")
@@ -159,6 +224,16 @@ public class MatchPerformanceJdbiDAO implements IMatchPerformanceEntityDAO {
                 @Bind("competitionId") String competitionId,
                 @Bind("createdAt") Instant created);
 
+        @SqlBatch(
+                "INSERT INTO matchRatingHistory (id, matchRating, matchPerformanceId, competitionId, createdAt)" +
+                        " VALUES (:id, :matchRating, :matchPerformanceId, :competitionId, :createdAt)")
+        void insertAll(
+                @Bind("id") List<String> matchRatingIds,
+                @Bind("matchRating") List<Float> matchRatings,
+                @Bind("matchPerformanceId") List<String> matchPerformanceIds,
+                @Bind("competitionId") List<String> competitionIds,
+                @Bind("createdAt") Instant createdAt);
+
         @SqlQuery(
                 "SELECT matchRating FROM matchRatingHistory WHERE matchPerformanceId = :matchPerformanceId" +
                         " ORDER BY createdAt DESC"
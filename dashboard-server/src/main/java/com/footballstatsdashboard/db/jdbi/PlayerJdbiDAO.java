@@ -5,18 +5,21 @@ import com.footballstatsdashboard.api.model.Player;
 import com.footballstatsdashboard.api.model.player.Ability;
 import com.footballstatsdashboard.api.model.player.Attribute;
 import com.footballstatsdashboard.api.model.player.ImmutableAbility;
-import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
 import com.footballstatsdashboard.api.model.player.Metadata;
 import com.footballstatsdashboard.api.model.player.Role;
 import com.footballstatsdashboard.db.IPlayerEntityDAO;
+import com.footballstatsdashboard.db.jdbi.rowmappers.PlayerAttributeHistoryReducer;
 import com.footballstatsdashboard.db.jdbi.rowmappers.PlayerRoleRowMapper;
 import com.footballstatsdashboard.db.jdbi.rowmappers.PlayerRowMapper;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindPojo;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import javax.persistence.EntityNotFoundException;
 import javax.persistence.NoResultException;
@@ -24,101 +27,96 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class PlayerJdbiDAO implements IPlayerEntityDAO {
+    private final Jdbi jdbi;
     private final IPlayerDAO playerDAO;
-    private final IPlayerMetadataDAO playerMetadataDAO;
-    private final IPlayerAbilityHistoryDAO playerAbilityHistoryDAO;
-    private final IPlayerRoleDAO playerRoleDAO;
-    private final IPlayerAttributeDAO playerAttributeDAO;
-    private final IPlayerAttributeHistoryDAO playerAttributeHistoryDAO;
 
     public PlayerJdbiDAO(Jdbi jdbi) {
+        this.jdbi = jdbi;
         this.playerDAO = jdbi.onDemand(IPlayerDAO.class);
-        this.playerDAO.createTable();
-
-        this.playerMetadataDAO = jdbi.onDemand(IPlayerMetadataDAO.class);
-        this.playerMetadataDAO.createTable();
-
-        this.playerAbilityHistoryDAO = jdbi.onDemand(IPlayerAbilityHistoryDAO.class);
-        this.playerAbilityHistoryDAO.createTable();
-
-        this.playerRoleDAO = jdbi.onDemand(IPlayerRoleDAO.class);
-        this.playerRoleDAO.createTable();
-
-        this.playerAttributeDAO = jdbi.onDemand(IPlayerAttributeDAO.class);
-        this.playerAttributeDAO.createTable();
-
-        this.playerAttributeHistoryDAO = jdbi.onDemand(IPlayerAttributeHistoryDAO.class);
-        this.playerAttributeHistoryDAO.createTable();
     }
 
     @Override
     public void insertEntity(Player entity) {
-        this.playerDAO.insert(entity);
-        this.playerMetadataDAO.insert(entity.getMetadata(), entity.getId().toString());
-
+        String playerId = entity.getId().toString();
         Instant createdAt = Instant.now();
-        this.playerAbilityHistoryDAO.insert(UUID.randomUUID().toString(), entity.getId().toString(),
-                entity.getAbility().getCurrent(), createdAt);
-
-        entity.getRoles().forEach(role -> {
-            String associatedAttributes = String.join(",", role.getAssociatedAttributes());
-            this.playerRoleDAO.insert(UUID.randomUUID().toString(), entity.getId().toString(), role.getName(),
-                    associatedAttributes);
-        });
 
-        entity.getAttributes().forEach(attribute -> {
-            String attributeId = UUID.randomUUID().toString();
-            this.playerAttributeDAO.insert(attributeId, entity.getId().toString(), attribute.getName(),
-                    attribute.getCategory().toString(), attribute.getGroup().toString());
-            // first entry in the history table for the given attribute
-            this.playerAttributeHistoryDAO.insert(UUID.randomUUID().toString(), attribute.getName(),
-                    attribute.getValue(), createdAt);
+        // write the whole aggregate in a single transaction over one connection, batching the rows for the roles,
+        // attributes and their history so that the number of round trips does not depend on the size of the player
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IPlayerDAO.class).insert(entity);
+            handle.attach(IPlayerMetadataDAO.class).insert(entity.getMetadata(), playerId);
+            handle.attach(IPlayerAbilityHistoryDAO.class).insert(UUID.randomUUID().toString(), playerId,
+                    entity.getAbility().getCurrent(), createdAt);
+
+            insertRoles(handle, playerId, entity.getRoles());
+
+            List<Attribute> attributes = entity.getAttributes();
+            if (!attributes.isEmpty()) {
+                handle.attach(IPlayerAttributeDAO.class).insertAll(
+                        generateIds(attributes.size()),
+                        playerId,
+                        attributes.stream().map(Attribute::getName).collect(Collectors.toList()),
+                        attributes.stream().map(attribute -> attribute.getCategory().toString())
+                                .collect(Collectors.toList()),
+                        attributes.stream().map(attribute -> attribute.getGroup().toString())
+                                .collect(Collectors.toList()),
+                        attributes.stream().map(Attribute::getValue).collect(Collectors.toList()));
+                // first entry in the history table for each of the attributes
+                insertAttributeHistory(handle, playerId, attributes, createdAt);
+            }
         });
     }
 
     @Override
     public Player getEntity(UUID entityId) throws EntityNotFoundException {
-        return this.playerDAO.findById(entityId.toString())
-                .map(this::buildPlayerEntity)
+        // hydrate the whole player aggregate on a single handle, so that it takes a fixed number of queries over one
+        // connection irrespective of the number of attributes being tracked for the player
+        return this.jdbi.withHandle(handle -> handle.attach(IPlayerDAO.class)
+                        .findById(entityId.toString())
+                        .map(basePlayerEntity -> buildPlayerEntity(handle, basePlayerEntity)))
                 .orElseThrow(EntityNotFoundException::new);
     }
 
     @Override
     public void updateEntity(UUID existingEntityId, Player updatedEntity) {
-        this.playerDAO.update(existingEntityId.toString(), updatedEntity);
-        this.playerMetadataDAO.update(existingEntityId.toString(), updatedEntity.getMetadata());
-
-        Instant createdAt = Instant.now();
-        this.playerAbilityHistoryDAO.insert(UUID.randomUUID().toString(), existingEntityId.toString(),
-                updatedEntity.getAbility().getCurrent(), createdAt);
-
-        // roles is a list of roles associated with the player; best option is to delete existing roles and insert the
-        // roles again for the updated player entity
-        this.playerRoleDAO.delete(existingEntityId.toString());
-        updatedEntity.getRoles().forEach(role -> {
-            String associatedAttributes = String.join(",", role.getAssociatedAttributes());
-            this.playerRoleDAO.insert(UUID.randomUUID().toString(), existingEntityId.toString(), role.getName(),
-                    associatedAttributes);
-        });
+        this.jdbi.useTransaction(handle -> update(handle, existingEntityId.toString(), updatedEntity));
+    }
 
-        updatedEntity.getAttributes().forEach(updatedAttribute -> {
-            // to keep things simple, assume only attribute value changes so just add a row in the history table
-            this.playerAttributeHistoryDAO.insert(UUID.randomUUID().toString(), updatedAttribute.getName(),
-                    updatedAttribute.getValue(), createdAt);
+    @Override
+    public Player modifyEntity(UUID existingEntityId, UnaryOperator<Player> modification) {
+        String playerId = existingEntityId.toString();
+
+        // the player is locked until the modified player has been written, so that concurrent modifications of it are
+        // applied one after the other instead of being computed against the same player
+        return this.jdbi.inTransaction(handle -> {
+            IPlayerDAO transactionalPlayerDAO = handle.attach(IPlayerDAO.class);
+            transactionalPlayerDAO.lockById(playerId).orElseThrow(EntityNotFoundException::new);
+            Player existingEntity = transactionalPlayerDAO.findById(playerId)
+                    .map(basePlayerEntity -> buildPlayerEntity(handle, basePlayerEntity))
+                    .orElseThrow(EntityNotFoundException::new);
+
+            Player updatedEntity = modification.apply(existingEntity);
+            update(handle, playerId, updatedEntity);
+            return updatedEntity;
         });
     }
 
     @Override
     public void deleteEntity(UUID entityId) throws EntityNotFoundException {
-        this.playerMetadataDAO.delete(entityId.toString());
-        this.playerAbilityHistoryDAO.delete(entityId.toString());
-        this.playerRoleDAO.delete(entityId.toString());
-        this.playerAttributeHistoryDAO.delete(entityId.toString());
-        this.playerAttributeDAO.delete(entityId.toString());
-        this.playerDAO.delete(entityId.toString());
+        String playerId = entityId.toString();
+        this.jdbi.useTransaction(handle -> {
+            handle.attach(IPlayerMetadataDAO.class).delete(playerId);
+            handle.attach(IPlayerAbilityHistoryDAO.class).delete(playerId);
+            handle.attach(IPlayerRoleDAO.class).delete(playerId);
+            handle.attach(IPlayerAttributeHistoryDAO.class).delete(playerId);
+            handle.attach(IPlayerAttributeDAO.class).delete(playerId);
+            handle.attach(IPlayerDAO.class).delete(playerId);
+        });
     }
 
     @Override
@@ -133,27 +131,72 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
         return this.playerDAO.findById(entityId.toString()).isPresent();
     }
 
-    private ImmutablePlayer buildPlayerEntity(Player basePlayerEntity) {
-        List<Integer> abilityHistory =
-                this.playerAbilityHistoryDAO.getAbilityHistoryForPlayer(basePlayerEntity.getId().toString());
+    private static void update(Handle handle, String playerId, Player updatedEntity) {
+        Instant createdAt = Instant.now();
+
+        handle.attach(IPlayerDAO.class).update(playerId, updatedEntity);
+        handle.attach(IPlayerMetadataDAO.class).update(playerId, updatedEntity.getMetadata());
+        handle.attach(IPlayerAbilityHistoryDAO.class).insert(UUID.randomUUID().toString(), playerId,
+                updatedEntity.getAbility().getCurrent(), createdAt);
+
+        // roles is a list of roles associated with the player; best option is to delete existing roles and insert
+        // the roles again for the updated player entity
+        handle.attach(IPlayerRoleDAO.class).delete(playerId);
+        insertRoles(handle, playerId, updatedEntity.getRoles());
+
+        // to keep things simple, assume only attribute value changes so just add a row in the history table and
+        // bring the current value of the attribute in line with it
+        List<Attribute> updatedAttributes = updatedEntity.getAttributes();
+        if (!updatedAttributes.isEmpty()) {
+            insertAttributeHistory(handle, playerId, updatedAttributes, createdAt);
+            handle.attach(IPlayerAttributeDAO.class).updateCurrentValues(
+                    playerId,
+                    updatedAttributes.stream().map(Attribute::getName).collect(Collectors.toList()),
+                    updatedAttributes.stream().map(Attribute::getValue).collect(Collectors.toList()));
+        }
+    }
+
+    private static void insertRoles(Handle handle, String playerId, List<Role> roles) {
+        if (roles.isEmpty()) return;
+        handle.attach(IPlayerRoleDAO.class).insertAll(
+                generateIds(roles.size()),
+                playerId,
+                roles.stream().map(Role::getName).collect(Collectors.toList()),
+                roles.stream().map(role -> String.join(",", role.getAssociatedAttributes()))
+                        .collect(Collectors.toList()));
+    }
+
+    private static void insertAttributeHistory(Handle handle, String playerId, List<Attribute> attributes,
+                                               Instant createdAt) {
+        handle.attach(IPlayerAttributeHistoryDAO.class).insertAll(
+                generateIds(attributes.size()),
+                playerId,
+                attributes.stream().map(Attribute::getName).collect(Collectors.toList()),
+                attributes.stream().map(Attribute::getValue).collect(Collectors.toList()),
+                createdAt);
+    }
+
+    private static List<String> generateIds(int numberOfIds) {
+        return Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(numberOfIds)
+                .collect(Collectors.toList());
+    }
+
+    private ImmutablePlayer buildPlayerEntity(Handle handle, Player basePlayerEntity) {
+        String playerId = basePlayerEntity.getId().toString();
+
+        List<Integer> abilityHistory = handle.attach(IPlayerAbilityHistoryDAO.class)
+                .getAbilityHistoryForPlayer(playerId);
         Ability playerAbility = ImmutableAbility.builder()
-                // the history is sorted so the latest value is first
-                .current(abilityHistory.get(0))
+                .from(basePlayerEntity.getAbility())
                 .history(abilityHistory)
                 .build();
 
-        List<Role> playerRoles = this.playerRoleDAO.getRolesForPlayer(basePlayerEntity.getId().toString());
+        List<Role> playerRoles = handle.attach(IPlayerRoleDAO.class).getRolesForPlayer(playerId);
 
-        List<Attribute> attributes =
-                this.playerAttributeDAO.getAttributesForPlayer(basePlayerEntity.getId().toString()).stream()
-                        .map(attribute -> {
-                            List<Integer> attributeHistory = this.playerAttributeHistoryDAO
-                                    .getHistoryForAttributeByName(attribute.getName());
-                            return ImmutableAttribute.builder()
-                                    .from(attribute)
-                                    .history(attributeHistory)
-                                    .build();
-                        }).collect(Collectors.toList());
+        // attributes are fetched along with their entire history in one go and folded into attribute entities
+        List<Attribute> attributes = handle.attach(IPlayerAttributeDAO.class)
+                .getAttributesWithHistoryForPlayer(playerId);
 
         return ImmutablePlayer.builder()
                 .from(basePlayerEntity)
@@ -165,28 +208,29 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
 
     private interface IPlayerDAO {
         @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS player (id VARCHAR PRIMARY KEY, clubId VARCHAR, createdDate DATE," +
-                        " lastModifiedDate DATE, createdBy VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id))")
-        void createTable();
-
-        @SqlUpdate(
-                "INSERT INTO player (id, clubId, createdDate, lastModifiedDate, createdBy)" +
-                        " VALUES (:id, :clubId, :createdDate, :lastModifiedDate, :createdBy)"
+                "INSERT INTO player (id, clubId, currentAbility, createdDate, lastModifiedDate, createdBy)" +
+                        " VALUES (:id, :clubId, :ability.current, :createdDate, :lastModifiedDate, :createdBy)"
         )
         void insert(@BindPojo Player player);
 
         @SqlQuery(
-                "SELECT p.id, name, club, country, photo, clubLogo, countryLogo, age, clubId, createdBy, createdDate," +
-                        " lastModifiedDate FROM player p LEFT JOIN playerMetadata pm ON p.id = pm.playerId" +
-                        " WHERE p.id = :id"
+                "SELECT p.id, name, club, country, photo, clubLogo, countryLogo, age, clubId, currentAbility," +
+                        " createdBy, createdDate, lastModifiedDate" +
+                        " FROM player p LEFT JOIN playerMetadata pm ON p.id = pm.playerId WHERE p.id = :id"
         )
         @RegisterRowMapper(PlayerRowMapper.class)
         Optional<Player> findById(@Bind("id") String playerId);
 
+        @SqlQuery("SELECT id FROM player WHERE id = :id FOR UPDATE")
+        Optional<String> lockById(@Bind("id") String playerId);
+
         @SqlQuery("SELECT c.userId FROM player p LEFT JOIN club c ON p.clubId = c.id WHERE p.id = :playerId")
         Optional<String> findUserIdAssociatedWithPlayer(@Bind("playerId") String playerId);
 
-        @SqlUpdate("UPDATE player SET lastModifiedDate = :lastModifiedDate, createdBy = :createdBy WHERE id = :id")
+        @SqlUpdate(
+                "UPDATE player SET currentAbility = :ability.current, lastModifiedDate = :lastModifiedDate," +
+                        " createdBy = :createdBy WHERE id = :id"
+        )
         void update(@Bind("id") String existingPlayerId, @BindPojo Player updatedPlayer);
 
         @SqlUpdate("DELETE FROM player WHERE id = :id")
@@ -194,13 +238,6 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
     }
 
     private interface IPlayerMetadataDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS playerMetadata (id VARCHAR PRIMARY KEY AUTO_INCREMENT, playerId VARCHAR," +
-                        " name VARCHAR, club VARCHAR, country VARCHAR, photo VARCHAR, clubLogo VARCHAR," +
-                        " countryLogo VARCHAR, age INT, FOREIGN KEY (playerId) REFERENCES player (id))"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO playerMetadata (playerId, name, club, country, photo, clubLogo, countryLogo, age)" +
                         " VALUES (:playerId, :name, :club, :country, :photo, :clubLogo, :countryLogo, :age)"
@@ -217,11 +254,6 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
     }
 
     private interface IPlayerAbilityHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS playerAbilityHistory (id VARCHAR PRIMARY KEY, playerId VARCHAR," +
-                        " ability INT, createdAt TIMESTAMP, FOREIGN KEY (playerId) REFERENCES player (id))")
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO playerAbilityHistory (id, playerId, ability, createdAt)" +
                         " VALUES (:id, :playerId, :ability, :createdAt)"
@@ -240,21 +272,15 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
     }
 
     private interface IPlayerRoleDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS playerRole (id VARCHAR PRIMARY KEY, playerId VARCHAR, name VARCHAR, " +
-                        " associatedAttributes VARCHAR, FOREIGN KEY (playerId) REFERENCES player (id))"
-        )
-        void createTable();
-
-        @SqlUpdate(
+        @SqlBatch(
                 "INSERT INTO playerRole (id, playerId, name, associatedAttributes)" +
                         " VALUES (:id, :playerId, :name, :associatedAttributes)"
         )
-        void insert(
-                @Bind("id") String roleId,
+        void insertAll(
+                @Bind("id") List<String> roleIds,
                 @Bind("playerId") String playerId,
-                @Bind("name") String roleName,
-                @Bind("associatedAttributes") String associatedAttributes);
+                @Bind("name") List<String> roleNames,
+                @Bind("associatedAttributes") List<String> associatedAttributes);
 
         @SqlQuery("SELECT name, associatedAttributes FROM playerRole WHERE playerId = :playerId")
         @RegisterRowMapper(PlayerRoleRowMapper.class)
@@ -265,28 +291,32 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
     }
 
     private interface IPlayerAttributeDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS playerAttribute (id VARCHAR PRIMARY KEY, playerId VARCHAR, name VARCHAR," +
-                        " category VARCHAR, \"group\" VARCHAR, FOREIGN KEY (playerId) REFERENCES player (id))"
-        )
-        void createTable();
+        @SqlBatch(
+                "INSERT INTO playerAttribute (id, playerId, name, category, \"group\", currentValue)" +
+                        " VALUES (:id, :playerId, :name, :category, :group, :currentValue)")
+        void insertAll(
+                @Bind("id") List<String> playerAttributeIds,
+                @Bind("playerId") String playerId,
+                @Bind("name") List<String> attributeNames,
+                @Bind("category") List<String> attributeCategories,
+                @Bind("group") List<String> attributeGroups,
+                @Bind("currentValue") List<Integer> currentValues);
 
-        @SqlUpdate(
-                "INSERT INTO playerAttribute (id, playerId, name, category, \"group\")" +
-                        " VALUES (:id, :playerId, :name, :category, :group)")
-        void insert(
-                @Bind("id") String playerAttributeId,
+        @SqlBatch("UPDATE playerAttribute SET currentValue = :currentValue WHERE playerId = :playerId AND name = :name")
+        void updateCurrentValues(
                 @Bind("playerId") String playerId,
-                @Bind("name") String attributeName,
-                @Bind("category") String attributeCategory,
-                @Bind("group") String attributeGroup);
+                @Bind("name") List<String> attributeNames,
+                @Bind("currentValue") List<Integer> currentValues);
 
         @SqlQuery(
-                "SELECT name, category, \"group\", (SELECT attributeValue FROM playerAttributeHistory pah" +
-                        " WHERE pah.attributeName = pa.name ORDER BY pah.createdAt DESC LIMIT 1) as value" +
-                        " FROM playerAttribute pa WHERE pa.playerId = :playerId"
+                "SELECT pa.name, pa.category, pa.\"group\", pa.currentValue, pah.attributeValue" +
+                        " FROM playerAttribute pa" +
+                        " LEFT JOIN playerAttributeHistory pah" +
+                        " ON pah.playerId = pa.playerId AND pah.attributeName = pa.name" +
+                        " WHERE pa.playerId = :playerId ORDER BY pa.name, pah.createdAt"
         )
-        List<Attribute> getAttributesForPlayer(@Bind("playerId") String playerId);
+        @UseRowReducer(PlayerAttributeHistoryReducer.class)
+        List<Attribute> getAttributesWithHistoryForPlayer(@Bind("playerId") String playerId);
 
         @SqlUpdate(
                 "UPDATE playerAttribute SET name = :name, category = :category, \"group\" = :group" +
@@ -303,30 +333,18 @@ public class PlayerJdbiDAO implements IPlayerEntityDAO {
     }
 
     private interface IPlayerAttributeHistoryDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS playerAttributeHistory (id VARCHAR PRIMARY KEY, attributeName VARCHAR," +
-                        " attributeValue INT, createdAt TIMESTAMP," +
-                        " FOREIGN KEY (attributeName) REFERENCES playerAttribute (name))"
+        @SqlBatch(
+                "INSERT INTO playerAttributeHistory (id, playerId, attributeName, attributeValue, createdAt)" +
+                        " VALUES (:id, :playerId, :attributeName, :attributeValue, :createdAt)"
         )
-        void createTable();
-
-        @SqlUpdate(
-                "INSERT INTO playerAttributeHistory (id, attributeName, attributeValue, createdAt)" +
-                        " VALUES (:id, :attributeName, :attributeValue, :createdAt)"
-        )
-        void insert(
-                @Bind("id") String id,
-                @Bind("attributeName") String attributeName,
-                @Bind("attributeValue") int attributeValue,
+        void insertAll(
+                @Bind("id") List<String> ids,
+                @Bind("playerId") String playerId,
+                @Bind("attributeName") List<String> attributeNames,
+                @Bind("attributeValue") List<Integer> attributeValues,
                 @Bind("createdAt") Instant createdAt);
 
-        @SqlQuery("SELECT attributeValue FROM playerAttributeHistory WHERE attributeName = :attributeName")
-        List<Integer> getHistoryForAttributeByName(@Bind("attributeName") String attributeName);
-
-        @SqlUpdate(
-                "DELETE FROM playerAttributeHistory WHERE attributeName IN" +
-                        " (SELECT name FROM playerAttribute WHERE playerId = :playerId)"
-        )
+        @SqlUpdate("DELETE FROM playerAttributeHistory WHERE playerId = :playerId")
         void delete(@Bind("playerId") String playerId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.codahale.metrics.MetricRegistry;
+import com.footballstatsdashboard.core.instrumentation.StatementCounter;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement under the SQL object method that issued it, e.g. {@code IClubDAO.findById}, so that the
+ * metrics show which DAO calls the time goes to, and counts it against the request it was issued for. Statements that
+ * are not issued through a SQL object are timed together. Whatever the logger it replaces does, e.g. the timing by
+ * statement of Dropwizard's instrumented logger, is still done.
+ */
+public class SqlObjectTimingLogger implements SqlLogger {
+    private final SqlLogger delegate;
+    private final MetricRegistry metricRegistry;
+
+    public SqlObjectTimingLogger(SqlLogger delegate, MetricRegistry metricRegistry) {
+        this.delegate = delegate;
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void logBeforeExecution(StatementContext context) {
+        this.delegate.logBeforeExecution(context);
+    }
+
+    @Override
+    public void logAfterExecution(StatementContext context) {
+        this.delegate.logAfterExecution(context);
+        record(context, context.getElapsedTime(ChronoUnit.NANOS));
+    }
+
+    @Override
+    public void logException(StatementContext context, SQLException exception) {
+        this.delegate.logException(context, exception);
+        record(context, Duration.between(context.getExecutionMoment(), context.getExceptionMoment()).toNanos());
+    }
+
+    /**
+     * name of the timer of the statement, i.e. the SQL object type and method it was issued by
+     */
+    static String getTimerName(StatementContext context) {
+        ExtensionMethod extensionMethod = context.getExtensionMethod();
+        if (extensionMethod == null) {
+            return MetricRegistry.name(SqlObjectTimingLogger.class, "unattached");
+        }
+        // the SQL objects are mostly nested in the DAO using them, e.g. ClubJdbiDAO.IClubDAO
+        Class<?> sqlObjectType = extensionMethod.getType();
+        String sqlObjectName = sqlObjectType.getCanonicalName() != null
+                ? sqlObjectType.getCanonicalName()
+                : sqlObjectType.getName();
+        return MetricRegistry.name(sqlObjectName, extensionMethod.getMethod().getName());
+    }
+
+    private void record(StatementContext context, long elapsedNanos) {
+        StatementCounter.recordStatement();
+        this.metricRegistry.timer(getTimerName(context)).update(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -18,7 +18,6 @@ public class UserJdbiDAO implements IUserEntityDAO {
 
     public UserJdbiDAO(Jdbi jdbi) {
         this.userDAO = jdbi.onDemand(IUserDAO.class);
-        this.userDAO.createTable();
     }
 
     public void insertEntity(User entity) {
@@ -59,13 +58,6 @@ public class UserJdbiDAO implements IUserEntityDAO {
     }
 
     private interface IUserDAO {
-        @SqlUpdate(
-                "CREATE TABLE IF NOT EXISTS user (id VARCHAR PRIMARY KEY, firstName VARCHAR(100)," +
-                        " lastName VARCHAR(100), email VARCHAR(100), password VARCHAR(100), createdBy VARCHAR (100)," +
-                        " createdDate DATE, lastModifiedDate DATE, role VARCHAR, type VARCHAR)"
-        )
-        void createTable();
-
         @SqlUpdate(
                 "INSERT INTO user" +
                     " (id, firstName, lastName, email, password, createdBy, createdDate, lastModifiedDate," +
@@ -0,0 +1,47 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+
+/**
+ * The match rating history used to declare its competition id as a foreign key to the competition id of the match
+ * performances. Since that column is not a key of the match performances, H2 backed the constraint with a unique index
+ * on it, allowing a single match performance per competition across all players. The rating history is already tied
+ * to its match performance through the match performance id, so drop the constraint along with the index backing it.
+ */
+public final class MatchRatingCompetitionConstraintMigration implements SchemaMigration {
+    private final int version;
+
+    public MatchRatingCompetitionConstraintMigration(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return "drop competition constraint on match rating history";
+    }
+
+    @Override
+    public void migrate(Handle handle) {
+        List<String> constraintNames = handle.attach(IConstraintDAO.class).findCompetitionConstraints();
+        // constraint names are generated by the database so they cannot be bound as parameters of a prepared statement
+        constraintNames.forEach(constraintName ->
+                handle.execute("ALTER TABLE matchRatingHistory DROP CONSTRAINT \"" + constraintName + "\""));
+    }
+
+    private interface IConstraintDAO {
+        @SqlQuery(
+                "SELECT CONSTRAINT_NAME FROM INFORMATION_SCHEMA.CONSTRAINTS WHERE TABLE_SCHEMA = SCHEMA()" +
+                        " AND TABLE_NAME = 'MATCHRATINGHISTORY' AND CONSTRAINT_TYPE = 'REFERENTIAL'" +
+                        " AND COLUMN_LIST = 'COMPETITIONID'"
+        )
+        List<String> findCompetitionConstraints();
+    }
+}
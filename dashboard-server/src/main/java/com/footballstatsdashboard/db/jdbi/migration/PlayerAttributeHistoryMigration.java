@@ -0,0 +1,68 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+/**
+ * The attribute history used to be keyed by the attribute name alone, which mixed up the history of every player
+ * tracking an attribute with the same name. Move any rows in that legacy layout over to the table keyed by player,
+ * attribute name and creation time, assigning each legacy row to the players that were being served it.
+ */
+public final class PlayerAttributeHistoryMigration implements SchemaMigration {
+    private final int version;
+
+    public PlayerAttributeHistoryMigration(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return "key player attribute history by player";
+    }
+
+    @Override
+    public void migrate(Handle handle) {
+        ILegacyAttributeHistoryDAO legacyAttributeHistoryDAO = handle.attach(ILegacyAttributeHistoryDAO.class);
+        if (legacyAttributeHistoryDAO.doesTableHavePlayerIdColumn()) return;
+
+        legacyAttributeHistoryDAO.renameToLegacyTable();
+        legacyAttributeHistoryDAO.createTable();
+        legacyAttributeHistoryDAO.copyFromLegacyTable();
+        legacyAttributeHistoryDAO.dropLegacyTable();
+    }
+
+    private interface ILegacyAttributeHistoryDAO {
+        @SqlQuery(
+                "SELECT COUNT(*) > 0 FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = SCHEMA()" +
+                        " AND TABLE_NAME = 'PLAYERATTRIBUTEHISTORY' AND COLUMN_NAME = 'PLAYERID'"
+        )
+        boolean doesTableHavePlayerIdColumn();
+
+        @SqlUpdate("ALTER TABLE playerAttributeHistory RENAME TO playerAttributeHistoryLegacy")
+        void renameToLegacyTable();
+
+        @SqlUpdate(
+                "CREATE TABLE playerAttributeHistory (id VARCHAR PRIMARY KEY, playerId VARCHAR," +
+                        " attributeName VARCHAR, attributeValue INT, createdAt TIMESTAMP," +
+                        " FOREIGN KEY (playerId) REFERENCES player (id))"
+        )
+        void createTable();
+
+        @SqlUpdate(
+                "INSERT INTO playerAttributeHistory (id, playerId, attributeName, attributeValue, createdAt)" +
+                        " SELECT CAST(RANDOM_UUID() AS VARCHAR), pa.playerId, pahl.attributeName," +
+                        " pahl.attributeValue, pahl.createdAt FROM playerAttributeHistoryLegacy pahl" +
+                        " INNER JOIN playerAttribute pa ON pa.name = pahl.attributeName"
+        )
+        void copyFromLegacyTable();
+
+        @SqlUpdate("DROP TABLE playerAttributeHistoryLegacy")
+        void dropLegacyTable();
+    }
+}
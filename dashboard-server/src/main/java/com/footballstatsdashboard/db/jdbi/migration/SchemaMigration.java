@@ -0,0 +1,15 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import org.jdbi.v3.core.Handle;
+
+/**
+ * A single, versioned change to the schema of the relational database. Migrations are applied in ascending order of
+ * their version and each of them is applied exactly once.
+ */
+public interface SchemaMigration {
+    int getVersion();
+
+    String getDescription();
+
+    void migrate(Handle handle);
+}
@@ -0,0 +1,106 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Brings the schema of the relational database up to date by applying, in order, every migration whose version has not
+ * been recorded in the schema_version table yet.
+ *
+ * The first migration creates the tables in their current shape only if they do not exist, so that databases created
+ * before migrations were versioned are picked up as is and brought up to date by the migrations that follow.
+ */
+public class SchemaMigrator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final int CREATE_TABLES_VERSION = 1;
+    private static final int PLAYER_ATTRIBUTE_HISTORY_VERSION = 2;
+    private static final int CURRENT_VALUE_COLUMNS_VERSION = 3;
+    private static final int MATCH_RATING_COMPETITION_CONSTRAINT_VERSION = 4;
+    private static final int LOOKUP_INDEXES_VERSION = 5;
+
+    private static final List<SchemaMigration> MIGRATIONS = List.of(
+            new SqlScriptMigration(CREATE_TABLES_VERSION, "create tables", "V1__create_tables.sql"),
+            new PlayerAttributeHistoryMigration(PLAYER_ATTRIBUTE_HISTORY_VERSION),
+            new SqlScriptMigration(CURRENT_VALUE_COLUMNS_VERSION, "keep current values on parent rows",
+                    "V3__add_current_value_columns.sql"),
+            new MatchRatingCompetitionConstraintMigration(MATCH_RATING_COMPETITION_CONSTRAINT_VERSION),
+            new SqlScriptMigration(LOOKUP_INDEXES_VERSION, "add lookup indexes", "V5__add_lookup_indexes.sql")
+    );
+
+    private final Jdbi jdbi;
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrator(Jdbi jdbi) {
+        this(jdbi, MIGRATIONS);
+    }
+
+    SchemaMigrator(Jdbi jdbi, List<SchemaMigration> migrations) {
+        long numberOfVersions = migrations.stream().map(SchemaMigration::getVersion).distinct().count();
+        if (numberOfVersions != migrations.size()) {
+            throw new IllegalArgumentException("Each schema migration must have a version of its own");
+        }
+
+        this.jdbi = jdbi;
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparingInt(SchemaMigration::getVersion))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * apply the migrations that are pending against the database, returning the number of migrations applied
+     */
+    public int migrate() {
+        Set<Integer> appliedVersions = this.jdbi.withHandle(handle -> {
+            ISchemaVersionDAO schemaVersionDAO = handle.attach(ISchemaVersionDAO.class);
+            schemaVersionDAO.createTable();
+            return schemaVersionDAO.getAppliedVersions();
+        });
+
+        List<SchemaMigration> pendingMigrations = this.migrations.stream()
+                .filter(migration -> !appliedVersions.contains(migration.getVersion()))
+                .collect(Collectors.toList());
+
+        // H2 commits implicitly on DDL statements, so the transaction only guarantees that a migration is recorded
+        // along with the data it changes; migrations are written so that re-running a partially applied one is safe
+        pendingMigrations.forEach(migration -> {
+            LOGGER.info("Applying schema migration V{}: {}", migration.getVersion(), migration.getDescription());
+            this.jdbi.useTransaction(handle -> {
+                migration.migrate(handle);
+                handle.attach(ISchemaVersionDAO.class)
+                        .insert(migration.getVersion(), migration.getDescription(), Instant.now());
+            });
+        });
+        return pendingMigrations.size();
+    }
+
+    private interface ISchemaVersionDAO {
+        @SqlUpdate(
+                "CREATE TABLE IF NOT EXISTS schema_version (version INT PRIMARY KEY, description VARCHAR," +
+                        " installedOn TIMESTAMP)"
+        )
+        void createTable();
+
+        @SqlQuery("SELECT version FROM schema_version")
+        Set<Integer> getAppliedVersions();
+
+        @SqlUpdate(
+                "INSERT INTO schema_version (version, description, installedOn)" +
+                        " VALUES (:version, :description, :installedOn)"
+        )
+        void insert(
+                @Bind("version") int version,
+                @Bind("description") String description,
+                @Bind("installedOn") Instant installedOn);
+    }
+}
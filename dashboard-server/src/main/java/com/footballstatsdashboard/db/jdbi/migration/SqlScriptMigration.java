@@ -0,0 +1,48 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import com.google.common.io.Resources;
+import org.jdbi.v3.core.Handle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A schema migration made up of the statements in a sql script bundled with the application under db/migration
+ */
+public final class SqlScriptMigration implements SchemaMigration {
+    private static final String SCRIPT_DIRECTORY = "db/migration/";
+
+    private final int version;
+    private final String description;
+    private final String scriptName;
+
+    public SqlScriptMigration(int version, String description, String scriptName) {
+        this.version = version;
+        this.description = description;
+        this.scriptName = scriptName;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public void migrate(Handle handle) {
+        handle.createScript(readScript()).execute();
+    }
+
+    private String readScript() {
+        try {
+            return Resources.toString(Resources.getResource(SCRIPT_DIRECTORY + scriptName), StandardCharsets.UTF_8);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException("Unable to read migration script: " + scriptName, ioException);
+        }
+    }
+}
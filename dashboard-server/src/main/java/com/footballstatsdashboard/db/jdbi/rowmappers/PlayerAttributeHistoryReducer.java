@@ -0,0 +1,71 @@
+package com.footballstatsdashboard.db.jdbi.rowmappers;
+
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.api.model.player.AttributeCategory;
+import com.footballstatsdashboard.api.model.player.AttributeGroup;
+import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
+import org.jdbi.v3.core.result.RowReducer;
+import org.jdbi.v3.core.result.RowView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Folds the rows of a player attribute joined with its history (one row per historical value, oldest first) into
+ * attribute entities, so that all the attributes of a player can be hydrated through a single query. The current value
+ * of the attribute is read off the attribute itself rather than picked out of the history.
+ */
+public class PlayerAttributeHistoryReducer
+        implements RowReducer<Map<String, PlayerAttributeHistoryReducer.AttributeAccumulator>, Attribute> {
+
+    @Override
+    public Map<String, AttributeAccumulator> container() {
+        return new LinkedHashMap<>();
+    }
+
+    @Override
+    public void accumulate(Map<String, AttributeAccumulator> container, RowView rowView) {
+        AttributeAccumulator accumulator = container.computeIfAbsent(rowView.getColumn("name", String.class),
+                attributeName -> new AttributeAccumulator(attributeName,
+                        rowView.getColumn("category", AttributeCategory.class),
+                        rowView.getColumn("group", AttributeGroup.class),
+                        rowView.getColumn("currentValue", Integer.class)));
+
+        Integer attributeValue = rowView.getColumn("attributeValue", Integer.class);
+        if (attributeValue != null) accumulator.history.add(attributeValue);
+    }
+
+    @Override
+    public Stream<Attribute> stream(Map<String, AttributeAccumulator> container) {
+        return container.values().stream().map(AttributeAccumulator::build);
+    }
+
+    static final class AttributeAccumulator {
+        private final String name;
+        private final AttributeCategory category;
+        private final AttributeGroup group;
+        private final Integer currentValue;
+        private final List<Integer> history = new ArrayList<>();
+
+        private AttributeAccumulator(String name, AttributeCategory category, AttributeGroup group,
+                                     Integer currentValue) {
+            this.name = name;
+            this.category = category;
+            this.group = group;
+            this.currentValue = currentValue;
+        }
+
+        private Attribute build() {
+            ImmutableAttribute.Builder attributeBuilder = ImmutableAttribute.builder()
+                    .name(name)
+                    .category(category)
+                    .group(group)
+                    .value(currentValue);
+            if (!history.isEmpty()) attributeBuilder.history(history);
+            return attributeBuilder.build();
+        }
+    }
+}
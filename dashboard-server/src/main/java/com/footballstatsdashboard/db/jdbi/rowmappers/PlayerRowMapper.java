@@ -2,6 +2,7 @@ package com.footballstatsdashboard.db.jdbi.rowmappers;
 
 import com.footballstatsdashboard.api.model.ImmutablePlayer;
 import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.player.ImmutableAbility;
 import com.footballstatsdashboard.api.model.player.ImmutableMetadata;
 import com.footballstatsdashboard.api.model.player.Metadata;
 import com.google.common.collect.ImmutableList;
@@ -27,6 +28,8 @@ public class PlayerRowMapper implements RowMapper<Player> {
         return ImmutablePlayer.builder()
                 .id(UUID.fromString(rs.getString("id")))
                 .metadata(metadata)
+                // the ability history is added later through an independent sql query
+                .ability(ImmutableAbility.builder().current(rs.getInt("currentAbility")).build())
                 // we are adding roles and attributes later through independent sql queries
                 // since they cannot be null, just passing empty lists to get around the not null validation
                 .roles(ImmutableList.of())
@@ -0,0 +1,37 @@
+package com.footballstatsdashboard.db.jdbi.rowmappers;
+
+import com.footballstatsdashboard.api.model.club.ImmutableSquadPlayer;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import org.jdbi.v3.core.result.RowReducer;
+import org.jdbi.v3.core.result.RowView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Folds the rows of a squad player joined with their recent match ratings (one row per rating, most recent first)
+ * into squad player entities, so that the whole squad along with its recent form can be fetched through a single query
+ */
+public class SquadPlayerReducer implements RowReducer<Map<String, ImmutableSquadPlayer.Builder>, SquadPlayer> {
+
+    @Override
+    public Map<String, ImmutableSquadPlayer.Builder> container() {
+        return new LinkedHashMap<>();
+    }
+
+    @Override
+    public void accumulate(Map<String, ImmutableSquadPlayer.Builder> container, RowView rowView) {
+        ImmutableSquadPlayer.Builder squadPlayerBuilder = container.computeIfAbsent(
+                rowView.getColumn("id", String.class),
+                playerId -> ImmutableSquadPlayer.builder().from(rowView.getRow(SquadPlayer.class)));
+
+        Float matchRating = rowView.getColumn("matchRating", Float.class);
+        if (matchRating != null) squadPlayerBuilder.addRecentForm(matchRating);
+    }
+
+    @Override
+    public Stream<SquadPlayer> stream(Map<String, ImmutableSquadPlayer.Builder> container) {
+        return container.values().stream().map(ImmutableSquadPlayer.Builder::build);
+    }
+}
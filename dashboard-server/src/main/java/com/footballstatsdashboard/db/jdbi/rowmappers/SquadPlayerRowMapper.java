@@ -20,7 +20,7 @@ public class SquadPlayerRowMapper implements RowMapper<SquadPlayer> {
                 .countryFlag(rs.getString("countryFlag"))
                 .currentAbility(rs.getInt("currentAbility"))
                 .role(rs.getString("role"))
-                // we are adding match ratings for recent form later through independent sql queries
+                // match ratings for recent form are folded in later by the squad player reducer
                 // since the property cannot be null, just passing an empty list to get around the not null validation
                 .recentForm(ImmutableList.of())
                 .build();
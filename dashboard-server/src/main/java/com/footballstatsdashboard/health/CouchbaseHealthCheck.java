@@ -0,0 +1,49 @@
+package com.footballstatsdashboard.health;
+
+import com.codahale.metrics.MetricRegistry;
+import com.couchbase.client.core.diagnostics.EndpointPingReport;
+import com.couchbase.client.core.diagnostics.PingResult;
+import com.couchbase.client.core.diagnostics.PingState;
+import com.couchbase.client.java.Cluster;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Probes the couchbase cluster by pinging the endpoints of all of its services.
+ */
+public class CouchbaseHealthCheck extends LatencyProbeHealthCheck {
+    private final Supplier<Cluster> clusterSupplier;
+
+    public CouchbaseHealthCheck(Supplier<Cluster> clusterSupplier, HealthCheckConfiguration healthCheckConfiguration,
+                                MetricRegistry metricRegistry) {
+        super(healthCheckConfiguration, metricRegistry);
+        this.clusterSupplier = clusterSupplier;
+    }
+
+    @Override
+    protected void probe() {
+        // the cluster is only connected to once the server has started
+        Cluster cluster = this.clusterSupplier.get();
+        if (cluster == null) {
+            throw new IllegalStateException("Not connected to the couchbase cluster yet");
+        }
+
+        PingResult pingResult = cluster.ping();
+        List<String> failedEndpoints = pingResult.endpoints().values().stream()
+                .flatMap(List::stream)
+                .filter(endpointPingReport -> endpointPingReport.state() != PingState.OK)
+                .map(CouchbaseHealthCheck::describe)
+                .collect(Collectors.toList());
+        if (!failedEndpoints.isEmpty()) {
+            throw new IllegalStateException("Couchbase endpoints failed to answer the ping: " + failedEndpoints);
+        }
+    }
+
+    private static String describe(EndpointPingReport endpointPingReport) {
+        return String.format("%s %s %s", endpointPingReport.type(), endpointPingReport.remote(),
+                endpointPingReport.error().orElse(endpointPingReport.state().toString()));
+    }
+}
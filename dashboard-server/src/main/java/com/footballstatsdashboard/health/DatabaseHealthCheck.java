@@ -0,0 +1,29 @@
+package com.footballstatsdashboard.health;
+
+import com.codahale.metrics.MetricRegistry;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import org.jdbi.v3.core.Jdbi;
+
+/**
+ * Probes the database by running the validation query of the connection pool, so that a pool which has run out of
+ * connections shows up as well as a database that is down.
+ */
+public class DatabaseHealthCheck extends LatencyProbeHealthCheck {
+    // run when the connection pool is not configured with a validation query of its own
+    public static final String DEFAULT_VALIDATION_QUERY = "SELECT 1";
+
+    private final Jdbi jdbi;
+    private final String validationQuery;
+
+    public DatabaseHealthCheck(Jdbi jdbi, String validationQuery, HealthCheckConfiguration healthCheckConfiguration,
+                               MetricRegistry metricRegistry) {
+        super(healthCheckConfiguration, metricRegistry);
+        this.jdbi = jdbi;
+        this.validationQuery = validationQuery;
+    }
+
+    @Override
+    protected void probe() {
+        this.jdbi.useHandle(handle -> handle.createQuery(this.validationQuery).mapToMap().findFirst());
+    }
+}
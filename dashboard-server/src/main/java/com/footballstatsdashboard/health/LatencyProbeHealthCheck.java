@@ -0,0 +1,73 @@
+package com.footballstatsdashboard.health;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.health.HealthCheck;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a lightweight probe against a dependency every time the check is run and judges the dependency by the p99
+ * latency of the recent probes as well as by whether this one succeeded, so that a node whose dependency is slow
+ * rather than down is reported before the users feel it. The probe latencies are published as a timer.
+ */
+public abstract class LatencyProbeHealthCheck extends HealthCheck {
+    private final Timer probeTimer;
+    private final long degradedProbeLatencyNanos;
+    private final long unhealthyProbeLatencyNanos;
+
+    protected LatencyProbeHealthCheck(HealthCheckConfiguration healthCheckConfiguration,
+                                      MetricRegistry metricRegistry) {
+        long probeLatencyWindowNanos = healthCheckConfiguration.getProbeLatencyWindow().toNanoseconds();
+        this.probeTimer = metricRegistry.timer(MetricRegistry.name(getClass(), "probe"),
+                () -> new Timer(new SlidingTimeWindowArrayReservoir(probeLatencyWindowNanos, TimeUnit.NANOSECONDS)));
+        this.degradedProbeLatencyNanos = healthCheckConfiguration.getDegradedProbeLatency().toNanoseconds();
+        this.unhealthyProbeLatencyNanos = healthCheckConfiguration.getUnhealthyProbeLatency().toNanoseconds();
+    }
+
+    /**
+     * run the probe against the dependency, throwing if the dependency could not serve it
+     */
+    protected abstract void probe() throws Exception;
+
+    @Override
+    protected Result check() {
+        Exception probeFailure = null;
+        Timer.Context probeTimerContext = this.probeTimer.time();
+        try {
+            probe();
+        } catch (Exception exception) {
+            // the failed probe is still timed, since a probe that timed out says as much about the latency
+            probeFailure = exception;
+        } finally {
+            probeTimerContext.stop();
+        }
+
+        long p99ProbeLatencyNanos = (long) this.probeTimer.getSnapshot().get99thPercentile();
+        ResultBuilder resultBuilder = Result.builder()
+                .withDetail("p99ProbeLatencyMillis", toMillis(p99ProbeLatencyNanos));
+        if (probeFailure != null) {
+            return resultBuilder.unhealthy(probeFailure).build();
+        }
+        if (p99ProbeLatencyNanos > this.unhealthyProbeLatencyNanos) {
+            return resultBuilder.unhealthy()
+                    .withMessage("p99 probe latency is above %d ms", toMillis(this.unhealthyProbeLatencyNanos))
+                    .build();
+        }
+        // there is no degraded state to report, so a slow but working dependency is reported as healthy with a note
+        boolean isDegraded = p99ProbeLatencyNanos > this.degradedProbeLatencyNanos;
+        if (isDegraded) {
+            resultBuilder.withMessage("degraded: p99 probe latency is above %d ms",
+                    toMillis(this.degradedProbeLatencyNanos));
+        }
+        return resultBuilder.healthy()
+                .withDetail("degraded", isDegraded)
+                .build();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
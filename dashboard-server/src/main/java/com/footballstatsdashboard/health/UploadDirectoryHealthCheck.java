@@ -0,0 +1,27 @@
+package com.footballstatsdashboard.health;
+
+import com.codahale.metrics.MetricRegistry;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import com.footballstatsdashboard.services.FileStorageService;
+
+import java.io.IOException;
+
+/**
+ * Probes the upload directory by writing a file to where uploads are written before they are stored, so that a full
+ * or read-only disk shows up before the next upload fails.
+ */
+public class UploadDirectoryHealthCheck extends LatencyProbeHealthCheck {
+    private final FileStorageService fileStorageService;
+
+    public UploadDirectoryHealthCheck(FileStorageService fileStorageService,
+                                      HealthCheckConfiguration healthCheckConfiguration,
+                                      MetricRegistry metricRegistry) {
+        super(healthCheckConfiguration, metricRegistry);
+        this.fileStorageService = fileStorageService;
+    }
+
+    @Override
+    protected void probe() throws IOException {
+        this.fileStorageService.probeUploadDirectory();
+    }
+}
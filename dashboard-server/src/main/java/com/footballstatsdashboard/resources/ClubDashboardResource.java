@@ -0,0 +1,48 @@
+package com.footballstatsdashboard.resources;
+
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
+import com.footballstatsdashboard.services.ClubDashboardService;
+import io.dropwizard.auth.Auth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.UUID;
+
+import static com.footballstatsdashboard.core.utils.Constants.CLUB_DASHBOARD_V1_BASE_PATH;
+import static com.footballstatsdashboard.core.utils.Constants.CLUB_ID;
+
+@Path(CLUB_DASHBOARD_V1_BASE_PATH)
+@Produces(MediaType.APPLICATION_JSON)
+public class ClubDashboardResource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClubDashboardResource.class);
+
+    private final ClubDashboardService clubDashboardService;
+
+    public ClubDashboardResource(ClubDashboardService clubDashboardService) {
+        this.clubDashboardService = clubDashboardService;
+    }
+
+    @GET
+    public void getClubDashboard(
+            @Suspended AsyncResponse asyncResponse,
+            @Auth User user,
+            @PathParam(CLUB_ID) UUID clubId) {
+
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("getClubDashboard() request for club with ID: {}", clubId);
+        }
+
+        AsyncUtils.resumeWhenComplete(asyncResponse,
+                this.clubDashboardService.getClubDashboardAsync(clubId, user.getId()),
+                clubDashboard -> Response.ok().entity(clubDashboard).build());
+    }
+}
@@ -2,9 +2,8 @@ package com.footballstatsdashboard.resources;
 
 import com.footballstatsdashboard.api.model.Club;
 import com.footballstatsdashboard.api.model.User;
-import com.footballstatsdashboard.api.model.club.ClubSummary;
-import com.footballstatsdashboard.api.model.club.SquadPlayer;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
 import com.footballstatsdashboard.services.ClubService;
 import com.footballstatsdashboard.services.IFileStorageService;
 import io.dropwizard.auth.Auth;
@@ -21,12 +20,13 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 import static com.footballstatsdashboard.core.utils.Constants.CLUB_ID;
@@ -50,7 +50,8 @@ public class ClubResource {
 
     @GET
     @Path(CLUB_ID_PATH)
-    public Response getClub(
+    public void getClub(
+            @Suspended AsyncResponse asyncResponse,
             @Auth User user,
             @PathParam(CLUB_ID) UUID clubId) {
 
@@ -58,8 +59,8 @@ public class ClubResource {
             LOGGER.info("getClub() request for club with ID: {}", clubId);
         }
 
-        Club club = this.clubService.getClub(clubId, user.getId());
-        return Response.ok().entity(club).build();
+        AsyncUtils.resumeWhenComplete(asyncResponse, this.clubService.getClubAsync(clubId, user.getId()),
+                club -> Response.ok().entity(club).build());
     }
 
     @POST
@@ -134,24 +135,27 @@ public class ClubResource {
 
     @GET
     @Path("/all")
-    public Response getClubsByUserId(@Auth User user) {
+    public void getClubsByUserId(
+            @Suspended AsyncResponse asyncResponse,
+            @Auth User user) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("getClubsByUserId() request for user");
         }
 
-        List<ClubSummary> clubsByUserId = this.clubService.getClubSummariesByUserId(user.getId());
-        return Response.ok().entity(clubsByUserId).build();
+        AsyncUtils.resumeWhenComplete(asyncResponse, this.clubService.getClubSummariesByUserIdAsync(user.getId()),
+                clubsByUserId -> Response.ok().entity(clubsByUserId).build());
     }
 
     @GET
     @Path(CLUB_ID_PATH + "/squadPlayers")
-    public Response getSquadPlayers(
+    public void getSquadPlayers(
+            @Suspended AsyncResponse asyncResponse,
             @Auth @PathParam(CLUB_ID) UUID clubId) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("getSquadPlayers() request for club with ID: {}", clubId);
         }
 
-        List<SquadPlayer> squadPlayerList = this.clubService.getSquadPlayers(clubId);
-        return Response.ok().entity(squadPlayerList).build();
+        AsyncUtils.resumeWhenComplete(asyncResponse, this.clubService.getSquadPlayersAsync(clubId),
+                squadPlayerList -> Response.ok().entity(squadPlayerList).build());
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.footballstatsdashboard.resources;
 
-import com.footballstatsdashboard.api.model.CountryFlagMetadata;
 import com.footballstatsdashboard.services.CountryFlagsLookupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,17 +7,24 @@ import org.slf4j.LoggerFactory;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.io.IOException;
-import java.util.List;
+import javax.ws.rs.core.StreamingOutput;
+import java.time.Duration;
 
 import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_FLAG_LOOKUP_V1_BASE_PATH;
 
 @Path(COUNTRY_FLAG_LOOKUP_V1_BASE_PATH)
 @Produces(MediaType.APPLICATION_JSON)
 public class CountryFlagsLookupResource {
-    private static final Logger LOGGER = LoggerFactory.getLogger(ClubResource.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(CountryFlagsLookupResource.class);
+    // the country flags only change with a new release, which changes the entity tag clients revalidate against
+    private static final int COUNTRY_FLAGS_MAX_AGE_SECONDS = (int) Duration.ofDays(1).toSeconds();
 
     private final CountryFlagsLookupService countryFlagsLookupService;
 
@@ -28,11 +34,25 @@ public class CountryFlagsLookupResource {
 
     @GET
     // TODO: 2/5/2022 consider rate limiting this endpoint if access without auth token is allowed
-    public Response getCountryFlagMetadata() throws IOException {
+    public Response getCountryFlagMetadata(@Context Request request) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("getCountryFlagMetadata() request made!");
         }
-        List<CountryFlagMetadata> countryFlagMetadataList = this.countryFlagsLookupService.getCountryFlags();
-        return Response.ok().entity(countryFlagMetadataList).build();
+
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(COUNTRY_FLAGS_MAX_AGE_SECONDS);
+
+        EntityTag countryFlagsEntityTag = this.countryFlagsLookupService.getCountryFlagsEntityTag();
+        Response.ResponseBuilder notModifiedResponse = request.evaluatePreconditions(countryFlagsEntityTag);
+        if (notModifiedResponse != null) {
+            return notModifiedResponse.tag(countryFlagsEntityTag).cacheControl(cacheControl).build();
+        }
+
+        StreamingOutput countryFlags = this.countryFlagsLookupService::writeSerializedCountryFlags;
+        return Response.ok(countryFlags)
+                .header(HttpHeaders.CONTENT_LENGTH, this.countryFlagsLookupService.getSerializedCountryFlagsLength())
+                .tag(countryFlagsEntityTag)
+                .cacheControl(cacheControl)
+                .build();
     }
 }
\ No newline at end of file
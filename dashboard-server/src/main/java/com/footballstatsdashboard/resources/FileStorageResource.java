@@ -14,15 +14,35 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.footballstatsdashboard.core.utils.Constants.FILE_KEY;
 import static com.footballstatsdashboard.core.utils.Constants.FILE_KEY_PATH;
@@ -33,6 +53,13 @@ import static com.footballstatsdashboard.core.utils.Constants.FILE_STORAGE_V1_BA
 @Consumes(MediaType.MULTIPART_FORM_DATA)
 public class FileStorageResource {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileStorageResource.class);
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    // file keys are never reused for different content, so images can be cached for long and only revalidated after
+    private static final int IMAGE_MAX_AGE_DAYS = 30;
+    private static final int IMAGE_MAX_AGE_SECONDS = (int) Duration.ofDays(IMAGE_MAX_AGE_DAYS).toSeconds();
     private final IFileStorageService fileStorageService;
 
     public FileStorageResource(IFileStorageService fileStorageService) {
@@ -60,16 +87,155 @@ public class FileStorageResource {
 
     @GET
     @Path("/image" + FILE_KEY_PATH)
-    @Produces("image/jpeg")
+    @Produces({"image/*", MediaType.APPLICATION_OCTET_STREAM})
     public Response downloadImage(
-            @PathParam(FILE_KEY) String fileKey) throws IOException {
+            @PathParam(FILE_KEY) String fileKey,
+            @HeaderParam(RANGE) String range,
+            @HeaderParam(IF_RANGE) String ifRange,
+            @QueryParam("w") Integer width,
+            @QueryParam("h") Integer height,
+            @QueryParam("format") String format,
+            @Context Request request) throws IOException {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("downloadImage() request for file key: {}", fileKey);
         }
 
-        InputStream fileInputStream = this.fileStorageService.loadFile(fileKey);
-        return Response.ok(new BufferedInputStream(fileInputStream))
+        // a resized variant of the image is served in place of the original when a size or format is asked for
+        boolean isVariant = width != null || height != null || format != null;
+        java.nio.file.Path filePath = isVariant
+                ? this.fileStorageService.getImageVariantPath(fileKey, width, height, format)
+                : this.fileStorageService.getFilePath(fileKey);
+        BasicFileAttributes fileAttributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        long fileSize = fileAttributes.size();
+        // HTTP dates only have a precision of seconds, so anything finer would defeat the If-Modified-Since check
+        Date lastModified = Date.from(fileAttributes.lastModifiedTime().toInstant().truncatedTo(ChronoUnit.SECONDS));
+        // the digest of the content identifies it exactly, where it is known, and is part of the name of its variants
+        EntityTag entityTag = new EntityTag(this.fileStorageService.getFileDigest(fileKey)
+                .map(digest -> isVariant ? filePath.getFileName().toString() : digest)
+                .orElse(Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified.getTime())));
+
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(IMAGE_MAX_AGE_SECONDS);
+
+        Response.ResponseBuilder notModifiedResponse = request.evaluatePreconditions(lastModified, entityTag);
+        if (notModifiedResponse != null) {
+            return notModifiedResponse.tag(entityTag).lastModified(lastModified).cacheControl(cacheControl).build();
+        }
+
+        Response.ResponseBuilder imageResponse;
+        ByteRange byteRange = isRangeApplicable(ifRange, entityTag, lastModified)
+                ? ByteRange.parse(range, fileSize)
+                : null;
+        if (byteRange == null) {
+            imageResponse = Response.ok(transferFile(filePath, 0, fileSize))
+                    .header(HttpHeaders.CONTENT_LENGTH, fileSize);
+        } else if (!byteRange.isSatisfiable(fileSize)) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(CONTENT_RANGE, "bytes */" + fileSize)
+                    .build();
+        } else {
+            long rangeLength = byteRange.getLastBytePosition(fileSize) - byteRange.getFirstBytePosition() + 1;
+            imageResponse = Response.status(Response.Status.PARTIAL_CONTENT)
+                    .entity(transferFile(filePath, byteRange.getFirstBytePosition(), rangeLength))
+                    .header(HttpHeaders.CONTENT_LENGTH, rangeLength)
+                    .header(CONTENT_RANGE, String.format("bytes %d-%d/%d", byteRange.getFirstBytePosition(),
+                            byteRange.getLastBytePosition(fileSize), fileSize));
+        }
+
+        return imageResponse
+                .type(this.fileStorageService.getMediaType(filePath))
+                .header(ACCEPT_RANGES, "bytes")
                 .header("Content-Disposition", "attachment; filename=" + fileKey)
+                .tag(entityTag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * a range is only served if the client either made the request unconditionally or the representation it holds
+     * the rest of is still the current one, otherwise the whole file is sent instead
+     */
+    private boolean isRangeApplicable(String ifRange, EntityTag entityTag, Date lastModified) {
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return EntityTag.valueOf(ifRange).equals(entityTag);
+        }
+        try {
+            return Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(ifRange)).equals(lastModified.toInstant());
+        } catch (DateTimeParseException dateTimeParseException) {
+            return false;
+        }
+    }
+
+    /**
+     * write the portion of the file straight from its channel to the response, so that it is not buffered on the heap
+     * in its entirety nor copied through an intermediate input stream
+     */
+    private StreamingOutput transferFile(java.nio.file.Path filePath, long position, long count) {
+        return outputStream -> {
+            try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                WritableByteChannel responseChannel = Channels.newChannel(outputStream);
+                long transferredBytes = 0;
+                while (transferredBytes < count) {
+                    long bytes = fileChannel.transferTo(position + transferredBytes, count - transferredBytes,
+                            responseChannel);
+                    if (bytes <= 0) break;
+                    transferredBytes += bytes;
+                }
+            }
+        };
+    }
+
+    /**
+     * A single range of bytes requested through the Range header. Requests for multiple ranges are served in full,
+     * which is allowed and far cheaper than a multipart response for images this size.
+     */
+    private static final class ByteRange {
+        private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+        private final long firstBytePosition;
+        private final long lastBytePosition;
+
+        private ByteRange(long firstBytePosition, long lastBytePosition) {
+            this.firstBytePosition = firstBytePosition;
+            this.lastBytePosition = lastBytePosition;
+        }
+
+        /**
+         * the range requested in the header, or null if the whole file should be served
+         */
+        private static ByteRange parse(String range, long fileSize) {
+            if (range == null) return null;
+            Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+            if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) return null;
+
+            try {
+                if (matcher.group(1).isEmpty()) {
+                    // a suffix range, i.e. the last N bytes of the file
+                    long suffixLength = Long.parseLong(matcher.group(2));
+                    return suffixLength == 0
+                            ? new ByteRange(fileSize, fileSize)
+                            : new ByteRange(Math.max(0, fileSize - suffixLength), fileSize - 1);
+                }
+                long firstBytePosition = Long.parseLong(matcher.group(1));
+                long lastBytePosition = matcher.group(2).isEmpty() ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+                return lastBytePosition < firstBytePosition ? null : new ByteRange(firstBytePosition, lastBytePosition);
+            } catch (NumberFormatException numberFormatException) {
+                return null;
+            }
+        }
+
+        private boolean isSatisfiable(long fileSize) {
+            return this.firstBytePosition < fileSize;
+        }
+
+        private long getFirstBytePosition() {
+            return this.firstBytePosition;
+        }
+
+        private long getLastBytePosition(long fileSize) {
+            return Math.min(this.lastBytePosition, fileSize - 1);
+        }
+    }
+}
@@ -3,12 +3,21 @@ package com.footballstatsdashboard.resources;
 import com.footballstatsdashboard.api.model.ImmutableMatchPerformance;
 import com.footballstatsdashboard.api.model.MatchPerformance;
 import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.api.model.matchPerformance.ImmutableMatchPerformanceBatchResult;
+import com.footballstatsdashboard.api.model.matchPerformance.MatchPerformanceBatchResult;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
+import com.footballstatsdashboard.db.AsyncEntityDAOAdapter;
+import com.footballstatsdashboard.db.IAsyncEntityDAO;
 import com.footballstatsdashboard.db.IMatchPerformanceEntityDAO;
 import io.dropwizard.auth.Auth;
+import io.dropwizard.jersey.validation.Validators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -17,6 +26,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -24,9 +35,14 @@ import javax.ws.rs.core.UriInfo;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.footballstatsdashboard.core.utils.Constants.MATCH_PERFORMANCE_BATCH_PATH;
 import static com.footballstatsdashboard.core.utils.Constants.MATCH_PERFORMANCE_ID;
 import static com.footballstatsdashboard.core.utils.Constants.MATCH_PERFORMANCE_ID_PATH;
 import static com.footballstatsdashboard.core.utils.Constants.MATCH_PERFORMANCE_LOOKUP_PATH;
@@ -38,24 +54,38 @@ import static com.footballstatsdashboard.core.utils.Constants.PLAYER_ID;
 public class MatchPerformanceResource {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClubResource.class);
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final IMatchPerformanceEntityDAO matchPerformanceDAO;
+    private final IAsyncEntityDAO<MatchPerformance> asyncMatchPerformanceDAO;
+    private final Validator validator;
 
     public MatchPerformanceResource(IMatchPerformanceEntityDAO matchPerformanceDAO) {
+        // without a non-blocking DAO of its own, the async operations run the blocking DAO on the calling thread
+        this(matchPerformanceDAO, new AsyncEntityDAOAdapter<>(matchPerformanceDAO, Runnable::run),
+                Validators.newValidator());
+    }
+
+    public MatchPerformanceResource(IMatchPerformanceEntityDAO matchPerformanceDAO,
+                                    IAsyncEntityDAO<MatchPerformance> asyncMatchPerformanceDAO,
+                                    Validator validator) {
         this.matchPerformanceDAO = matchPerformanceDAO;
+        this.asyncMatchPerformanceDAO = asyncMatchPerformanceDAO;
+        this.validator = validator;
     }
 
     @GET
     @Path(MATCH_PERFORMANCE_ID_PATH)
-    public Response getMatchPerformance(
+    public void getMatchPerformance(
+            @Suspended AsyncResponse asyncResponse,
             @Auth @PathParam(MATCH_PERFORMANCE_ID) UUID matchPerformanceId) {
 
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("getMatchPerformance() request for match performance ID: {}", matchPerformanceId);
         }
 
-        MatchPerformance matchPerformance =
-                this.matchPerformanceDAO.getEntity(matchPerformanceId);
-        return Response.ok().entity(matchPerformance).build();
+        AsyncUtils.resumeWhenComplete(asyncResponse, this.asyncMatchPerformanceDAO.getEntity(matchPerformanceId),
+                matchPerformance -> Response.ok().entity(matchPerformance).build());
     }
 
     @POST
@@ -83,6 +113,74 @@ public class MatchPerformanceResource {
         return Response.created(location).entity(newMatchPerformance).build();
     }
 
+    /**
+     * create all the match performances in the request at once, e.g. those of a whole round of matches. Every match
+     * performance is validated up front; the valid ones are then persisted together and the invalid ones rejected,
+     * as are the ones the data store can not persist, e.g. because they already exist. The outcome for each is
+     * reported at the same position as the match performance in the request.
+     */
+    @POST
+    @Path(MATCH_PERFORMANCE_BATCH_PATH)
+    public Response createMatchPerformances(
+            @Auth User user,
+            @NotNull @Size(min = 1, max = MAX_BATCH_SIZE) List<MatchPerformance> incomingMatchPerformances) {
+
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("createMatchPerformances() request for {} match performances.",
+                    incomingMatchPerformances.size());
+        }
+
+        LocalDate currentDate = LocalDate.now();
+        List<List<String>> errorsByIndex = new ArrayList<>();
+        List<MatchPerformance> newMatchPerformances = new ArrayList<>();
+        Set<UUID> matchPerformanceIds = new HashSet<>();
+        for (MatchPerformance incomingMatchPerformance : incomingMatchPerformances) {
+            List<String> errors = validateBatchItem(incomingMatchPerformance, matchPerformanceIds);
+            errorsByIndex.add(errors);
+            if (errors.isEmpty()) {
+                newMatchPerformances.add(ImmutableMatchPerformance.builder()
+                        .from(incomingMatchPerformance)
+                        .createdDate(currentDate)
+                        .lastModifiedDate(currentDate)
+                        .createdBy(user.getEmail())
+                        .build());
+            }
+        }
+
+        Map<UUID, String> persistenceErrors = newMatchPerformances.isEmpty()
+                ? Map.of()
+                : this.matchPerformanceDAO.insertEntities(newMatchPerformances);
+
+        List<MatchPerformanceBatchResult> results = new ArrayList<>();
+        for (int index = 0; index < incomingMatchPerformances.size(); index++) {
+            MatchPerformance incomingMatchPerformance = incomingMatchPerformances.get(index);
+            UUID matchPerformanceId = incomingMatchPerformance != null ? incomingMatchPerformance.getId() : null;
+            List<String> errors = errorsByIndex.get(index);
+            // only the first occurrence of an ID is persisted, so the persistence errors apply to it alone
+            if (errors.isEmpty() && persistenceErrors.containsKey(matchPerformanceId)) {
+                errors.add(persistenceErrors.get(matchPerformanceId));
+            }
+
+            results.add(ImmutableMatchPerformanceBatchResult.builder()
+                    .index(index)
+                    .id(matchPerformanceId)
+                    .status(errors.isEmpty()
+                            ? MatchPerformanceBatchResult.Status.CREATED
+                            : MatchPerformanceBatchResult.Status.REJECTED)
+                    .errors(errors)
+                    .build());
+        }
+
+        if (LOGGER.isInfoEnabled()) {
+            long createdCount = results.stream()
+                    .filter(result -> result.getStatus() == MatchPerformanceBatchResult.Status.CREATED)
+                    .count();
+            LOGGER.info("Created {} and rejected {} of the match performances in the batch", createdCount,
+                    results.size() - createdCount);
+        }
+        return Response.ok().entity(results).build();
+    }
+
     @PUT
     @Path(MATCH_PERFORMANCE_ID_PATH)
     public Response updateMatchPerformance(
@@ -159,4 +257,26 @@ public class MatchPerformanceResource {
                 playerId, competitionId);
         return Response.status(Response.Status.NOT_FOUND).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * the reasons a match performance in a batch can not be persisted for, if any, without going to the data store;
+     * the IDs of the match performances seen earlier in the batch are used to reject duplicates, which would
+     * otherwise fail the whole batch when it is persisted, so only the first occurrence of an ID is kept
+     */
+    private List<String> validateBatchItem(MatchPerformance incomingMatchPerformance, Set<UUID> matchPerformanceIds) {
+        List<String> errors = new ArrayList<>();
+        if (incomingMatchPerformance == null) {
+            errors.add("match performance is missing");
+            return errors;
+        }
+
+        this.validator.validate(incomingMatchPerformance).stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .forEach(errors::add);
+        if (!matchPerformanceIds.add(incomingMatchPerformance.getId())) {
+            errors.add("id is a duplicate of an earlier match performance in the batch");
+        }
+        return errors;
+    }
+}
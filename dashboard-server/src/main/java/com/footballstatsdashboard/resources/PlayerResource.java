@@ -4,6 +4,7 @@ import com.footballstatsdashboard.api.model.Player;
 import com.footballstatsdashboard.api.model.User;
 import com.footballstatsdashboard.api.model.Club;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
 import com.footballstatsdashboard.services.ClubService;
 import com.footballstatsdashboard.services.PlayerService;
 import io.dropwizard.auth.Auth;
@@ -20,11 +21,12 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
-import java.io.IOException;
 import java.net.URI;
 import java.util.UUID;
 
@@ -47,22 +49,23 @@ public class PlayerResource {
 
     @GET
     @Path(PLAYER_ID_PATH)
-    public Response getPlayer(
+    public void getPlayer(
+            @Suspended AsyncResponse asyncResponse,
             @Auth @PathParam(PLAYER_ID) UUID playerId) {
 
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("getPlayer() request for player with ID: {}", playerId.toString());
         }
 
-        Player player = this.playerService.getPlayer(playerId);
-        return Response.ok(player).build();
+        AsyncUtils.resumeWhenComplete(asyncResponse, this.playerService.getPlayerAsync(playerId),
+                player -> Response.ok(player).build());
     }
 
     @POST
     public Response createPlayer(
             @Auth User user,
             @Valid @NotNull Player incomingPlayer,
-            @Context UriInfo uriInfo) throws IOException {
+            @Context UriInfo uriInfo) {
 
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("createPlayer() request.");
@@ -1,5 +1,6 @@
 package com.footballstatsdashboard.services;
 
+import com.codahale.metrics.MetricRegistry;
 import com.footballstatsdashboard.api.model.club.BoardObjective;
 import com.footballstatsdashboard.api.model.club.ImmutableBoardObjective;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
@@ -18,9 +19,17 @@ public class BoardObjectiveService {
     private static final Logger LOGGER = LoggerFactory.getLogger(BoardObjectiveService.class);
 
     private final IBoardObjectiveEntityDAO boardObjectiveDAO;
+    // the board objectives of a club are loaded by several widgets at once, so concurrent loads of them are shared
+    private final SingleFlight<UUID, List<BoardObjective>> clubBoardObjectiveLoads;
 
     public BoardObjectiveService(IBoardObjectiveEntityDAO boardObjectiveDAO) {
+        this(boardObjectiveDAO, new MetricRegistry());
+    }
+
+    public BoardObjectiveService(IBoardObjectiveEntityDAO boardObjectiveDAO, MetricRegistry metricRegistry) {
         this.boardObjectiveDAO = boardObjectiveDAO;
+        this.clubBoardObjectiveLoads = new SingleFlight<>(metricRegistry,
+                MetricRegistry.name(BoardObjectiveService.class, "clubBoardObjectives"));
     }
 
     public BoardObjective getBoardObjective(UUID boardObjectiveId, UUID clubId, UUID authorizedUserId) {
@@ -117,6 +126,7 @@ public class BoardObjectiveService {
     }
 
     public List<BoardObjective> getAllBoardObjectivesForClub(UUID clubId) {
-        return this.boardObjectiveDAO.getBoardObjectivesForClub(clubId);
+        return this.clubBoardObjectiveLoads.executeBlocking(clubId,
+                () -> this.boardObjectiveDAO.getBoardObjectivesForClub(clubId));
     }
 }
\ No newline at end of file
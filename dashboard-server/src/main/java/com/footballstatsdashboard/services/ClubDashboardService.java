@@ -0,0 +1,63 @@
+package com.footballstatsdashboard.services;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.BoardObjective;
+import com.footballstatsdashboard.api.model.club.ClubDashboard;
+import com.footballstatsdashboard.api.model.club.ImmutableClubDashboard;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.core.exceptions.ServiceException;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Everything the club page shows, i.e. the club, its squad and its board objectives, loaded together so that the page
+ * takes one request that is authorized once instead of three, with the independent loads running concurrently.
+ */
+public class ClubDashboardService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClubDashboardService.class);
+
+    private final ClubService clubService;
+    private final BoardObjectiveService boardObjectiveService;
+    // runs the loads that only have a blocking variant, i.e. the board objectives
+    private final Executor executor;
+
+    public ClubDashboardService(ClubService clubService, BoardObjectiveService boardObjectiveService,
+                                Executor executor) {
+        this.clubService = clubService;
+        this.boardObjectiveService = boardObjectiveService;
+        this.executor = executor;
+    }
+
+    public CompletionStage<ClubDashboard> getClubDashboardAsync(UUID clubId, UUID authorizedUserId) {
+        // authorized up front, so that nothing is loaded on behalf of a user without access to the club
+        try {
+            if (!this.clubService.doesClubBelongToUser(clubId, authorizedUserId)) {
+                LOGGER.error("Club with ID: {} does not belong to user making request (ID: {})",
+                        clubId, authorizedUserId);
+                throw new ServiceException(HttpStatus.FORBIDDEN_403, "User does not have access to this club!");
+            }
+        } catch (ServiceException serviceException) {
+            return CompletableFuture.failedFuture(serviceException);
+        }
+
+        CompletableFuture<Club> club = this.clubService.getClubAsync(clubId, authorizedUserId).toCompletableFuture();
+        CompletableFuture<List<SquadPlayer>> squadPlayers =
+                this.clubService.getSquadPlayersAsync(clubId).toCompletableFuture();
+        CompletableFuture<List<BoardObjective>> boardObjectives = CompletableFuture.supplyAsync(
+                () -> this.boardObjectiveService.getAllBoardObjectivesForClub(clubId), this.executor);
+
+        return CompletableFuture.allOf(club, squadPlayers, boardObjectives)
+                .thenApply(allLoaded -> ImmutableClubDashboard.builder()
+                        .club(club.join())
+                        .squadPlayers(squadPlayers.join())
+                        .boardObjectives(boardObjectives.join())
+                        .build());
+    }
+}
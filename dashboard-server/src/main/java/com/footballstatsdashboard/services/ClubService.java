@@ -1,5 +1,6 @@
 package com.footballstatsdashboard.services;
 
+import com.codahale.metrics.MetricRegistry;
 import com.footballstatsdashboard.api.model.Club;
 import com.footballstatsdashboard.api.model.ImmutableClub;
 import com.footballstatsdashboard.api.model.club.ClubSummary;
@@ -11,8 +12,11 @@ import com.footballstatsdashboard.api.model.club.Income;
 import com.footballstatsdashboard.api.model.club.ManagerFunds;
 import com.footballstatsdashboard.api.model.club.SquadPlayer;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
 import com.footballstatsdashboard.core.validations.Validation;
 import com.footballstatsdashboard.core.validations.ValidationSeverity;
+import com.footballstatsdashboard.db.AsyncClubEntityDAOAdapter;
+import com.footballstatsdashboard.db.IAsyncClubEntityDAO;
 import com.footballstatsdashboard.db.IClubEntityDAO;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpStatus;
@@ -20,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityNotFoundException;
+import javax.persistence.OptimisticLockException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -27,13 +32,29 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 public class ClubService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClubService.class);
     private final IClubEntityDAO clubDAO;
+    private final IAsyncClubEntityDAO asyncClubDAO;
+    // the squad hub and the club list are loaded by several widgets at once, so concurrent loads of either are shared
+    private final SingleFlight<UUID, List<ClubSummary>> clubSummaryLoads;
+    private final SingleFlight<UUID, List<SquadPlayer>> squadPlayerLoads;
 
     public ClubService(IClubEntityDAO clubDAO) {
+        // without a non-blocking DAO of its own, the async operations run the blocking DAO on the calling thread
+        this(clubDAO, new AsyncClubEntityDAOAdapter(clubDAO, Runnable::run), new MetricRegistry());
+    }
+
+    public ClubService(IClubEntityDAO clubDAO, IAsyncClubEntityDAO asyncClubDAO, MetricRegistry metricRegistry) {
         this.clubDAO = clubDAO;
+        this.asyncClubDAO = asyncClubDAO;
+        this.clubSummaryLoads =
+                new SingleFlight<>(metricRegistry, MetricRegistry.name(ClubService.class, "clubSummaries"));
+        this.squadPlayerLoads =
+                new SingleFlight<>(metricRegistry, MetricRegistry.name(ClubService.class, "squadPlayers"));
     }
 
     public boolean doesClubBelongToUser(UUID clubId, UUID authorizedUserId) {
@@ -48,15 +69,20 @@ public class ClubService {
 
     public Club getClub(UUID clubId, UUID authorizedUserId) {
         Club club = fetchClubData(clubId);
+        return verifyClubBelongsToUser(club, authorizedUserId);
+    }
 
-        // ensure that the user has access to the club data being fetched
-        if (!authorizedUserId.equals(club.getUserId())) {
-            LOGGER.error("Club with ID: {} does not belong to user making request (ID: {})",
-                    clubId, authorizedUserId);
-            throw new ServiceException(HttpStatus.FORBIDDEN_403, "User does not have access to this club!");
-        }
-
-        return club;
+    public CompletionStage<Club> getClubAsync(UUID clubId, UUID authorizedUserId) {
+        return this.asyncClubDAO.getEntity(clubId)
+                .exceptionally(throwable -> {
+                    if (AsyncUtils.unwrap(throwable) instanceof EntityNotFoundException) {
+                        String errorMessage = String.format("No club entity found for ID: %s", clubId);
+                        LOGGER.error(errorMessage);
+                        throw new ServiceException(HttpStatus.NOT_FOUND_404, errorMessage);
+                    }
+                    throw new CompletionException(AsyncUtils.unwrap(throwable));
+                })
+                .thenApply(club -> verifyClubBelongsToUser(club, authorizedUserId));
     }
 
     public Club createClub(Club incomingClub, UUID userId, String createdBy) {
@@ -101,8 +127,23 @@ public class ClubService {
     }
 
     public Club updateClub(Club incomingClub, UUID existingClubId, UUID authorizedUserId) {
-        Club existingClub = getClub(existingClubId, authorizedUserId);
+        try {
+            // the update is applied to the club as it is stored, so that it never overwrites changes made to the club
+            // by another request since it was last read
+            return this.clubDAO.modifyEntity(existingClubId, existingClub ->
+                    updateClubData(incomingClub, verifyClubBelongsToUser(existingClub, authorizedUserId)));
+        } catch (EntityNotFoundException entityNotFoundException) {
+            String errorMessage = String.format("No club entity found for ID: %s", existingClubId);
+            LOGGER.error(errorMessage);
+            throw new ServiceException(HttpStatus.NOT_FOUND_404, errorMessage);
+        } catch (OptimisticLockException optimisticLockException) {
+            LOGGER.error("Club with ID: {} was modified by another request while being updated", existingClubId);
+            throw new ServiceException(HttpStatus.CONFLICT_409,
+                    "Club was modified by another request, please retry with the latest data!");
+        }
+    }
 
+    private Club updateClubData(Club incomingClub, Club existingClub) {
         List<Validation> validationList = validateIncomingClub(incomingClub, false);
         if (!validationList.isEmpty()) {
             LOGGER.error("Unable to update club! Found errors: {}", validationList);
@@ -127,16 +168,12 @@ public class ClubService {
             updatedClubBuilder.managerFunds(updatedManagerFunds);
         }
 
-        Club updatedClub = updatedClubBuilder
+        return updatedClubBuilder
                 .name(incomingClub.getName())
                 .transferBudget(incomingClub.getTransferBudget())
                 .wageBudget(incomingClub.getWageBudget())
                 .lastModifiedDate(LocalDate.now())
                 .build();
-
-        this.clubDAO.updateEntity(existingClubId, updatedClub);
-
-        return updatedClub;
     }
 
     public void deleteClub(UUID clubId, UUID authorizedUserId) {
@@ -157,11 +194,19 @@ public class ClubService {
     }
 
     public List<ClubSummary> getClubSummariesByUserId(UUID userId) {
-        return this.clubDAO.getClubSummariesForUser(userId);
+        return this.clubSummaryLoads.executeBlocking(userId, () -> this.clubDAO.getClubSummariesForUser(userId));
+    }
+
+    public CompletionStage<List<ClubSummary>> getClubSummariesByUserIdAsync(UUID userId) {
+        return this.clubSummaryLoads.execute(userId, () -> this.asyncClubDAO.getClubSummariesForUser(userId));
     }
 
     public List<SquadPlayer> getSquadPlayers(UUID clubId) {
-        return this.clubDAO.getPlayersInClub(clubId);
+        return this.squadPlayerLoads.executeBlocking(clubId, () -> this.clubDAO.getPlayersInClub(clubId));
+    }
+
+    public CompletionStage<List<SquadPlayer>> getSquadPlayersAsync(UUID clubId) {
+        return this.squadPlayerLoads.execute(clubId, () -> this.asyncClubDAO.getPlayersInClub(clubId));
     }
 
     private Club fetchClubData(UUID clubId) {
@@ -174,6 +219,16 @@ public class ClubService {
         }
     }
 
+    private Club verifyClubBelongsToUser(Club club, UUID authorizedUserId) {
+        // ensure that the user has access to the club data being fetched
+        if (!authorizedUserId.equals(club.getUserId())) {
+            LOGGER.error("Club with ID: {} does not belong to user making request (ID: {})",
+                    club.getId(), authorizedUserId);
+            throw new ServiceException(HttpStatus.FORBIDDEN_403, "User does not have access to this club!");
+        }
+        return club;
+    }
+
     private List<Validation> validateIncomingClub(Club incomingClub, boolean isForNewClub) {
         List<Validation> validationList = new ArrayList<>();
         if (isForNewClub) {
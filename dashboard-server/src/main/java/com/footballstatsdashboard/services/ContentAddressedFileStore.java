@@ -0,0 +1,139 @@
+package com.footballstatsdashboard.services;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores uploaded files by the SHA-256 digest of their content, so that the same content is only ever kept once no
+ * matter how many times it is uploaded. The files live in a directory tree sharded by the leading characters of their
+ * digest, which keeps every directory small, and the file keys handed out to clients are mapped to the digests in an
+ * append-only alias table.
+ */
+final class ContentAddressedFileStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentAddressedFileStore.class);
+    private static final String OBJECTS_DIRECTORY = "objects";
+    // where files are written to before they are complete and moved into place
+    static final String TEMPORARY_DIRECTORY = "tmp";
+    private static final String ALIAS_TABLE_FILE = "aliases";
+    private static final String ALIAS_SEPARATOR = "\t";
+    private static final int SHARD_LENGTH = 2;
+
+    private final Path storePath;
+    private final Path aliasTablePath;
+    // file key -> digest of the content stored against it
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+
+    ContentAddressedFileStore(Path storePath) {
+        this.storePath = storePath;
+        this.aliasTablePath = storePath.resolve(ALIAS_TABLE_FILE);
+    }
+
+    /**
+     * load the alias table and move any files stored before content addressing was turned on into the store, keeping
+     * the file keys they were stored against
+     */
+    void initialize(Path legacyUploadPath) throws IOException {
+        Files.createDirectories(this.storePath.resolve(OBJECTS_DIRECTORY));
+        Files.createDirectories(this.storePath.resolve(TEMPORARY_DIRECTORY));
+        if (Files.exists(this.aliasTablePath)) {
+            for (String alias : Files.readAllLines(this.aliasTablePath, StandardCharsets.UTF_8)) {
+                int separatorIdx = alias.lastIndexOf(ALIAS_SEPARATOR);
+                if (separatorIdx > 0) {
+                    this.aliases.put(alias.substring(0, separatorIdx), alias.substring(separatorIdx + 1));
+                }
+            }
+        }
+
+        List<Path> legacyFiles;
+        try (Stream<Path> uploadedFiles = Files.list(legacyUploadPath)) {
+            legacyFiles = uploadedFiles
+                    .filter(Files::isRegularFile)
+                    .filter(uploadedFile -> !uploadedFile.equals(this.aliasTablePath))
+                    .collect(Collectors.toList());
+        }
+        for (Path legacyFile : legacyFiles) {
+            String fileKey = legacyFile.getFileName().toString();
+            if (!this.aliases.containsKey(fileKey)) {
+                try (InputStream legacyFileStream = Files.newInputStream(legacyFile)) {
+                    store(legacyFileStream, fileKey);
+                }
+            }
+            Files.delete(legacyFile);
+        }
+        if (!legacyFiles.isEmpty() && LOGGER.isInfoEnabled()) {
+            LOGGER.info("Moved {} previously uploaded files into the content addressed store", legacyFiles.size());
+        }
+    }
+
+    /**
+     * store the content of the stream against the file key, hashing it while it is copied to a temporary file
+     */
+    String store(InputStream fileStream, String fileKey) throws IOException {
+        Path temporaryFile = Files.createTempFile(this.storePath.resolve(TEMPORARY_DIRECTORY), "upload", null);
+        try {
+            HashingInputStream hashingStream = new HashingInputStream(Hashing.sha256(), fileStream);
+            Files.copy(hashingStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            String digest = hashingStream.hash().toString();
+            add(temporaryFile, digest, fileKey);
+            return digest;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * store the file, whose content has the given digest, against the file key by either moving it into place or
+     * discarding it if the same content is already stored
+     */
+    void add(Path file, String digest, String fileKey) throws IOException {
+        Path objectPath = getObjectPath(digest);
+        if (!Files.exists(objectPath)) {
+            Files.createDirectories(objectPath.getParent());
+            try {
+                Files.move(file, objectPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException fileAlreadyExistsException) {
+                // the same content was stored by a concurrent upload in the meantime
+                LOGGER.debug("Content with digest: {} was stored concurrently", digest);
+            }
+        }
+        addAlias(fileKey, digest);
+    }
+
+    Optional<String> getDigest(String fileKey) {
+        return Optional.ofNullable(this.aliases.get(fileKey));
+    }
+
+    Optional<Path> getFilePath(String fileKey) {
+        return getDigest(fileKey).map(this::getObjectPath);
+    }
+
+    private Path getObjectPath(String digest) {
+        return this.storePath.resolve(OBJECTS_DIRECTORY)
+                .resolve(digest.substring(0, SHARD_LENGTH))
+                .resolve(digest.substring(SHARD_LENGTH, 2 * SHARD_LENGTH))
+                .resolve(digest);
+    }
+
+    private synchronized void addAlias(String fileKey, String digest) throws IOException {
+        Files.writeString(this.aliasTablePath, fileKey + ALIAS_SEPARATOR + digest + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.aliases.put(fileKey, digest);
+    }
+}
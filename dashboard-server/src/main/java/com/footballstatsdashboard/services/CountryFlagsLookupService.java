@@ -1,32 +1,104 @@
 package com.footballstatsdashboard.services;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.footballstatsdashboard.api.model.CountryCodeMetadata;
 import com.footballstatsdashboard.api.model.CountryFlagMetadata;
 import com.footballstatsdashboard.api.model.ImmutableCountryFlagMetadata;
 import com.footballstatsdashboard.core.utils.FixtureLoader;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import io.dropwizard.jackson.Jackson;
 
+import javax.ws.rs.core.EntityTag;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 
 import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_CODE_MAPPING_FNAME;
 import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_FLAG_URL_TEMPLATE;
 
+/**
+ * Registry of the countries players can be from. The country code mapping is loaded once when the service is created
+ * and indexed by country name and by country code, and the flag metadata served to clients is serialized up front
+ * along with an entity tag, since none of it changes while the application is running.
+ */
 public class CountryFlagsLookupService {
-    private static final FixtureLoader FIXTURE_LOADER = new FixtureLoader(Jackson.newObjectMapper().copy());
-
-    public List<CountryFlagMetadata> getCountryFlags() throws IOException {
-        TypeReference<List<CountryCodeMetadata>> countryCodeMetadataTypeRef = new TypeReference<>() { };
-        List<CountryCodeMetadata> countryCodeMetadataList =
-                FIXTURE_LOADER.loadFixture(COUNTRY_CODE_MAPPING_FNAME, countryCodeMetadataTypeRef);
-        return countryCodeMetadataList.stream()
-                .map(countryCodeMetadata -> ImmutableCountryFlagMetadata.builder()
+    private static final ObjectMapper OBJECT_MAPPER = Jackson.newObjectMapper();
+
+    private final List<CountryFlagMetadata> countryFlags;
+    private final ImmutableMap<String, CountryFlagMetadata> countryFlagsByName;
+    private final ImmutableMap<String, CountryFlagMetadata> countryFlagsByCode;
+    private final byte[] serializedCountryFlags;
+    private final EntityTag countryFlagsEntityTag;
+
+    public CountryFlagsLookupService() {
+        List<CountryCodeMetadata> countryCodeMetadataList;
+        try {
+            TypeReference<List<CountryCodeMetadata>> countryCodeMetadataTypeRef = new TypeReference<>() { };
+            countryCodeMetadataList = new FixtureLoader(OBJECT_MAPPER.copy())
+                    .loadFixture(COUNTRY_CODE_MAPPING_FNAME, countryCodeMetadataTypeRef);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException("Could not load the country code mapping", ioException);
+        }
+
+        this.countryFlags = countryCodeMetadataList.stream()
+                .map(countryCodeMetadata -> (CountryFlagMetadata) ImmutableCountryFlagMetadata.builder()
+                        // derived from the country code instead of being random, so that the serialized country
+                        // flags, and with them the entity tag, are the same every time the service is created
+                        .id(UUID.nameUUIDFromBytes(countryCodeMetadata.getCountryCode()
+                                .getBytes(StandardCharsets.UTF_8)))
                         .countryCode(countryCodeMetadata.getCountryCode())
                         .countryName(countryCodeMetadata.getCountryName())
                         .countryFlagUrl(String.format(COUNTRY_FLAG_URL_TEMPLATE, countryCodeMetadata.getCountryCode()))
                         .build()
-                ).collect(Collectors.toList());
+                ).collect(ImmutableList.toImmutableList());
+        // the first entry wins if the mapping ever lists a country twice, same as the linear scan this replaces
+        this.countryFlagsByName = this.countryFlags.stream()
+                .collect(ImmutableMap.toImmutableMap(CountryFlagMetadata::getCountryName, Function.identity(),
+                        (firstCountryFlag, duplicateCountryFlag) -> firstCountryFlag));
+        this.countryFlagsByCode = this.countryFlags.stream()
+                .collect(ImmutableMap.toImmutableMap(CountryFlagMetadata::getCountryCode, Function.identity(),
+                        (firstCountryFlag, duplicateCountryFlag) -> firstCountryFlag));
+
+        try {
+            this.serializedCountryFlags = OBJECT_MAPPER.writeValueAsBytes(this.countryFlags);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException("Could not serialize the country flags", ioException);
+        }
+        this.countryFlagsEntityTag = new EntityTag(Hashing.sha256().hashBytes(this.serializedCountryFlags).toString());
+    }
+
+    public List<CountryFlagMetadata> getCountryFlags() {
+        return this.countryFlags;
+    }
+
+    public Optional<CountryFlagMetadata> getCountryFlagByName(String countryName) {
+        return countryName == null ? Optional.empty() : Optional.ofNullable(this.countryFlagsByName.get(countryName));
+    }
+
+    public Optional<CountryFlagMetadata> getCountryFlagByCode(String countryCode) {
+        return countryCode == null ? Optional.empty() : Optional.ofNullable(this.countryFlagsByCode.get(countryCode));
+    }
+
+    /**
+     * write the country flags as the JSON array served to clients, straight from the buffer they were serialized to
+     */
+    public void writeSerializedCountryFlags(OutputStream outputStream) throws IOException {
+        outputStream.write(this.serializedCountryFlags);
+    }
+
+    public int getSerializedCountryFlagsLength() {
+        return this.serializedCountryFlags.length;
+    }
+
+    public EntityTag getCountryFlagsEntityTag() {
+        return this.countryFlagsEntityTag;
     }
 }
\ No newline at end of file
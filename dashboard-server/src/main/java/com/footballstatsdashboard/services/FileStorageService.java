@@ -2,23 +2,55 @@ package com.footballstatsdashboard.services;
 
 import com.footballstatsdashboard.config.FileUploadConfiguration;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import io.dropwizard.lifecycle.Managed;
 import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.ws.rs.core.MediaType;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-public class FileStorageService implements IFileStorageService {
+import static com.footballstatsdashboard.services.ContentAddressedFileStore.TEMPORARY_DIRECTORY;
+
+public class FileStorageService implements IFileStorageService, Managed {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileStorageService.class);
+    // the leading bytes that identify each of the image formats that can be uploaded
+    private static final Map<String, byte[]> IMAGE_SIGNATURES = ImmutableMap.of(
+            "image/png", new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'},
+            "image/jpeg", new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},
+            "image/gif", new byte[] {'G', 'I', 'F', '8'}
+    );
+    private static final String IMAGE_VARIANTS_DIRECTORY = "variants";
+    private static final int MAX_SIGNATURE_LENGTH =
+            IMAGE_SIGNATURES.values().stream().mapToInt(signature -> signature.length).max().orElse(0);
 
     private Path uploadPath;
     private final FileUploadConfiguration fileUploadConfiguration;
+    // only set up when uploads are stored by the digest of their content
+    private ContentAddressedFileStore contentAddressedFileStore;
+    // file keys of the files in the upload directory, so that checking for a stored file does not have to go to disk
+    private final Set<String> storedFileKeys = ConcurrentHashMap.newKeySet();
+    private UploadDirectoryWatcher uploadDirectoryWatcher;
+    private ImageVariantCache imageVariantCache;
 
     public FileStorageService(FileUploadConfiguration fileUploadConfiguration) {
         this.fileUploadConfiguration = fileUploadConfiguration;
@@ -41,6 +73,69 @@ public class FileStorageService implements IFileStorageService {
                         "Failed to create folder for storing uploaded images!");
             }
         }
+
+        try {
+            Files.createDirectories(uploadPath.resolve(TEMPORARY_DIRECTORY));
+        } catch (IOException ioException) {
+            throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR_500,
+                    "Failed to create folder for storing uploaded images!");
+        }
+
+        if (this.fileUploadConfiguration.getStorageMode() == FileUploadConfiguration.StorageMode.CONTENT_ADDRESSED
+                && this.contentAddressedFileStore == null) {
+            ContentAddressedFileStore fileStore = new ContentAddressedFileStore(uploadPath);
+            try {
+                fileStore.initialize(uploadPath);
+            } catch (IOException ioException) {
+                LOGGER.error("Failed to initialize content addressed store at {}", uploadPath, ioException);
+                throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR_500,
+                        "Failed to set up storage for uploaded images!");
+            }
+            this.contentAddressedFileStore = fileStore;
+        } else if (this.contentAddressedFileStore == null) {
+            indexStoredFiles();
+            if (this.fileUploadConfiguration.isWatchUploadPath() && this.uploadDirectoryWatcher == null) {
+                try {
+                    this.uploadDirectoryWatcher = new UploadDirectoryWatcher(uploadPath, fileName -> {
+                        if (Files.isRegularFile(this.uploadPath.resolve(fileName))) {
+                            this.storedFileKeys.add(fileName);
+                        }
+                    }, this.storedFileKeys::remove, this::indexStoredFiles);
+                } catch (IOException ioException) {
+                    // the index still picks up files added behind its back when they are first looked for
+                    LOGGER.warn("Unable to watch {} for changes made outside of the service", uploadPath, ioException);
+                }
+            }
+        }
+
+        if (this.imageVariantCache == null) {
+            ImageVariantCache variantCache = new ImageVariantCache(uploadPath.resolve(IMAGE_VARIANTS_DIRECTORY),
+                    this.fileUploadConfiguration.getVariantCacheSizeInBytes());
+            try {
+                variantCache.initialize();
+            } catch (IOException ioException) {
+                LOGGER.error("Failed to initialize image variant cache at {}", uploadPath, ioException);
+                throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR_500,
+                        "Failed to set up storage for resized images!");
+            }
+            this.imageVariantCache = variantCache;
+        }
+    }
+
+    @Override
+    public void start() {
+        // the service is set up by initializeService when the first of the resources using it is created
+    }
+
+    /**
+     * stop watching the upload directory for changes made outside of the service
+     */
+    @Override
+    public void stop() throws IOException {
+        if (this.uploadDirectoryWatcher != null) {
+            this.uploadDirectoryWatcher.close();
+            this.uploadDirectoryWatcher = null;
+        }
     }
 
     public String storeFile(InputStream fileStream, String fileName, String mediaType, long fileSizeInBytes) {
@@ -63,28 +158,206 @@ public class FileStorageService implements IFileStorageService {
         // replace the extension (like .jpeg) with a delimiter
         // then append a random UUID and the file extension back again
         String fileKey = fileName.replace(fileExtension.get(), "_") + UUID.randomUUID() + fileExtension.get();
+        Path temporaryFile = null;
         try {
-            Files.copy(fileStream, this.uploadPath.resolve(fileKey));
+            // the size declared by the client cannot be trusted, so no more than a byte over the limit is ever read
+            long maxSizeInBytes = this.fileUploadConfiguration.getMaxSizeInBytes();
+            InputStream limitedStream = new BufferedInputStream(ByteStreams.limit(fileStream, maxSizeInBytes + 1));
+
+            // nor can the media type, so the content is checked to be an allowed image before it is written
+            limitedStream.mark(MAX_SIGNATURE_LENGTH);
+            byte[] fileHeader = limitedStream.readNBytes(MAX_SIGNATURE_LENGTH);
+            limitedStream.reset();
+            Optional<String> detectedMediaType = detectImageMediaType(fileHeader, fileHeader.length);
+            if (detectedMediaType.isEmpty()
+                    || !this.fileUploadConfiguration.getAllowedMediaTypes().contains(detectedMediaType.get())) {
+                String errorMessage = String.format("File content must be one of %s",
+                        this.fileUploadConfiguration.getAllowedMediaTypes());
+                LOGGER.error(errorMessage);
+                throw new ServiceException(HttpStatus.UNPROCESSABLE_ENTITY_422, errorMessage);
+            }
+
+            // the file is hashed while it is written if it is going to be stored by its digest
+            HashingInputStream hashingStream = this.contentAddressedFileStore != null
+                    ? new HashingInputStream(Hashing.sha256(), limitedStream)
+                    : null;
+            CountingInputStream countingStream =
+                    new CountingInputStream(hashingStream != null ? hashingStream : limitedStream);
+            temporaryFile = Files.createTempFile(this.uploadPath.resolve(TEMPORARY_DIRECTORY), "upload", null);
+            Files.copy(countingStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            if (countingStream.getCount() > maxSizeInBytes) {
+                String errorMessage = String.format("File size is larger than maximum allowed value of %d bytes!",
+                        maxSizeInBytes);
+                LOGGER.error(errorMessage);
+                throw new ServiceException(HttpStatus.UNPROCESSABLE_ENTITY_422, errorMessage);
+            }
+
+            // the file only appears under its file key once it is complete
+            if (hashingStream != null) {
+                this.contentAddressedFileStore.add(temporaryFile, hashingStream.hash().toString(), fileKey);
+            } else {
+                Files.move(temporaryFile, this.uploadPath.resolve(fileKey), StandardCopyOption.ATOMIC_MOVE);
+                this.storedFileKeys.add(fileKey);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Could not save file stream to location: " + this.uploadPath);
+        } finally {
+            deleteTemporaryFile(temporaryFile);
         }
         return fileKey;
     }
 
     public boolean doesFileExist(String fileKey) {
+        if (this.contentAddressedFileStore != null) {
+            return this.contentAddressedFileStore.getDigest(fileKey).isPresent();
+        }
+
+        if (this.storedFileKeys.contains(fileKey)) return true;
+
+        // only files put in the upload directory by something other than the service can be missing from the index,
+        // so a miss is confirmed on disk before it is reported
         // sanitize file key to remove any malicious characters like '../' to change directories
         String sanitizedFileKey = fileKey.replaceAll("[^\\d_a-zA-Z\\-\\s](?!jpg|jpeg|png)", "");
-        return Files.exists(this.uploadPath.resolve(sanitizedFileKey));
+        boolean doesFileExist = Files.isRegularFile(this.uploadPath.resolve(sanitizedFileKey));
+        if (doesFileExist) {
+            this.storedFileKeys.add(sanitizedFileKey);
+        }
+        return doesFileExist;
+    }
+
+    /**
+     * rebuild the index of stored file keys from a single scan of the upload directory
+     */
+    private void indexStoredFiles() {
+        try (Stream<Path> uploadedFiles = Files.list(this.uploadPath)) {
+            Set<String> fileKeys = uploadedFiles
+                    .filter(Files::isRegularFile)
+                    .map(uploadedFile -> uploadedFile.getFileName().toString())
+                    .collect(Collectors.toSet());
+            this.storedFileKeys.retainAll(fileKeys);
+            this.storedFileKeys.addAll(fileKeys);
+        } catch (IOException ioException) {
+            LOGGER.error("Failed to index files stored at {}", this.uploadPath, ioException);
+            throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR_500,
+                    "Failed to index uploaded images!");
+        }
     }
 
     public InputStream loadFile(String fileKey) throws IOException {
-        if (!doesFileExist(fileKey)) {
+        return Files.newInputStream(getFilePath(fileKey));
+    }
+
+    /**
+     * the location on disk of the file stored against the file key, which is only ever inside the upload directory
+     */
+    public Path getFilePath(String fileKey) {
+        Path filePath = this.contentAddressedFileStore != null
+                ? this.contentAddressedFileStore.getFilePath(fileKey).orElse(this.uploadPath)
+                : this.uploadPath.resolve(fileKey).normalize();
+        if (!filePath.startsWith(this.uploadPath.normalize()) || !doesFileExist(fileKey)) {
             String errorMessage = "No file found with key: " + fileKey;
             LOGGER.error(errorMessage);
             throw new ServiceException(HttpStatus.NOT_FOUND_404, errorMessage);
         }
+        return filePath;
+    }
+
+    /**
+     * the location on disk of a resized variant of the image stored against the file key, which is generated if it
+     * has not been asked for before; see {@link ImageVariantCache#getVariant}
+     */
+    public Path getImageVariantPath(String fileKey, Integer width, Integer height, String format) {
+        if (!isValidVariantDimension(width) || !isValidVariantDimension(height)) {
+            String errorMessage = String.format("Image width and height must be between 1 and %d pixels",
+                    ImageVariantCache.MAX_VARIANT_DIMENSION);
+            LOGGER.error(errorMessage);
+            throw new ServiceException(HttpStatus.BAD_REQUEST_400, errorMessage);
+        }
+
+        Path filePath = getFilePath(fileKey);
+        // variants of identical images are shared when the images are stored by their digest
+        String sourceId = getFileDigest(fileKey).orElse(fileKey);
+        try {
+            return this.imageVariantCache.getVariant(sourceId, filePath, getMediaType(filePath), width, height,
+                    format);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            LOGGER.error("Unable to resize image with key: {}. {}", fileKey, illegalArgumentException.getMessage());
+            throw new ServiceException(HttpStatus.UNPROCESSABLE_ENTITY_422, illegalArgumentException.getMessage());
+        } catch (IOException ioException) {
+            LOGGER.error("Failed to generate variant of image with key: {}", fileKey, ioException);
+            throw new ServiceException(HttpStatus.INTERNAL_SERVER_ERROR_500, "Failed to resize image!");
+        }
+    }
+
+    /**
+     * the digest of the content of the file stored against the file key, if uploads are stored by their digest
+     */
+    public Optional<String> getFileDigest(String fileKey) {
+        return this.contentAddressedFileStore != null
+                ? this.contentAddressedFileStore.getDigest(fileKey)
+                : Optional.empty();
+    }
+
+    /**
+     * write a file to where uploads are written before they are stored and remove it again, throwing if the upload
+     * directory can not be written to
+     */
+    public void probeUploadDirectory() throws IOException {
+        Path probeFile = null;
+        try {
+            probeFile = Files.createTempFile(this.uploadPath.resolve(TEMPORARY_DIRECTORY), "probe", null);
+            Files.write(probeFile, new byte[] {0});
+        } finally {
+            deleteTemporaryFile(probeFile);
+        }
+    }
+
+    /**
+     * the media type of the file stored against the file key, detected from the signature at the start of its content
+     * rather than trusted from its extension; falls back to what the platform makes of the file when the signature is
+     * not one of a known image format
+     */
+    public String getMediaType(String fileKey) throws IOException {
+        return getMediaType(getFilePath(fileKey));
+    }
+
+    public String getMediaType(Path filePath) throws IOException {
+        byte[] fileHeader = new byte[MAX_SIGNATURE_LENGTH];
+        int fileHeaderLength;
+        try (InputStream fileStream = Files.newInputStream(filePath)) {
+            fileHeaderLength = fileStream.readNBytes(fileHeader, 0, fileHeader.length);
+        }
+
+        Optional<String> detectedMediaType = detectImageMediaType(fileHeader, fileHeaderLength);
+        if (detectedMediaType.isPresent()) return detectedMediaType.get();
+        return Optional.ofNullable(Files.probeContentType(filePath)).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     * the image media type whose signature the header of a file starts with, if any
+     */
+    private static Optional<String> detectImageMediaType(byte[] fileHeader, int fileHeaderLength) {
+        return IMAGE_SIGNATURES.entrySet().stream()
+                .filter(imageSignature -> {
+                    byte[] signature = imageSignature.getValue();
+                    return fileHeaderLength >= signature.length
+                            && Arrays.equals(fileHeader, 0, signature.length, signature, 0, signature.length);
+                })
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    private void deleteTemporaryFile(Path temporaryFile) {
+        if (temporaryFile == null) return;
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException ioException) {
+            LOGGER.warn("Failed to clean up temporary file: {}", temporaryFile, ioException);
+        }
+    }
 
-        return Files.newInputStream(this.uploadPath.resolve(fileKey));
+    private boolean isValidVariantDimension(Integer dimension) {
+        return dimension == null || (dimension >= 1 && dimension <= ImageVariantCache.MAX_VARIANT_DIMENSION);
     }
 
     private Optional<String> getExtensionFromFileName(String filename) {
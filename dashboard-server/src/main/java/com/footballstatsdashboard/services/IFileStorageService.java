@@ -2,10 +2,17 @@ package com.footballstatsdashboard.services;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface IFileStorageService {
     void initializeService();
     String storeFile(InputStream fileStream, String fileName, String mediaType, long fileSizeInBytes);
     boolean doesFileExist(String fileKey);
     InputStream loadFile(String fileKey) throws IOException;
+    Path getFilePath(String fileKey);
+    String getMediaType(String fileKey) throws IOException;
+    String getMediaType(Path filePath) throws IOException;
+    Path getImageVariantPath(String fileKey, Integer width, Integer height, String format);
+    Optional<String> getFileDigest(String fileKey);
 }
\ No newline at end of file
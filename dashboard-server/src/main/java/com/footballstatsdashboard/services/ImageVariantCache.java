@@ -0,0 +1,240 @@
+package com.footballstatsdashboard.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resized variants of uploaded images, generated the first time they are asked for and kept on disk next to the
+ * originals. The variants are bounded by their total size on disk, with the least recently used ones evicted first.
+ * Source images are only decoded when their dimensions are within a pixel budget, and only a few variants are
+ * generated at a time, so that large uploads can not exhaust the heap.
+ */
+final class ImageVariantCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageVariantCache.class);
+    static final int MAX_VARIANT_DIMENSION = 2048;
+    private static final long DEFAULT_MAX_SOURCE_PIXELS = 40_000_000L;
+    private static final int MAX_CONCURRENT_GENERATIONS = 2;
+    private static final Set<String> SUPPORTED_FORMATS = Set.of("png", "jpeg");
+    private static final String TEMPORARY_FILE_PREFIX = ".generating";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Path variantsPath;
+    private final long maxSizeInBytes;
+    // the most pixels a source image may have to be decoded at all, whatever size the variant is
+    private final long maxSourcePixels;
+    // variant file name -> its size in bytes, in order of least to most recently used
+    private final LinkedHashMap<String, Long> variantSizes = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private long totalSizeInBytes;
+    private final Semaphore generationPermits = new Semaphore(MAX_CONCURRENT_GENERATIONS);
+
+    ImageVariantCache(Path variantsPath, long maxSizeInBytes) {
+        this(variantsPath, maxSizeInBytes, DEFAULT_MAX_SOURCE_PIXELS);
+    }
+
+    ImageVariantCache(Path variantsPath, long maxSizeInBytes, long maxSourcePixels) {
+        this.variantsPath = variantsPath;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    /**
+     * pick up the variants generated before the application was last stopped, treating the ones generated last as
+     * the ones used most recently
+     */
+    void initialize() throws IOException {
+        Files.createDirectories(this.variantsPath);
+        List<Path> variantFiles;
+        try (Stream<Path> files = Files.list(this.variantsPath)) {
+            variantFiles = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        synchronized (this) {
+            for (Path variantFile : variantFiles.stream()
+                    .sorted(Comparator.comparing(variantFile -> variantFile.toFile().lastModified()))
+                    .collect(Collectors.toList())) {
+                if (variantFile.getFileName().toString().startsWith(TEMPORARY_FILE_PREFIX)) {
+                    // left behind by a variant that was being generated when the application stopped
+                    Files.deleteIfExists(variantFile);
+                } else {
+                    addVariant(variantFile.getFileName().toString(), Files.size(variantFile));
+                }
+            }
+        }
+    }
+
+    /**
+     * the variant of the source image that fits within the given width and height, if any, in the given format,
+     * defaulting to the format of the source image; the source image is never scaled up
+     *
+     * @param sourceId identifies the content of the source image, so that variants are shared by identical images
+     */
+    Path getVariant(String sourceId, Path sourcePath, String sourceMediaType, Integer width, Integer height,
+                    String format) throws IOException {
+        String variantFormat = getVariantFormat(format, sourceMediaType);
+        String variantFileName = String.format("%s_w%s_h%s.%s", sourceId, width == null ? "auto" : width,
+                height == null ? "auto" : height, variantFormat);
+        Path variantPath = this.variantsPath.resolve(variantFileName);
+
+        synchronized (this) {
+            if (this.variantSizes.get(variantFileName) != null && Files.exists(variantPath)) {
+                return variantPath;
+            }
+        }
+
+        try {
+            this.generationPermits.acquire();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to resize image", interruptedException);
+        }
+        try {
+            generateVariant(sourcePath, variantPath, width, height, variantFormat);
+        } finally {
+            this.generationPermits.release();
+        }
+
+        synchronized (this) {
+            addVariant(variantFileName, Files.size(variantPath));
+        }
+        return variantPath;
+    }
+
+    private void generateVariant(Path sourcePath, Path variantPath, Integer width, Integer height,
+                                 String variantFormat) throws IOException {
+        BufferedImage sourceImage = readSourceImage(sourcePath, width, height);
+        BufferedImage variantImage = resize(sourceImage, width, height, variantFormat);
+
+        Path temporaryFile = Files.createTempFile(this.variantsPath, TEMPORARY_FILE_PREFIX, null);
+        try {
+            if (!ImageIO.write(variantImage, variantFormat, temporaryFile.toFile())) {
+                throw new IllegalArgumentException("No writer available for image format: " + variantFormat);
+            }
+            Files.move(temporaryFile, variantPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * decode the source image, checking its dimensions from its header first and skipping the rows and columns that
+     * would be scaled away anyway, so that only as many pixels as the variant needs are held in memory
+     */
+    private BufferedImage readSourceImage(Path sourcePath, Integer width, Integer height) throws IOException {
+        try (ImageInputStream imageStream = ImageIO.createImageInputStream(sourcePath.toFile())) {
+            Iterator<ImageReader> imageReaders = imageStream == null
+                    ? null
+                    : ImageIO.getImageReaders(imageStream);
+            if (imageReaders == null || !imageReaders.hasNext()) {
+                throw new IllegalArgumentException("The image cannot be decoded to be resized");
+            }
+
+            ImageReader imageReader = imageReaders.next();
+            try {
+                imageReader.setInput(imageStream, true, true);
+                int sourceWidth = imageReader.getWidth(0);
+                int sourceHeight = imageReader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > this.maxSourcePixels) {
+                    throw new IllegalArgumentException(String.format(
+                            "The image is too large to be resized. Found %dx%d pixels, at most %d allowed",
+                            sourceWidth, sourceHeight, this.maxSourcePixels));
+                }
+
+                int subsampling = (int) Math.max(1, Math.floor(1 / getScale(sourceWidth, sourceHeight, width,
+                        height)));
+                ImageReadParam readParam = imageReader.getDefaultReadParam();
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return imageReader.read(0, readParam);
+            } finally {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    private void addVariant(String variantFileName, long sizeInBytes) throws IOException {
+        Long previousSizeInBytes = this.variantSizes.put(variantFileName, sizeInBytes);
+        this.totalSizeInBytes += sizeInBytes - (previousSizeInBytes == null ? 0 : previousSizeInBytes);
+
+        // evict the least recently used variants, other than the one just added, until the rest fit
+        Iterator<Map.Entry<String, Long>> variantIterator = this.variantSizes.entrySet().iterator();
+        while (this.totalSizeInBytes > this.maxSizeInBytes && variantIterator.hasNext()) {
+            Map.Entry<String, Long> leastRecentlyUsedVariant = variantIterator.next();
+            if (leastRecentlyUsedVariant.getKey().equals(variantFileName)) continue;
+
+            Files.deleteIfExists(this.variantsPath.resolve(leastRecentlyUsedVariant.getKey()));
+            this.totalSizeInBytes -= leastRecentlyUsedVariant.getValue();
+            variantIterator.remove();
+            LOGGER.debug("Evicted image variant: {}", leastRecentlyUsedVariant.getKey());
+        }
+    }
+
+    private static String getVariantFormat(String format, String sourceMediaType) {
+        if (format == null) {
+            return "image/jpeg".equals(sourceMediaType) ? "jpeg" : "png";
+        }
+        String variantFormat = format.toLowerCase(Locale.ROOT);
+        variantFormat = "jpg".equals(variantFormat) ? "jpeg" : variantFormat;
+        if (!SUPPORTED_FORMATS.contains(variantFormat)) {
+            throw new IllegalArgumentException(String.format("Image format must be one of %s. Found %s",
+                    SUPPORTED_FORMATS, format));
+        }
+        return variantFormat;
+    }
+
+    private static BufferedImage resize(BufferedImage sourceImage, Integer width, Integer height, String format) {
+        double scale = getScale(sourceImage.getWidth(), sourceImage.getHeight(), width, height);
+        int variantWidth = Math.max(1, (int) Math.round(sourceImage.getWidth() * scale));
+        int variantHeight = Math.max(1, (int) Math.round(sourceImage.getHeight() * scale));
+
+        // jpeg has no alpha channel, so transparent areas are flattened onto white instead of turning black
+        boolean hasAlpha = !"jpeg".equals(format);
+        BufferedImage variantImage = new BufferedImage(variantWidth, variantHeight,
+                hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = variantImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!hasAlpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, variantWidth, variantHeight);
+            }
+            graphics.drawImage(sourceImage, 0, 0, variantWidth, variantHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return variantImage;
+    }
+
+    /**
+     * how much an image of the given dimensions is scaled by to fit within the given width and height
+     */
+    private static double getScale(int sourceWidth, int sourceHeight, Integer width, Integer height) {
+        return Math.min(1, Math.min(
+                width == null ? 1 : (double) width / sourceWidth,
+                height == null ? 1 : (double) height / sourceHeight));
+    }
+}
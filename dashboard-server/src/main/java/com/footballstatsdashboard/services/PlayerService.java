@@ -1,7 +1,6 @@
 package com.footballstatsdashboard.services;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.footballstatsdashboard.api.model.CountryCodeMetadata;
+import com.footballstatsdashboard.api.model.CountryFlagMetadata;
 import com.footballstatsdashboard.api.model.ImmutablePlayer;
 import com.footballstatsdashboard.api.model.Player;
 import com.footballstatsdashboard.api.model.Club;
@@ -14,12 +13,13 @@ import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
 import com.footballstatsdashboard.api.model.player.ImmutableMetadata;
 import com.footballstatsdashboard.api.model.player.Metadata;
 import com.footballstatsdashboard.core.exceptions.ServiceException;
-import com.footballstatsdashboard.core.utils.FixtureLoader;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
 import com.footballstatsdashboard.core.validations.Validation;
 import com.footballstatsdashboard.core.validations.ValidationSeverity;
+import com.footballstatsdashboard.db.AsyncEntityDAOAdapter;
+import com.footballstatsdashboard.db.IAsyncEntityDAO;
 import com.footballstatsdashboard.db.IPlayerEntityDAO;
 import com.google.common.collect.ImmutableList;
-import io.dropwizard.jackson.Jackson;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
@@ -27,7 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityNotFoundException;
 import javax.persistence.NoResultException;
-import java.io.IOException;
+import javax.persistence.OptimisticLockException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,20 +37,29 @@ import java.util.List;
 import java.util.Objects;
 import java.util.OptionalDouble;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
-import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_CODE_MAPPING_FNAME;
-import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_FLAG_URL_TEMPLATE;
 import static com.footballstatsdashboard.core.utils.Constants.PLAYER_ATTRIBUTE_CATEGORY_MAP;
 
 public class PlayerService {
-    private static final FixtureLoader FIXTURE_LOADER = new FixtureLoader(Jackson.newObjectMapper().copy());
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerService.class);
 
     private final IPlayerEntityDAO playerDAO;
+    private final IAsyncEntityDAO<Player> asyncPlayerDAO;
+    private final CountryFlagsLookupService countryFlagsLookupService;
 
     public PlayerService(IPlayerEntityDAO playerDAO) {
+        // without a non-blocking DAO of its own, the async operations run the blocking DAO on the calling thread
+        this(playerDAO, new AsyncEntityDAOAdapter<>(playerDAO, Runnable::run), new CountryFlagsLookupService());
+    }
+
+    public PlayerService(IPlayerEntityDAO playerDAO, IAsyncEntityDAO<Player> asyncPlayerDAO,
+                         CountryFlagsLookupService countryFlagsLookupService) {
         this.playerDAO = playerDAO;
+        this.asyncPlayerDAO = asyncPlayerDAO;
+        this.countryFlagsLookupService = countryFlagsLookupService;
     }
 
     public Player getPlayer(UUID playerId) {
@@ -63,7 +72,19 @@ public class PlayerService {
         }
     }
 
-    public Player createPlayer(Player incomingPlayer, Club clubDataForNewPlayer, String createdBy) throws IOException {
+    public CompletionStage<Player> getPlayerAsync(UUID playerId) {
+        return this.asyncPlayerDAO.getEntity(playerId)
+                .exceptionally(throwable -> {
+                    if (AsyncUtils.unwrap(throwable) instanceof EntityNotFoundException) {
+                        String errorMessage = String.format("No player entity found for ID: %s", playerId);
+                        LOGGER.error(errorMessage);
+                        throw new ServiceException(HttpStatus.NOT_FOUND_404, errorMessage);
+                    }
+                    throw new CompletionException(AsyncUtils.unwrap(throwable));
+                });
+    }
+
+    public Player createPlayer(Player incomingPlayer, Club clubDataForNewPlayer, String createdBy) {
         List<Validation> validationList = validateIncomingPlayer(incomingPlayer, null);
         if (!validationList.isEmpty()) {
             LOGGER.error("Unable to create new player! Found errors: {}", validationList);
@@ -72,15 +93,9 @@ public class PlayerService {
         }
 
         // process and persist the player data if no validations found
-        TypeReference<List<CountryCodeMetadata>> countryCodeMetadataTypeRef = new TypeReference<>() { };
-        List<CountryCodeMetadata> countryCodeMetadataList =
-                FIXTURE_LOADER.loadFixture(COUNTRY_CODE_MAPPING_FNAME, countryCodeMetadataTypeRef);
-        String countryLogo = countryCodeMetadataList.stream()
-                .filter(countryCodeMetadata ->
-                        countryCodeMetadata.getCountryName().equals(incomingPlayer.getMetadata().getCountry()))
-                .findFirst()
-                .map(countryCodeMetadata ->
-                        String.format(COUNTRY_FLAG_URL_TEMPLATE, countryCodeMetadata.getCountryCode()))
+        String countryLogo = this.countryFlagsLookupService
+                .getCountryFlagByName(incomingPlayer.getMetadata().getCountry())
+                .map(CountryFlagMetadata::getCountryFlagUrl)
                 .orElse("");
 
         // add club information and other derived information to the metadata entity
@@ -145,8 +160,25 @@ public class PlayerService {
     }
 
     public Player updatePlayer(Player incomingPlayer, UUID existingPlayerId, UUID authorizedUserId) {
-        Player existingPlayer = getPlayer(existingPlayerId);
+        try {
+            // the update is applied to the player as it is stored, so that it never overwrites changes made to the
+            // player by another request since it was last read
+            return this.playerDAO.modifyEntity(existingPlayerId,
+                    existingPlayer -> updatePlayerData(incomingPlayer, existingPlayer, existingPlayerId,
+                            authorizedUserId));
+        } catch (EntityNotFoundException entityNotFoundException) {
+            String errorMessage = String.format("No player entity found for ID: %s", existingPlayerId);
+            LOGGER.error(errorMessage);
+            throw new ServiceException(HttpStatus.NOT_FOUND_404, errorMessage);
+        } catch (OptimisticLockException optimisticLockException) {
+            LOGGER.error("Player with ID: {} was modified by another request while being updated", existingPlayerId);
+            throw new ServiceException(HttpStatus.CONFLICT_409,
+                    "Player was modified by another request, please retry with the latest data!");
+        }
+    }
 
+    private Player updatePlayerData(Player incomingPlayer, Player existingPlayer, UUID existingPlayerId,
+                                    UUID authorizedUserId) {
         try {
             // verify that the current user has access to the player they are trying to delete
             if (!this.playerDAO.doesEntityBelongToUser(existingPlayerId, authorizedUserId)) {
@@ -195,10 +227,7 @@ public class PlayerService {
                 .attributes(updatedPlayerAttributes)
                 .lastModifiedDate(LocalDate.now());
 
-        Player updatedPlayer = updatedPlayerBuilder.build();
-
-        this.playerDAO.updateEntity(existingPlayerId, updatedPlayer);
-        return updatedPlayer;
+        return updatedPlayerBuilder.build();
     }
 
     public void deletePlayer(UUID playerId, UUID authorizedUserId) {
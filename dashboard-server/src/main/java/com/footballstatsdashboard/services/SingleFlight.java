@@ -0,0 +1,95 @@
+package com.footballstatsdashboard.services;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one, so that a burst of identical requests costs the data store a
+ * single round trip. Callers that ask for a key while it is being loaded share the result of that load, failures
+ * included; once the load completes, the next caller starts a new one, so nothing is kept beyond the load itself.
+ *
+ * The number of loads started and of calls that joined a load already in flight are reported to the metric registry
+ * under the given name.
+ *
+ * @param <K> type of the key the loads are identified by
+ * @param <V> type of the loaded value
+ */
+final class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalescedCalls;
+
+    SingleFlight(MetricRegistry metricRegistry, String name) {
+        this.loads = metricRegistry.counter(MetricRegistry.name(name, "loads"));
+        this.coalescedCalls = metricRegistry.counter(MetricRegistry.name(name, "coalesced"));
+    }
+
+    /**
+     * the result of the load in flight for the key, or of the given non-blocking load if there is none
+     */
+    CompletionStage<V> execute(K key, Supplier<CompletionStage<V>> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            this.coalescedCalls.inc();
+            // a copy, so that callers completing the stage they are handed cannot affect the others
+            return inFlightLoad.thenApply(value -> value);
+        }
+
+        this.loads.inc();
+        try {
+            loader.get().whenComplete((value, throwable) -> complete(key, load, value, throwable));
+        } catch (RuntimeException exception) {
+            complete(key, load, null, exception);
+        }
+        return load.thenApply(value -> value);
+    }
+
+    /**
+     * the result of the load in flight for the key, or of the given blocking load, run on the calling thread, if there
+     * is none
+     */
+    V executeBlocking(K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            this.coalescedCalls.inc();
+            try {
+                return inFlightLoad.join();
+            } catch (CompletionException completionException) {
+                if (completionException.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) completionException.getCause();
+                }
+                throw completionException;
+            }
+        }
+
+        this.loads.inc();
+        try {
+            V value = loader.get();
+            complete(key, load, value, null);
+            return value;
+        } catch (RuntimeException exception) {
+            complete(key, load, null, exception);
+            throw exception;
+        }
+    }
+
+    private void complete(K key, CompletableFuture<V> load, V value, Throwable throwable) {
+        // removed before it is completed, so that callers arriving afterwards start a load of their own instead of
+        // being handed a result that may already be out of date
+        this.inFlightLoads.remove(key, load);
+        if (throwable != null) {
+            load.completeExceptionally(throwable);
+        } else {
+            load.complete(value);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.footballstatsdashboard.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.function.Consumer;
+
+/**
+ * Reports files created in or removed from the upload directory by anything other than the file storage service, so
+ * that its index of stored file keys can be kept in line with what is actually on disk. Runs on a daemon thread of its
+ * own until it is closed. A callback that fails is logged and does not stop the events that follow from being reported.
+ */
+final class UploadDirectoryWatcher implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UploadDirectoryWatcher.class);
+
+    private final WatchService watchService;
+
+    /**
+     * @param onFileCreated called with the name of each file created in the directory
+     * @param onFileDeleted called with the name of each file removed from the directory
+     * @param onOverflow called when events were lost, after which the directory has to be scanned again
+     */
+    UploadDirectoryWatcher(Path uploadPath, Consumer<String> onFileCreated, Consumer<String> onFileDeleted,
+                           Runnable onOverflow) throws IOException {
+        this.watchService = uploadPath.getFileSystem().newWatchService();
+        try {
+            uploadPath.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException ioException) {
+            this.watchService.close();
+            throw ioException;
+        }
+
+        Thread watcherThread = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey watchKey = this.watchService.take();
+                    for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+                        try {
+                            if (watchEvent.kind() == StandardWatchEventKinds.OVERFLOW) {
+                                onOverflow.run();
+                            } else {
+                                String fileName = watchEvent.context().toString();
+                                if (watchEvent.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                                    onFileCreated.accept(fileName);
+                                } else {
+                                    onFileDeleted.accept(fileName);
+                                }
+                            }
+                        } catch (RuntimeException exception) {
+                            LOGGER.error("Failed to handle {} event for {}", watchEvent.kind(), uploadPath, exception);
+                        }
+                    }
+                    if (!watchKey.reset()) {
+                        LOGGER.warn("Stopped watching {} since it is no longer accessible", uploadPath);
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                LOGGER.debug("Stopped watching {}", uploadPath);
+            }
+        }, "upload-directory-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * stop watching the directory, which ends the watcher thread
+     */
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+}
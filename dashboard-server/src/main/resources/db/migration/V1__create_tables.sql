@@ -0,0 +1,54 @@
+-- tables are only created if they do not exist so that databases created before migrations were versioned are kept
+-- as they are; the migrations that follow bring those up to the shape the tables are created in here
+
+CREATE TABLE IF NOT EXISTS user (id VARCHAR PRIMARY KEY, firstName VARCHAR(100), lastName VARCHAR(100),
+    email VARCHAR(100), password VARCHAR(100), createdBy VARCHAR (100), createdDate DATE, lastModifiedDate DATE,
+    role VARCHAR, type VARCHAR);
+
+CREATE TABLE IF NOT EXISTS authToken (id VARCHAR PRIMARY KEY, userId VARCHAR, lastAccessUTC TIMESTAMP,
+    FOREIGN KEY (userId) REFERENCES user (id));
+
+CREATE TABLE IF NOT EXISTS club (id VARCHAR PRIMARY KEY, name VARCHAR, logo VARCHAR, transferBudget BIGINT,
+    wageBudget BIGINT, managerFunds BIGINT, userId VARCHAR, createdDate DATE, lastModifiedDate DATE,
+    createdBy VARCHAR, type VARCHAR, FOREIGN KEY (userId) REFERENCES user (id));
+
+CREATE TABLE IF NOT EXISTS managerFundsHistory (id VARCHAR PRIMARY KEY, managerFunds BIGINT, createdAt TIMESTAMP,
+    clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id));
+
+CREATE TABLE IF NOT EXISTS incomeHistory (id VARCHAR PRIMARY KEY, income BIGINT, createdAt TIMESTAMP,
+    clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id));
+
+CREATE TABLE IF NOT EXISTS expenditureHistory (id VARCHAR PRIMARY KEY, expenditure BIGINT, createdAt TIMESTAMP,
+    clubID VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id));
+
+CREATE TABLE IF NOT EXISTS boardObjectives (id VARCHAR PRIMARY KEY, clubId VARCHAR, title VARCHAR,
+    description VARCHAR, isCompleted BIT, createdDate DATE, lastModifiedDate DATE, createdBy VARCHAR, type VARCHAR,
+    FOREIGN KEY (clubId) REFERENCES club (id));
+
+CREATE TABLE IF NOT EXISTS player (id VARCHAR PRIMARY KEY, clubId VARCHAR, currentAbility INT, createdDate DATE,
+    lastModifiedDate DATE, createdBy VARCHAR, FOREIGN KEY (clubId) REFERENCES club (id));
+
+CREATE TABLE IF NOT EXISTS playerMetadata (id VARCHAR PRIMARY KEY AUTO_INCREMENT, playerId VARCHAR, name VARCHAR,
+    club VARCHAR, country VARCHAR, photo VARCHAR, clubLogo VARCHAR, countryLogo VARCHAR, age INT,
+    FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS playerAbilityHistory (id VARCHAR PRIMARY KEY, playerId VARCHAR, ability INT,
+    createdAt TIMESTAMP, FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS playerRole (id VARCHAR PRIMARY KEY, playerId VARCHAR, name VARCHAR,
+    associatedAttributes VARCHAR, FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS playerAttribute (id VARCHAR PRIMARY KEY, playerId VARCHAR, name VARCHAR,
+    category VARCHAR, "group" VARCHAR, currentValue INT, FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS playerAttributeHistory (id VARCHAR PRIMARY KEY, playerId VARCHAR, attributeName VARCHAR,
+    attributeValue INT, createdAt TIMESTAMP, FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS matchPerformance (id VARCHAR PRIMARY KEY, playerId VARCHAR, competitionId VARCHAR,
+    appearances INT, goals INT, penalties INT, assists INT, playerOfTheMatch INT, yellowCards INT, redCards INT,
+    tackles INT, fouls INT, dribbles INT, passCompletionRate FLOAT, currentMatchRating FLOAT, createdDate DATE,
+    lastModifiedDate DATE, createdBy VARCHAR, type VARCHAR, FOREIGN KEY (playerId) REFERENCES player (id));
+
+CREATE TABLE IF NOT EXISTS matchRatingHistory (id VARCHAR PRIMARY KEY, matchRating FLOAT,
+    matchPerformanceId VARCHAR, competitionId VARCHAR, createdAt TIMESTAMP,
+    FOREIGN KEY (matchPerformanceId) REFERENCES matchPerformance (id));
@@ -0,0 +1,20 @@
+-- the current value of each tracked quantity is kept alongside the row it belongs to, so that reads do not need to
+-- pick the latest entry out of its history; add those columns to tables created before they existed and fill them in
+-- from the latest history entries
+
+ALTER TABLE player ADD COLUMN IF NOT EXISTS currentAbility INT;
+UPDATE player p SET currentAbility = (SELECT ability FROM playerAbilityHistory pah WHERE pah.playerId = p.id
+    ORDER BY pah.createdAt DESC LIMIT 1) WHERE currentAbility IS NULL;
+
+ALTER TABLE playerAttribute ADD COLUMN IF NOT EXISTS currentValue INT;
+UPDATE playerAttribute pa SET currentValue = (SELECT attributeValue FROM playerAttributeHistory pah
+    WHERE pah.playerId = pa.playerId AND pah.attributeName = pa.name ORDER BY pah.createdAt DESC LIMIT 1)
+    WHERE currentValue IS NULL;
+
+ALTER TABLE club ADD COLUMN IF NOT EXISTS managerFunds BIGINT;
+UPDATE club c SET managerFunds = (SELECT managerFunds FROM managerFundsHistory mfh WHERE mfh.clubId = c.id
+    ORDER BY mfh.createdAt DESC LIMIT 1) WHERE managerFunds IS NULL;
+
+ALTER TABLE matchPerformance ADD COLUMN IF NOT EXISTS currentMatchRating FLOAT;
+UPDATE matchPerformance mp SET currentMatchRating = (SELECT matchRating FROM matchRatingHistory mrh
+    WHERE mrh.matchPerformanceId = mp.id ORDER BY mrh.createdAt DESC LIMIT 1) WHERE currentMatchRating IS NULL;
@@ -0,0 +1,17 @@
+-- H2 already indexes the referencing columns of every foreign key when the constraint is created, which serves the
+-- lookups by a single foreign key (authToken.userId, club.userId, player.clubId, playerMetadata.playerId,
+-- playerRole.playerId, boardObjectives.clubId, matchRatingHistory.matchPerformanceId and the club and player history
+-- tables). H2 does not read rows in index order past the columns matched by equality, so extending those indexes with
+-- the column a lookup sorts on would not spare the sort; the indexes below cover the lookups that match on a column
+-- that is not a foreign key or on more than one column
+
+CREATE INDEX IF NOT EXISTS idx_user_email ON user (email);
+
+CREATE INDEX IF NOT EXISTS idx_playerAttribute_player_name ON playerAttribute (playerId, name);
+CREATE INDEX IF NOT EXISTS idx_playerAttributeHistory_player_attribute
+    ON playerAttributeHistory (playerId, attributeName, createdAt);
+
+CREATE INDEX IF NOT EXISTS idx_matchPerformance_player_competition ON matchPerformance (playerId, competitionId);
+
+-- refresh the statistics the planner weighs the indexes by, which H2 otherwise only gathers once enough rows change
+ANALYZE;
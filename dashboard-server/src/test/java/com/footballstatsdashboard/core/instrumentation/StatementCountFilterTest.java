@@ -0,0 +1,95 @@
+package com.footballstatsdashboard.core.instrumentation;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.UriInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+public class StatementCountFilterTest {
+    private static final int STATEMENT_COUNT_THRESHOLD = 10;
+    private static final int STATEMENTS_ISSUED_BY_RESOURCE = 3;
+
+    private final Map<String, Object> requestProperties = new HashMap<>();
+    private MetricRegistry metricRegistry;
+    private StatementCountFilter statementCountFilter;
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    @Mock
+    private ContainerResponseContext responseContext;
+
+    @Mock
+    private ContainerRequest containerRequest;
+
+    @Mock
+    private RequestEvent resourceMethodFinishedEvent;
+
+    @Mock
+    private UriInfo uriInfo;
+
+    /**
+     * set up a filter and a request whose properties are kept in a map before each test case is run
+     */
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+
+        doAnswer(invocation -> requestProperties.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(requestContext).setProperty(anyString(), any());
+        when(requestContext.getProperty(anyString()))
+                .thenAnswer(invocation -> requestProperties.get((String) invocation.getArgument(0)));
+        when(requestContext.getMethod()).thenReturn("GET");
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(containerRequest.getProperty(anyString()))
+                .thenAnswer(invocation -> requestProperties.get((String) invocation.getArgument(0)));
+        when(resourceMethodFinishedEvent.getType()).thenReturn(RequestEvent.Type.RESOURCE_METHOD_FINISHED);
+        when(resourceMethodFinishedEvent.getContainerRequest()).thenReturn(containerRequest);
+
+        metricRegistry = new MetricRegistry();
+        statementCountFilter = new StatementCountFilter(STATEMENT_COUNT_THRESHOLD, metricRegistry);
+    }
+
+    /**
+     * given a request whose resource method has returned before its response is filtered, as a suspended one does,
+     * tests that statements issued on the request thread after that are not counted against it
+     */
+    @Test
+    public void statementsAfterResourceMethodFinishesAreNotCounted() {
+        // setup
+        RequestEventListener requestEventListener = statementCountFilter.onRequest(resourceMethodFinishedEvent);
+        statementCountFilter.filter(requestContext);
+        for (int statementIdx = 0; statementIdx < STATEMENTS_ISSUED_BY_RESOURCE; statementIdx++) {
+            StatementCounter.recordStatement();
+        }
+
+        // execute
+        requestEventListener.onEvent(resourceMethodFinishedEvent);
+        // issued on the request thread once it has moved on from the request
+        StatementCounter.recordStatement();
+        statementCountFilter.filter(requestContext, responseContext);
+
+        // assert
+        Histogram statementsPerRequest = metricRegistry.histogram(
+                MetricRegistry.name(StatementCountFilter.class, "statements-per-request"));
+        assertEquals(1, statementsPerRequest.getCount());
+        assertEquals(STATEMENTS_ISSUED_BY_RESOURCE, statementsPerRequest.getSnapshot().getMax());
+    }
+}
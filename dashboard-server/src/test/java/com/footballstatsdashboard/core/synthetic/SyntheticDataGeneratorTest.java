@@ -0,0 +1,99 @@
+package com.footballstatsdashboard.core.synthetic;
+
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.footballstatsdashboard.core.utils.Constants.PLAYER_ATTRIBUTE_CATEGORY_MAP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticDataGeneratorTest {
+    private static final int NUMBER_OF_PLAYERS = 4;
+    private static final int NUMBER_OF_SEASONS = 2;
+    private static final int NUMBER_OF_MONTHS = NUMBER_OF_SEASONS * 12;
+    private static final int NUMBER_OF_COMPETITIONS = 3;
+    private static final long SEED = 7L;
+
+    private SyntheticDataConfiguration configuration;
+
+    /**
+     * set up a small dataset configuration before each test case is run
+     */
+    @Before
+    public void initialize() {
+        configuration = new SyntheticDataConfiguration();
+        configuration.setSeed(SEED);
+        configuration.setPlayersPerClub(NUMBER_OF_PLAYERS);
+        configuration.setSeasons(NUMBER_OF_SEASONS);
+        configuration.setCompetitions(NUMBER_OF_COMPETITIONS);
+    }
+
+    /**
+     * given the same configuration, tests that the same club is generated every time, IDs included
+     */
+    @Test
+    public void generateClubIsDeterministic() {
+        // setup
+        UUID userId = UUID.randomUUID();
+
+        // execute
+        SyntheticClub firstClub = new SyntheticDataGenerator(configuration).generateClub(userId, 1, 2);
+        SyntheticClub secondClub = new SyntheticDataGenerator(configuration).generateClub(userId, 1, 2);
+
+        // assert
+        assertEquals(firstClub, secondClub);
+    }
+
+    /**
+     * given a different seed, tests that a different club is generated
+     */
+    @Test
+    public void generateClubDependsOnSeed() {
+        // setup
+        UUID userId = UUID.randomUUID();
+        SyntheticClub club = new SyntheticDataGenerator(configuration).generateClub(userId, 0, 0);
+        configuration.setSeed(SEED + 1);
+
+        // execute
+        SyntheticClub clubWithOtherSeed = new SyntheticDataGenerator(configuration).generateClub(userId, 0, 0);
+
+        // assert
+        assertNotEquals(club.getClub().getId(), clubWithOtherSeed.getClub().getId());
+        assertNotEquals(club.getPlayers(), clubWithOtherSeed.getPlayers());
+    }
+
+    /**
+     * given a generated club, tests that each of its players has every attribute with a history going back over every
+     * season, and a match performance in every competition
+     */
+    @Test
+    public void generateClubGeneratesFullPlayers() {
+        // execute
+        SyntheticClub syntheticClub = new SyntheticDataGenerator(configuration).generateClub(UUID.randomUUID(), 0, 0);
+
+        // assert
+        assertEquals(NUMBER_OF_PLAYERS, syntheticClub.getPlayers().size());
+        assertEquals(NUMBER_OF_PLAYERS * NUMBER_OF_COMPETITIONS, syntheticClub.getMatchPerformances().size());
+        for (Player player : syntheticClub.getPlayers()) {
+            assertEquals(syntheticClub.getClub().getId(), player.getClubId());
+            assertEquals(PLAYER_ATTRIBUTE_CATEGORY_MAP.keySet(),
+                    player.getAttributes().stream().map(Attribute::getName).collect(Collectors.toSet()));
+            for (Attribute attribute : player.getAttributes()) {
+                assertEquals(NUMBER_OF_MONTHS, attribute.getHistory().size());
+                assertEquals(attribute.getValue(), attribute.getHistory().get(NUMBER_OF_MONTHS - 1));
+            }
+            assertEquals(NUMBER_OF_MONTHS, player.getAbility().getHistory().size());
+            assertTrue(syntheticClub.getMatchPerformances().stream()
+                    .filter(matchPerformance -> player.getId().equals(matchPerformance.getPlayerId()))
+                    .allMatch(matchPerformance -> matchPerformance.getMatchRating().getHistory().size()
+                            == matchPerformance.getAppearances()));
+        }
+    }
+}
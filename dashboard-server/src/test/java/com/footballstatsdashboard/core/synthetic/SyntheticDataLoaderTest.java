@@ -0,0 +1,97 @@
+package com.footballstatsdashboard.core.synthetic;
+
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.config.SyntheticDataConfiguration;
+import com.footballstatsdashboard.db.jdbi.BoardObjectiveJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.ClubJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.InMemoryJdbiProvider;
+import com.footballstatsdashboard.db.jdbi.MatchPerformanceJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.PlayerJdbiDAO;
+import com.footballstatsdashboard.db.jdbi.UserJdbiDAO;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class SyntheticDataLoaderTest {
+    private static final int NUMBER_OF_USERS = 3;
+    private static final int NUMBER_OF_CLUBS_PER_USER = 2;
+    private static final int NUMBER_OF_PLAYERS_PER_CLUB = 3;
+    private static final int NUMBER_OF_COMPETITIONS = 2;
+    private static final int NUMBER_OF_BOARD_OBJECTIVES_PER_CLUB = 2;
+
+    private SyntheticDataConfiguration configuration;
+    private UserJdbiDAO userJdbiDAO;
+    private ClubJdbiDAO clubJdbiDAO;
+    private SyntheticDataLoader syntheticDataLoader;
+
+    /**
+     * set up an isolated in-memory database and a loader writing a small dataset into it before each test case is run
+     */
+    @Before
+    public void initialize() {
+        configuration = new SyntheticDataConfiguration();
+        configuration.setUsers(NUMBER_OF_USERS);
+        configuration.setClubsPerUser(NUMBER_OF_CLUBS_PER_USER);
+        configuration.setPlayersPerClub(NUMBER_OF_PLAYERS_PER_CLUB);
+        configuration.setCompetitions(NUMBER_OF_COMPETITIONS);
+        configuration.setBoardObjectivesPerClub(NUMBER_OF_BOARD_OBJECTIVES_PER_CLUB);
+
+        Jdbi jdbi = InMemoryJdbiProvider.create(new AtomicInteger());
+        userJdbiDAO = new UserJdbiDAO(jdbi);
+        clubJdbiDAO = new ClubJdbiDAO(jdbi);
+        syntheticDataLoader = new SyntheticDataLoader(configuration, userJdbiDAO, clubJdbiDAO,
+                new PlayerJdbiDAO(jdbi), new MatchPerformanceJdbiDAO(jdbi), new BoardObjectiveJdbiDAO(jdbi));
+    }
+
+    /**
+     * given a dataset loaded on several threads, tests that every entity of it is written and can be read back
+     */
+    @Test
+    public void loadWritesWholeDataset() {
+        // setup
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_USERS);
+        int numberOfClubs = NUMBER_OF_USERS * NUMBER_OF_CLUBS_PER_USER;
+        int expectedEntityCount = NUMBER_OF_USERS + numberOfClubs * (1 + NUMBER_OF_PLAYERS_PER_CLUB
+                + NUMBER_OF_PLAYERS_PER_CLUB * NUMBER_OF_COMPETITIONS + NUMBER_OF_BOARD_OBJECTIVES_PER_CLUB);
+
+        // execute
+        long loadedEntityCount;
+        try {
+            loadedEntityCount = syntheticDataLoader.load(executorService);
+        } finally {
+            executorService.shutdown();
+        }
+
+        // assert
+        assertEquals(expectedEntityCount, loadedEntityCount);
+        User user = userJdbiDAO.getUserByEmailAddress(SyntheticDataGenerator.getEmail(NUMBER_OF_USERS - 1))
+                .orElseThrow();
+        assertEquals(NUMBER_OF_CLUBS_PER_USER, clubJdbiDAO.getClubSummariesForUser(user.getId()).size());
+        Club club = new SyntheticDataGenerator(configuration)
+                .generateClub(user.getId(), NUMBER_OF_USERS - 1, 0)
+                .getClub();
+        assertEquals(NUMBER_OF_PLAYERS_PER_CLUB, clubJdbiDAO.getPlayersInClub(club.getId()).size());
+    }
+
+    /**
+     * given a dataset that has already been loaded, tests that loading it again skips the users already there
+     */
+    @Test
+    public void loadSkipsUsersAlreadyLoaded() {
+        // setup
+        syntheticDataLoader.load(Runnable::run);
+
+        // execute
+        long loadedEntityCount = syntheticDataLoader.load(Runnable::run);
+
+        // assert
+        assertEquals(0, loadedEntityCount);
+    }
+}
@@ -0,0 +1,242 @@
+package com.footballstatsdashboard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingEntityDAOTest {
+    private static final String CACHE_POLICY = "maximumSize=100, expireAfterWrite=5m";
+    private static final int NUMBER_OF_READS = 3;
+
+    private MetricRegistry metricRegistry;
+    private CachingClubEntityDAO cachingClubDAO;
+    private CachingAsyncClubEntityDAO cachingAsyncClubDAO;
+    private CachingPlayerEntityDAO cachingPlayerDAO;
+    private CachingBoardObjectiveEntityDAO cachingBoardObjectiveDAO;
+    private Club existingClub;
+
+    @Mock
+    private IClubEntityDAO clubDAO;
+
+    @Mock
+    private IAsyncClubEntityDAO asyncClubDAO;
+
+    @Mock
+    private IPlayerEntityDAO playerDAO;
+
+    @Mock
+    private IBoardObjectiveEntityDAO boardObjectiveDAO;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+        metricRegistry = new MetricRegistry();
+        EntityCache<Club> clubCache = new EntityCache<>("club", CaffeineSpec.parse(CACHE_POLICY), metricRegistry);
+        OwnershipIndex ownershipIndex = new OwnershipIndex(CaffeineSpec.parse(CACHE_POLICY), metricRegistry);
+        cachingClubDAO = new CachingClubEntityDAO(clubDAO, clubCache, ownershipIndex);
+        cachingAsyncClubDAO = new CachingAsyncClubEntityDAO(asyncClubDAO, clubCache);
+        cachingPlayerDAO = new CachingPlayerEntityDAO(playerDAO,
+                new EntityCache<>("player", CaffeineSpec.parse(CACHE_POLICY), metricRegistry), cachingClubDAO,
+                ownershipIndex);
+        cachingBoardObjectiveDAO = new CachingBoardObjectiveEntityDAO(boardObjectiveDAO,
+                new EntityCache<>("boardObjective", CaffeineSpec.parse(CACHE_POLICY), metricRegistry),
+                cachingClubDAO, ownershipIndex);
+
+        existingClub = ClubDataProvider.ClubBuilder.builder().isExisting(true).build();
+        when(clubDAO.getEntity(eq(existingClub.getId()))).thenReturn(existingClub);
+    }
+
+    /**
+     * given an entity that is read repeatedly, tests that it is only loaded from the underlying DAO once and that the
+     * hits and misses are reported
+     */
+    @Test
+    public void getEntityLoadsEntityOnlyOnce() {
+        // execute
+        for (int idx = 0; idx < NUMBER_OF_READS; idx++) {
+            assertSame(existingClub, cachingClubDAO.getEntity(existingClub.getId()));
+        }
+
+        // assert
+        verify(clubDAO).getEntity(eq(existingClub.getId()));
+        assertEquals(1, getCount("misses"));
+        assertEquals(NUMBER_OF_READS - 1, getCount("hits"));
+    }
+
+    /**
+     * given an entity that does not exist, tests that the lookup fails every time instead of caching the failure
+     */
+    @Test
+    public void getEntityDoesNotCacheMissingEntity() {
+        // setup
+        UUID missingClubId = UUID.randomUUID();
+        when(clubDAO.getEntity(eq(missingClubId))).thenThrow(new EntityNotFoundException());
+
+        // execute
+        assertThrows(EntityNotFoundException.class, () -> cachingClubDAO.getEntity(missingClubId));
+        assertThrows(EntityNotFoundException.class, () -> cachingClubDAO.getEntity(missingClubId));
+
+        // assert
+        verify(clubDAO, times(2)).getEntity(eq(missingClubId));
+    }
+
+    /**
+     * given a cached entity that is updated and then deleted, tests that each write invalidates the entity so that
+     * the next read goes to the underlying DAO again
+     */
+    @Test
+    public void updateAndDeleteEntityInvalidateCachedEntity() {
+        // setup
+        cachingClubDAO.getEntity(existingClub.getId());
+
+        // execute
+        cachingClubDAO.updateEntity(existingClub.getId(), existingClub);
+        cachingClubDAO.getEntity(existingClub.getId());
+        cachingClubDAO.deleteEntity(existingClub.getId());
+        cachingClubDAO.getEntity(existingClub.getId());
+
+        // assert
+        verify(clubDAO, times(NUMBER_OF_READS)).getEntity(eq(existingClub.getId()));
+        assertEquals(0, getCount("evictions"));
+    }
+
+    /**
+     * given an entity cached by a read through the blocking DAO, tests that a read through the non-blocking DAO is
+     * served from the same cache
+     */
+    @Test
+    public void getEntityAsyncSharesCacheWithBlockingDAO() {
+        // setup
+        cachingClubDAO.getEntity(existingClub.getId());
+
+        // execute
+        Club club = cachingAsyncClubDAO.getEntity(existingClub.getId()).toCompletableFuture().join();
+
+        // assert
+        assertSame(existingClub, club);
+        verify(asyncClubDAO, never()).getEntity(any());
+    }
+
+    /**
+     * given a cached entity that is updated through the non-blocking DAO, tests that it is invalidated once the update
+     * completes
+     */
+    @Test
+    public void updateEntityAsyncInvalidatesCachedEntity() {
+        // setup
+        cachingClubDAO.getEntity(existingClub.getId());
+        when(asyncClubDAO.updateEntity(eq(existingClub.getId()), eq(existingClub)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // execute
+        cachingAsyncClubDAO.updateEntity(existingClub.getId(), existingClub).toCompletableFuture().join();
+        cachingClubDAO.getEntity(existingClub.getId());
+
+        // assert
+        verify(clubDAO, times(2)).getEntity(eq(existingClub.getId()));
+    }
+
+    /**
+     * given a player that has just been created, tests that its existence and ownership are answered from the
+     * ownership index without checking with the underlying DAO
+     */
+    @Test
+    public void doesEntityBelongToUserAnswersFromOwnershipIndexForCreatedPlayer() {
+        // setup
+        Player newPlayer = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder().isExistingPlayer(true)
+                        .withMetadata().withAbility().withRoles().withAttributes().build())
+                .clubId(existingClub.getId())
+                .build();
+
+        // execute
+        cachingPlayerDAO.insertEntity(newPlayer);
+
+        // assert
+        assertTrue(cachingPlayerDAO.doesEntityExist(newPlayer.getId()));
+        assertTrue(cachingPlayerDAO.doesEntityBelongToUser(newPlayer.getId(), existingClub.getUserId()));
+        assertFalse(cachingPlayerDAO.doesEntityBelongToUser(newPlayer.getId(), UUID.randomUUID()));
+        verify(playerDAO, never()).doesEntityExist(any());
+        verify(playerDAO, never()).doesEntityBelongToUser(any(), any());
+    }
+
+    /**
+     * given a player whose club is deleted, tests that the player is dropped from the ownership index along with the
+     * club so that its existence is checked with the underlying DAO again
+     */
+    @Test
+    public void deleteEntityRemovesOwnershipOfEverythingInClub() {
+        // setup
+        Player newPlayer = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder().isExistingPlayer(true)
+                        .withMetadata().withAbility().withRoles().withAttributes().build())
+                .clubId(existingClub.getId())
+                .build();
+        cachingPlayerDAO.insertEntity(newPlayer);
+        when(playerDAO.getEntity(eq(newPlayer.getId()))).thenThrow(new EntityNotFoundException());
+
+        // execute
+        cachingClubDAO.deleteEntity(existingClub.getId());
+
+        // assert
+        assertFalse(cachingPlayerDAO.doesEntityExist(newPlayer.getId()));
+        verify(playerDAO).doesEntityExist(eq(newPlayer.getId()));
+    }
+
+    /**
+     * given the ID of a club that is in the ownership index, tests that the player and board objective DAOs do not
+     * treat it as one of their own entities and that deleting it as a player leaves the club's ownership indexed
+     */
+    @Test
+    public void ownershipIndexDoesNotAnswerForClubIdUsedAsAnotherEntity() {
+        // setup
+        UUID clubId = existingClub.getId();
+        cachingClubDAO.insertEntity(existingClub);
+        when(playerDAO.getEntity(eq(clubId))).thenThrow(new EntityNotFoundException());
+        when(boardObjectiveDAO.getEntity(eq(clubId))).thenThrow(new EntityNotFoundException());
+
+        // execute
+        boolean doesPlayerExist = cachingPlayerDAO.doesEntityExist(clubId);
+        boolean doesPlayerBelongToUser = cachingPlayerDAO.doesEntityBelongToUser(clubId, existingClub.getUserId());
+        boolean doesBoardObjectiveBelongToClub = cachingBoardObjectiveDAO.doesEntityBelongToClub(clubId, clubId);
+        cachingPlayerDAO.deleteEntity(clubId);
+
+        // assert
+        assertFalse(doesPlayerExist);
+        assertFalse(doesPlayerBelongToUser);
+        assertFalse(doesBoardObjectiveBelongToClub);
+        assertTrue(cachingClubDAO.doesEntityExist(clubId));
+        verify(clubDAO, never()).doesEntityExist(any());
+    }
+
+    private long getCount(String metricName) {
+        return metricRegistry.counter(MetricRegistry.name(EntityCache.class, "club", metricName)).getCount();
+    }
+}
@@ -0,0 +1,243 @@
+package com.footballstatsdashboard.db.couchbase;
+
+import com.couchbase.client.core.error.CasMismatchException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.codec.DefaultJsonSerializer;
+import com.couchbase.client.java.env.ClusterEnvironment;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.GetResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SubDocumentUpdaterTest {
+    private static final String DOCUMENT_KEY = "fake document key";
+    private static final int INITIAL_FUNDS = 100;
+    private static final int UPDATED_FUNDS = 200;
+    private static final int CONCURRENTLY_UPDATED_FUNDS = 300;
+    private static final int LARGE_NUMBER_OF_ATTRIBUTES = 20;
+    private static final long INITIAL_CAS = 1L;
+    private static final long CONCURRENT_CAS = 2L;
+
+    @Mock
+    private Collection collection;
+
+    @Mock
+    private ClusterEnvironment clusterEnvironment;
+
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+
+        when(collection.environment()).thenReturn(clusterEnvironment);
+        when(clusterEnvironment.jsonSerializer()).thenReturn(DefaultJsonSerializer.create());
+    }
+
+    /**
+     * given an update that extends a history and changes scalar fields, tests that the history is appended to and only
+     * the changed scalar fields are upserted
+     */
+    @Test
+    public void diffAppendsToExtendedHistoryAndUpsertsChangedFields() {
+        // setup
+        JsonObject baseDocument = buildClubDocument("club name", INITIAL_FUNDS, JsonArray.from(INITIAL_FUNDS));
+        JsonObject updatedDocument = buildClubDocument("updated club name", UPDATED_FUNDS,
+                JsonArray.from(INITIAL_FUNDS, UPDATED_FUNDS));
+
+        // execute
+        Map<String, SubDocumentMutation> mutations = byPath(SubDocumentUpdater.diff(baseDocument, updatedDocument));
+
+        // assert
+        assertEquals(List.of("managerFunds.current", "managerFunds.history", "name"),
+                mutations.keySet().stream().sorted().collect(Collectors.toList()));
+        assertEquals(SubDocumentMutation.Type.UPSERT, mutations.get("name").getType());
+        assertEquals(SubDocumentMutation.Type.UPSERT, mutations.get("managerFunds.current").getType());
+        assertEquals(SubDocumentMutation.Type.ARRAY_APPEND, mutations.get("managerFunds.history").getType());
+        assertEquals(List.of(UPDATED_FUNDS), mutations.get("managerFunds.history").getValue());
+    }
+
+    /**
+     * given an update to one of the elements of an array of objects, tests that only the fields of that element are
+     * written, addressed by its index
+     */
+    @Test
+    public void diffAddressesChangedArrayElementsByIndex() {
+        // setup
+        JsonObject baseDocument = JsonObject.create()
+                .put("attributes", JsonArray.from(buildAttribute("crossing", 1, JsonArray.from(1)),
+                        buildAttribute("sprintSpeed", 1, JsonArray.from(1))));
+        JsonObject updatedDocument = JsonObject.create()
+                .put("attributes", JsonArray.from(buildAttribute("crossing", 1, JsonArray.from(1)),
+                        buildAttribute("sprintSpeed", 2, JsonArray.from(1, 2))));
+
+        // execute
+        Map<String, SubDocumentMutation> mutations = byPath(SubDocumentUpdater.diff(baseDocument, updatedDocument));
+
+        // assert
+        assertEquals(List.of("attributes[1].history", "attributes[1].value"),
+                mutations.keySet().stream().sorted().collect(Collectors.toList()));
+        assertEquals(SubDocumentMutation.Type.ARRAY_APPEND, mutations.get("attributes[1].history").getType());
+        assertEquals(SubDocumentMutation.Type.UPSERT, mutations.get("attributes[1].value").getType());
+    }
+
+    /**
+     * given an update with more changes than fit in a single sub-document mutation, tests that the changes within the
+     * most changed field are collapsed into a single upsert of that field
+     */
+    @Test
+    public void diffCollapsesMostChangedFieldWhenChangesDoNotFitInSingleMutation() {
+        // setup
+        JsonObject baseDocument = buildClubDocument("club name", INITIAL_FUNDS, JsonArray.from(INITIAL_FUNDS))
+                .put("attributes", buildAttributes(value -> JsonArray.from(1)));
+        JsonObject updatedDocument = buildClubDocument("club name", UPDATED_FUNDS,
+                JsonArray.from(INITIAL_FUNDS, UPDATED_FUNDS))
+                .put("attributes", buildAttributes(value -> JsonArray.from(1, 2)));
+
+        // execute
+        Map<String, SubDocumentMutation> mutations = byPath(SubDocumentUpdater.diff(baseDocument, updatedDocument));
+
+        // assert
+        assertEquals(List.of("attributes", "managerFunds.current", "managerFunds.history"),
+                mutations.keySet().stream().sorted().collect(Collectors.toList()));
+        assertEquals(SubDocumentMutation.Type.UPSERT, mutations.get("attributes").getType());
+        assertEquals(updatedDocument.getArray("attributes"), mutations.get("attributes").getValue());
+    }
+
+    /**
+     * given a document that was appended to by another write after it was read, tests that the update is applied again
+     * to the document as it is then, keeping what the other write appended
+     */
+    @Test
+    public void updateReappliesUpdateAfterConcurrentWrite() {
+        // setup
+        JsonObject baseDocument = buildClubDocument("club name", INITIAL_FUNDS, JsonArray.from(INITIAL_FUNDS));
+        JsonObject concurrentlyUpdatedDocument = buildClubDocument("club name", CONCURRENTLY_UPDATED_FUNDS,
+                JsonArray.from(INITIAL_FUNDS, CONCURRENTLY_UPDATED_FUNDS));
+        mockReads(baseDocument, concurrentlyUpdatedDocument);
+        when(collection.mutateIn(eq(DOCUMENT_KEY), anyList(), any()))
+                .thenThrow(mock(CasMismatchException.class))
+                .thenReturn(null);
+        List<JsonObject> updatedDocuments = new ArrayList<>();
+
+        // execute
+        JsonObject updatedDocument = SubDocumentUpdater.update(collection, DOCUMENT_KEY, JsonObject.class,
+                document -> {
+                    updatedDocuments.add(document);
+                    return addFunds(document, UPDATED_FUNDS);
+                });
+
+        // assert
+        verify(collection, times(2)).mutateIn(eq(DOCUMENT_KEY), anyList(), any());
+        verify(collection, never()).replace(any(), any(), any());
+        assertEquals(List.of(baseDocument, concurrentlyUpdatedDocument), updatedDocuments);
+        assertEquals(JsonArray.from(INITIAL_FUNDS, CONCURRENTLY_UPDATED_FUNDS, UPDATED_FUNDS),
+                updatedDocument.getObject("managerFunds").getArray("history"));
+    }
+
+    /**
+     * given a document that is changed by another write every time it is read, tests that the update fails instead of
+     * being retried indefinitely
+     */
+    @Test
+    public void updateFailsWhenDocumentKeepsChanging() {
+        // setup
+        JsonObject baseDocument = buildClubDocument("club name", INITIAL_FUNDS, JsonArray.from(INITIAL_FUNDS));
+        mockReads(baseDocument);
+        when(collection.mutateIn(eq(DOCUMENT_KEY), anyList(), any())).thenThrow(mock(CasMismatchException.class));
+
+        // execute
+        assertThrows(OptimisticLockException.class, () -> SubDocumentUpdater.update(collection, DOCUMENT_KEY,
+                JsonObject.class, document -> addFunds(document, UPDATED_FUNDS)));
+
+        // assert
+        verify(collection, times(SubDocumentUpdater.MAX_ATTEMPTS)).mutateIn(eq(DOCUMENT_KEY), anyList(), any());
+    }
+
+    /**
+     * given an update that does not change anything, tests that nothing is written
+     */
+    @Test
+    public void updateDoesNotWriteUnchangedDocument() {
+        // setup
+        JsonObject baseDocument = buildClubDocument("club name", INITIAL_FUNDS, JsonArray.from(INITIAL_FUNDS));
+        mockReads(baseDocument);
+
+        // execute
+        SubDocumentUpdater.update(collection, DOCUMENT_KEY, JsonObject.class, document -> document);
+
+        // assert
+        verify(collection, never()).mutateIn(any(), anyList(), any());
+        assertTrue(SubDocumentUpdater.diff(baseDocument, baseDocument).isEmpty());
+    }
+
+    private void mockReads(JsonObject... documents) {
+        GetResult[] getResults = IntStream.range(0, documents.length)
+                .mapToObj(idx -> {
+                    GetResult getResult = mock(GetResult.class);
+                    when(getResult.contentAsObject()).thenReturn(documents[idx]);
+                    when(getResult.contentAs(JsonObject.class)).thenReturn(documents[idx]);
+                    when(getResult.cas()).thenReturn(idx == 0 ? INITIAL_CAS : CONCURRENT_CAS);
+                    return getResult;
+                })
+                .toArray(GetResult[]::new);
+        when(collection.get(eq(DOCUMENT_KEY))).thenReturn(getResults[0],
+                List.of(getResults).subList(1, getResults.length).toArray(GetResult[]::new));
+    }
+
+    private Map<String, SubDocumentMutation> byPath(List<SubDocumentMutation> mutations) {
+        return mutations.stream().collect(Collectors.toMap(SubDocumentMutation::getPath, Function.identity()));
+    }
+
+    private JsonObject buildClubDocument(String name, int currentFunds, JsonArray fundsHistory) {
+        return JsonObject.create()
+                .put("name", name)
+                .put("managerFunds", JsonObject.create()
+                        .put("current", currentFunds)
+                        .put("history", fundsHistory));
+    }
+
+    private JsonObject addFunds(JsonObject clubDocument, int funds) {
+        List<Object> fundsHistory =
+                new ArrayList<>(clubDocument.getObject("managerFunds").getArray("history").toList());
+        fundsHistory.add(funds);
+        return buildClubDocument(clubDocument.getString("name"), funds, JsonArray.from(fundsHistory));
+    }
+
+    private JsonObject buildAttribute(String name, int value, JsonArray history) {
+        return JsonObject.create()
+                .put("name", name)
+                .put("value", value)
+                .put("history", history);
+    }
+
+    private JsonArray buildAttributes(Function<Integer, JsonArray> historyBuilder) {
+        JsonArray attributes = JsonArray.create();
+        IntStream.range(0, LARGE_NUMBER_OF_ATTRIBUTES).forEach(idx -> {
+            JsonArray history = historyBuilder.apply(idx);
+            attributes.add(buildAttribute("attribute" + idx, history.getInt(history.size() - 1), history));
+        });
+        return attributes;
+    }
+}
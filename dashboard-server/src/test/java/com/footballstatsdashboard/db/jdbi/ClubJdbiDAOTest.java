@@ -0,0 +1,263 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ClubJdbiDAOTest {
+    private static final int MATCH_LIMIT_FOR_FORM = 5;
+    private static final int NUMBER_OF_MATCHES_PLAYED = 8;
+    private static final int SMALL_SQUAD_SIZE = 2;
+    private static final int LARGE_SQUAD_SIZE = 40;
+    private static final float STALE_MATCH_RATING = 1.0f;
+    private static final List<BigDecimal> UPDATED_MANAGER_FUNDS =
+            List.of(new BigDecimal("900"), new BigDecimal("600"), new BigDecimal("800"));
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private Jdbi jdbi;
+    private ClubJdbiDAO clubJdbiDAO;
+    private PlayerJdbiDAO playerJdbiDAO;
+
+    /**
+     * set up an isolated in-memory database before each test case is run
+     */
+    @Before
+    public void initialize() {
+        jdbi = InMemoryJdbiProvider.create(statementCount);
+        clubJdbiDAO = new ClubJdbiDAO(jdbi);
+        playerJdbiDAO = new PlayerJdbiDAO(jdbi);
+    }
+
+    /**
+     * given a player with more match performances than the form window, tests that the squad player carries the latest
+     * rating of each of the most recent match performances, most recent first
+     */
+    @Test
+    public void getPlayersInClubReturnsRecentFormFromLatestMatchPerformances() {
+        // setup
+        UUID clubId = createClub();
+        UUID playerId = createPlayer(clubId);
+        createMatchPerformances(playerId, NUMBER_OF_MATCHES_PLAYED);
+
+        // execute
+        List<SquadPlayer> squadPlayers = clubJdbiDAO.getPlayersInClub(clubId);
+
+        // assert
+        assertEquals(1, squadPlayers.size());
+        SquadPlayer squadPlayer = squadPlayers.get(0);
+        assertEquals(playerId, squadPlayer.getPlayerId());
+        assertEquals("player role", squadPlayer.getRole());
+        assertEquals(MATCH_LIMIT_FOR_FORM, squadPlayer.getRecentForm().size());
+        // the match played most recently has the highest rating and the ratings drop off the older the match is
+        IntStream.range(0, MATCH_LIMIT_FOR_FORM).forEach(idx ->
+                assertEquals(getLatestMatchRating(NUMBER_OF_MATCHES_PLAYED - idx - 1),
+                        squadPlayer.getRecentForm().get(idx), 0.0f));
+    }
+
+    /**
+     * given a club without any players, tests that an empty squad is returned
+     */
+    @Test
+    public void getPlayersInClubReturnsEmptySquadForClubWithoutPlayers() {
+        // setup
+        UUID clubId = createClub();
+
+        // execute
+        List<SquadPlayer> squadPlayers = clubJdbiDAO.getPlayersInClub(clubId);
+
+        // assert
+        assertTrue(squadPlayers.isEmpty());
+    }
+
+    /**
+     * given players who have not played any matches yet, tests that each of them is part of the squad with no recent
+     * form
+     */
+    @Test
+    public void getPlayersInClubReturnsPlayersWithoutMatchPerformances() {
+        // setup
+        UUID clubId = createClub();
+        IntStream.range(0, SMALL_SQUAD_SIZE).forEach(idx -> createPlayer(clubId));
+
+        // execute
+        List<SquadPlayer> squadPlayers = clubJdbiDAO.getPlayersInClub(clubId);
+
+        // assert
+        assertEquals(SMALL_SQUAD_SIZE, squadPlayers.size());
+        squadPlayers.forEach(squadPlayer -> assertTrue(squadPlayer.getRecentForm().isEmpty()));
+    }
+
+    /**
+     * given squads of different sizes where each player has played several matches, tests that the squad along with
+     * the recent form of each player is always fetched through a single statement
+     */
+    @Test
+    public void getPlayersInClubIssuesSingleStatementIrrespectiveOfSquadSize() {
+        // setup
+        UUID smallSquadClubId = createClub();
+        IntStream.range(0, SMALL_SQUAD_SIZE)
+                .forEach(idx -> createMatchPerformances(createPlayer(smallSquadClubId), NUMBER_OF_MATCHES_PLAYED));
+        UUID largeSquadClubId = createClub();
+        IntStream.range(0, LARGE_SQUAD_SIZE)
+                .forEach(idx -> createMatchPerformances(createPlayer(largeSquadClubId), NUMBER_OF_MATCHES_PLAYED));
+
+        // execute
+        statementCount.set(0);
+        List<SquadPlayer> smallSquad = clubJdbiDAO.getPlayersInClub(smallSquadClubId);
+        int statementsForSmallSquad = statementCount.getAndSet(0);
+        List<SquadPlayer> largeSquad = clubJdbiDAO.getPlayersInClub(largeSquadClubId);
+        int statementsForLargeSquad = statementCount.get();
+
+        // assert
+        assertEquals(SMALL_SQUAD_SIZE, smallSquad.size());
+        assertEquals(LARGE_SQUAD_SIZE, largeSquad.size());
+        largeSquad.forEach(squadPlayer -> assertEquals(MATCH_LIMIT_FOR_FORM, squadPlayer.getRecentForm().size()));
+        assertEquals(1, statementsForSmallSquad);
+        assertEquals(1, statementsForLargeSquad);
+    }
+
+    /**
+     * given a club whose manager funds have been updated several times, tests that the club is fetched with the most
+     * recent manager funds
+     */
+    @Test
+    public void getEntityReturnsLatestManagerFunds() {
+        // setup
+        UUID userId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO user (id) VALUES (?)", userId.toString()));
+        Club club = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .withId(UUID.randomUUID())
+                .existingUserId(userId)
+                .withIncome()
+                .withExpenditure()
+                .build();
+        clubJdbiDAO.insertEntity(club);
+        Club updatedClub = club;
+        for (BigDecimal managerFunds : UPDATED_MANAGER_FUNDS) {
+            updatedClub = ClubDataProvider.ModifiedClubBuilder.builder()
+                    .from(updatedClub)
+                    .withUpdatedManagerFunds(managerFunds)
+                    .build();
+            clubJdbiDAO.updateEntity(club.getId(), updatedClub);
+        }
+
+        // execute
+        Club persistedClub = clubJdbiDAO.getEntity(club.getId());
+
+        // assert
+        BigDecimal latestManagerFunds = UPDATED_MANAGER_FUNDS.get(UPDATED_MANAGER_FUNDS.size() - 1);
+        assertEquals(0, latestManagerFunds.compareTo(persistedClub.getManagerFunds().getCurrent()));
+        assertEquals(UPDATED_MANAGER_FUNDS.size() + 1, persistedClub.getManagerFunds().getHistory().size());
+    }
+
+    /**
+     * given a club that is modified several times, tests that each modification is applied to the club as it was left
+     * by the previous one and that the modified club is persisted
+     */
+    @Test
+    public void modifyEntityAppliesModificationToStoredClub() {
+        // setup
+        UUID userId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO user (id) VALUES (?)", userId.toString()));
+        Club club = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .withId(UUID.randomUUID())
+                .existingUserId(userId)
+                .withIncome()
+                .withExpenditure()
+                .build();
+        clubJdbiDAO.insertEntity(club);
+
+        // execute
+        List<Integer> historySizesModified = new ArrayList<>();
+        for (BigDecimal managerFunds : UPDATED_MANAGER_FUNDS) {
+            clubJdbiDAO.modifyEntity(club.getId(), existingClub -> {
+                historySizesModified.add(existingClub.getManagerFunds().getHistory().size());
+                return ClubDataProvider.ModifiedClubBuilder.builder()
+                        .from(existingClub)
+                        .withUpdatedManagerFunds(managerFunds)
+                        .build();
+            });
+        }
+
+        // assert
+        assertEquals(List.of(1, 2, UPDATED_MANAGER_FUNDS.size()), historySizesModified);
+        Club persistedClub = clubJdbiDAO.getEntity(club.getId());
+        BigDecimal latestManagerFunds = UPDATED_MANAGER_FUNDS.get(UPDATED_MANAGER_FUNDS.size() - 1);
+        assertEquals(0, latestManagerFunds.compareTo(persistedClub.getManagerFunds().getCurrent()));
+        assertThrows(EntityNotFoundException.class,
+                () -> clubJdbiDAO.modifyEntity(UUID.randomUUID(), UnaryOperator.identity()));
+    }
+
+    private UUID createClub() {
+        UUID clubId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO club (id) VALUES (?)", clubId.toString()));
+        return clubId;
+    }
+
+    private UUID createPlayer(UUID clubId) {
+        Player player = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder()
+                        .isExistingPlayer(true)
+                        .withMetadata()
+                        .withAbility()
+                        .withRoles()
+                        .withAttributes()
+                        .build())
+                .id(UUID.randomUUID())
+                .clubId(clubId)
+                .createdDate(LocalDate.now())
+                .build();
+        playerJdbiDAO.insertEntity(player);
+        return player.getId();
+    }
+
+    /**
+     * creates match performances on consecutive days, each with a stale rating followed by its latest rating
+     */
+    private void createMatchPerformances(UUID playerId, int numberOfMatches) {
+        LocalDate firstMatchDate = LocalDate.now().minusDays(numberOfMatches);
+        Instant ratedAt = Instant.now();
+        jdbi.useHandle(handle -> IntStream.range(0, numberOfMatches).forEach(matchIdx -> {
+            String matchPerformanceId = UUID.randomUUID().toString();
+            String competitionId = UUID.randomUUID().toString();
+            handle.execute("INSERT INTO matchPerformance (id, playerId, competitionId, currentMatchRating," +
+                            " createdDate) VALUES (?, ?, ?, ?, ?)", matchPerformanceId, playerId.toString(),
+                    competitionId, getLatestMatchRating(matchIdx), firstMatchDate.plusDays(matchIdx));
+            handle.execute("INSERT INTO matchRatingHistory (id, matchRating, matchPerformanceId, competitionId," +
+                            " createdAt) VALUES (?, ?, ?, ?, ?)", UUID.randomUUID().toString(), STALE_MATCH_RATING,
+                    matchPerformanceId, competitionId, ratedAt);
+            handle.execute("INSERT INTO matchRatingHistory (id, matchRating, matchPerformanceId, competitionId," +
+                            " createdAt) VALUES (?, ?, ?, ?, ?)", UUID.randomUUID().toString(),
+                    getLatestMatchRating(matchIdx), matchPerformanceId, competitionId,
+                    ratedAt.plus(1, ChronoUnit.MINUTES));
+        }));
+    }
+
+    private float getLatestMatchRating(int matchIdx) {
+        return STALE_MATCH_RATING + matchIdx + 1;
+    }
+}
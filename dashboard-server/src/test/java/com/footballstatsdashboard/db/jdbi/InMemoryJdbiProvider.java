@@ -0,0 +1,45 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.footballstatsdashboard.db.DAOFactory;
+import com.footballstatsdashboard.db.jdbi.migration.SchemaMigrator;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides jdbi instances backed by isolated in-memory H2 databases, configured and migrated the same way as the
+ * application's
+ */
+public final class InMemoryJdbiProvider {
+
+    private InMemoryJdbiProvider() { }
+
+    /**
+     * create a jdbi instance backed by a fresh in-memory database, counting every statement executed against it
+     */
+    public static Jdbi create(AtomicInteger statementCount) {
+        return create(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                statementCount.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * create a jdbi instance backed by a fresh in-memory database, handing every statement executed against it to the
+     * provided logger
+     */
+    public static Jdbi create(SqlLogger sqlLogger) {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbi.installPlugin(new SqlObjectPlugin());
+        DAOFactory.registerImmutables(jdbi);
+        jdbi.setSqlLogger(sqlLogger);
+        new SchemaMigrator(jdbi).migrate();
+        return jdbi;
+    }
+}
@@ -0,0 +1,164 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.ImmutableMatchPerformance;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.MatchPerformance;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.matchPerformance.ImmutableMatchRating;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class MatchPerformanceJdbiDAOTest {
+    private static final int NUMBER_OF_MATCH_PERFORMANCES = 20;
+    // one query each for the match performances and the players that already exist, one batch for the new match
+    // performances and one for their ratings
+    private static final int STATEMENTS_PER_BATCH_INSERT = 4;
+    private static final float MATCH_RATING = 7.5f;
+    private static final float PASS_COMPLETION_RATE = 75f;
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private Jdbi jdbi;
+    private MatchPerformanceJdbiDAO matchPerformanceJdbiDAO;
+    private UUID playerId;
+
+    /**
+     * set up an isolated in-memory database with a player to attach the match performances to before each test case
+     * is run
+     */
+    @Before
+    public void initialize() {
+        jdbi = InMemoryJdbiProvider.create(statementCount);
+        matchPerformanceJdbiDAO = new MatchPerformanceJdbiDAO(jdbi);
+
+        UUID clubId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO club (id) VALUES (?)", clubId.toString()));
+        Player player = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder()
+                        .isExistingPlayer(true)
+                        .withMetadata()
+                        .withAbility()
+                        .withRoles()
+                        .withAttributes()
+                        .build())
+                .id(UUID.randomUUID())
+                .clubId(clubId)
+                .createdDate(LocalDate.now())
+                .build();
+        new PlayerJdbiDAO(jdbi).insertEntity(player);
+        playerId = player.getId();
+    }
+
+    /**
+     * given a number of match performances, tests that all of them are inserted along with their match ratings in the
+     * same number of statements as a single one would be
+     */
+    @Test
+    public void insertEntitiesInsertsAllEntitiesInBatches() {
+        // setup
+        List<MatchPerformance> matchPerformances = IntStream.range(0, NUMBER_OF_MATCH_PERFORMANCES)
+                .mapToObj(idx -> createMatchPerformance(playerId))
+                .collect(Collectors.toList());
+        statementCount.set(0);
+
+        // execute
+        Map<UUID, String> skippedMatchPerformances = matchPerformanceJdbiDAO.insertEntities(matchPerformances);
+
+        // assert
+        assertTrue(skippedMatchPerformances.isEmpty());
+        assertEquals(STATEMENTS_PER_BATCH_INSERT, statementCount.get());
+        for (MatchPerformance matchPerformance : matchPerformances) {
+            MatchPerformance persistedMatchPerformance = matchPerformanceJdbiDAO.getEntity(matchPerformance.getId());
+            assertEquals(playerId, persistedMatchPerformance.getPlayerId());
+            assertEquals(List.of(MATCH_RATING), persistedMatchPerformance.getMatchRating().getHistory());
+        }
+    }
+
+    /**
+     * given a batch with a match performance that already exists, tests that it is skipped and reported while the
+     * other match performances are inserted
+     */
+    @Test
+    public void insertEntitiesSkipsEntitiesThatAlreadyExist() {
+        // setup
+        MatchPerformance existingMatchPerformance = createMatchPerformance(playerId);
+        matchPerformanceJdbiDAO.insertEntity(existingMatchPerformance);
+        MatchPerformance newMatchPerformance = createMatchPerformance(playerId);
+
+        // execute
+        Map<UUID, String> skippedMatchPerformances =
+                matchPerformanceJdbiDAO.insertEntities(List.of(existingMatchPerformance, newMatchPerformance));
+
+        // assert
+        assertEquals(Set.of(existingMatchPerformance.getId()), skippedMatchPerformances.keySet());
+        assertEquals(newMatchPerformance.getId(),
+                matchPerformanceJdbiDAO.getEntity(newMatchPerformance.getId()).getId());
+        // the existing match performance keeps its single rating rather than getting another one
+        assertEquals(List.of(MATCH_RATING), matchPerformanceJdbiDAO.getEntity(existingMatchPerformance.getId())
+                .getMatchRating().getHistory());
+    }
+
+    /**
+     * given a batch with a match performance of a player that does not exist, tests that it is skipped and reported
+     * while the other match performances are inserted
+     */
+    @Test
+    public void insertEntitiesSkipsEntitiesOfPlayersThatDoNotExist() {
+        // setup
+        MatchPerformance validMatchPerformance = createMatchPerformance(playerId);
+        // refers to a player that does not exist
+        MatchPerformance orphanedMatchPerformance = createMatchPerformance(UUID.randomUUID());
+
+        // execute
+        Map<UUID, String> skippedMatchPerformances =
+                matchPerformanceJdbiDAO.insertEntities(List.of(validMatchPerformance, orphanedMatchPerformance));
+
+        // assert
+        assertEquals(Set.of(orphanedMatchPerformance.getId()), skippedMatchPerformances.keySet());
+        assertEquals(validMatchPerformance.getId(),
+                matchPerformanceJdbiDAO.getEntity(validMatchPerformance.getId()).getId());
+        assertThrows(EntityNotFoundException.class,
+                () -> matchPerformanceJdbiDAO.getEntity(orphanedMatchPerformance.getId()));
+    }
+
+    private MatchPerformance createMatchPerformance(UUID matchPerformancePlayerId) {
+        return ImmutableMatchPerformance.builder()
+                .id(UUID.randomUUID())
+                .playerId(matchPerformancePlayerId)
+                .competitionId(UUID.randomUUID())
+                .appearances(1)
+                .goals(0)
+                .penalties(0)
+                .assists(1)
+                .playerOfTheMatch(0)
+                .yellowCards(0)
+                .redCards(0)
+                .tackles(2)
+                .fouls(1)
+                .dribbles(2)
+                .passCompletionRate(PASS_COMPLETION_RATE)
+                .matchRating(ImmutableMatchRating.builder()
+                        .current(MATCH_RATING)
+                        .history(List.of(MATCH_RATING))
+                        .build())
+                .createdDate(LocalDate.now())
+                .lastModifiedDate(LocalDate.now())
+                .createdBy("fake email")
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.api.model.player.Attribute;
+import com.footballstatsdashboard.api.model.player.AttributeCategory;
+import com.footballstatsdashboard.api.model.player.AttributeGroup;
+import com.footballstatsdashboard.api.model.player.ImmutableAttribute;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+public class PlayerJdbiDAOTest {
+    private static final int NUMBER_OF_QUERIES_TO_HYDRATE_PLAYER = 4;
+    private static final int NUMBER_OF_STATEMENTS_TO_PERSIST_PLAYER = 6;
+    private static final int LARGE_NUMBER_OF_ATTRIBUTES = 40;
+    private static final int DEFAULT_ATTRIBUTE_VALUE = 10;
+    private static final int UPDATED_PLAYER_SPRINT_SPEED = 87;
+    private static final int UPDATED_PLAYER_ABILITY = 21;
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private Jdbi jdbi;
+    private UUID clubId;
+    private PlayerJdbiDAO playerJdbiDAO;
+
+    /**
+     * set up an isolated in-memory database with a club for the players to belong to before each test case is run
+     */
+    @Before
+    public void initialize() {
+        jdbi = InMemoryJdbiProvider.create(statementCount);
+        clubId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO club (id) VALUES (?)", clubId.toString()));
+
+        playerJdbiDAO = new PlayerJdbiDAO(jdbi);
+    }
+
+    /**
+     * given a persisted player, tests that the whole player aggregate is hydrated along with the history of each of
+     * its attributes
+     */
+    @Test
+    public void getEntityHydratesPlayerAggregate() {
+        // setup
+        Player player = buildPlayer(PlayerDataProvider.PlayerBuilder.builder()
+                .isExistingPlayer(true)
+                .withMetadata()
+                .withAbility()
+                .withRoles()
+                .withAttributes()
+                .build());
+        playerJdbiDAO.insertEntity(player);
+
+        // execute
+        Player persistedPlayer = playerJdbiDAO.getEntity(player.getId());
+
+        // assert
+        assertEquals(player.getMetadata(), persistedPlayer.getMetadata());
+        assertEquals(player.getAbility(), persistedPlayer.getAbility());
+        assertEquals(player.getRoles().size(), persistedPlayer.getRoles().size());
+        assertEquals(player.getAttributes().size(), persistedPlayer.getAttributes().size());
+        player.getAttributes().forEach(attribute ->
+                assertEquals(attribute, getAttributeByName(persistedPlayer, attribute.getName())));
+    }
+
+    /**
+     * given players tracking a small and a large number of attributes, tests that the number of statements issued to
+     * hydrate the player aggregate does not depend on the number of attributes
+     */
+    @Test
+    public void getEntityIssuesConstantNumberOfStatementsIrrespectiveOfAttributes() {
+        // setup
+        Player playerWithFewAttributes = buildPlayer(PlayerDataProvider.PlayerBuilder.builder()
+                .isExistingPlayer(true)
+                .withMetadata()
+                .withAbility()
+                .withRoles()
+                .withAttributes()
+                .build());
+        playerJdbiDAO.insertEntity(playerWithFewAttributes);
+
+        Player playerWithManyAttributes = ImmutablePlayer.builder()
+                .from(buildPlayer(playerWithFewAttributes))
+                .attributes(buildAttributes(LARGE_NUMBER_OF_ATTRIBUTES))
+                .build();
+        playerJdbiDAO.insertEntity(playerWithManyAttributes);
+
+        // execute
+        statementCount.set(0);
+        playerJdbiDAO.getEntity(playerWithFewAttributes.getId());
+        int statementsForFewAttributes = statementCount.getAndSet(0);
+        Player persistedPlayer = playerJdbiDAO.getEntity(playerWithManyAttributes.getId());
+        int statementsForManyAttributes = statementCount.get();
+
+        // assert
+        assertEquals(LARGE_NUMBER_OF_ATTRIBUTES, persistedPlayer.getAttributes().size());
+        assertEquals(NUMBER_OF_QUERIES_TO_HYDRATE_PLAYER, statementsForFewAttributes);
+        assertEquals(NUMBER_OF_QUERIES_TO_HYDRATE_PLAYER, statementsForManyAttributes);
+    }
+
+    /**
+     * given players tracking a small and a large number of attributes, tests that the number of statements issued to
+     * persist the player aggregate does not depend on the number of attributes
+     */
+    @Test
+    public void insertEntityIssuesConstantNumberOfStatementsIrrespectiveOfAttributes() {
+        // setup
+        Player playerWithFewAttributes = buildPlayer(PlayerDataProvider.PlayerBuilder.builder()
+                .isExistingPlayer(true)
+                .withMetadata()
+                .withAbility()
+                .withRoles()
+                .withAttributes()
+                .build());
+        Player playerWithManyAttributes = ImmutablePlayer.builder()
+                .from(buildPlayer(playerWithFewAttributes))
+                .attributes(buildAttributes(LARGE_NUMBER_OF_ATTRIBUTES))
+                .build();
+
+        // execute
+        statementCount.set(0);
+        playerJdbiDAO.insertEntity(playerWithFewAttributes);
+        int statementsForFewAttributes = statementCount.getAndSet(0);
+        playerJdbiDAO.insertEntity(playerWithManyAttributes);
+        int statementsForManyAttributes = statementCount.get();
+
+        // assert
+        assertEquals(NUMBER_OF_STATEMENTS_TO_PERSIST_PLAYER, statementsForFewAttributes);
+        assertEquals(NUMBER_OF_STATEMENTS_TO_PERSIST_PLAYER, statementsForManyAttributes);
+    }
+
+    /**
+     * given a player whose aggregate cannot be completely written, tests that none of the rows written before the
+     * failure are persisted
+     */
+    @Test
+    public void insertEntityDoesNotPersistPartiallyWrittenPlayer() {
+        // setup
+        Player player = buildPlayer(PlayerDataProvider.PlayerBuilder.builder()
+                .isExistingPlayer(true)
+                .withMetadata()
+                .withAbility()
+                .withRoles()
+                .withInvalidAttributes()
+                .build());
+
+        // execute
+        assertThrows(NullPointerException.class, () -> playerJdbiDAO.insertEntity(player));
+
+        // assert
+        assertFalse(playerJdbiDAO.doesEntityExist(player.getId()));
+        int numberOfRolesPersisted = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT COUNT(*) FROM playerRole WHERE playerId = :playerId")
+                        .bind("playerId", player.getId().toString())
+                        .mapTo(Integer.class)
+                        .one());
+        assertEquals(0, numberOfRolesPersisted);
+    }
+
+    /**
+     * given two players tracking attributes with the same name, tests that updating the attributes of one player does
+     * not leak into the attribute history of the other
+     */
+    @Test
+    public void getEntityOnlyReturnsAttributeHistoryOfRequestedPlayer() {
+        // setup
+        Player basePlayer = PlayerDataProvider.PlayerBuilder.builder()
+                .isExistingPlayer(true)
+                .withMetadata()
+                .withAbility()
+                .withRoles()
+                .withAttributes()
+                .build();
+        Player firstPlayer = buildPlayer(basePlayer);
+        Player secondPlayer = buildPlayer(basePlayer);
+        playerJdbiDAO.insertEntity(firstPlayer);
+        playerJdbiDAO.insertEntity(secondPlayer);
+
+        Player updatedFirstPlayer = PlayerDataProvider.ModifiedPlayerBuilder.builder()
+                .from(firstPlayer)
+                .withUpdatedCurrentAbility(UPDATED_PLAYER_ABILITY)
+                .withUpdatedAttributeValue("sprintSpeed", UPDATED_PLAYER_SPRINT_SPEED)
+                .build();
+        playerJdbiDAO.updateEntity(firstPlayer.getId(), updatedFirstPlayer);
+
+        // execute
+        Player persistedFirstPlayer = playerJdbiDAO.getEntity(firstPlayer.getId());
+        Player persistedSecondPlayer = playerJdbiDAO.getEntity(secondPlayer.getId());
+
+        // assert
+        assertEquals(UPDATED_PLAYER_ABILITY, persistedFirstPlayer.getAbility().getCurrent().intValue());
+        assertEquals(2, persistedFirstPlayer.getAbility().getHistory().size());
+        assertEquals(secondPlayer.getAbility(), persistedSecondPlayer.getAbility());
+
+        Attribute firstPlayerSprintSpeed = getAttributeByName(persistedFirstPlayer, "sprintSpeed");
+        assertEquals(UPDATED_PLAYER_SPRINT_SPEED, firstPlayerSprintSpeed.getValue().intValue());
+        assertEquals(2, firstPlayerSprintSpeed.getHistory().size());
+
+        assertEquals(getAttributeByName(secondPlayer, "sprintSpeed"),
+                getAttributeByName(persistedSecondPlayer, "sprintSpeed"));
+    }
+
+    private List<Attribute> buildAttributes(int numberOfAttributes) {
+        return IntStream.range(0, numberOfAttributes)
+                .mapToObj(idx -> ImmutableAttribute.builder()
+                        .name("attribute" + idx)
+                        .value(DEFAULT_ATTRIBUTE_VALUE)
+                        .category(AttributeCategory.TECHNICAL)
+                        .group(AttributeGroup.ATTACKING)
+                        .addHistory(DEFAULT_ATTRIBUTE_VALUE)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private Attribute getAttributeByName(Player player, String attributeName) {
+        return player.getAttributes().stream()
+                .filter(attribute -> attribute.getName().equals(attributeName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Player buildPlayer(Player player) {
+        return ImmutablePlayer.builder()
+                .from(player)
+                .id(UUID.randomUUID())
+                .clubId(clubId)
+                .createdDate(LocalDate.now())
+                .build();
+    }
+}
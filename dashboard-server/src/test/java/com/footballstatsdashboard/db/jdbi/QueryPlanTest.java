@@ -0,0 +1,237 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the hot queries of the jdbi DAOs through EXPLAIN and checks that the lookups they make are served by an index,
+ * so that a change to a query or to the schema that leaves one of them scanning a whole table fails the build.
+ */
+public class QueryPlanTest {
+    private static final float MATCH_RATING = 7.5f;
+
+    private final List<String> executedStatements = new ArrayList<>();
+    private Jdbi jdbi;
+    private UUID userId;
+    private UUID clubId;
+    private UUID playerId;
+    private UUID competitionId;
+
+    /**
+     * set up an isolated in-memory database with a user owning a club with a player who has played a match before
+     * each test case is run, so that every query of the aggregates under test is issued
+     */
+    @Before
+    public void initialize() {
+        jdbi = InMemoryJdbiProvider.create(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                // scripts such as the schema migrations are executed as a batch without any parsed sql to explain
+                if (context.getParsedSql() != null) executedStatements.add(context.getParsedSql().getSql());
+            }
+        });
+
+        userId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO user (id, email, password) VALUES (?, ?, ?)",
+                userId.toString(), "fake email", "fake password"));
+        Club club = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .withId(UUID.randomUUID())
+                .existingUserId(userId)
+                .withIncome()
+                .withExpenditure()
+                .build();
+        new ClubJdbiDAO(jdbi).insertEntity(club);
+        clubId = club.getId();
+
+        Player player = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder()
+                        .isExistingPlayer(true)
+                        .withMetadata()
+                        .withAbility()
+                        .withRoles()
+                        .withAttributes()
+                        .build())
+                .id(UUID.randomUUID())
+                .clubId(clubId)
+                .createdDate(LocalDate.now())
+                .build();
+        new PlayerJdbiDAO(jdbi).insertEntity(player);
+        playerId = player.getId();
+
+        // the player has played in several competitions so that the competition narrows down their match performances
+        List<UUID> competitionIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        competitionId = competitionIds.get(0);
+        jdbi.useHandle(handle -> competitionIds.forEach(playedCompetitionId -> {
+            String matchPerformanceId = UUID.randomUUID().toString();
+            handle.execute("INSERT INTO matchPerformance (id, playerId, competitionId, appearances, goals," +
+                    " penalties, assists, playerOfTheMatch, yellowCards, redCards, tackles, fouls, dribbles," +
+                    " passCompletionRate, currentMatchRating, createdDate)" +
+                    " VALUES (?, ?, ?, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)", matchPerformanceId,
+                    playerId.toString(), playedCompetitionId.toString(), MATCH_RATING, LocalDate.now());
+            handle.execute("INSERT INTO matchRatingHistory (id, matchRating, matchPerformanceId, competitionId," +
+                    " createdAt) VALUES (?, ?, ?, ?, ?)", UUID.randomUUID().toString(), MATCH_RATING,
+                    matchPerformanceId, playedCompetitionId.toString(), Instant.now());
+        }));
+    }
+
+    /**
+     * tests that looking up a user by their email address is served by the index on the email address
+     */
+    @Test
+    public void userByEmailAddressUsesIndex() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new UserJdbiDAO(jdbi).getUserByEmailAddress("fake email"));
+
+        assertUsesIndex(plans, "IDX_USER_EMAIL");
+        assertDoesNotScan(plans, "USER");
+    }
+
+    /**
+     * tests that looking up the auth token of a user does not scan the auth tokens
+     */
+    @Test
+    public void authTokenForUserUsesIndex() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new AuthTokenJdbiDAO(jdbi).getAuthTokenForUser(userId));
+
+        assertDoesNotScan(plans, "AUTHTOKEN");
+    }
+
+    /**
+     * tests that fetching a club with the history of its finances and the summaries of the clubs of a user are served
+     * by indexes
+     */
+    @Test
+    public void clubQueriesUseIndexes() throws SQLException {
+        ClubJdbiDAO clubJdbiDAO = new ClubJdbiDAO(jdbi);
+        List<String> plans = explainStatementsOf(() -> {
+            clubJdbiDAO.getEntity(clubId);
+            clubJdbiDAO.getClubSummariesForUser(userId);
+        });
+
+        assertDoesNotScan(plans, "CLUB");
+        assertDoesNotScan(plans, "MANAGERFUNDSHISTORY");
+        assertDoesNotScan(plans, "INCOMEHISTORY");
+        assertDoesNotScan(plans, "EXPENDITUREHISTORY");
+    }
+
+    /**
+     * tests that fetching the squad of a club along with the recent form of each player is served by indexes
+     */
+    @Test
+    public void squadWithRecentFormUsesIndexes() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new ClubJdbiDAO(jdbi).getPlayersInClub(clubId));
+
+        assertDoesNotScan(plans, "PLAYER");
+        assertDoesNotScan(plans, "PLAYERMETADATA");
+        assertDoesNotScan(plans, "PLAYERROLE");
+        assertDoesNotScan(plans, "MATCHPERFORMANCE");
+    }
+
+    /**
+     * tests that hydrating the player aggregate is served by indexes
+     */
+    @Test
+    public void playerAggregateUsesIndexes() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new PlayerJdbiDAO(jdbi).getEntity(playerId));
+
+        assertUsesIndex(plans, "IDX_PLAYERATTRIBUTEHISTORY_PLAYER_ATTRIBUTE");
+        assertDoesNotScan(plans, "PLAYERMETADATA");
+        assertDoesNotScan(plans, "PLAYERABILITYHISTORY");
+        assertDoesNotScan(plans, "PLAYERROLE");
+        assertDoesNotScan(plans, "PLAYERATTRIBUTE");
+    }
+
+    /**
+     * tests that updating the current value of the attributes of a player is served by the index on the player and
+     * attribute name
+     */
+    @Test
+    public void playerAttributeUpdateUsesIndex() throws SQLException {
+        PlayerJdbiDAO playerJdbiDAO = new PlayerJdbiDAO(jdbi);
+        Player player = playerJdbiDAO.getEntity(playerId);
+        List<String> plans = explainStatementsOf(() -> playerJdbiDAO.updateEntity(playerId, player));
+
+        assertUsesIndex(plans, "IDX_PLAYERATTRIBUTE_PLAYER_NAME");
+    }
+
+    /**
+     * tests that fetching the match performances of a player in a competition along with their rating history is
+     * served by indexes
+     */
+    @Test
+    public void matchPerformanceOfPlayerInCompetitionUsesIndexes() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new MatchPerformanceJdbiDAO(jdbi)
+                .getMatchPerformanceOfPlayerInCompetition(playerId, competitionId));
+
+        assertUsesIndex(plans, "IDX_MATCHPERFORMANCE_PLAYER_COMPETITION");
+        assertDoesNotScan(plans, "MATCHRATINGHISTORY");
+    }
+
+    /**
+     * tests that fetching the board objectives of a club does not scan the board objectives
+     */
+    @Test
+    public void boardObjectivesForClubUseIndex() throws SQLException {
+        List<String> plans = explainStatementsOf(() -> new BoardObjectiveJdbiDAO(jdbi)
+                .getBoardObjectivesForClub(clubId));
+
+        assertDoesNotScan(plans, "BOARDOBJECTIVES");
+    }
+
+    /**
+     * run the DAO call and explain each of the statements it issued, leaving their parameters unbound
+     */
+    private List<String> explainStatementsOf(Runnable daoCall) throws SQLException {
+        executedStatements.clear();
+        daoCall.run();
+        List<String> statements = List.copyOf(executedStatements);
+
+        List<String> plans = new ArrayList<>();
+        try (Handle handle = jdbi.open()) {
+            // without up-to-date statistics H2 weighs every index alike and settles for the first one that matches
+            handle.execute("ANALYZE");
+            for (String statement : statements) {
+                try (PreparedStatement explainStatement =
+                             handle.getConnection().prepareStatement("EXPLAIN " + statement);
+                     ResultSet resultSet = explainStatement.executeQuery()) {
+                    while (resultSet.next()) plans.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plans;
+    }
+
+    private void assertUsesIndex(List<String> plans, String indexName) {
+        assertTrue("no plan uses " + indexName + ":\n" + String.join("\n", plans),
+                plans.stream().anyMatch(plan -> plan.contains("PUBLIC." + indexName + ":")));
+    }
+
+    private void assertDoesNotScan(List<String> plans, String tableName) {
+        List<String> scanningPlans = plans.stream()
+                .filter(plan -> plan.contains("PUBLIC." + tableName + ".tableScan"))
+                .collect(Collectors.toList());
+        assertFalse(tableName + " is scanned by:\n" + String.join("\n", scanningPlans), !scanningPlans.isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.footballstatsdashboard.db.jdbi;
+
+import com.codahale.metrics.MetricRegistry;
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.core.instrumentation.StatementCounter;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SqlObjectTimingLoggerTest {
+    private MetricRegistry metricRegistry;
+    private AtomicInteger delegateStatementCount;
+    private Jdbi jdbi;
+    private ClubJdbiDAO clubJdbiDAO;
+
+    /**
+     * set up an isolated in-memory database with the timing logger installed on top of a counting one before each test
+     * case is run
+     */
+    @Before
+    public void initialize() {
+        metricRegistry = new MetricRegistry();
+        delegateStatementCount = new AtomicInteger();
+        SqlLogger countingSqlLogger = new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                delegateStatementCount.incrementAndGet();
+            }
+        };
+        jdbi = InMemoryJdbiProvider.create(new SqlObjectTimingLogger(countingSqlLogger, metricRegistry));
+        clubJdbiDAO = new ClubJdbiDAO(jdbi);
+    }
+
+    /**
+     * given a club that is fetched, tests that each statement is timed under the SQL object method that issued it and
+     * is still handed to the logger being wrapped
+     */
+    @Test
+    public void statementsAreTimedBySqlObjectMethod() {
+        // setup
+        Club club = createUserAndBuildClub();
+        clubJdbiDAO.insertEntity(club);
+        delegateStatementCount.set(0);
+
+        // execute
+        clubJdbiDAO.getEntity(club.getId());
+
+        // assert
+        assertTrue(delegateStatementCount.get() > 0);
+        assertEquals(1, getTimerCount("IClubDAO.findById"));
+        assertEquals(1, getTimerCount("IIncomeHistoryDAO.getIncomeHistoryForClub"));
+    }
+
+    /**
+     * given statements issued on a thread working for a request, tests that each of them is counted against the
+     * request
+     */
+    @Test
+    public void statementsAreCountedAgainstRequest() {
+        // setup
+        Club club = createUserAndBuildClub();
+        delegateStatementCount.set(0);
+        StatementCounter statementCounter = new StatementCounter();
+        statementCounter.bind();
+
+        try {
+            // execute
+            clubJdbiDAO.insertEntity(club);
+            clubJdbiDAO.getEntity(club.getId());
+        } finally {
+            statementCounter.unbind();
+        }
+
+        // assert
+        assertEquals(delegateStatementCount.get(), statementCounter.getCount());
+    }
+
+    private Club createUserAndBuildClub() {
+        Club club = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .withIncome()
+                .withExpenditure()
+                .build();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO user (id) VALUES (?)", club.getUserId().toString()));
+        return club;
+    }
+
+    private long getTimerCount(String sqlObjectMethod) {
+        return metricRegistry.timer(MetricRegistry.name(ClubJdbiDAO.class, sqlObjectMethod)).getCount();
+    }
+}
@@ -0,0 +1,184 @@
+package com.footballstatsdashboard.db.jdbi.migration;
+
+import com.footballstatsdashboard.PlayerDataProvider;
+import com.footballstatsdashboard.api.model.ImmutablePlayer;
+import com.footballstatsdashboard.api.model.Player;
+import com.footballstatsdashboard.db.jdbi.InMemoryJdbiProvider;
+import com.footballstatsdashboard.db.jdbi.PlayerJdbiDAO;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class SchemaMigratorTest {
+    private static final List<Integer> BUNDLED_MIGRATION_VERSIONS = List.of(1, 2, 3, 4, 5);
+    private static final int FIRST_PENDING_VERSION = 6;
+    private static final int SECOND_PENDING_VERSION = 7;
+    private static final int LEGACY_ATTRIBUTE_VALUE = 60;
+
+    private Jdbi jdbi;
+    private UUID clubId;
+
+    /**
+     * set up an isolated in-memory database migrated to the latest schema before each test case is run
+     */
+    @Before
+    public void initialize() {
+        jdbi = InMemoryJdbiProvider.create(new AtomicInteger());
+        clubId = UUID.randomUUID();
+        jdbi.useHandle(handle -> handle.execute("INSERT INTO club (id) VALUES (?)", clubId.toString()));
+    }
+
+    /**
+     * given a database that has already been migrated, tests that none of the migrations are applied again
+     */
+    @Test
+    public void migrateDoesNotReapplyRecordedMigrations() {
+        // execute
+        int numberOfMigrationsApplied = new SchemaMigrator(jdbi).migrate();
+
+        // assert
+        assertEquals(0, numberOfMigrationsApplied);
+        assertEquals(BUNDLED_MIGRATION_VERSIONS, getRecordedVersions());
+    }
+
+    /**
+     * given pending migrations provided out of order, tests that they are applied in the order of their versions and
+     * recorded once applied
+     */
+    @Test
+    public void migrateAppliesPendingMigrationsInVersionOrder() {
+        // setup
+        List<Integer> appliedVersions = new ArrayList<>();
+        List<SchemaMigration> migrations = List.of(
+                new RecordingMigration(SECOND_PENDING_VERSION, appliedVersions),
+                new RecordingMigration(FIRST_PENDING_VERSION, appliedVersions));
+
+        // execute
+        int numberOfMigrationsApplied = new SchemaMigrator(jdbi, migrations).migrate();
+
+        // assert
+        assertEquals(2, numberOfMigrationsApplied);
+        assertEquals(List.of(FIRST_PENDING_VERSION, SECOND_PENDING_VERSION), appliedVersions);
+        List<Integer> recordedVersions = getRecordedVersions();
+        assertEquals(List.of(FIRST_PENDING_VERSION, SECOND_PENDING_VERSION),
+                recordedVersions.subList(recordedVersions.size() - 2, recordedVersions.size()));
+    }
+
+    /**
+     * given migrations sharing a version, tests that the migrator refuses them
+     */
+    @Test
+    public void constructorRejectsMigrationsSharingAVersion() {
+        // setup
+        List<SchemaMigration> migrations = List.of(
+                new RecordingMigration(FIRST_PENDING_VERSION, new ArrayList<>()),
+                new RecordingMigration(FIRST_PENDING_VERSION, new ArrayList<>()));
+
+        // execute and assert
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(jdbi, migrations));
+    }
+
+    /**
+     * given a database created before migrations were versioned, with attribute history in the legacy layout keyed
+     * only by attribute name, no current values kept alongside the player and a match rating history constrained on
+     * the competition id, tests that the migrations bring it up to date
+     */
+    @Test
+    public void migrateBringsUnversionedLegacySchemaUpToDate() {
+        // setup
+        PlayerJdbiDAO playerJdbiDAO = new PlayerJdbiDAO(jdbi);
+        Player player = ImmutablePlayer.builder()
+                .from(PlayerDataProvider.PlayerBuilder.builder()
+                        .isExistingPlayer(true)
+                        .withMetadata()
+                        .withAbility()
+                        .withRoles()
+                        .withAttributes()
+                        .build())
+                .id(UUID.randomUUID())
+                .clubId(clubId)
+                .createdDate(LocalDate.now())
+                .build();
+        playerJdbiDAO.insertEntity(player);
+        jdbi.useHandle(handle -> {
+            handle.execute("DROP TABLE schema_version");
+            handle.execute("ALTER TABLE player DROP COLUMN currentAbility");
+            handle.execute("ALTER TABLE playerAttribute DROP COLUMN currentValue");
+            handle.execute("DROP TABLE playerAttributeHistory");
+            handle.execute("CREATE TABLE playerAttributeHistory (id VARCHAR PRIMARY KEY, attributeName VARCHAR," +
+                    " attributeValue INT, createdAt TIMESTAMP)");
+            player.getAttributes().forEach(attribute -> handle.execute(
+                    "INSERT INTO playerAttributeHistory (id, attributeName, attributeValue, createdAt)" +
+                            " VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                    UUID.randomUUID().toString(), attribute.getName(), LEGACY_ATTRIBUTE_VALUE));
+            handle.execute("ALTER TABLE matchRatingHistory" +
+                    " ADD FOREIGN KEY (competitionId) REFERENCES matchPerformance (competitionId)");
+        });
+
+        // execute
+        int numberOfMigrationsApplied = new SchemaMigrator(jdbi).migrate();
+
+        // assert
+        assertEquals(BUNDLED_MIGRATION_VERSIONS.size(), numberOfMigrationsApplied);
+        Player persistedPlayer = playerJdbiDAO.getEntity(player.getId());
+        assertEquals(player.getAbility(), persistedPlayer.getAbility());
+        assertEquals(player.getAttributes().size(), persistedPlayer.getAttributes().size());
+        persistedPlayer.getAttributes().forEach(attribute -> {
+            assertEquals(LEGACY_ATTRIBUTE_VALUE, attribute.getValue().intValue());
+            assertEquals(List.of(LEGACY_ATTRIBUTE_VALUE), attribute.getHistory());
+        });
+
+        // several match performances can be recorded for the same competition once the constraint is dropped
+        String competitionId = UUID.randomUUID().toString();
+        jdbi.useHandle(handle -> {
+            insertMatchPerformance(handle, player.getId(), competitionId);
+            insertMatchPerformance(handle, player.getId(), competitionId);
+        });
+    }
+
+    private List<Integer> getRecordedVersions() {
+        return jdbi.withHandle(handle -> handle.createQuery("SELECT version FROM schema_version ORDER BY version")
+                .mapTo(Integer.class)
+                .list());
+    }
+
+    private void insertMatchPerformance(Handle handle, UUID playerId, String competitionId) {
+        handle.execute("INSERT INTO matchPerformance (id, playerId, competitionId) VALUES (?, ?, ?)",
+                UUID.randomUUID().toString(), playerId.toString(), competitionId);
+    }
+
+    private static final class RecordingMigration implements SchemaMigration {
+        private final int version;
+        private final List<Integer> appliedVersions;
+
+        private RecordingMigration(int version, List<Integer> appliedVersions) {
+            this.version = version;
+            this.appliedVersions = appliedVersions;
+        }
+
+        @Override
+        public int getVersion() {
+            return version;
+        }
+
+        @Override
+        public String getDescription() {
+            return "recording migration";
+        }
+
+        @Override
+        public void migrate(Handle handle) {
+            appliedVersions.add(version);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.footballstatsdashboard.health;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheck;
+import com.footballstatsdashboard.config.HealthCheckConfiguration;
+import io.dropwizard.util.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyProbeHealthCheckTest {
+    private HealthCheckConfiguration healthCheckConfiguration;
+    private MetricRegistry metricRegistry;
+
+    /**
+     * set up a fresh configuration and metric registry before each test case is run
+     */
+    @Before
+    public void initialize() {
+        healthCheckConfiguration = new HealthCheckConfiguration();
+        metricRegistry = new MetricRegistry();
+    }
+
+    /**
+     * given a probe that succeeds well within the thresholds, tests that the check is reported as healthy and not
+     * degraded
+     */
+    @Test
+    public void checkIsHealthyWhenProbeIsFast() {
+        // setup
+        HealthCheck healthCheck = new FixedProbeHealthCheck(null);
+
+        // execute
+        HealthCheck.Result result = healthCheck.execute();
+
+        // assert
+        assertTrue(result.isHealthy());
+        assertEquals(false, result.getDetails().get("degraded"));
+        assertEquals(1, getProbeCount());
+    }
+
+    /**
+     * given a probe that fails, tests that the check is reported as unhealthy with the failure and that the failed
+     * probe is still timed
+     */
+    @Test
+    public void checkIsUnhealthyWhenProbeFails() {
+        // setup
+        IOException probeFailure = new IOException("disk is read-only");
+        HealthCheck healthCheck = new FixedProbeHealthCheck(probeFailure);
+
+        // execute
+        HealthCheck.Result result = healthCheck.execute();
+
+        // assert
+        assertFalse(result.isHealthy());
+        assertEquals(probeFailure, result.getError());
+        assertEquals(1, getProbeCount());
+    }
+
+    /**
+     * given a p99 probe latency above the degraded threshold but below the unhealthy one, tests that the check is
+     * reported as healthy but degraded
+     */
+    @Test
+    public void checkIsDegradedWhenProbeLatencyIsAboveDegradedThreshold() {
+        // setup
+        healthCheckConfiguration.setDegradedProbeLatency(Duration.nanoseconds(0));
+        HealthCheck healthCheck = new FixedProbeHealthCheck(null);
+
+        // execute
+        HealthCheck.Result result = healthCheck.execute();
+
+        // assert
+        assertTrue(result.isHealthy());
+        assertEquals(true, result.getDetails().get("degraded"));
+        assertTrue(result.getMessage().startsWith("degraded"));
+    }
+
+    /**
+     * given a p99 probe latency above the unhealthy threshold, tests that the check is reported as unhealthy even
+     * though the probe succeeded
+     */
+    @Test
+    public void checkIsUnhealthyWhenProbeLatencyIsAboveUnhealthyThreshold() {
+        // setup
+        healthCheckConfiguration.setDegradedProbeLatency(Duration.nanoseconds(0));
+        healthCheckConfiguration.setUnhealthyProbeLatency(Duration.nanoseconds(0));
+        HealthCheck healthCheck = new FixedProbeHealthCheck(null);
+
+        // execute
+        HealthCheck.Result result = healthCheck.execute();
+
+        // assert
+        assertFalse(result.isHealthy());
+        assertTrue(result.getDetails().containsKey("p99ProbeLatencyMillis"));
+    }
+
+    private long getProbeCount() {
+        return metricRegistry.timer(MetricRegistry.name(FixedProbeHealthCheck.class, "probe")).getCount();
+    }
+
+    /**
+     * health check whose probe either always succeeds or always fails with the given exception
+     */
+    private final class FixedProbeHealthCheck extends LatencyProbeHealthCheck {
+        private final Exception probeFailure;
+
+        FixedProbeHealthCheck(Exception probeFailure) {
+            super(healthCheckConfiguration, metricRegistry);
+            this.probeFailure = probeFailure;
+        }
+
+        @Override
+        protected void probe() throws Exception {
+            if (probeFailure != null) {
+                throw probeFailure;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.footballstatsdashboard.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.ImmutableUser;
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.api.model.club.ClubDashboard;
+import com.footballstatsdashboard.api.model.club.ImmutableClubDashboard;
+import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.footballstatsdashboard.services.ClubDashboardService;
+import io.dropwizard.jackson.Jackson;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for club dashboard resource
+ */
+public class ClubDashboardResourceTest {
+    private static final ObjectMapper OBJECT_MAPPER = Jackson.newObjectMapper().copy();
+    private static final String USER_EMAIL = "fake email";
+
+    private User userPrincipal;
+    private ClubDashboardResource clubDashboardResource;
+
+    @Mock
+    private ClubDashboardService clubDashboardService;
+
+    @Mock
+    private AsyncResponse asyncResponse;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+
+        userPrincipal = ImmutableUser.builder()
+                .email(USER_EMAIL)
+                // other details are not required for the purposes of this test, so using empty strings
+                .password("")
+                .firstName("")
+                .lastName("")
+                .build();
+
+        clubDashboardResource = new ClubDashboardResource(clubDashboardService);
+    }
+
+    /**
+     * given a valid club id, tests that the club dashboard is fetched and returned in the response
+     */
+    @Test
+    public void getClubDashboardFetchesClubDashboard() {
+        // setup
+        Club existingClub = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .existingUserId(userPrincipal.getId())
+                .build();
+        ClubDashboard clubDashboard = ImmutableClubDashboard.builder()
+                .club(existingClub)
+                .squadPlayers(List.of())
+                .boardObjectives(List.of())
+                .build();
+        when(clubDashboardService.getClubDashboardAsync(eq(existingClub.getId()), eq(userPrincipal.getId())))
+                .thenReturn(CompletableFuture.completedFuture(clubDashboard));
+
+        // execute
+        clubDashboardResource.getClubDashboard(asyncResponse, userPrincipal, existingClub.getId());
+
+        // assert
+        verify(clubDashboardService).getClubDashboardAsync(any(), any());
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(responseCaptor.capture());
+        Response response = responseCaptor.getValue();
+        assertEquals(HttpStatus.OK_200, response.getStatus());
+        assertNotNull(response.getEntity());
+
+        ClubDashboard clubDashboardFromResponse = OBJECT_MAPPER.convertValue(response.getEntity(),
+                ClubDashboard.class);
+        assertEquals(existingClub.getId(), clubDashboardFromResponse.getClub().getId());
+    }
+
+    /**
+     * given a club that does not belong to the user, tests that the suspended request is resumed with the service
+     * exception rather than a response
+     */
+    @Test
+    public void getClubDashboardResumesWithServiceExceptionWhenDashboardCannotBeFetched() {
+        // setup
+        UUID clubId = UUID.randomUUID();
+        ServiceException forbiddenException = new ServiceException(HttpStatus.FORBIDDEN_403,
+                "User does not have access to this club!");
+        when(clubDashboardService.getClubDashboardAsync(eq(clubId), any()))
+                .thenReturn(CompletableFuture.failedFuture(new CompletionException(forbiddenException)));
+
+        // execute
+        clubDashboardResource.getClubDashboard(asyncResponse, userPrincipal, clubId);
+
+        // assert
+        verify(asyncResponse).resume(eq(forbiddenException));
+    }
+}
@@ -17,9 +17,11 @@ import io.dropwizard.jackson.Jackson;
 import org.eclipse.jetty.http.HttpStatus;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -28,6 +30,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -61,6 +65,9 @@ public class ClubResourceTest {
     @Mock
     private UriInfo uriInfo;
 
+    @Mock
+    private AsyncResponse asyncResponse;
+
     /**
      * set up test data before each test case is run
      */
@@ -97,13 +104,14 @@ public class ClubResourceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubService.getClub(eq(clubId), any())).thenReturn(existingClub);
+        when(clubService.getClubAsync(eq(clubId), any())).thenReturn(CompletableFuture.completedFuture(existingClub));
 
         // execute
-        Response clubResponse = clubResource.getClub(userPrincipal, clubId);
+        clubResource.getClub(asyncResponse, userPrincipal, clubId);
 
         // assert
-        verify(clubService).getClub(any(), any());
+        verify(clubService).getClubAsync(any(), any());
+        Response clubResponse = getResumedResponse();
         assertEquals(HttpStatus.OK_200, clubResponse.getStatus());
         assertNotNull(clubResponse.getEntity());
 
@@ -113,6 +121,26 @@ public class ClubResourceTest {
         assertEquals(userPrincipal.getId(), clubFromResponse.getUserId());
     }
 
+    /**
+     * given a club that does not belong to the user, tests that the suspended request is resumed with the service
+     * exception rather than a response
+     */
+    @Test
+    public void getClubResumesWithServiceExceptionWhenClubCannotBeFetched() {
+        // setup
+        UUID clubId = UUID.randomUUID();
+        ServiceException forbiddenException = new ServiceException(HttpStatus.FORBIDDEN_403,
+                "User does not have access to this club!");
+        when(clubService.getClubAsync(eq(clubId), any()))
+                .thenReturn(CompletableFuture.failedFuture(new CompletionException(forbiddenException)));
+
+        // execute
+        clubResource.getClub(asyncResponse, userPrincipal, clubId);
+
+        // assert
+        verify(asyncResponse).resume(eq(forbiddenException));
+    }
+
     /**
      * given a valid club entity in the request, tests that the club data is successfully persisted
      */
@@ -322,13 +350,15 @@ public class ClubResourceTest {
         UUID userId = userPrincipal.getId();
         // TODO: 04/03/22 update data provider to include club logo file key when ready
         List<ClubSummary> mockClubData = ClubDataProvider.getAllClubSummariesForUser(userId);
-        when(clubService.getClubSummariesByUserId(eq(userId))).thenReturn(mockClubData);
+        when(clubService.getClubSummariesByUserIdAsync(eq(userId)))
+                .thenReturn(CompletableFuture.completedFuture(mockClubData));
 
         // execute
-        Response response = clubResource.getClubsByUserId(userPrincipal);
+        clubResource.getClubsByUserId(asyncResponse, userPrincipal);
 
         // assert
-        verify(clubService).getClubSummariesByUserId(any());
+        verify(clubService).getClubSummariesByUserIdAsync(any());
+        Response response = getResumedResponse();
         assertNotNull(response);
         assertEquals(HttpStatus.OK_200, response.getStatus());
         assertNotNull(response.getEntity());
@@ -359,13 +389,15 @@ public class ClubResourceTest {
                 .recentForm(new ArrayList<>())
                 .playerId(UUID.randomUUID())
                 .build();
-        when(clubService.getSquadPlayers(eq(clubId))).thenReturn(ImmutableList.of(expectedSquadPlayer));
+        when(clubService.getSquadPlayersAsync(eq(clubId)))
+                .thenReturn(CompletableFuture.completedFuture(ImmutableList.of(expectedSquadPlayer)));
 
         // execute
-        Response response = clubResource.getSquadPlayers(clubId);
+        clubResource.getSquadPlayers(asyncResponse, clubId);
 
         // assert
-        verify(clubService).getSquadPlayers(any());
+        verify(clubService).getSquadPlayersAsync(any());
+        Response response = getResumedResponse();
         assertNotNull(response);
         assertEquals(HttpStatus.OK_200, response.getStatus());
         assertNotNull(response.getEntity());
@@ -376,4 +408,10 @@ public class ClubResourceTest {
                 squadPlayerListTypeRef);
         assertFalse(squadPlayersFromResponse.isEmpty());
     }
-}
\ No newline at end of file
+
+    private Response getResumedResponse() {
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(responseCaptor.capture());
+        return responseCaptor.getValue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.footballstatsdashboard.resources;
+
+import com.footballstatsdashboard.services.CountryFlagsLookupService;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class CountryFlagsLookupResourceTest {
+    private CountryFlagsLookupService countryFlagsLookupService;
+    private CountryFlagsLookupResource countryFlagsLookupResource;
+
+    @Mock
+    private Request request;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+
+        countryFlagsLookupService = new CountryFlagsLookupService();
+        countryFlagsLookupResource = new CountryFlagsLookupResource(countryFlagsLookupService);
+    }
+
+    /**
+     * given a request without a matching entity tag, tests that the pre-serialized country flags are returned in the
+     * response along with their entity tag and caching directives
+     */
+    @Test
+    public void getCountryFlagMetadataReturnsSerializedCountryFlags() throws IOException {
+        // setup
+        EntityTag countryFlagsEntityTag = countryFlagsLookupService.getCountryFlagsEntityTag();
+        ByteArrayOutputStream expectedCountryFlags = new ByteArrayOutputStream();
+        countryFlagsLookupService.writeSerializedCountryFlags(expectedCountryFlags);
+
+        // execute
+        Response countryFlagsResponse = countryFlagsLookupResource.getCountryFlagMetadata(request);
+
+        // assert
+        assertEquals(HttpStatus.OK_200, countryFlagsResponse.getStatus());
+        assertEquals(countryFlagsEntityTag, countryFlagsResponse.getEntityTag());
+        assertNotNull(countryFlagsResponse.getHeaderString(HttpHeaders.CACHE_CONTROL));
+        assertTrue(countryFlagsResponse.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("max-age"));
+
+        ByteArrayOutputStream countryFlags = new ByteArrayOutputStream();
+        ((StreamingOutput) countryFlagsResponse.getEntity()).write(countryFlags);
+        assertEquals(expectedCountryFlags.toString(), countryFlags.toString());
+    }
+
+    /**
+     * given a request with the entity tag of the country flags the client already has, tests that a not modified
+     * response is returned without the country flags
+     */
+    @Test
+    public void getCountryFlagMetadataWhenClientHasCurrentCountryFlags() {
+        // setup
+        EntityTag countryFlagsEntityTag = countryFlagsLookupService.getCountryFlagsEntityTag();
+        when(request.evaluatePreconditions(eq(countryFlagsEntityTag)))
+                .thenReturn(Response.notModified(countryFlagsEntityTag));
+
+        // execute
+        Response countryFlagsResponse = countryFlagsLookupResource.getCountryFlagMetadata(request);
+
+        // assert
+        assertEquals(HttpStatus.NOT_MODIFIED_304, countryFlagsResponse.getStatus());
+        assertEquals(countryFlagsEntityTag, countryFlagsResponse.getEntityTag());
+        assertNull(countryFlagsResponse.getEntity());
+    }
+}
@@ -0,0 +1,204 @@
+package com.footballstatsdashboard.resources;
+
+import com.footballstatsdashboard.services.IFileStorageService;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FileStorageResourceTest {
+    private static final String FILE_KEY = "fakeImage_fakeUUID.png";
+    private static final String MEDIA_TYPE = "image/png";
+    private static final byte[] FILE_CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VARIANT_CONTENT = "01234".getBytes(StandardCharsets.UTF_8);
+    private static final int VARIANT_WIDTH = 40;
+
+    private Path imageFile;
+    private FileStorageResource fileStorageResource;
+
+    @Mock
+    private IFileStorageService fileStorageService;
+
+    @Mock
+    private Request request;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() throws IOException {
+        MockitoAnnotations.openMocks(this);
+
+        imageFile = Files.createTempFile("fakeImage", ".png");
+        Files.write(imageFile, FILE_CONTENT);
+        when(fileStorageService.getFilePath(eq(FILE_KEY))).thenReturn(imageFile);
+        when(fileStorageService.getMediaType(eq(imageFile))).thenReturn(MEDIA_TYPE);
+
+        fileStorageResource = new FileStorageResource(fileStorageService);
+    }
+
+    @After
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(imageFile);
+    }
+
+    /**
+     * given a request for an image without a range, tests that the whole image is returned along with its detected
+     * media type and the headers needed to cache and revalidate it
+     */
+    @Test
+    public void downloadImageReturnsWholeImage() throws IOException {
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, null, null, null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.OK_200, imageResponse.getStatus());
+        assertEquals(MEDIA_TYPE, imageResponse.getMediaType().toString());
+        assertEquals(String.valueOf(FILE_CONTENT.length), imageResponse.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("bytes", imageResponse.getHeaderString("Accept-Ranges"));
+        assertNotNull(imageResponse.getEntityTag());
+        assertNotNull(imageResponse.getLastModified());
+        assertArrayEquals(FILE_CONTENT, getResponseContent(imageResponse));
+    }
+
+    /**
+     * given a request for a range of bytes of an image, tests that only those bytes are returned in a partial content
+     * response that describes the range
+     */
+    @Test
+    public void downloadImageReturnsRequestedRange() throws IOException {
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, "bytes=2-5", null, null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.PARTIAL_CONTENT_206, imageResponse.getStatus());
+        assertEquals("bytes 2-5/" + FILE_CONTENT.length, imageResponse.getHeaderString("Content-Range"));
+        assertEquals("4", imageResponse.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+        assertArrayEquals("2345".getBytes(StandardCharsets.UTF_8), getResponseContent(imageResponse));
+    }
+
+    /**
+     * given a request for the last bytes of an image, tests that the suffix of the image is returned
+     */
+    @Test
+    public void downloadImageReturnsRequestedSuffixRange() throws IOException {
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, "bytes=-3", null, null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.PARTIAL_CONTENT_206, imageResponse.getStatus());
+        assertArrayEquals("789".getBytes(StandardCharsets.UTF_8), getResponseContent(imageResponse));
+    }
+
+    /**
+     * given a request for a range that starts past the end of the image, tests that the range is rejected
+     */
+    @Test
+    public void downloadImageWhenRangeIsNotSatisfiable() throws IOException {
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, "bytes=100-", null, null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.RANGE_NOT_SATISFIABLE_416, imageResponse.getStatus());
+        assertEquals("bytes */" + FILE_CONTENT.length, imageResponse.getHeaderString("Content-Range"));
+        assertNull(imageResponse.getEntity());
+    }
+
+    /**
+     * given a range request conditioned on a version of the image that is no longer current, tests that the whole
+     * image is returned instead of the range
+     */
+    @Test
+    public void downloadImageIgnoresRangeForOutdatedIfRange() throws IOException {
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, "bytes=2-5", "\"outdated\"", null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.OK_200, imageResponse.getStatus());
+        assertArrayEquals(FILE_CONTENT, getResponseContent(imageResponse));
+    }
+
+    /**
+     * given a conditional request for an image the client already has, tests that a not modified response is
+     * returned without the image
+     */
+    @Test
+    public void downloadImageWhenClientHasCurrentImage() throws IOException {
+        // setup
+        when(request.evaluatePreconditions(any(Date.class), any(EntityTag.class)))
+                .thenReturn(Response.notModified());
+
+        // execute
+        Response imageResponse =
+                fileStorageResource.downloadImage(FILE_KEY, null, null, null, null, null, request);
+
+        // assert
+        assertEquals(HttpStatus.NOT_MODIFIED_304, imageResponse.getStatus());
+        assertNotNull(imageResponse.getEntityTag());
+        assertNull(imageResponse.getEntity());
+    }
+
+    /**
+     * given a request for a resized variant of an image, tests that the variant is served in place of the original
+     * along with its own media type
+     */
+    @Test
+    public void downloadImageReturnsRequestedVariant() throws IOException {
+        // setup
+        Path variantFile = Files.createTempFile("fakeImageVariant", ".jpeg");
+        try {
+            Files.write(variantFile, VARIANT_CONTENT);
+            when(fileStorageService.getImageVariantPath(eq(FILE_KEY), eq(VARIANT_WIDTH), isNull(), eq("jpeg")))
+                    .thenReturn(variantFile);
+            when(fileStorageService.getMediaType(eq(variantFile))).thenReturn("image/jpeg");
+
+            // execute
+            Response imageResponse =
+                    fileStorageResource.downloadImage(FILE_KEY, null, null, VARIANT_WIDTH, null, "jpeg", request);
+
+            // assert
+            assertEquals(HttpStatus.OK_200, imageResponse.getStatus());
+            assertEquals("image/jpeg", imageResponse.getMediaType().toString());
+            assertArrayEquals(VARIANT_CONTENT, getResponseContent(imageResponse));
+            verify(fileStorageService, never()).getFilePath(any());
+        } finally {
+            Files.deleteIfExists(variantFile);
+        }
+    }
+
+    private byte[] getResponseContent(Response response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -7,6 +7,8 @@ import com.footballstatsdashboard.api.model.ImmutableMatchPerformance;
 import com.footballstatsdashboard.api.model.ImmutableUser;
 import com.footballstatsdashboard.api.model.MatchPerformance;
 import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.api.model.matchPerformance.ImmutableMatchRating;
+import com.footballstatsdashboard.api.model.matchPerformance.MatchPerformanceBatchResult;
 import com.footballstatsdashboard.db.IMatchPerformanceEntityDAO;
 import com.google.common.collect.ImmutableList;
 import io.dropwizard.jackson.Jackson;
@@ -17,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -27,12 +30,15 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,6 +54,7 @@ public class MatchPerformanceResourceTest {
     private static final ObjectMapper OBJECT_MAPPER = Jackson.newObjectMapper().copy();
     private static final String USER_EMAIL = "fake email";
     private static final int UPDATED_PLAYER_APPEARANCES = 20;
+    private static final int BATCH_SIZE = 5;
     private static final FixtureLoader FIXTURE_LOADER = new FixtureLoader(OBJECT_MAPPER);
 
     private User userPrincipal;
@@ -59,6 +66,9 @@ public class MatchPerformanceResourceTest {
     @Mock
     private UriInfo uriInfo;
 
+    @Mock
+    private AsyncResponse asyncResponse;
+
     @Before
     public void initialize() {
         MockitoAnnotations.openMocks(this);
@@ -90,11 +100,14 @@ public class MatchPerformanceResourceTest {
         when(matchPerformanceDAO.getEntity(eq(matchPerformanceId))).thenReturn(matchPerformanceFromCouchbase);
 
         // execute
-        Response matchPerformanceResponse = matchPerformanceResource.getMatchPerformance(matchPerformanceId);
+        matchPerformanceResource.getMatchPerformance(asyncResponse, matchPerformanceId);
 
         // TODO: 19/08/21 refactor common assertions into an assertion helper
         // assert
         verify(matchPerformanceDAO).getEntity(any());
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(responseCaptor.capture());
+        Response matchPerformanceResponse = responseCaptor.getValue();
 
         assertNotNull(matchPerformanceResponse);
         assertEquals(HttpStatus.OK_200, matchPerformanceResponse.getStatus());
@@ -108,21 +121,22 @@ public class MatchPerformanceResourceTest {
     // TODO: 28/04/22 this should be throwing an entity not found exception
     /**
      * given a runtime exception is thrown by couchbase DAO when match performance data is not found, verifies
-     * that the same exception is thrown by `getClub` resource method as well
+     * that the suspended request is resumed with the same exception
      */
     @Test
     public void getMatchPerformanceWhenMatchPerformanceNotFoundInCouchbase() {
         // setup
         UUID invalidMatchPerformanceId = UUID.randomUUID();
-        when(matchPerformanceDAO.getEntity(eq(invalidMatchPerformanceId)))
-                .thenThrow(new RuntimeException("Unable to find document with ID: " + invalidMatchPerformanceId));
+        RuntimeException notFoundException =
+                new RuntimeException("Unable to find document with ID: " + invalidMatchPerformanceId);
+        when(matchPerformanceDAO.getEntity(eq(invalidMatchPerformanceId))).thenThrow(notFoundException);
 
         // execute
-        assertThrows(RuntimeException.class,
-                () -> matchPerformanceResource.getMatchPerformance(invalidMatchPerformanceId));
+        matchPerformanceResource.getMatchPerformance(asyncResponse, invalidMatchPerformanceId);
 
         // assert
         verify(matchPerformanceDAO).getEntity(any());
+        verify(asyncResponse).resume(eq(notFoundException));
     }
 
     /**
@@ -157,6 +171,144 @@ public class MatchPerformanceResourceTest {
                 matchPerformanceResponse.getLocation().getPath());
     }
 
+    /**
+     * given a batch of valid match performances in the request, tests that all of them are persisted at once with the
+     * internal fields set, and reported as created in the order they were sent in
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createMatchPerformancesPersistsBatchOfMatchPerformances() {
+        // setup
+        List<MatchPerformance> incomingMatchPerformances = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(idx -> getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false))
+                .collect(Collectors.toList());
+        ArgumentCaptor<List<MatchPerformance>> newMatchPerformancesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // execute
+        Response batchResponse = matchPerformanceResource.createMatchPerformances(userPrincipal,
+                incomingMatchPerformances);
+
+        // assert
+        verify(matchPerformanceDAO).insertEntities(newMatchPerformancesCaptor.capture());
+        verify(matchPerformanceDAO, never()).insertEntity(any());
+        List<MatchPerformance> capturedMatchPerformances = newMatchPerformancesCaptor.getValue();
+        assertEquals(BATCH_SIZE, capturedMatchPerformances.size());
+        capturedMatchPerformances.forEach(capturedMatchPerformance -> {
+            assertNotNull(capturedMatchPerformance.getCreatedDate());
+            assertNotNull(capturedMatchPerformance.getLastModifiedDate());
+            assertEquals(USER_EMAIL, capturedMatchPerformance.getCreatedBy());
+        });
+
+        assertEquals(HttpStatus.OK_200, batchResponse.getStatus());
+        List<MatchPerformanceBatchResult> results = getBatchResults(batchResponse);
+        assertEquals(BATCH_SIZE, results.size());
+        IntStream.range(0, BATCH_SIZE).forEach(idx -> {
+            assertEquals(idx, results.get(idx).getIndex());
+            assertEquals(incomingMatchPerformances.get(idx).getId(), results.get(idx).getId());
+            assertEquals(MatchPerformanceBatchResult.Status.CREATED, results.get(idx).getStatus());
+            assertTrue(results.get(idx).getErrors().isEmpty());
+        });
+    }
+
+    /**
+     * given a batch with an invalid match performance and a duplicate of a valid one, tests that only the valid match
+     * performance is persisted and the other two are reported as rejected along with the reasons
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createMatchPerformancesRejectsInvalidAndDuplicateMatchPerformances() {
+        // setup
+        MatchPerformance validMatchPerformance = getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false);
+        MatchPerformance invalidMatchPerformance = ImmutableMatchPerformance.builder()
+                .from(getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false))
+                .matchRating(ImmutableMatchRating.builder()
+                        .from(validMatchPerformance.getMatchRating())
+                        .history(new ArrayList<>())
+                        .build())
+                .build();
+        List<MatchPerformance> incomingMatchPerformances =
+                List.of(validMatchPerformance, invalidMatchPerformance, validMatchPerformance);
+        ArgumentCaptor<List<MatchPerformance>> newMatchPerformancesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // execute
+        Response batchResponse = matchPerformanceResource.createMatchPerformances(userPrincipal,
+                incomingMatchPerformances);
+
+        // assert
+        verify(matchPerformanceDAO).insertEntities(newMatchPerformancesCaptor.capture());
+        assertEquals(1, newMatchPerformancesCaptor.getValue().size());
+        assertEquals(validMatchPerformance.getId(), newMatchPerformancesCaptor.getValue().get(0).getId());
+
+        assertEquals(HttpStatus.OK_200, batchResponse.getStatus());
+        List<MatchPerformanceBatchResult> results = getBatchResults(batchResponse);
+        assertEquals(MatchPerformanceBatchResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(MatchPerformanceBatchResult.Status.REJECTED, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getErrors().size());
+        assertTrue(results.get(1).getErrors().get(0).startsWith("matchRating.history"));
+        assertEquals(MatchPerformanceBatchResult.Status.REJECTED, results.get(2).getStatus());
+        assertEquals(1, results.get(2).getErrors().size());
+    }
+
+    /**
+     * given a batch with a missing match performance and one that already exists in the data store, tests that both
+     * are reported as rejected while the rest of the batch is created
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createMatchPerformancesRejectsMissingAndExistingMatchPerformances() {
+        // setup
+        MatchPerformance newMatchPerformance = getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false);
+        MatchPerformance existingMatchPerformance = getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false);
+        List<MatchPerformance> incomingMatchPerformances = new ArrayList<>();
+        incomingMatchPerformances.add(newMatchPerformance);
+        incomingMatchPerformances.add(null);
+        incomingMatchPerformances.add(existingMatchPerformance);
+        when(matchPerformanceDAO.insertEntities(any()))
+                .thenReturn(Map.of(existingMatchPerformance.getId(), "already exists"));
+        ArgumentCaptor<List<MatchPerformance>> newMatchPerformancesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // execute
+        Response batchResponse = matchPerformanceResource.createMatchPerformances(userPrincipal,
+                incomingMatchPerformances);
+
+        // assert
+        verify(matchPerformanceDAO).insertEntities(newMatchPerformancesCaptor.capture());
+        assertEquals(2, newMatchPerformancesCaptor.getValue().size());
+
+        assertEquals(HttpStatus.OK_200, batchResponse.getStatus());
+        List<MatchPerformanceBatchResult> results = getBatchResults(batchResponse);
+        assertEquals(MatchPerformanceBatchResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(MatchPerformanceBatchResult.Status.REJECTED, results.get(1).getStatus());
+        assertNull(results.get(1).getId());
+        assertEquals(1, results.get(1).getErrors().size());
+        assertEquals(MatchPerformanceBatchResult.Status.REJECTED, results.get(2).getStatus());
+        assertEquals(existingMatchPerformance.getId(), results.get(2).getId());
+        assertEquals(List.of("already exists"), results.get(2).getErrors());
+    }
+
+    /**
+     * given a batch in which no match performance is valid, tests that nothing is persisted
+     */
+    @Test
+    public void createMatchPerformancesPersistsNothingWhenNoMatchPerformanceIsValid() {
+        // setup
+        MatchPerformance invalidMatchPerformance = ImmutableMatchPerformance.builder()
+                .from(getMatchPerformanceDataStub(UUID.randomUUID(), null, null, false))
+                .matchRating(ImmutableMatchRating.builder()
+                        .current(0.0f)
+                        .build())
+                .build();
+
+        // execute
+        Response batchResponse = matchPerformanceResource.createMatchPerformances(userPrincipal,
+                List.of(invalidMatchPerformance));
+
+        // assert
+        verify(matchPerformanceDAO, never()).insertEntities(any());
+        assertEquals(HttpStatus.OK_200, batchResponse.getStatus());
+        assertEquals(MatchPerformanceBatchResult.Status.REJECTED, getBatchResults(batchResponse).get(0).getStatus());
+    }
+
     /**
      * given a valid match performance entity in the request, tests that an updated club entity with update internal
      * fields is upserted in couchbase
@@ -334,4 +486,10 @@ public class MatchPerformanceResourceTest {
         }
         return matchPerformanceBuilder.build();
     }
-}
\ No newline at end of file
+
+    private List<MatchPerformanceBatchResult> getBatchResults(Response batchResponse) {
+        assertNotNull(batchResponse.getEntity());
+        TypeReference<List<MatchPerformanceBatchResult>> batchResultListTypeRef = new TypeReference<>() { };
+        return OBJECT_MAPPER.convertValue(batchResponse.getEntity(), batchResultListTypeRef);
+    }
+}
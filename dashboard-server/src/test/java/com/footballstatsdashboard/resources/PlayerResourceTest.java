@@ -14,15 +14,18 @@ import io.dropwizard.jackson.Jackson;
 import org.eclipse.jetty.http.HttpStatus;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -55,6 +58,9 @@ public class PlayerResourceTest {
     @Mock
     private UriInfo uriInfo;
 
+    @Mock
+    private AsyncResponse asyncResponse;
+
     /**
      * set up test data before each test case is run
      */
@@ -90,13 +96,17 @@ public class PlayerResourceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerService.getPlayer(eq(playerId))).thenReturn(playerToBeFetched);
+        when(playerService.getPlayerAsync(eq(playerId)))
+                .thenReturn(CompletableFuture.completedFuture(playerToBeFetched));
 
         // execute
-        Response playerResponse = playerResource.getPlayer(playerId);
+        playerResource.getPlayer(asyncResponse, playerId);
 
         // assert
-        verify(playerService).getPlayer(any());
+        verify(playerService).getPlayerAsync(any());
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(responseCaptor.capture());
+        Response playerResponse = responseCaptor.getValue();
         assertEquals(HttpStatus.OK_200, playerResponse.getStatus());
         assertNotNull(playerResponse.getEntity());
 
@@ -0,0 +1,149 @@
+package com.footballstatsdashboard.services;
+
+import com.footballstatsdashboard.BoardObjectiveDataProvider;
+import com.footballstatsdashboard.ClubDataProvider;
+import com.footballstatsdashboard.api.model.Club;
+import com.footballstatsdashboard.api.model.club.BoardObjective;
+import com.footballstatsdashboard.api.model.club.ClubDashboard;
+import com.footballstatsdashboard.api.model.club.ImmutableSquadPlayer;
+import com.footballstatsdashboard.api.model.club.SquadPlayer;
+import com.footballstatsdashboard.core.exceptions.ServiceException;
+import com.footballstatsdashboard.core.utils.AsyncUtils;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClubDashboardServiceTest {
+    private static final int CURRENT_PLAYER_ABILITY = 19;
+
+    private ClubDashboardService clubDashboardService;
+    private UUID userId;
+    private Club existingClub;
+
+    @Mock
+    private ClubService clubService;
+
+    @Mock
+    private BoardObjectiveService boardObjectiveService;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+        // the board objectives are loaded on the calling thread, which keeps the tests deterministic
+        clubDashboardService = new ClubDashboardService(clubService, boardObjectiveService, Runnable::run);
+
+        userId = UUID.randomUUID();
+        existingClub = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .existingUserId(userId)
+                .build();
+    }
+
+    /**
+     * given a club that belongs to the user, tests that the club, its squad and its board objectives are loaded and
+     * combined into the dashboard
+     */
+    @Test
+    public void getClubDashboardCombinesClubSquadAndBoardObjectives() {
+        // setup
+        UUID clubId = existingClub.getId();
+        SquadPlayer squadPlayer = ImmutableSquadPlayer.builder()
+                .name("fake player name")
+                .country("fake player country")
+                .countryFlag("fake country flag url")
+                .role("fake player role")
+                .currentAbility(CURRENT_PLAYER_ABILITY)
+                .recentForm(new ArrayList<>())
+                .playerId(UUID.randomUUID())
+                .build();
+        BoardObjective boardObjective = BoardObjectiveDataProvider.BoardObjectiveBuilder.builder()
+                .isExisting(true)
+                .withClubId(clubId)
+                .withExistingId(UUID.randomUUID())
+                .build();
+        when(clubService.doesClubBelongToUser(eq(clubId), eq(userId))).thenReturn(true);
+        when(clubService.getClubAsync(eq(clubId), eq(userId)))
+                .thenReturn(CompletableFuture.completedFuture(existingClub));
+        when(clubService.getSquadPlayersAsync(eq(clubId)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(squadPlayer)));
+        when(boardObjectiveService.getAllBoardObjectivesForClub(eq(clubId))).thenReturn(List.of(boardObjective));
+
+        // execute
+        ClubDashboard clubDashboard = clubDashboardService.getClubDashboardAsync(clubId, userId)
+                .toCompletableFuture().join();
+
+        // assert
+        assertSame(existingClub, clubDashboard.getClub());
+        assertEquals(List.of(squadPlayer), clubDashboard.getSquadPlayers());
+        assertEquals(List.of(boardObjective), clubDashboard.getBoardObjectives());
+    }
+
+    /**
+     * given a club that does not belong to the user, tests that the dashboard fails with a forbidden error without
+     * loading anything
+     */
+    @Test
+    public void getClubDashboardFailsWithoutLoadingWhenClubDoesNotBelongToUser() {
+        // setup
+        UUID clubId = existingClub.getId();
+        when(clubService.doesClubBelongToUser(eq(clubId), eq(userId))).thenReturn(false);
+
+        // execute
+        CompletableFuture<ClubDashboard> clubDashboard =
+                clubDashboardService.getClubDashboardAsync(clubId, userId).toCompletableFuture();
+
+        // assert
+        CompletionException completionException = assertThrows(CompletionException.class, clubDashboard::join);
+        Throwable cause = AsyncUtils.unwrap(completionException);
+        assertTrue(cause instanceof ServiceException);
+        assertEquals(HttpStatus.FORBIDDEN_403, ((ServiceException) cause).getResponseStatus());
+        verify(clubService, never()).getClubAsync(any(), any());
+        verify(clubService, never()).getSquadPlayersAsync(any());
+        verify(boardObjectiveService, never()).getAllBoardObjectivesForClub(any());
+    }
+
+    /**
+     * given a load that fails while the others succeed, tests that the dashboard fails with the error of that load
+     */
+    @Test
+    public void getClubDashboardFailsWhenAnyLoadFails() {
+        // setup
+        UUID clubId = existingClub.getId();
+        ServiceException notFoundException = new ServiceException(HttpStatus.NOT_FOUND_404, "fake error message");
+        when(clubService.doesClubBelongToUser(eq(clubId), eq(userId))).thenReturn(true);
+        when(clubService.getClubAsync(eq(clubId), eq(userId)))
+                .thenReturn(CompletableFuture.completedFuture(existingClub));
+        when(clubService.getSquadPlayersAsync(eq(clubId)))
+                .thenReturn(CompletableFuture.failedFuture(notFoundException));
+        when(boardObjectiveService.getAllBoardObjectivesForClub(eq(clubId))).thenReturn(List.of());
+
+        // execute
+        CompletableFuture<ClubDashboard> clubDashboard =
+                clubDashboardService.getClubDashboardAsync(clubId, userId).toCompletableFuture();
+
+        // assert
+        CompletionException completionException = assertThrows(CompletionException.class, clubDashboard::join);
+        assertSame(notFoundException, AsyncUtils.unwrap(completionException));
+    }
+}
@@ -21,6 +21,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.function.UnaryOperator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -102,6 +104,54 @@ public class ClubServiceTest {
         assertEquals(HttpStatus.NOT_FOUND_404, serviceException.getResponseStatus());
     }
 
+    /**
+     * given an invalid club id, tests that the stage returned when fetching the club asynchronously fails with a
+     * service exception for the missing club
+     */
+    @Test
+    public void getClubAsyncWhenClubDataCannotBeFound() {
+        // setup
+        UUID invalidClubId = UUID.randomUUID();
+        when(clubDAO.getEntity(eq(invalidClubId))).thenThrow(EntityNotFoundException.class);
+
+        // execute
+        CompletionException completionException = assertThrows(CompletionException.class,
+                () -> clubService.getClubAsync(invalidClubId, userId).toCompletableFuture().join());
+
+        // assert
+        verify(clubDAO).getEntity(any());
+        assertTrue(completionException.getCause() instanceof ServiceException);
+        assertEquals(HttpStatus.NOT_FOUND_404,
+                ((ServiceException) completionException.getCause()).getResponseStatus());
+    }
+
+    /**
+     * given a club id for a club the user does not have access to, tests that the stage returned when fetching the
+     * club asynchronously fails with a service exception instead of completing with the club data
+     */
+    @Test
+    public void getClubAsyncWhenClubDoesNotBelongToUser() {
+        // setup
+        UUID clubId = UUID.randomUUID();
+        Club existingClubData = ClubDataProvider.ClubBuilder.builder()
+                .isExisting(true)
+                .existingUserId(UUID.randomUUID())
+                .withId(clubId)
+                .withIncome()
+                .withExpenditure()
+                .build();
+        when(clubDAO.getEntity(eq(clubId))).thenReturn(existingClubData);
+
+        // execute
+        CompletionException completionException = assertThrows(CompletionException.class,
+                () -> clubService.getClubAsync(clubId, userId).toCompletableFuture().join());
+
+        // assert
+        assertTrue(completionException.getCause() instanceof ServiceException);
+        assertEquals(HttpStatus.FORBIDDEN_403,
+                ((ServiceException) completionException.getCause()).getResponseStatus());
+    }
+
     /**
      * given a club id for a club the user does not have access to, tests that the club data is not returned and a
      * service exception is thrown instead
@@ -287,7 +337,8 @@ public class ClubServiceTest {
      * entity is updated with the incoming properties and persisted in the DAO layer
      */
     @Test
-    public void updateClubUpdatesClubData() {
+@SuppressWarnings("unchecked")
+        public void updateClubUpdatesClubData() {
         // setup
         UUID existingClubId = UUID.randomUUID();
         Club existingClubData = ClubDataProvider.ClubBuilder.builder()
@@ -297,7 +348,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         BigDecimal updatedWageBudget = existingClubData.getWageBudget().add(new BigDecimal("100"));
         BigDecimal updatedTransferBudget = existingClubData.getTransferBudget().add(new BigDecimal("100"));
@@ -313,15 +364,14 @@ public class ClubServiceTest {
                 .withUpdatedManagerFunds(totalFunds)
                 .build();
 
-        ArgumentCaptor<Club> updatedClubCaptor = ArgumentCaptor.forClass(Club.class);
+        ArgumentCaptor<UnaryOperator<Club>> modificationCaptor = ArgumentCaptor.forClass(UnaryOperator.class);
 
         // execute
         Club updatedClub = clubService.updateClub(incomingClub, existingClubId, userId);
 
         // assert
-        verify(clubDAO).getEntity(any());
-        verify(clubDAO).updateEntity(eq(existingClubId), updatedClubCaptor.capture());
-        assertEquals(updatedClub, updatedClubCaptor.getValue());
+        verify(clubDAO).modifyEntity(eq(existingClubId), modificationCaptor.capture());
+        assertEquals(updatedClub, modificationCaptor.getValue().apply(existingClubData));
 
         assertEquals(existingClubData.getId(), updatedClub.getId());
         assertEquals(updatedTransferBudget, updatedClub.getTransferBudget());
@@ -341,7 +391,8 @@ public class ClubServiceTest {
      * club entity with the incoming properties and persisted in the DAO layer while the manager funds remain unchanged
      */
     @Test
-    public void updateClubWhenTransferAndWageBudgetSplitChanges() {
+@SuppressWarnings("unchecked")
+        public void updateClubWhenTransferAndWageBudgetSplitChanges() {
         // setup
         UUID existingClubId = UUID.randomUUID();
         Club existingClubData = ClubDataProvider.ClubBuilder.builder()
@@ -351,7 +402,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         // decrease transfer budget by 100 and increase wage budget by the same amount
         BigDecimal updatedTransferBudget = existingClubData.getTransferBudget()
@@ -368,15 +419,14 @@ public class ClubServiceTest {
                 .withUpdatedWageBudget(updatedWageBudget)
                 .build();
 
-        ArgumentCaptor<Club> updatedClubCaptor = ArgumentCaptor.forClass(Club.class);
+        ArgumentCaptor<UnaryOperator<Club>> modificationCaptor = ArgumentCaptor.forClass(UnaryOperator.class);
 
         // execute
         Club updatedClub = clubService.updateClub(incomingClub, existingClubId, userId);
 
         // assert
-        verify(clubDAO).getEntity(any());
-        verify(clubDAO).updateEntity(eq(existingClubId), updatedClubCaptor.capture());
-        assertEquals(updatedClub, updatedClubCaptor.getValue());
+        verify(clubDAO).modifyEntity(eq(existingClubId), modificationCaptor.capture());
+        assertEquals(updatedClub, modificationCaptor.getValue().apply(existingClubData));
 
         assertEquals(updatedTransferBudget, updatedClub.getTransferBudget());
         assertEquals(updatedWageBudget, updatedClub.getWageBudget());
@@ -398,7 +448,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         Club incomingClubBase = ClubDataProvider.ClubBuilder.builder()
                 .isExisting(false)
@@ -418,7 +468,7 @@ public class ClubServiceTest {
                 () -> clubService.updateClub(incomingClub, existingClubId, userId));
 
         // assert
-        verify(clubDAO).getEntity(any());
+        verify(clubDAO).modifyEntity(eq(existingClubId), any());
         verify(clubDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
     }
@@ -438,7 +488,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         Club incomingClubBase = ClubDataProvider.ClubBuilder.builder()
                 .isExisting(false)
@@ -456,7 +506,7 @@ public class ClubServiceTest {
                 () -> clubService.updateClub(incomingClub, existingClubId, userId));
 
         // assert
-        verify(clubDAO).getEntity(any());
+        verify(clubDAO).modifyEntity(eq(existingClubId), any());
         verify(clubDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
     }
@@ -466,7 +516,8 @@ public class ClubServiceTest {
      * the rest of the club entity is updated with the incoming properties and persisted in the DAO layer
      */
     @Test
-    public void updateClubIgnoresUpdatedIncomeAndExpenditure() {
+@SuppressWarnings("unchecked")
+        public void updateClubIgnoresUpdatedIncomeAndExpenditure() {
         // setup
         String updatedClubName = "updated club name";
         UUID existingClubId = UUID.randomUUID();
@@ -477,7 +528,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         Club incomingClubBase = ClubDataProvider.ClubBuilder.builder()
                 .isExisting(false)
@@ -492,15 +543,14 @@ public class ClubServiceTest {
                 .withUpdatedExpenditure()
                 .build();
 
-        ArgumentCaptor<Club> updatedClubCaptor = ArgumentCaptor.forClass(Club.class);
+        ArgumentCaptor<UnaryOperator<Club>> modificationCaptor = ArgumentCaptor.forClass(UnaryOperator.class);
 
         // execute
         Club updatedClub = clubService.updateClub(incomingClub, existingClubId, userId);
 
         // assert
-        verify(clubDAO).getEntity(any());
-        verify(clubDAO).updateEntity(eq(existingClubId), updatedClubCaptor.capture());
-        assertEquals(updatedClub, updatedClubCaptor.getValue());
+        verify(clubDAO).modifyEntity(eq(existingClubId), modificationCaptor.capture());
+        assertEquals(updatedClub, modificationCaptor.getValue().apply(existingClubData));
 
         assertEquals(updatedClubName, updatedClub.getName());
 
@@ -530,7 +580,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenReturn(existingClubData);
+        mockModifyEntity(existingClubId, existingClubData);
 
         BigDecimal updatedWageBudget = existingClubData.getWageBudget().add(new BigDecimal("100"));
         BigDecimal updatedTransferBudget = existingClubData.getTransferBudget().add(new BigDecimal("100"));
@@ -550,7 +600,7 @@ public class ClubServiceTest {
         assertThrows(ServiceException.class, () -> clubService.updateClub(incomingClub, existingClubId, userId));
 
         // assert
-        verify(clubDAO).getEntity(any());
+        verify(clubDAO).modifyEntity(eq(existingClubId), any());
         verify(clubDAO, never()).updateEntity(any(), any());
     }
 
@@ -569,7 +619,7 @@ public class ClubServiceTest {
                 .withIncome()
                 .withExpenditure()
                 .build();
-        when(clubDAO.getEntity(eq(existingClubId))).thenThrow(EntityNotFoundException.class);
+        when(clubDAO.modifyEntity(eq(existingClubId), any())).thenThrow(EntityNotFoundException.class);
 
         BigDecimal updatedWageBudget = existingClubData.getWageBudget().add(new BigDecimal("100"));
         BigDecimal updatedTransferBudget = existingClubData.getTransferBudget().add(new BigDecimal("100"));
@@ -590,7 +640,7 @@ public class ClubServiceTest {
                 () -> clubService.updateClub(incomingClub, existingClubId, userId));
 
         // assert
-        verify(clubDAO).getEntity(any());
+        verify(clubDAO).modifyEntity(eq(existingClubId), any());
         verify(clubDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.NOT_FOUND_404, serviceException.getResponseStatus());
     }
@@ -726,4 +776,12 @@ public class ClubServiceTest {
             assertEquals(expectedSquadPlayer, squadPlayer);
         });
     }
+
+    /**
+     * have the DAO apply the modification it is given to the existing club, as if that is how the club is stored
+     */
+    private void mockModifyEntity(UUID clubId, Club existingClub) {
+        when(clubDAO.modifyEntity(eq(clubId), any())).thenAnswer(invocation ->
+                invocation.<UnaryOperator<Club>>getArgument(1).apply(existingClub));
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.footballstatsdashboard.services;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.footballstatsdashboard.api.model.CountryCodeMetadata;
 import com.footballstatsdashboard.api.model.CountryFlagMetadata;
 import com.footballstatsdashboard.core.utils.FixtureLoader;
@@ -8,14 +9,20 @@ import io.dropwizard.jackson.Jackson;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_CODE_MAPPING_FNAME;
+import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_FLAG_URL_TEMPLATE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class CountryFlagsLookupServiceTest {
-    private static final FixtureLoader FIXTURE_LOADER = new FixtureLoader(Jackson.newObjectMapper().copy());
+    private static final ObjectMapper OBJECT_MAPPER = Jackson.newObjectMapper();
+    private static final FixtureLoader FIXTURE_LOADER = new FixtureLoader(OBJECT_MAPPER.copy());
     private CountryFlagsLookupService countryFlagsLookupService;
 
     @Before
@@ -36,4 +43,52 @@ public class CountryFlagsLookupServiceTest {
         // assert
         assertEquals(countryCodeMetadataList.size(), countryFlagMetadataList.size());
     }
+
+    /**
+     * given the name or the code of a country in the mapping, tests that the country is found through the index and
+     * that its flag url is built from its code
+     */
+    @Test
+    public void getCountryFlagLooksUpCountryByNameAndByCode() {
+        // execute
+        Optional<CountryFlagMetadata> countryFlagByName = countryFlagsLookupService.getCountryFlagByName("Afghanistan");
+        Optional<CountryFlagMetadata> countryFlagByCode = countryFlagsLookupService.getCountryFlagByCode("af");
+
+        // assert
+        assertTrue(countryFlagByName.isPresent());
+        assertEquals("af", countryFlagByName.get().getCountryCode());
+        assertEquals(String.format(COUNTRY_FLAG_URL_TEMPLATE, "af"), countryFlagByName.get().getCountryFlagUrl());
+        assertEquals(countryFlagByName, countryFlagByCode);
+    }
+
+    /**
+     * given a country that is not in the mapping, tests that no country is found
+     */
+    @Test
+    public void getCountryFlagWhenCountryIsNotInMapping() {
+        // execute and assert
+        assertFalse(countryFlagsLookupService.getCountryFlagByName("fake country").isPresent());
+        assertFalse(countryFlagsLookupService.getCountryFlagByCode(null).isPresent());
+    }
+
+    /**
+     * tests that the pre-serialized country flags are the JSON array of all country flags and that the entity tag
+     * identifies them across instances of the service
+     */
+    @Test
+    public void writeSerializedCountryFlagsWritesAllCountryFlags() throws IOException {
+        // setup
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // execute
+        countryFlagsLookupService.writeSerializedCountryFlags(outputStream);
+
+        // assert
+        List<CountryFlagMetadata> countryFlagMetadataList = OBJECT_MAPPER
+                .readValue(outputStream.toByteArray(), new TypeReference<List<CountryFlagMetadata>>() { });
+        assertEquals(countryFlagsLookupService.getCountryFlags(), countryFlagMetadataList);
+        assertEquals(outputStream.size(), countryFlagsLookupService.getSerializedCountryFlagsLength());
+        assertEquals(new CountryFlagsLookupService().getCountryFlagsEntityTag(),
+                countryFlagsLookupService.getCountryFlagsEntityTag());
+    }
 }
\ No newline at end of file
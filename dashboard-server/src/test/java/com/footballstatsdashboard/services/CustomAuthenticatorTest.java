@@ -0,0 +1,199 @@
+package com.footballstatsdashboard.services;
+
+import com.footballstatsdashboard.api.model.AuthToken;
+import com.footballstatsdashboard.api.model.ImmutableAuthToken;
+import com.footballstatsdashboard.api.model.ImmutableUser;
+import com.footballstatsdashboard.api.model.User;
+import com.footballstatsdashboard.core.service.auth.AuthTokenTouchWriter;
+import com.footballstatsdashboard.core.service.auth.CustomAuthenticator;
+import com.footballstatsdashboard.db.IAuthTokenEntityDAO;
+import com.footballstatsdashboard.db.IUserEntityDAO;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.dropwizard.auth.AuthenticationException;
+import io.dropwizard.util.Duration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CustomAuthenticatorTest {
+    private static final CaffeineSpec CACHE_POLICY = CaffeineSpec.parse("maximumSize=100, expireAfterWrite=5m");
+    private static final int NUMBER_OF_REQUESTS = 5;
+    private static final int EXPIRED_TOKEN_AGE_HOURS = 2;
+
+    private User user;
+    private AuthToken authToken;
+    private AuthTokenTouchWriter authTokenTouchWriter;
+    private CustomAuthenticator customAuthenticator;
+
+    @Mock
+    private IAuthTokenEntityDAO authTokenDAO;
+
+    @Mock
+    private IUserEntityDAO userDAO;
+
+    @Before
+    public void initialize() {
+        MockitoAnnotations.openMocks(this);
+
+        user = ImmutableUser.builder()
+                .email("fake email")
+                .password("fake password")
+                .build();
+        authToken = ImmutableAuthToken.builder()
+                .userId(user.getId())
+                .lastAccessUTC(Instant.now())
+                .build();
+        when(authTokenDAO.getEntity(eq(authToken.getId()))).thenReturn(authToken);
+        when(userDAO.getEntity(eq(user.getId()))).thenReturn(user);
+
+        authTokenTouchWriter = new AuthTokenTouchWriter(authTokenDAO, Duration.seconds(1));
+        customAuthenticator = new CustomAuthenticator(authTokenDAO, userDAO, authTokenTouchWriter, CACHE_POLICY);
+    }
+
+    /**
+     * given a valid auth token, tests that only the first request made with it reads from the database and that none
+     * of the requests write to the database until the touches are flushed
+     */
+    @Test
+    public void authenticateReadsFromDatabaseOnlyOnceForRepeatedRequests() throws AuthenticationException {
+        // execute
+        for (int requestIdx = 0; requestIdx < NUMBER_OF_REQUESTS; requestIdx++) {
+            Optional<User> authenticatedUser = customAuthenticator.authenticate(authToken.getId().toString());
+            assertTrue(authenticatedUser.isPresent());
+            assertEquals(user.getId(), authenticatedUser.get().getId());
+        }
+
+        // assert
+        verify(authTokenDAO).getEntity(any());
+        verify(userDAO).getEntity(any());
+        verify(authTokenDAO, never()).updateEntity(any(), any());
+        verify(authTokenDAO, never()).updateLastAccessTimes(anyList());
+    }
+
+    /**
+     * given several requests made with the same auth token, tests that their touches are coalesced into a single
+     * update written with the next flush
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void authenticateCoalescesTouchesIntoSingleBatchedUpdate() throws AuthenticationException {
+        // setup
+        for (int requestIdx = 0; requestIdx < NUMBER_OF_REQUESTS; requestIdx++) {
+            customAuthenticator.authenticate(authToken.getId().toString());
+        }
+
+        // execute
+        authTokenTouchWriter.flush();
+        authTokenTouchWriter.flush();
+
+        // assert
+        ArgumentCaptor<List<AuthToken>> touchedAuthTokensCaptor = ArgumentCaptor.forClass(List.class);
+        verify(authTokenDAO).updateLastAccessTimes(touchedAuthTokensCaptor.capture());
+        List<AuthToken> touchedAuthTokens = touchedAuthTokensCaptor.getValue();
+        assertEquals(1, touchedAuthTokens.size());
+        assertEquals(authToken.getId(), touchedAuthTokens.get(0).getId());
+        assertFalse(touchedAuthTokens.get(0).getLastAccessUTC().isBefore(authToken.getLastAccessUTC()));
+    }
+
+    /**
+     * given touches that could not be written to the database, tests that they are retried with the next flush
+     */
+    @Test
+    public void flushRetriesTouchesThatCouldNotBeWritten() throws AuthenticationException {
+        // setup
+        customAuthenticator.authenticate(authToken.getId().toString());
+        doThrow(RuntimeException.class).doNothing().when(authTokenDAO).updateLastAccessTimes(anyList());
+
+        // execute
+        authTokenTouchWriter.flush();
+        authTokenTouchWriter.flush();
+        authTokenTouchWriter.flush();
+
+        // assert
+        verify(authTokenDAO, times(2)).updateLastAccessTimes(anyList());
+    }
+
+    /**
+     * given an auth token that has been invalidated, tests that the next request made with it is authenticated
+     * against the database again
+     */
+    @Test
+    public void authenticateReloadsAuthTokenAfterInvalidation() throws AuthenticationException {
+        // setup
+        customAuthenticator.authenticate(authToken.getId().toString());
+
+        // execute
+        customAuthenticator.invalidateAuthToken(authToken.getId());
+        Optional<User> authenticatedUser = customAuthenticator.authenticate(authToken.getId().toString());
+
+        // assert
+        assertTrue(authenticatedUser.isPresent());
+        verify(authTokenDAO, times(2)).getEntity(any());
+        verify(userDAO, times(2)).getEntity(any());
+    }
+
+    /**
+     * given a user whose details have been updated, tests that the user is read afresh by the next request made with
+     * their auth token
+     */
+    @Test
+    public void authenticateReloadsUserAfterUserInvalidation() throws AuthenticationException {
+        // setup
+        customAuthenticator.authenticate(authToken.getId().toString());
+        User updatedUser = ImmutableUser.builder()
+                .from(user)
+                .firstName("updated first name")
+                .build();
+        when(userDAO.getEntity(eq(user.getId()))).thenReturn(updatedUser);
+
+        // execute
+        customAuthenticator.invalidateUser(user.getId());
+        Optional<User> authenticatedUser = customAuthenticator.authenticate(authToken.getId().toString());
+
+        // assert
+        assertTrue(authenticatedUser.isPresent());
+        assertEquals("updated first name", authenticatedUser.get().getFirstName());
+    }
+
+    /**
+     * given an auth token that has not been used for longer than its lifetime, tests that the request is not
+     * authenticated and nothing is touched
+     */
+    @Test
+    public void authenticateRejectsExpiredAuthToken() throws AuthenticationException {
+        // setup
+        AuthToken expiredAuthToken = ImmutableAuthToken.builder()
+                .userId(user.getId())
+                .lastAccessUTC(Instant.now().minus(EXPIRED_TOKEN_AGE_HOURS, ChronoUnit.HOURS))
+                .build();
+        when(authTokenDAO.getEntity(eq(expiredAuthToken.getId()))).thenReturn(expiredAuthToken);
+
+        // execute
+        Optional<User> authenticatedUser = customAuthenticator.authenticate(expiredAuthToken.getId().toString());
+        authTokenTouchWriter.flush();
+
+        // assert
+        assertFalse(authenticatedUser.isPresent());
+        verify(userDAO, never()).getEntity(any());
+        verify(authTokenDAO, never()).updateLastAccessTimes(anyList());
+    }
+}
@@ -9,6 +9,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockitoAnnotations;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -17,9 +19,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -31,6 +38,9 @@ public class FileStorageServiceTest {
             "src", "test", "resources");
     private static final Path PATH_TO_UPLOAD_DIR = PATH_TO_RESOURCES_DIR.resolve("uploads");
     private static final int BYTES_IN_MEGABYTE = 1024;
+    private static final String CONTENT_ADDRESSED_UPLOAD_DIR = "contentAddressed";
+    private static final int VARIANT_WIDTH = 40;
+    private static final int WATCHER_TIMEOUT_IN_SECONDS = 10;
 
     private FileStorageService fileStorageService;
 
@@ -121,6 +131,53 @@ public class FileStorageServiceTest {
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
     }
 
+    /**
+     * given an input stream for an image file larger than allowed whose size is understated by the client, tests that
+     * the upload is aborted once the limit is exceeded and nothing is left on disk
+     */
+    @Test
+    public void storeFileDoesNotPersistLargeImageFileWithUnderstatedSize() throws IOException {
+        // setup
+        String largeImageFileToUpload = "largeImageFile.png";
+        long understatedFileSizeInBytes = 1;
+        long numberOfFilesBeforeUpload = countFilesInUploadDir();
+
+        // execute
+        ServiceException serviceException;
+        try (InputStream fileStream = Files.newInputStream(PATH_TO_RESOURCES_DIR.resolve(largeImageFileToUpload))) {
+            serviceException = assertThrows(ServiceException.class,
+                    () -> fileStorageService.storeFile(fileStream, largeImageFileToUpload, "image/png",
+                            understatedFileSizeInBytes));
+        }
+
+        // assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
+        assertEquals(numberOfFilesBeforeUpload, countFilesInUploadDir());
+    }
+
+    /**
+     * given an input stream for a text file passed off as an image, tests that the content of the stream is checked
+     * and it is not persisted to disk
+     */
+    @Test
+    public void storeFileDoesNotPersistFileWhoseContentIsNotAnImage() throws IOException {
+        // setup
+        String textFileToUpload = "textFileToUpload.txt";
+        long fileSizeInBytes = Files.size(PATH_TO_RESOURCES_DIR.resolve(textFileToUpload));
+        long numberOfFilesBeforeUpload = countFilesInUploadDir();
+
+        // execute
+        ServiceException serviceException;
+        try (InputStream fileStream = Files.newInputStream(PATH_TO_RESOURCES_DIR.resolve(textFileToUpload))) {
+            serviceException = assertThrows(ServiceException.class,
+                    () -> fileStorageService.storeFile(fileStream, "fakeImage.png", "image/png", fileSizeInBytes));
+        }
+
+        // assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
+        assertEquals(numberOfFilesBeforeUpload, countFilesInUploadDir());
+    }
+
     /**
      * given a file key for a valid file stored on disk, tests that the method verifies that and returns true
      */
@@ -140,6 +197,29 @@ public class FileStorageServiceTest {
         assertTrue(doesFileExist);
     }
 
+    /**
+     * given a file key for a file stored through the service, tests that its existence is answered from the index of
+     * stored files without going to disk
+     */
+    @Test
+    public void doesFileExistAnswersFromIndexForStoredFile() throws IOException {
+        // setup
+        String imageFileToUpload = "stockPhoto.jpeg";
+        long fileSizeInBytes = Files.size(PATH_TO_RESOURCES_DIR.resolve(imageFileToUpload));
+        String fileKey;
+        try (InputStream fileStream = Files.newInputStream(PATH_TO_RESOURCES_DIR.resolve(imageFileToUpload))) {
+            fileKey = fileStorageService.storeFile(fileStream, imageFileToUpload, "image/jpeg", fileSizeInBytes);
+        }
+        // removed behind the back of the service, which it would only notice if it checked the disk
+        Files.delete(PATH_TO_UPLOAD_DIR.resolve(fileKey));
+
+        // execute
+        boolean doesFileExist = fileStorageService.doesFileExist(fileKey);
+
+        // assert
+        assertTrue(doesFileExist);
+    }
+
     /**
      * given a file key for a non-existent file, tests that the method verifies that and returns false
      */
@@ -199,6 +279,236 @@ public class FileStorageServiceTest {
         assertEquals(fileSizeInBytes, loadedFileStream.available());
     }
 
+    /**
+     * given a file key for an image stored with a misleading extension, tests that the media type is detected from
+     * the content of the image rather than from its extension
+     */
+    @Test
+    public void getMediaTypeDetectsMediaTypeFromFileContent() throws IOException {
+        // setup
+        String fileKey = "stockPhoto_" + UUID.randomUUID() + ".png";
+        Files.copy(PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg"), PATH_TO_UPLOAD_DIR.resolve(fileKey));
+
+        // execute
+        String mediaType = fileStorageService.getMediaType(fileKey);
+
+        // assert
+        assertEquals("image/jpeg", mediaType);
+    }
+
+    /**
+     * given a file key that points outside the upload directory, tests that the file is not resolved and a service
+     * exception is thrown instead
+     */
+    @Test
+    public void getFilePathWhenFileKeyPointsOutsideUploadDirectory() {
+        // setup
+        String maliciousFileKey = "../stockPhoto.jpeg";
+
+        // execute
+        ServiceException serviceException = assertThrows(ServiceException.class,
+                () -> fileStorageService.getFilePath(maliciousFileKey));
+
+        // assert
+        assertEquals(HttpStatus.NOT_FOUND_404, serviceException.getResponseStatus());
+    }
+
+    /**
+     * given the same image uploaded twice with content addressed storage, tests that both file keys resolve to a
+     * single stored copy of the image identified by its digest
+     */
+    @Test
+    public void storeFileDeduplicatesIdenticalUploadsWhenContentAddressed() throws IOException {
+        // setup
+        FileStorageService contentAddressedFileStorageService = buildContentAddressedFileStorageService();
+        String imageFileToUpload = "stockPhoto.jpeg";
+        long fileSizeInBytes = Files.size(PATH_TO_RESOURCES_DIR.resolve(imageFileToUpload));
+
+        // execute
+        String firstFileKey;
+        String secondFileKey;
+        try (InputStream fileStream = Files.newInputStream(PATH_TO_RESOURCES_DIR.resolve(imageFileToUpload))) {
+            firstFileKey = contentAddressedFileStorageService.storeFile(fileStream, imageFileToUpload, "image/jpeg",
+                    fileSizeInBytes);
+        }
+        try (InputStream fileStream = Files.newInputStream(PATH_TO_RESOURCES_DIR.resolve(imageFileToUpload))) {
+            secondFileKey = contentAddressedFileStorageService.storeFile(fileStream, imageFileToUpload, "image/jpeg",
+                    fileSizeInBytes);
+        }
+
+        // assert
+        assertNotEquals(firstFileKey, secondFileKey);
+        assertTrue(contentAddressedFileStorageService.doesFileExist(firstFileKey));
+        assertTrue(contentAddressedFileStorageService.getFileDigest(firstFileKey).isPresent());
+        assertEquals(contentAddressedFileStorageService.getFileDigest(firstFileKey),
+                contentAddressedFileStorageService.getFileDigest(secondFileKey));
+        Path storedFilePath = contentAddressedFileStorageService.getFilePath(firstFileKey);
+        assertEquals(storedFilePath, contentAddressedFileStorageService.getFilePath(secondFileKey));
+        assertEquals(fileSizeInBytes, Files.size(storedFilePath));
+        assertEquals(contentAddressedFileStorageService.getFileDigest(firstFileKey).get(),
+                storedFilePath.getFileName().toString());
+    }
+
+    /**
+     * given images uploaded before content addressed storage was turned on, tests that they are moved into the store
+     * and are still found by their existing file keys, including after the store is loaded again
+     */
+    @Test
+    public void initializeServiceMovesExistingUploadsIntoContentAddressedStore() throws IOException {
+        // setup
+        Path contentAddressedUploadDir = PATH_TO_UPLOAD_DIR.resolve(CONTENT_ADDRESSED_UPLOAD_DIR);
+        Files.createDirectories(contentAddressedUploadDir);
+        String existingFileKey = "stockPhoto_" + UUID.randomUUID() + ".jpeg";
+        Files.copy(PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg"),
+                contentAddressedUploadDir.resolve(existingFileKey));
+
+        // execute
+        FileStorageService contentAddressedFileStorageService = buildContentAddressedFileStorageService();
+        FileStorageService reloadedFileStorageService = buildContentAddressedFileStorageService();
+
+        // assert
+        assertFalse(Files.exists(contentAddressedUploadDir.resolve(existingFileKey)));
+        assertTrue(contentAddressedFileStorageService.doesFileExist(existingFileKey));
+        assertTrue(reloadedFileStorageService.doesFileExist(existingFileKey));
+        assertEquals(contentAddressedFileStorageService.getFilePath(existingFileKey),
+                reloadedFileStorageService.getFilePath(existingFileKey));
+    }
+
+    /**
+     * given a request for a smaller variant of a stored image, tests that the variant is generated at the requested
+     * size once and then served from the cache
+     */
+    @Test
+    public void getImageVariantPathGeneratesResizedVariantOnce() throws IOException {
+        // setup
+        String fileKey = "stockPhoto_" + UUID.randomUUID() + ".jpeg";
+        Files.copy(PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg"), PATH_TO_UPLOAD_DIR.resolve(fileKey));
+
+        // execute
+        Path variantPath = fileStorageService.getImageVariantPath(fileKey, VARIANT_WIDTH, null, "png");
+        long variantLastModified = Files.getLastModifiedTime(variantPath).toMillis();
+        Path cachedVariantPath = fileStorageService.getImageVariantPath(fileKey, VARIANT_WIDTH, null, "png");
+
+        // assert
+        assertEquals(variantPath, cachedVariantPath);
+        assertEquals(variantLastModified, Files.getLastModifiedTime(cachedVariantPath).toMillis());
+        assertEquals("image/png", fileStorageService.getMediaType(variantPath));
+        BufferedImage variantImage = ImageIO.read(variantPath.toFile());
+        assertEquals(VARIANT_WIDTH, variantImage.getWidth());
+    }
+
+    /**
+     * given variants that take up more space than the cache allows, tests that the least recently used variant is
+     * evicted from disk
+     */
+    @Test
+    public void imageVariantCacheEvictsLeastRecentlyUsedVariant() throws IOException {
+        // setup
+        Path sourcePath = PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg");
+        ImageVariantCache imageVariantCache = new ImageVariantCache(PATH_TO_UPLOAD_DIR.resolve("evictedVariants"), 1);
+        imageVariantCache.initialize();
+
+        // execute
+        Path firstVariantPath = imageVariantCache.getVariant("stockPhoto", sourcePath, "image/jpeg", VARIANT_WIDTH,
+                null, null);
+        Path secondVariantPath = imageVariantCache.getVariant("stockPhoto", sourcePath, "image/jpeg", null,
+                VARIANT_WIDTH, null);
+
+        // assert
+        assertFalse(Files.exists(firstVariantPath));
+        assertTrue(Files.exists(secondVariantPath));
+    }
+
+    /**
+     * given a source image with more pixels than the variant cache allows, tests that the image is not decoded and
+     * no variant is generated
+     */
+    @Test
+    public void imageVariantCacheRejectsSourceImageOverPixelBudget() throws IOException {
+        // setup
+        Path sourcePath = PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg");
+        Path variantsPath = PATH_TO_UPLOAD_DIR.resolve("oversizedVariants");
+        ImageVariantCache imageVariantCache = new ImageVariantCache(variantsPath, Long.MAX_VALUE, 1);
+        imageVariantCache.initialize();
+
+        // execute
+        assertThrows(IllegalArgumentException.class, () -> imageVariantCache.getVariant("stockPhoto", sourcePath,
+                "image/jpeg", VARIANT_WIDTH, null, null));
+
+        // assert
+        try (Stream<Path> variantFiles = Files.list(variantsPath)) {
+            assertEquals(0, variantFiles.count());
+        }
+    }
+
+    /**
+     * given a request for a variant of a stored image in a format that is not supported, tests that no variant is
+     * generated and a service exception is thrown instead
+     */
+    @Test
+    public void getImageVariantPathWhenFormatIsNotSupported() throws IOException {
+        // setup
+        String fileKey = "stockPhoto_" + UUID.randomUUID() + ".jpeg";
+        Files.copy(PATH_TO_RESOURCES_DIR.resolve("stockPhoto.jpeg"), PATH_TO_UPLOAD_DIR.resolve(fileKey));
+
+        // execute
+        ServiceException serviceException = assertThrows(ServiceException.class,
+                () -> fileStorageService.getImageVariantPath(fileKey, VARIANT_WIDTH, null, "bmp"));
+
+        // assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
+    }
+
+    /**
+     * given a watcher whose callback fails for the first file created in the watched directory, tests that the
+     * failure is contained and the files created after it are still reported
+     */
+    @Test
+    public void uploadDirectoryWatcherKeepsWatchingAfterCallbackFails() throws IOException, InterruptedException {
+        // setup
+        Path watchedPath = Files.createDirectories(PATH_TO_UPLOAD_DIR.resolve("watched"));
+        String failingFileName = "failing_" + UUID.randomUUID();
+        String reportedFileName = "reported_" + UUID.randomUUID();
+        BlockingQueue<String> reportedFileNames = new LinkedBlockingQueue<>();
+
+        UploadDirectoryWatcher uploadDirectoryWatcher = new UploadDirectoryWatcher(watchedPath, fileName -> {
+            if (fileName.equals(failingFileName)) {
+                throw new IllegalStateException("Failed to handle created file");
+            }
+            reportedFileNames.add(fileName);
+        }, fileName -> { }, () -> { });
+
+        try {
+            // execute
+            Files.createFile(watchedPath.resolve(failingFileName));
+            Files.createFile(watchedPath.resolve(reportedFileName));
+
+            // assert
+            assertEquals(reportedFileName, reportedFileNames.poll(WATCHER_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            uploadDirectoryWatcher.close();
+        }
+    }
+
+    private long countFilesInUploadDir() throws IOException {
+        try (Stream<Path> uploadedFiles = Files.walk(PATH_TO_UPLOAD_DIR)) {
+            return uploadedFiles.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private FileStorageService buildContentAddressedFileStorageService() {
+        FileUploadConfiguration fileUploadConfiguration = new FileUploadConfiguration();
+        fileUploadConfiguration.setAllowedMediaTypes(ImmutableList.of("image/jpeg", "image/png"));
+        fileUploadConfiguration.setMaxSizeInBytes((long) (BYTES_IN_MEGABYTE * BYTES_IN_MEGABYTE));
+        fileUploadConfiguration.setUploadPath(Paths.get("src", "test", "resources", "uploads",
+                CONTENT_ADDRESSED_UPLOAD_DIR).toString());
+        fileUploadConfiguration.setStorageMode(FileUploadConfiguration.StorageMode.CONTENT_ADDRESSED);
+
+        FileStorageService contentAddressedFileStorageService = new FileStorageService(fileUploadConfiguration);
+        contentAddressedFileStorageService.initializeService();
+        return contentAddressedFileStorageService;
+    }
+
     /**
      * clean up work done at the end of the test suite's run involving removing all files creating as a result of
      * running each individual test case
@@ -25,6 +25,7 @@ import javax.persistence.NoResultException;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 import static com.footballstatsdashboard.core.utils.Constants.COUNTRY_CODE_MAPPING_FNAME;
 import static org.junit.Assert.assertEquals;
@@ -257,7 +258,7 @@ public class PlayerServiceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenReturn(existingPlayerData);
+        mockModifyEntity(existingPlayerId, existingPlayerData);
         when(playerDAO.doesEntityBelongToUser(eq(existingPlayerId), eq(authorizedUserId))).thenReturn(true);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
@@ -278,9 +279,8 @@ public class PlayerServiceTest {
         Player updatedPlayer = playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId);
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO).doesEntityBelongToUser(any(), any());
-        verify(playerDAO).updateEntity(any(), any());
 
         updatedPlayer.getAttributes().forEach(attribute -> {
             Attribute existingPlayerAttribute = existingPlayerData.getAttributes().stream()
@@ -313,7 +313,7 @@ public class PlayerServiceTest {
     public void updatePlayerWhenPlayerDoesNotExist() {
         // setup
         UUID existingPlayerId = UUID.randomUUID();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenThrow(EntityNotFoundException.class);
+        when(playerDAO.modifyEntity(eq(existingPlayerId), any())).thenThrow(EntityNotFoundException.class);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
                 .isExistingPlayer(false)
@@ -332,7 +332,7 @@ public class PlayerServiceTest {
                 () -> playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId));
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO, never()).doesEntityBelongToUser(any(), any());
         verify(playerDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.NOT_FOUND_404, serviceException.getResponseStatus());
@@ -354,7 +354,7 @@ public class PlayerServiceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenReturn(existingPlayerData);
+        mockModifyEntity(existingPlayerId, existingPlayerData);
         when(playerDAO.doesEntityBelongToUser(eq(existingPlayerId), eq(authorizedUserId))).thenReturn(false);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
@@ -374,7 +374,7 @@ public class PlayerServiceTest {
                 () -> playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId));
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO).doesEntityBelongToUser(any(), any());
         verify(playerDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.FORBIDDEN_403, serviceException.getResponseStatus());
@@ -396,7 +396,7 @@ public class PlayerServiceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenReturn(existingPlayerData);
+        mockModifyEntity(existingPlayerId, existingPlayerData);
         when(playerDAO.doesEntityBelongToUser(eq(existingPlayerId), eq(authorizedUserId))).thenReturn(true);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
@@ -416,7 +416,7 @@ public class PlayerServiceTest {
                 () -> playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId));
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO).doesEntityBelongToUser(any(), any());
         verify(playerDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
@@ -438,7 +438,7 @@ public class PlayerServiceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenReturn(existingPlayerData);
+        mockModifyEntity(existingPlayerId, existingPlayerData);
         when(playerDAO.doesEntityBelongToUser(eq(existingPlayerId), eq(authorizedUserId))).thenReturn(true);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
@@ -458,7 +458,7 @@ public class PlayerServiceTest {
                 () -> playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId));
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO).doesEntityBelongToUser(any(), any());
         verify(playerDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
@@ -480,7 +480,7 @@ public class PlayerServiceTest {
                 .withRoles()
                 .withAttributes()
                 .build();
-        when(playerDAO.getEntity(eq(existingPlayerId))).thenReturn(existingPlayerData);
+        mockModifyEntity(existingPlayerId, existingPlayerData);
         when(playerDAO.doesEntityBelongToUser(eq(existingPlayerId), eq(authorizedUserId))).thenReturn(true);
 
         Player incomingPlayerBase = PlayerDataProvider.PlayerBuilder.builder()
@@ -502,7 +502,7 @@ public class PlayerServiceTest {
                 () -> playerService.updatePlayer(incomingPlayer, existingPlayerId, authorizedUserId));
 
         // assert
-        verify(playerDAO).getEntity(any());
+        verify(playerDAO).modifyEntity(eq(existingPlayerId), any());
         verify(playerDAO).doesEntityBelongToUser(any(), any());
         verify(playerDAO, never()).updateEntity(any(), any());
         assertEquals(HttpStatus.UNPROCESSABLE_ENTITY_422, serviceException.getResponseStatus());
@@ -593,6 +593,14 @@ public class PlayerServiceTest {
         assertEquals(HttpStatus.FORBIDDEN_403, serviceException.getResponseStatus());
     }
 
+    /**
+     * have the DAO apply the modification it is given to the existing player, as if that is how the player is stored
+     */
+    private void mockModifyEntity(UUID playerId, Player existingPlayer) {
+        when(playerDAO.modifyEntity(eq(playerId), any())).thenAnswer(invocation ->
+                invocation.<UnaryOperator<Player>>getArgument(1).apply(existingPlayer));
+    }
+
     private void assertCountryLogo(Metadata createdPlayerMetadata) throws IOException {
         TypeReference<List<CountryCodeMetadata>> countryCodeMetadataTypeRef = new TypeReference<>() { };
         List<CountryCodeMetadata> countryCodeMetadataList =
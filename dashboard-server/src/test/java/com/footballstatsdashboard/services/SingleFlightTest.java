@@ -0,0 +1,147 @@
+package com.footballstatsdashboard.services;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightTest {
+    private static final String SINGLE_FLIGHT_NAME = "squadPlayers";
+    private static final List<String> LOADED_VALUE = List.of("fake squad player");
+    private static final int TIMEOUT_SECONDS = 5;
+
+    private MetricRegistry metricRegistry;
+    private SingleFlight<UUID, List<String>> singleFlight;
+    private AtomicInteger loadCount;
+
+    /**
+     * set up test data before each test case is run
+     */
+    @Before
+    public void initialize() {
+        metricRegistry = new MetricRegistry();
+        singleFlight = new SingleFlight<>(metricRegistry, SINGLE_FLIGHT_NAME);
+        loadCount = new AtomicInteger();
+    }
+
+    /**
+     * given a key whose load is still in flight, tests that a second call for the key shares that load and its result
+     * instead of starting one of its own
+     */
+    @Test
+    public void executeSharesLoadInFlight() {
+        // setup
+        UUID key = UUID.randomUUID();
+        CompletableFuture<List<String>> pendingLoad = new CompletableFuture<>();
+
+        // execute
+        CompletionStage<List<String>> firstResult = singleFlight.execute(key, () -> {
+            loadCount.incrementAndGet();
+            return pendingLoad;
+        });
+        CompletionStage<List<String>> secondResult = singleFlight.execute(key, () -> {
+            loadCount.incrementAndGet();
+            return pendingLoad;
+        });
+        pendingLoad.complete(LOADED_VALUE);
+
+        // assert
+        assertEquals(1, loadCount.get());
+        assertEquals(LOADED_VALUE, firstResult.toCompletableFuture().join());
+        assertEquals(LOADED_VALUE, secondResult.toCompletableFuture().join());
+        assertEquals(1, getCount("loads"));
+        assertEquals(1, getCount("coalesced"));
+    }
+
+    /**
+     * given a key whose previous load has completed, tests that the next call starts a new load instead of being
+     * handed the previous result
+     */
+    @Test
+    public void executeStartsNewLoadOnceLoadCompletes() {
+        // setup
+        UUID key = UUID.randomUUID();
+
+        // execute
+        singleFlight.execute(key, () -> {
+            loadCount.incrementAndGet();
+            return CompletableFuture.completedFuture(LOADED_VALUE);
+        });
+        singleFlight.execute(key, () -> {
+            loadCount.incrementAndGet();
+            return CompletableFuture.completedFuture(LOADED_VALUE);
+        });
+
+        // assert
+        assertEquals(2, loadCount.get());
+        assertEquals(0, getCount("coalesced"));
+    }
+
+    /**
+     * given concurrent blocking calls for a key whose load fails, tests that the load runs once and every caller gets
+     * its failure
+     */
+    @Test
+    public void executeBlockingSharesFailureOfLoadInFlight() throws Exception {
+        // setup
+        UUID key = UUID.randomUUID();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadMayFinish = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            // execute
+            Future<?> firstCall = executorService.submit(() -> assertThrows(IllegalStateException.class,
+                    () -> singleFlight.executeBlocking(key, () -> {
+                        loadCount.incrementAndGet();
+                        loadStarted.countDown();
+                        awaitUninterruptibly(loadMayFinish);
+                        throw new IllegalStateException("fake load failure");
+                    })));
+            assertTrue(loadStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            CompletableFuture<Void> secondCall = CompletableFuture.runAsync(() ->
+                    assertThrows(IllegalStateException.class, () -> singleFlight.executeBlocking(key, () -> {
+                        loadCount.incrementAndGet();
+                        return LOADED_VALUE;
+                    })));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (getCount("coalesced") == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            loadMayFinish.countDown();
+
+            // assert
+            firstCall.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            secondCall.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals(1, loadCount.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private long getCount(String metricName) {
+        return metricRegistry.counter(MetricRegistry.name(SINGLE_FLIGHT_NAME, metricName)).getCount();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}